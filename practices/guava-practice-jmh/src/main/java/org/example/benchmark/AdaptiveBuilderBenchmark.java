@@ -0,0 +1,82 @@
+package org.example.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import org.example.collect.AdaptiveBuilders;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImmutableListPerformanceTest.testBuilderVsCopyOf 의 JMH 버전 + 호출 지점별 크기 학습
+ *
+ * 한 호출 지점에서 크기가 size ± 10% 인 리스트를 반복해서 만듦
+ * - builder: ImmutableList.builder() (기본 용량 4 에서 1.5 배씩 증가 + build 잘라내기)
+ * - expectedSize: builderWithExpectedSize(정확한 크기) - 크기를 알 때의 하한
+ * - adaptive: AdaptiveBuilders.Site 가 배운 크기 (0.9 분위수) 로 시작
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdaptiveBuilderBenchmark {
+
+    @Param({"16", "1000", "100000"})
+    private int size;
+
+    private final AdaptiveBuilders.Site site = AdaptiveBuilders.site("benchmark.adaptive");
+    private int[] sizes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        sizes = new int[1024];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = size - size / 10 + random.nextInt(size / 5 + 1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println("\n" + site.stats());
+    }
+
+    private int nextSize() {
+        int n = sizes[next];
+        next = (next + 1) & (sizes.length - 1);
+        return n;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> builder() {
+        int n = nextSize();
+        ImmutableList.Builder<Integer> builder = ImmutableList.builder();
+        for (int i = 0; i < n; i++) {
+            builder.add(i);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> expectedSize() {
+        int n = nextSize();
+        ImmutableList.Builder<Integer> builder = ImmutableList.builderWithExpectedSize(n);
+        for (int i = 0; i < n; i++) {
+            builder.add(i);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> adaptive() {
+        int n = nextSize();
+        AdaptiveBuilders.ListBuilder<Integer> builder = site.listBuilder();
+        for (int i = 0; i < n; i++) {
+            builder.add(i);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.benchmark;
+
+import com.google.common.base.CharMatcher;
+import org.example.matcher.BulkCharMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CharMatcher vs BulkCharMatcher (vector / scalar 엔진)
+ *
+ * 입력: 대부분 출력 가능한 ASCII + 드문 제어/특수 문자 (페이로드 sanitizer 상황)
+ * - range: 제어 문자 inRange('\0', '\u001f')       → 범위 1개, 벡터만으로 판정
+ * - anyOf: anyOf("<>&\"'")                          → 범위 5개, 벡터만으로 판정
+ * - bitset: precomputed(CharMatcher.invisible())     → 범위가 많아 비트 테이블 (벡터 엔진도 scalar 로 위임, 차이 없어야 정상)
+ *
+ * *_scalar 는 -Dorg.example.matcher.vector=false 포크 (같은 코드, 엔진만 ScalarEngine)
+ * 기본 포크에는 --add-modules jdk.incubator.vector 가 필요 (없으면 자동으로 scalar)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class BulkCharMatcherBenchmark {
+
+    private static final CharMatcher GUAVA_ABSENT = CharMatcher.is('￿');
+    private static final BulkCharMatcher BULK_ABSENT = BulkCharMatcher.anyOf("￿");
+
+    /** 1 KB, 64 KB, 4 MB (char 수) */
+    @Param({"1024", "65536", "4194304"})
+    private int size;
+
+    @Param({"range", "anyOf", "bitset"})
+    private String kind;
+
+    private String input;
+    private CharMatcher guava;
+    private BulkCharMatcher bulk;
+
+    @Setup
+    public void setUp() {
+        switch (kind) {
+            case "range":
+                guava = CharMatcher.inRange('\0', '\u001f');
+                break;
+            case "anyOf":
+                guava = CharMatcher.anyOf("<>&\"'");
+                break;
+            default:
+                guava = CharMatcher.invisible().precomputed();
+                break;
+        }
+        bulk = BulkCharMatcher.precomputed(guava);
+
+        Random random = new Random(42);
+        char[] rare = {'\u0001', '\t', '\u001f', '<', '>', '&', '"', '\'', '­', '​'};
+        StringBuilder sb = new StringBuilder(size);
+        while (sb.length() < size) {
+            if (random.nextInt(200) == 0) {
+                sb.append(rare[random.nextInt(rare.length)]);
+            } else {
+                sb.append((char) (' ' + random.nextInt(95)));
+            }
+        }
+        input = sb.toString();
+    }
+
+    @Benchmark
+    public int guava_countIn() {
+        return guava.countIn(input);
+    }
+
+    @Benchmark
+    public int bulk_countIn() {
+        return bulk.countIn(input);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Dorg.example.matcher.vector=false"})
+    public int bulk_countIn_scalar() {
+        return bulk.countIn(input);
+    }
+
+    @Benchmark
+    public String guava_removeFrom() {
+        return guava.removeFrom(input);
+    }
+
+    @Benchmark
+    public String bulk_removeFrom() {
+        return bulk.removeFrom(input);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Dorg.example.matcher.vector=false"})
+    public String bulk_removeFrom_scalar() {
+        return bulk.removeFrom(input);
+    }
+
+    @Benchmark
+    public String guava_retainFrom() {
+        return guava.retainFrom(input);
+    }
+
+    @Benchmark
+    public String bulk_retainFrom() {
+        return bulk.retainFrom(input);
+    }
+
+    /** 입력에 없는 문자 검색 → 끝까지 스캔 */
+    @Benchmark
+    public int guava_indexIn_absent() {
+        return GUAVA_ABSENT.indexIn(input);
+    }
+
+    @Benchmark
+    public int bulk_indexIn_absent() {
+        return BULK_ABSENT.indexIn(input);
+    }
+}
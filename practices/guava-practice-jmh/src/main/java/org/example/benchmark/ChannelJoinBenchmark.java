@@ -0,0 +1,90 @@
+package org.example.benchmark;
+
+import com.google.common.base.Joiner;
+import org.example.joiner.JoinChannelWriter;
+import org.example.joiner.SizedJoiner;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 줄 조인 + UTF-8 + 채널 출력: join().getBytes() vs JoinChannelWriter
+ *
+ * 한 번 호출 = LINES 줄 전송, 출력은 /dev/null FileChannel (실제 시스템 콜 발생)
+ * - getBytes: 줄마다 Joiner.join → String → getBytes → ByteBuffer.wrap → write
+ * - writer: 64 KB 다이렉트 버퍼에 바로 인코딩, 찰 때만 write
+ * - writer_gathering: 8 KB x 8 버퍼, 다 차면 write(ByteBuffer[]) 한 번
+ *
+ * -prof gc 로 줄당 할당 확인 (writer 는 0 B/op 근처)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ChannelJoinBenchmark {
+
+    private static final int LINES = 1000;
+
+    private final Joiner joiner = Joiner.on(" | ").useForNull("-");
+    private final SizedJoiner sizedJoiner = SizedJoiner.on(" | ").useForNull("-");
+    private List<List<String>> lines;
+    private FileChannel channel;
+    private JoinChannelWriter writer;
+    private JoinChannelWriter gatheringWriter;
+
+    @Setup
+    public void setUp() throws IOException {
+        lines = new ArrayList<>(LINES);
+        for (int i = 0; i < LINES; i++) {
+            lines.add(Arrays.asList("2025-01-17T10:00:00." + i, (i % 10 == 0) ? "WARN" : "INFO",
+                    "order-service", "user=" + (i * 7919 % 100000), i % 7 == 0 ? null : "결제 완료", "latency=" + i % 250 + "ms"));
+        }
+        channel = FileChannel.open(Paths.get("/dev/null"), StandardOpenOption.WRITE);
+        writer = JoinChannelWriter.to(channel, 64 * 1024);
+        gatheringWriter = JoinChannelWriter.to(channel, 8 * 1024, 8);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        channel.close();
+    }
+
+    @Benchmark
+    public long getBytes() throws IOException {
+        long written = 0;
+        for (List<String> line : lines) {
+            byte[] bytes = (joiner.join(line) + "\n").getBytes(StandardCharsets.UTF_8);
+            written += channel.write(ByteBuffer.wrap(bytes));
+        }
+        return written;
+    }
+
+    @Benchmark
+    public long writer() throws IOException {
+        return writeAll(writer);
+    }
+
+    @Benchmark
+    public long writer_gathering() throws IOException {
+        return writeAll(gatheringWriter);
+    }
+
+    private long writeAll(JoinChannelWriter target) throws IOException {
+        for (List<String> line : lines) {
+            target.write(sizedJoiner, line).write("\n");
+        }
+        target.flush();
+        return target.bytesWritten();
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.benchmark;
+
+import com.google.common.base.CharMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * CharMatcherAnalysisTest.testCharMatcherVsRegex 의 JMH 버전
+ *
+ * 기존 테스트는 각 방식을 한 번씩만 실행 → 첫 호출(인터프리터)만 측정됨
+ * 여기서는 워밍업 후 입력 길이별로 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CharMatcherBenchmark {
+
+    private static final String CHARS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 \t\n";
+
+    @Param({"1000", "10000", "100000"})
+    private int length;
+
+    private String text;
+    private Pattern digitPattern;
+    private CharMatcher inRange;
+    private CharMatcher anyOf;
+    private CharMatcher precomputed;
+
+    @Setup
+    public void setUp() {
+        // 고정 시드: 포크마다 같은 입력
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+        }
+        text = sb.toString();
+
+        digitPattern = Pattern.compile("[0-9]");
+        inRange = CharMatcher.inRange('0', '9');
+        anyOf = CharMatcher.anyOf("0123456789");
+        precomputed = anyOf.precomputed();
+    }
+
+    @Benchmark
+    public String removeDigits_stringReplaceAll() {
+        // 기존 테스트와 동일: 매번 패턴 컴파일 포함
+        return text.replaceAll("[0-9]", "");
+    }
+
+    @Benchmark
+    public String removeDigits_compiledPattern() {
+        return digitPattern.matcher(text).replaceAll("");
+    }
+
+    @Benchmark
+    public String removeDigits_inRange() {
+        return inRange.removeFrom(text);
+    }
+
+    @Benchmark
+    public String removeDigits_anyOf() {
+        return anyOf.removeFrom(text);
+    }
+
+    @Benchmark
+    public String removeDigits_precomputed() {
+        return precomputed.removeFrom(text);
+    }
+}
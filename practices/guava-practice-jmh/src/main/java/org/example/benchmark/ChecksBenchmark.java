@@ -0,0 +1,79 @@
+package org.example.benchmark;
+
+import com.google.common.base.Preconditions;
+import org.example.base.Checks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PreconditionsDeepDiveTest.measureAutoBoxingOverheadImproved 의 JMH 버전
+ *
+ * 성공 경로에서 인자 종류가 섞인 검사 - -prof gc 의 gc.alloc.rate.norm 으로 B/op 비교
+ * - guava_*: 2 인자까지는 primitive 오버로드, 3 ~ 4 인자는 Object → 캐시 범위 밖 값은 박싱
+ *   (결과를 쓰지 않으니 EA 가 지울 수도 있지만 Integer.valueOf 의 캐시 분기 때문에 자주 실패)
+ * - checks_*: 모든 조합이 long / char / Object 오버로드 → 0 B/op
+ * - index_*: 배열 접근 전 범위 검사 (Objects.checkIndex 내장 함수 vs Guava checkElementIndex)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChecksBenchmark {
+
+    private int count = 100_000;
+    private long timestamp = 1_700_000_000_000L;
+    private char grade = 'B';
+    private String user = "kim";
+    private final int[] values = new int[1024];
+
+    @Benchmark
+    public void guava_2args() {
+        Preconditions.checkArgument(count > 0, "count %s, time %s", count, timestamp);
+    }
+
+    @Benchmark
+    public void checks_2args() {
+        Checks.checkArgument(count > 0, "count %s, time %s", count, timestamp);
+    }
+
+    @Benchmark
+    public void guava_3args() {
+        Preconditions.checkState(count > 0, "%s %s %s", grade, count, timestamp);
+    }
+
+    @Benchmark
+    public void checks_3args() {
+        Checks.checkState(count > 0, "%s %s %s", grade, count, timestamp);
+    }
+
+    @Benchmark
+    public String guava_4args() {
+        return Preconditions.checkNotNull(user, "%s %s %s %s", count, timestamp, grade, user);
+    }
+
+    @Benchmark
+    public String checks_4args() {
+        return Checks.checkNotNull(user, "%s %s %s %s", count, timestamp, grade, user);
+    }
+
+    @Benchmark
+    public int index_guava() {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[Preconditions.checkElementIndex(i, values.length)];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int index_checks() {
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[Checks.checkIndex(i, values.length)];
+        }
+        return sum;
+    }
+}
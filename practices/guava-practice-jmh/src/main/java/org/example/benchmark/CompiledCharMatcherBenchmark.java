@@ -0,0 +1,87 @@
+package org.example.benchmark;
+
+import com.google.common.base.CharMatcher;
+import org.example.matcher.CharMatcherCompiler;
+import org.example.matcher.CompiledCharMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CharMatcher 조합 트리: 그대로 vs precomputed() vs CharMatcherCompiler.compile()
+ *
+ * 입력: 64K 글자, 3~8 글자 단어 (ASCII 80% / 한글 음절 20%) + 공백/쉼표 (파일명/식별자 검사 상황)
+ * - ascii: inRange('a','z').or(inRange('A','Z')).or(inRange('0','9')).or(anyOf("-_."))  → ASCII_MASK
+ * - unicode: javaLetterOrDigit().or(anyOf("-_."))  (CharMatcherAnalysisTest.testComposition) → BLOCK_TABLE
+ * - negated: whitespace().or(anyOf(",;")).negate()  → RANGE_TABLE
+ *
+ * 고른 전략과 크기는 setUp 에서 한 번 출력 (precomputed() 의 BitSet 은 8 KB)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CompiledCharMatcherBenchmark {
+
+    private static final int SIZE = 64 * 1024;
+
+    @Param({"ascii", "unicode", "negated"})
+    private String kind;
+
+    private String input;
+    private CharMatcher tree;
+    private CharMatcher precomputed;
+    private CompiledCharMatcher compiled;
+
+    @Setup
+    public void setUp() {
+        switch (kind) {
+            case "ascii":
+                tree = CharMatcher.inRange('a', 'z').or(CharMatcher.inRange('A', 'Z'))
+                        .or(CharMatcher.inRange('0', '9')).or(CharMatcher.anyOf("-_."));
+                break;
+            case "unicode":
+                tree = CharMatcher.javaLetterOrDigit().or(CharMatcher.anyOf("-_."));
+                break;
+            default:
+                tree = CharMatcher.whitespace().or(CharMatcher.anyOf(",;")).negate();
+                break;
+        }
+        precomputed = tree.precomputed();
+        compiled = CharMatcherCompiler.compile(tree);
+        System.out.println(kind + ": " + compiled.strategy() + ", " + compiled.memoryBytes() + " bytes");
+
+        // 같은 문자 종류가 단어 단위로 이어지는 입력 (글자마다 섞으면 어느 쪽이든 분기 예측 실패가 지배)
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(SIZE + 16);
+        while (sb.length() < SIZE) {
+            boolean hangul = random.nextInt(5) == 0;
+            for (int i = 3 + random.nextInt(6); i > 0; i--) {
+                sb.append(hangul
+                        ? (char) ('가' + random.nextInt('힣' - '가' + 1))
+                        : (char) ('!' + random.nextInt(94)));
+            }
+            sb.append(random.nextInt(4) == 0 ? ',' : ' ');
+        }
+        sb.setLength(SIZE);
+        input = sb.toString();
+    }
+
+    @Benchmark
+    public int tree_countIn() {
+        return tree.countIn(input);
+    }
+
+    @Benchmark
+    public int precomputed_countIn() {
+        return precomputed.countIn(input);
+    }
+
+    @Benchmark
+    public int compiled_countIn() {
+        return compiled.countIn(input);
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.benchmark;
+
+import com.google.common.base.Splitter;
+import org.example.splitter.CharSequenceMap;
+import org.example.splitter.CharSlice;
+import org.example.splitter.SliceCursor;
+import org.example.splitter.StreamingSplitter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 한 줄 파싱: 필드 분할 + 국가 코드 조회 + 숫자 변환
+ *
+ * - splitter: Splitter.split → 필드마다 String, HashMap.get, Integer.parseInt
+ * - slice: 재사용 SliceCursor → CharSlice 뷰, CharSequenceMap.get, CharSlice.parseInt
+ *
+ * -prof gc 로 확인: slice 쪽은 줄당 0 B/op 가 목표
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CsvParseBenchmark {
+
+    private static final String[] COUNTRIES = {"KR", "US", "JP", "DE", "FR", "GB", "CN", "IN"};
+    private static final int LINES = 1024;
+
+    private final Splitter splitter = Splitter.on(',').trimResults();
+    private final SliceCursor cursor = StreamingSplitter.on(',').trimResults().cursor("");
+    private Map<String, Integer> countryCodes;
+    private CharSequenceMap<Integer> countryCodesBySlice;
+    private String[] lines;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        countryCodes = new HashMap<>();
+        for (int i = 0; i < COUNTRIES.length; i++) {
+            countryCodes.put(COUNTRIES[i], i + 1);
+        }
+        countryCodesBySlice = CharSequenceMap.copyOf(countryCodes);
+
+        // id, country, quantity, price
+        Random random = new Random(42);
+        lines = new String[LINES];
+        for (int i = 0; i < LINES; i++) {
+            lines[i] = (100000 + i) + ", " + COUNTRIES[random.nextInt(COUNTRIES.length)]
+                    + " ," + random.nextInt(1000) + "," + random.nextInt(100000);
+        }
+    }
+
+    private String nextLine() {
+        return lines[index++ & (LINES - 1)];
+    }
+
+    @Benchmark
+    public long splitter() {
+        long sum = 0;
+        int column = 0;
+        for (String field : splitter.split(nextLine())) {
+            if (column == 1) {
+                sum += countryCodes.get(field);
+            } else {
+                sum += Integer.parseInt(field);
+            }
+            column++;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long slice() {
+        long sum = 0;
+        int column = 0;
+        SliceCursor c = cursor.reset(nextLine());
+        while (c.next()) {
+            CharSlice field = c.token();
+            if (column == 1) {
+                sum += countryCodesBySlice.get(field);
+            } else {
+                sum += field.parseInt();
+            }
+            column++;
+        }
+        return sum;
+    }
+}
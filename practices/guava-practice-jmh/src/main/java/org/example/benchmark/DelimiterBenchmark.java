@@ -0,0 +1,107 @@
+package org.example.benchmark;
+
+import com.google.common.base.Splitter;
+import org.example.splitter.SliceCursor;
+import org.example.splitter.StreamingSplitter;
+import org.example.splitter.TokenCursor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 여러 글자 고정 구분자: 구분자 길이 (2 / 4 / 9) x 입력 크기 (64 / 4K / 256K 글자)
+ * 토큰은 3 ~ 12 글자 단어, 결과는 토큰 길이 합
+ *
+ * - guavaOn: Splitter.on(String) - 위치마다 구분자 전체 비교 + 토큰마다 String
+ * - guavaOnPattern: Splitter.onPattern(Pattern.quote(...)) - java.util.regex
+ * - sliceString: StreamingSplitter.on(String) + SliceCursor (String 입력 → String.indexOf 내장 함수)
+ * - charBufferHorspool: 배열 기반 CharBuffer 커서 (char[] 위에서 Boyer-Moore-Horspool)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DelimiterBenchmark {
+
+    @Param({"||", " :: ", "<--sep-->"})
+    private String delimiter;
+
+    @Param({"64", "4096", "262144"})
+    private int size;
+
+    private String input;
+    private char[] chars;
+    private Splitter guavaOn;
+    private Splitter guavaOnPattern;
+    private StreamingSplitter streaming;
+    private SliceCursor cursor;
+
+    @Setup
+    public void setUp() {
+        input = words(new Random(5), delimiter, size);
+        chars = input.toCharArray();
+        guavaOn = Splitter.on(delimiter);
+        guavaOnPattern = Splitter.onPattern(Pattern.quote(delimiter));
+        streaming = StreamingSplitter.on(delimiter);
+        cursor = streaming.cursor("");
+    }
+
+    /** 3 ~ 12 글자 소문자 단어를 구분자로 이어 size 글자 이상 */
+    static String words(Random random, String delimiter, int size) {
+        StringBuilder sb = new StringBuilder(size + 32);
+        while (sb.length() < size) {
+            if (sb.length() > 0) {
+                sb.append(delimiter);
+            }
+            int length = 3 + random.nextInt(10);
+            for (int i = 0; i < length; i++) {
+                sb.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public int guavaOn() {
+        int total = 0;
+        for (String token : guavaOn.split(input)) {
+            total += token.length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int guavaOnPattern() {
+        int total = 0;
+        for (String token : guavaOnPattern.split(input)) {
+            total += token.length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int sliceString() {
+        SliceCursor c = cursor.reset(input);
+        int total = 0;
+        while (c.next()) {
+            total += c.token().length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int charBufferHorspool() throws IOException {
+        TokenCursor c = streaming.cursor(CharBuffer.wrap(chars));
+        int total = 0;
+        while (c.next()) {
+            total += c.token().length();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.benchmark;
+
+import com.google.common.base.Strings;
+import org.example.format.FixedWidthFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DetailedStringsAnalysis.testRealWorldScenarios 의 시간/로그 레벨 포맷을 한 줄로 합친 접근 로그
+ * "09:05:30 [INFO ]      kim    200"
+ *
+ * - stringFormat: String.format + Strings.padStart (기존 방식, 줄마다 String 5 개 + varargs + Formatter)
+ * - padStartConcat: Formatter 없이 padStart + 문자열 연결
+ * - fixedWidth*: 미리 컴파일한 FixedWidthFormat, Line / StringBuilder / ByteBuffer 재사용 → -prof gc 로 0 B/op 확인
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FixedWidthFormatBenchmark {
+
+    private static final FixedWidthFormat FORMAT = FixedWidthFormat.builder()
+            .number(2).literal(':').number(2).literal(':').number(2)
+            .literal(" [").left(5).literal("] ")
+            .right(8).literal(' ').number(6, ' ')
+            .build();
+
+    private static final String[] LEVELS = {"INFO", "WARN", "ERROR", "DEBUG"};
+    private static final String[] USERS = {"kim", "lee", "park", "choi"};
+
+    private final FixedWidthFormat.Line line = FORMAT.newLine();
+    private final StringBuilder builder = new StringBuilder(FORMAT.width());
+    private final ByteBuffer buffer = ByteBuffer.allocate(FORMAT.width() * 3);
+    private int next;
+
+    @Benchmark
+    public String stringFormat() {
+        int i = next++;
+        return String.format("%s:%s:%s [%s] %s %s",
+                Strings.padStart(String.valueOf(i % 24), 2, '0'),
+                Strings.padStart(String.valueOf(i % 60), 2, '0'),
+                Strings.padStart(String.valueOf(i % 59), 2, '0'),
+                Strings.padEnd(LEVELS[i & 3], 5, ' '),
+                Strings.padStart(USERS[(i >> 2) & 3], 8, ' '),
+                Strings.padStart(String.valueOf(i & 0xFFFF), 6, ' '));
+    }
+
+    @Benchmark
+    public String padStartConcat() {
+        int i = next++;
+        return Strings.padStart(String.valueOf(i % 24), 2, '0') + ':'
+                + Strings.padStart(String.valueOf(i % 60), 2, '0') + ':'
+                + Strings.padStart(String.valueOf(i % 59), 2, '0') + " ["
+                + Strings.padEnd(LEVELS[i & 3], 5, ' ') + "] "
+                + Strings.padStart(USERS[(i >> 2) & 3], 8, ' ') + ' '
+                + Strings.padStart(String.valueOf(i & 0xFFFF), 6, ' ');
+    }
+
+    @Benchmark
+    public char[] fixedWidthChars() {
+        int i = next++;
+        return line.put(i % 24).put(i % 60).put(i % 59)
+                .put(LEVELS[i & 3]).put(USERS[(i >> 2) & 3]).put(i & 0xFFFF)
+                .chars();
+    }
+
+    @Benchmark
+    public StringBuilder fixedWidthStringBuilder() {
+        int i = next++;
+        builder.setLength(0);
+        return line.put(i % 24).put(i % 60).put(i % 59)
+                .put(LEVELS[i & 3]).put(USERS[(i >> 2) & 3]).put(i & 0xFFFF)
+                .appendTo(builder);
+    }
+
+    @Benchmark
+    public ByteBuffer fixedWidthByteBuffer() {
+        int i = next++;
+        buffer.clear();
+        return line.put(i % 24).put(i % 60).put(i % 59)
+                .put(LEVELS[i & 3]).put(USERS[(i >> 2) & 3]).put(i & 0xFFFF)
+                .writeTo(buffer);
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.benchmark;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.TreeBasedTable;
+import org.example.footprint.Footprint;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컬렉션을 만들 때 할당하는 바이트 (GCProfiler 의 gc.alloc.rate.norm) vs 만든 뒤 남는 바이트 (JOL)
+ *
+ * 만드는 방법은 Footprint.Kind 와 같음 (원소 배열은 미리 만들어 두므로 할당에 들어가지 않음)
+ * - allocated - retained = 중간 배열 (ArrayList 증가 복사, copyOf 의 toArray, 빌더 잘라내기 등)
+ *
+ * 실행: java -cp benchmarks.jar org.example.benchmark.FootprintBenchmark
+ *       → Kind x 크기 별 원소당 allocated / retained 표
+ * 또는 보통처럼 java -jar benchmarks.jar FootprintBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FootprintBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    @Param({"IMMUTABLE_LIST", "ARRAY_LIST", "UNMODIFIABLE_LIST",
+            "IMMUTABLE_SET", "HASH_SET", "UNMODIFIABLE_SET",
+            "IMMUTABLE_MAP", "HASH_MAP", "UNMODIFIABLE_MAP"})
+    private Footprint.Kind kind;
+
+    private Integer[] elements;
+
+    @Setup
+    public void setUp() {
+        elements = Footprint.elements(size);
+    }
+
+    @Benchmark
+    public Object build() {
+        return kind.build(elements);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FootprintBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        TreeBasedTable<Footprint.Kind, Integer, String> table = TreeBasedTable.create();
+        for (RunResult result : results) {
+            Footprint.Kind kind = Footprint.Kind.valueOf(result.getParams().getParam("kind"));
+            int size = Integer.parseInt(result.getParams().getParam("size"));
+            Result<?> allocated = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            double retained = (double) Footprint.retainedSize(kind, size) / size;
+            table.put(kind, size, String.format("%.1f / %.1f", allocated.getScore() / size, retained));
+        }
+
+        System.out.println("\nbytes/element (allocated / retained)");
+        System.out.print(Strings.padEnd("", 20, ' '));
+        for (Integer size : table.columnKeySet()) {
+            System.out.print(Strings.padStart(String.format("%,d", size), 18, ' '));
+        }
+        for (Footprint.Kind kind : table.rowKeySet()) {
+            System.out.print("\n" + Strings.padEnd(kind.name(), 20, ' '));
+            for (Integer size : table.columnKeySet()) {
+                System.out.print(Strings.padStart(table.get(kind, size), 18, ' '));
+            }
+        }
+        System.out.println();
+    }
+}
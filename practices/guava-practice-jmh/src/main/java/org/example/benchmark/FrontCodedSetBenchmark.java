@@ -0,0 +1,103 @@
+package org.example.benchmark;
+
+import com.google.common.collect.ImmutableSortedSet;
+import org.example.collect.FrontCodedStringSet;
+import org.example.footprint.Footprint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * URL 키 사전: ImmutableSortedSet&lt;String&gt; vs FrontCodedStringSet (blockSize 16)
+ * - contains 성공 / 실패, ceiling 지연 시간
+ * - 설정 단계에서 두 집합의 deepSize (JOL) 를 출력 - 문자열 객체까지 포함한 전체 크기
+ *
+ * 조회 키는 미리 만든 새 String 인스턴스 (집합 안의 String 과 같은 참조가 아니도록)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrontCodedSetBenchmark {
+
+    private static final String[] HOSTS = {
+            "https://www.example.com", "https://shop.example.co.kr", "https://api.example.org", "https://cdn.example.net"};
+    private static final String[] SECTIONS = {"/products/", "/users/", "/orders/", "/search?q=", "/static/img/"};
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private ImmutableSortedSet<String> guava;
+    private FrontCodedStringSet frontCoded;
+    private String[] hits;
+    private String[] misses;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        List<String> urls = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            urls.add(url(random));
+        }
+        guava = ImmutableSortedSet.copyOf(urls);
+        frontCoded = FrontCodedStringSet.copyOf(urls);
+
+        hits = new String[1024];
+        misses = new String[1024];
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = new String(urls.get(random.nextInt(size)));
+            misses[i] = url(random) + "#";
+        }
+        long guavaBytes = Footprint.deepSize(guava);
+        long frontCodedBytes = Footprint.deepSize(frontCoded);
+        System.out.printf("%n[size=%d] ImmutableSortedSet %,d B, FrontCodedStringSet %,d B (%.1fx)%n",
+                guava.size(), guavaBytes, frontCodedBytes, (double) guavaBytes / frontCodedBytes);
+    }
+
+    private static String url(Random random) {
+        return HOSTS[random.nextInt(HOSTS.length)] + SECTIONS[random.nextInt(SECTIONS.length)]
+                + random.nextInt(10_000_000);
+    }
+
+    private int nextIndex() {
+        int i = next;
+        next = (i + 1) & 1023;
+        return i;
+    }
+
+    @Benchmark
+    public boolean guavaContainsHit() {
+        return guava.contains(hits[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean frontCodedContainsHit() {
+        return frontCoded.contains(hits[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean guavaContainsMiss() {
+        return guava.contains(misses[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean frontCodedContainsMiss() {
+        return frontCoded.contains(misses[nextIndex()]);
+    }
+
+    @Benchmark
+    public String guavaCeiling() {
+        return guava.ceiling(misses[nextIndex()]);
+    }
+
+    @Benchmark
+    public String frontCodedCeiling() {
+        return frontCoded.ceiling(misses[nextIndex()]);
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImmutableCollectionsPerformanceTest 의 JMH 버전
+ *
+ * 생성 비용은 size 에 비례하므로 µs/op, 조회는 원소 하나당 비용이므로
+ * 조회 벤치마크는 size 만큼 돌린 합계를 return 함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ImmutableCollectionsBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private List<Integer> sourceList;
+    private Set<Integer> sourceSet;
+    private Map<Integer, String> sourceMap;
+
+    private ImmutableList<Integer> list;
+    private ImmutableSet<Integer> set;
+    private ImmutableMap<Integer, String> map;
+
+    @Setup
+    public void setUp() {
+        sourceList = new ArrayList<>(size);
+        sourceSet = new HashSet<>();
+        sourceMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            sourceList.add(i);
+            sourceSet.add(i);
+            sourceMap.put(i, "value" + i);
+        }
+        list = ImmutableList.copyOf(sourceList);
+        set = ImmutableSet.copyOf(sourceSet);
+        map = ImmutableMap.copyOf(sourceMap);
+    }
+
+    // === 생성 시간 ===
+
+    @Benchmark
+    public Object create_list() {
+        return ImmutableList.copyOf(sourceList);
+    }
+
+    @Benchmark
+    public Object create_set() {
+        return ImmutableSet.copyOf(sourceSet);
+    }
+
+    @Benchmark
+    public Object create_map() {
+        return ImmutableMap.copyOf(sourceMap);
+    }
+
+    // === 조회 성능 ===
+
+    @Benchmark
+    public long lookup_listGet() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int lookup_setContains() {
+        int hits = 0;
+        for (int i = 0; i < size; i++) {
+            if (set.contains(i)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int lookup_mapGet() {
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            length += map.get(i).length();
+        }
+        return length;
+    }
+
+    /**
+     * 실전 시나리오 (설정값 / 허용 국가 캐시) - 크기와 무관한 단건 조회
+     */
+    @State(Scope.Benchmark)
+    public static class Scenario {
+        ImmutableMap<String, String> config;
+        ImmutableSet<String> allowedCountries;
+        String hostKey = "db.host";
+        String country = "KR";
+
+        @Setup
+        public void setUp() {
+            config = ImmutableMap.of(
+                    "db.host", "localhost",
+                    "db.port", "5432",
+                    "app.name", "MyApp",
+                    "app.version", "1.0.0");
+            allowedCountries = ImmutableSet.of(
+                    "KR", "US", "JP", "CN", "UK", "DE", "FR", "CA", "AU", "IN");
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String scenario_configGet(Scenario s) {
+        return s.config.get(s.hostKey);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean scenario_countryContains(Scenario s) {
+        return s.allowedCountries.contains(s.country);
+    }
+}
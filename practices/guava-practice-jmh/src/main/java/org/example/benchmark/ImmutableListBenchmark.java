@@ -0,0 +1,115 @@
+package org.example.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImmutableListPerformanceTest 의 JMH 버전
+ *
+ * - 생성: ArrayList.add vs copyOf vs builder vs builderWithExpectedSize
+ * - 조회/순회: 합계를 return 해서 Dead Code Elimination 방지
+ * - copyOf(ImmutableList) 의 복사 생략 최적화
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ImmutableListBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private List<Integer> source;
+    private ImmutableList<Integer> immutable;
+
+    @Setup
+    public void setUp() {
+        source = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source.add(i);
+        }
+        immutable = ImmutableList.copyOf(source);
+    }
+
+    // === 생성 ===
+
+    @Benchmark
+    public List<Integer> create_arrayList() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(source.get(i));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> create_copyOf() {
+        return ImmutableList.copyOf(source);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> create_builder() {
+        ImmutableList.Builder<Integer> builder = ImmutableList.builder();
+        for (int i = 0; i < size; i++) {
+            builder.add(source.get(i));
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> create_builderWithExpectedSize() {
+        ImmutableList.Builder<Integer> builder = ImmutableList.builderWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            builder.add(source.get(i));
+        }
+        return builder.build();
+    }
+
+    // === copyOf() 최적화 ===
+
+    @Benchmark
+    public ImmutableList<Integer> copyOf_fromImmutable() {
+        return ImmutableList.copyOf(immutable);
+    }
+
+    // === 조회 / 순회 ===
+
+    @Benchmark
+    public long get_arrayList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += source.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long get_immutable() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += immutable.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void forEach_arrayList(Blackhole bh) {
+        for (Integer num : source) {
+            bh.consume(num);
+        }
+    }
+
+    @Benchmark
+    public void forEach_immutable(Blackhole bh) {
+        for (Integer num : immutable) {
+            bh.consume(num);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.benchmark;
+
+import com.google.common.base.Splitter;
+import org.example.splitter.ByteSlice;
+import org.example.splitter.MappedMapSplitter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 접근 로그 쿼리 스트링 파일 파싱: 줄마다 MapSplitter vs MappedMapSplitter
+ *
+ * 입력 파일은 java.io.tmpdir 에 한 번 생성해 두고 재사용 (guava-practice-query-{sizeMb}mb.log)
+ * 각 방식이 status=200 인 줄 수와 bytes 합계를 구함
+ *
+ * - mapSplitter: BufferedReader.readLine + Splitter.MapSplitter → 줄마다 String + LinkedHashMap
+ * - mapped: 파일 매핑 + EntryVisitor → 키 비교와 숫자 변환 모두 바이트에서 (-Xmx64m 포크)
+ *
+ * 빠른 확인: java -jar benchmarks.jar MappedMapSplit -p sizeMb=16
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+public class MappedMapSplitBenchmark {
+
+    private static final String[] PATHS = {"/", "/search", "/item/123", "/cart", "/api/v1/orders"};
+    private static final int[] STATUSES = {200, 200, 200, 304, 404, 500};
+    private static final byte[] STATUS = "status".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BYTES = "bytes".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"256"})
+    private int sizeMb;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Paths.get(System.getProperty("java.io.tmpdir"), "guava-practice-query-" + sizeMb + "mb.log");
+        long targetBytes = sizeMb * 1024L * 1024L;
+        if (Files.exists(file) && Files.size(file) >= targetBytes) {
+            return;
+        }
+        Random random = new Random(42);
+        long written = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            while (written < targetBytes) {
+                String line = "ts=" + (1_700_000_000L + random.nextInt(1_000_000))
+                        + "&path=" + PATHS[random.nextInt(PATHS.length)]
+                        + "&status=" + STATUSES[random.nextInt(STATUSES.length)]
+                        + "&bytes=" + random.nextInt(100_000)
+                        + "&ua=Mozilla/5.0&q=" + Integer.toHexString(random.nextInt());
+                writer.write(line);
+                writer.write('\n');
+                written += line.length() + 1;
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+    public long mapSplitter() throws IOException {
+        Splitter.MapSplitter splitter = Splitter.on('&').withKeyValueSeparator('=');
+        long okCount = 0;
+        long totalBytes = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Map<String, String> entries = splitter.split(line);
+                if ("200".equals(entries.get("status"))) {
+                    okCount++;
+                }
+                totalBytes += Long.parseLong(entries.get("bytes"));
+            }
+        }
+        return okCount * 31 + totalBytes;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+    public long mapped() throws IOException {
+        Totals totals = new Totals();
+        MappedMapSplitter.on('&', '=').split(file, totals);
+        return totals.okCount * 31 + totals.totalBytes;
+    }
+
+    private static final class Totals implements MappedMapSplitter.EntryVisitor {
+        long okCount;
+        long totalBytes;
+
+        @Override
+        public void visit(ByteSlice key, ByteSlice value) {
+            if (key.contentEquals(STATUS)) {
+                if (value.parseInt() == 200) {
+                    okCount++;
+                }
+            } else if (key.contentEquals(BYTES)) {
+                totalBytes += value.parseLong();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.benchmark;
+
+import com.google.common.base.Strings;
+import org.example.format.MessageTemplate;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PreconditionsBasicTest 의 "User %s not found with id %s" 같은 고정 템플릿 메시지
+ *
+ * - lenientFormat / stringFormat: 호출마다 템플릿 해석 + varargs (+ int 박싱)
+ * - templateStrings: 인자가 모두 String → 결과 길이를 계산한 딱 맞는 버퍼 하나
+ * - templateLong: (Object, long) 오버로드 - 박싱 없음
+ * - templateAppend: 재사용 StringBuilder 에 바로 → -prof gc 로 0 B/op 확인
+ * - *Audit: 인자 3 개 ("%s %s -> %s") String
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageTemplateBenchmark {
+
+    private static final String NOT_FOUND = "User %s not found with id %s";
+    private static final String AUDIT = "[audit] %s changed %s -> %s";
+    private static final MessageTemplate NOT_FOUND_TEMPLATE = MessageTemplate.compile(NOT_FOUND);
+    private static final MessageTemplate AUDIT_TEMPLATE = MessageTemplate.compile(AUDIT);
+
+    private static final String[] USERS = {"kim", "lee", "park", "choi"};
+    private static final String[] STATES = {"ACTIVE", "INACTIVE", "PENDING", "SUSPENDED"};
+
+    private final StringBuilder builder = new StringBuilder(128);
+    private int next;
+
+    @Benchmark
+    public String lenientFormat() {
+        int i = next++;
+        return Strings.lenientFormat(NOT_FOUND, USERS[i & 3], i);
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        int i = next++;
+        return String.format("User %s not found with id %s", USERS[i & 3], i);
+    }
+
+    @Benchmark
+    public String concat() {
+        int i = next++;
+        return "User " + USERS[i & 3] + " not found with id " + i;
+    }
+
+    @Benchmark
+    public String templateLong() {
+        int i = next++;
+        return NOT_FOUND_TEMPLATE.format(USERS[i & 3], i);
+    }
+
+    @Benchmark
+    public StringBuilder templateAppend() throws IOException {
+        int i = next++;
+        builder.setLength(0);
+        return NOT_FOUND_TEMPLATE.appendTo(builder, USERS[i & 3], i);
+    }
+
+    @Benchmark
+    public String lenientFormatAudit() {
+        int i = next++;
+        return Strings.lenientFormat(AUDIT, USERS[i & 3], STATES[i & 3], STATES[(i >> 2) & 3]);
+    }
+
+    @Benchmark
+    public String stringFormatAudit() {
+        int i = next++;
+        return String.format(AUDIT, USERS[i & 3], STATES[i & 3], STATES[(i >> 2) & 3]);
+    }
+
+    @Benchmark
+    public String templateStringsAudit() {
+        int i = next++;
+        return AUDIT_TEMPLATE.format(USERS[i & 3], STATES[i & 3], STATES[(i >> 2) & 3]);
+    }
+}
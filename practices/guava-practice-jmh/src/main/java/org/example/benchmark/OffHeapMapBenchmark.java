@@ -0,0 +1,116 @@
+package org.example.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import org.example.collect.Codec;
+import org.example.collect.OffHeapImmutableMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 참조 데이터 조회: ImmutableMap.copyOf vs OffHeapImmutableMap (메모리 빌드 / 매핑 파일)
+ *
+ * 키 "sku-{i}", 값 "item-{i}:{i * 31}" (String → String)
+ * 조회할 키는 미리 만들어 둔 배열에서 순서대로 (키 생성 비용 제외), 절반은 없는 키
+ *
+ * setUp 에서 사용 중인 힙 증가량 (System.gc 후 Runtime 기준) 과 offHeapBytes() 를 한 번 출력
+ * → 힙 추정치는 대략적인 값 (정확한 측정은 JOL 필요)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class OffHeapMapBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({"1000", "1000000"})
+    private int entries;
+
+    private ImmutableMap<String, String> immutable;
+    private OffHeapImmutableMap<String, String> offHeap;
+    private OffHeapImmutableMap<String, String> mapped;
+    private String[] lookups;
+    private int next;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        long before = usedHeap();
+        ImmutableMap.Builder<String, String> builder = ImmutableMap.builderWithExpectedSize(entries);
+        for (int i = 0; i < entries; i++) {
+            builder.put("sku-" + i, "item-" + i + ":" + i * 31L);
+        }
+        immutable = builder.build();
+        long immutableHeap = usedHeap() - before;
+
+        before = usedHeap();
+        offHeap = OffHeapImmutableMap.copyOf(immutable, Codec.utf8(), Codec.utf8());
+        long offHeapHeap = usedHeap() - before;
+
+        file = Files.createTempFile("guava-practice-offheap", ".ohm");
+        mapped = OffHeapImmutableMap.builder(Codec.utf8(), Codec.utf8()).putAll(immutable).buildTo(file);
+        long start = System.nanoTime();
+        mapped = OffHeapImmutableMap.open(file, Codec.utf8(), Codec.utf8());
+        long openMicros = (System.nanoTime() - start) / 1000;
+
+        System.out.printf("%n%,d entries: ImmutableMap heap ~%,d KB | OffHeapImmutableMap heap ~%,d KB, off-heap %,d KB"
+                        + " | open(Path) %,d us%n",
+                entries, immutableHeap / 1024, offHeapHeap / 1024, offHeap.offHeapBytes() / 1024, openMicros);
+
+        lookups = new String[LOOKUPS];
+        Random random = new Random(42);
+        for (int i = 0; i < LOOKUPS; i++) {
+            int id = random.nextInt(entries);
+            lookups[i] = (i % 2 == 0 ? "sku-" : "nope-") + id;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private String nextKey() {
+        return lookups[next++ & (LOOKUPS - 1)];
+    }
+
+    @Benchmark
+    public String immutableMap_get() {
+        return immutable.get(nextKey());
+    }
+
+    @Benchmark
+    public String offHeap_get() {
+        return offHeap.get(nextKey());
+    }
+
+    @Benchmark
+    public String mapped_get() {
+        return mapped.get(nextKey());
+    }
+
+    @Benchmark
+    public boolean immutableMap_containsKey() {
+        return immutable.containsKey(nextKey());
+    }
+
+    @Benchmark
+    public boolean offHeap_containsKey() {
+        return offHeap.containsKey(nextKey());
+    }
+}
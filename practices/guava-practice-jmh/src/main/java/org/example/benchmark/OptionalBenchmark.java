@@ -0,0 +1,133 @@
+package org.example.benchmark;
+
+import com.google.common.base.Function;
+import com.google.common.base.Supplier;
+import org.example.optional.SimpleOptional;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OptionalPerformanceBenchmark 의 JMH 버전
+ *
+ * 기존 nanoTime 루프는 결과를 버려서 JIT가 루프 자체를 지워버릴 수 있음
+ * → 모든 결과를 return 해서 JMH가 Blackhole 로 소비하게 함
+ *
+ * 입력값은 @State 필드에서 읽음 (상수 폴딩 방지)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class OptionalBenchmark {
+
+    private static final Function<String, Integer> TO_LENGTH = new Function<String, Integer>() {
+        @Override
+        public Integer apply(String s) {
+            return s.length();
+        }
+    };
+
+    private static final Function<Integer, String> TO_STRING = new Function<Integer, String>() {
+        @Override
+        public String apply(Integer i) {
+            return String.valueOf(i);
+        }
+    };
+
+    private String value = "hello";
+    private String nullValue = null;
+    private String fallback = "expensive";
+
+    private final Supplier<String> expensiveOp = new Supplier<String>() {
+        @Override
+        public String get() {
+            return fallback;
+        }
+    };
+
+    private com.google.common.base.Optional<String> guavaPresent;
+    private com.google.common.base.Optional<String> guavaAbsent;
+
+    @Setup
+    public void setUp() {
+        guavaPresent = com.google.common.base.Optional.of(value);
+        guavaAbsent = com.google.common.base.Optional.absent();
+    }
+
+    // === 벤치마크 1: 객체 생성 비용 ===
+
+    @Benchmark
+    public Object creation_guavaFromNullable() {
+        return com.google.common.base.Optional.fromNullable(value);
+    }
+
+    @Benchmark
+    public Object creation_javaOfNullable() {
+        return java.util.Optional.ofNullable(value);
+    }
+
+    @Benchmark
+    public Object creation_simpleFromNullable() {
+        return SimpleOptional.fromNullable(value);
+    }
+
+    // === 벤치마크 2: Absent/Empty 싱글톤 ===
+
+    @Benchmark
+    public Object absent_guava() {
+        return com.google.common.base.Optional.fromNullable(nullValue);
+    }
+
+    @Benchmark
+    public Object absent_java() {
+        return java.util.Optional.ofNullable(nullValue);
+    }
+
+    @Benchmark
+    public Object absent_simple() {
+        return SimpleOptional.fromNullable(nullValue);
+    }
+
+    // === 벤치마크 3: Transform/Map 체이닝 ===
+
+    @Benchmark
+    public Object transformChain_guava() {
+        return com.google.common.base.Optional.of(value)
+                .transform(TO_LENGTH)
+                .transform(TO_STRING);
+    }
+
+    @Benchmark
+    public Object transformChain_java() {
+        return java.util.Optional.of(value)
+                .map(String::length)
+                .map(String::valueOf);
+    }
+
+    @Benchmark
+    public Object transformChain_simple() {
+        return SimpleOptional.of(value)
+                .transform(TO_LENGTH)
+                .transform(TO_STRING);
+    }
+
+    // === 벤치마크 4: or() vs or(Supplier) ===
+
+    @Benchmark
+    public String or_presentValue() {
+        return guavaPresent.or(fallback);
+    }
+
+    @Benchmark
+    public String or_presentSupplier() {
+        return guavaPresent.or(expensiveOp);
+    }
+
+    @Benchmark
+    public String or_absentSupplier() {
+        return guavaAbsent.or(expensiveOp);
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.benchmark;
+
+import com.google.common.base.Function;
+import com.google.common.base.Predicate;
+import org.example.optional.SimpleOptional;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * map → map → filter → or 체인 비교 (benchmark3_TransformChain 확장)
+ *
+ * - eager:    SimpleOptional.transform 단계마다 Present 생성
+ *             (filter 가 없으므로 null 을 돌려주는 transform 으로 대신함)
+ * - pipeline: SimpleOptional.pipeline() (단계마다 일회용 운반 객체 - 지연 / 융합 없음, Present 와 같은 크기)
+ * - java:     java.util.Optional.map / filter
+ *
+ * -prof gc 로 B/op 비교 (값 자체인 String.valueOf 할당 48 B 는 세 방식 공통)
+ *
+ * 이 정도 짧은 체인은 JMH 안에서 전부 인라이닝 → EA 가 중간 객체를 다 지워서 차이가 안 보임
+ * *_noEA 는 -XX:-DoEscapeAnalysis 포크: 인라이닝이 실패한 호출 지점에서의 실제 할당 구조
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class OptionalPipelineBenchmark {
+
+    private static final Function<String, Integer> TO_LENGTH = new Function<String, Integer>() {
+        @Override
+        public Integer apply(String s) {
+            return s.length();
+        }
+    };
+
+    private static final Function<Integer, String> TO_STRING = new Function<Integer, String>() {
+        @Override
+        public String apply(Integer i) {
+            return String.valueOf(i);
+        }
+    };
+
+    private static final Predicate<String> NOT_EMPTY = new Predicate<String>() {
+        @Override
+        public boolean apply(String s) {
+            return !s.isEmpty();
+        }
+    };
+
+    private static final Function<String, String> NOT_EMPTY_OR_NULL = new Function<String, String>() {
+        @Override
+        public String apply(String s) {
+            return s.isEmpty() ? null : s;
+        }
+    };
+
+    @Param({"hello", ""})
+    private String value;
+
+    @Benchmark
+    public String eagerChain() {
+        return SimpleOptional.fromNullable(value)
+                .transform(TO_LENGTH)
+                .transform(TO_STRING)
+                .transform(NOT_EMPTY_OR_NULL)
+                .or("none");
+    }
+
+    @Benchmark
+    public String pipelineChain() {
+        return SimpleOptional.pipeline(value)
+                .map(TO_LENGTH)
+                .map(TO_STRING)
+                .filter(NOT_EMPTY)
+                .or("none");
+    }
+
+    @Benchmark
+    public String javaOptionalChain() {
+        return java.util.Optional.ofNullable(value)
+                .map(String::length)
+                .map(String::valueOf)
+                .filter(s -> !s.isEmpty())
+                .orElse("none");
+    }
+
+    @Benchmark
+    public Object pipelineToOptional() {
+        return SimpleOptional.pipeline(value)
+                .map(TO_LENGTH)
+                .map(TO_STRING)
+                .toOptional();
+    }
+
+    // === EA 없이: 구조적으로 몇 번 할당하는지 ===
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+    public String eagerChain_noEA() {
+        return eagerChain();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+    public String pipelineChain_noEA() {
+        return pipelineChain();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+    public String javaOptionalChain_noEA() {
+        return javaOptionalChain();
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.example.collect.CompactImmutableSet;
+import org.example.collect.ParallelImmutableCollections;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImmutableCollectionsPerformanceTest.List_vs_Set_vs_Map_생성_시간 의 큰 입력 + 병렬 버전
+ *
+ * 원소의 약 10% 가 중복인 Integer 리스트
+ * - guavaSet / guavaSetCollector: ImmutableSet.copyOf, 병렬 스트림 + ImmutableSet.toImmutableSet()
+ * - parallelSet / parallelSetCollector: ParallelImmutableCollections (commonPool)
+ * - guavaList / parallelList: ImmutableList.copyOf vs copyOfList
+ *
+ * 속도 향상은 코어 수에 비례 - 코어가 하나면 두 쪽이 비슷 (병렬 경로가 한 스레드로 돌아감)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ParallelCollectionsBenchmark {
+
+    @Param({"100000", "5000000"})
+    private int size;
+
+    private List<Integer> input;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        int bound = size - size / 10;
+        input = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            input.add(random.nextInt(bound));
+        }
+    }
+
+    @Benchmark
+    public ImmutableSet<Integer> guavaSet() {
+        return ImmutableSet.copyOf(input);
+    }
+
+    @Benchmark
+    public CompactImmutableSet<Integer> parallelSet() {
+        return ParallelImmutableCollections.copyOfSet(input);
+    }
+
+    @Benchmark
+    public ImmutableSet<Integer> guavaSetCollector() {
+        return input.parallelStream().collect(ImmutableSet.toImmutableSet());
+    }
+
+    @Benchmark
+    public CompactImmutableSet<Integer> parallelSetCollector() {
+        return input.parallelStream().collect(ParallelImmutableCollections.toCompactImmutableSet());
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> guavaList() {
+        return ImmutableList.copyOf(input);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> parallelList() {
+        return ParallelImmutableCollections.copyOfList(input);
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.benchmark;
+
+import com.google.common.base.Splitter;
+import org.example.splitter.SliceCursor;
+import org.example.splitter.StreamingSplitter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단순한 정규식 구분자: Splitter.onPattern (java.util.regex) vs StreamingSplitter.onPattern (Delimiter)
+ * - "[,;]+": CHAR_CLASS (글자 집합 연속)
+ * - "\\s*,\\s*", "\\s*::\\s*": SEQUENCE (되돌아가기 없는 수량자 나열)
+ * - "\\s*\\s*,": REGEX 로 되돌아감 - 같은 java.util.regex 에 커서 비용만 (비교 기준)
+ * 입력 크기 64 / 4K / 256K 글자, 구분자 주변 공백은 0 ~ 2 개
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PatternDelimiterBenchmark {
+
+    @Param({"[,;]+", "\\s*,\\s*", "\\s*::\\s*", "\\s*\\s*,"})
+    private String pattern;
+
+    @Param({"64", "4096", "262144"})
+    private int size;
+
+    private String input;
+    private Splitter guava;
+    private SliceCursor cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(9);
+        String separator = pattern.contains("::") ? "::" : ",";
+        StringBuilder sb = new StringBuilder(size + 32);
+        while (sb.length() < size) {
+            if (sb.length() > 0) {
+                sb.append("  ", 0, random.nextInt(3)).append(separator).append("  ", 0, random.nextInt(3));
+                if (pattern.startsWith("[") && random.nextBoolean()) {
+                    sb.append(';');
+                }
+            }
+            int length = 3 + random.nextInt(10);
+            for (int i = 0; i < length; i++) {
+                sb.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        input = sb.toString();
+        guava = Splitter.onPattern(pattern);
+        cursor = StreamingSplitter.onPattern(pattern).cursor("");
+    }
+
+    @Benchmark
+    public int guavaOnPattern() {
+        int total = 0;
+        for (String token : guava.split(input)) {
+            total += token.length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int delimiter() {
+        SliceCursor c = cursor.reset(input);
+        int total = 0;
+        while (c.next()) {
+            total += c.token().length();
+        }
+        return total;
+    }
+}
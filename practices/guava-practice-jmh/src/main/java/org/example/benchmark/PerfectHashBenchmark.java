@@ -0,0 +1,72 @@
+package org.example.benchmark;
+
+import com.google.common.collect.ImmutableSet;
+import org.example.collect.PerfectHashSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정적 키 집합 contains: ImmutableSet (RegularImmutableSet) vs PerfectHashSet
+ *
+ * 키 "key-{i}", 조회할 키는 미리 만든 String 배열 (hashCode 캐시됨), 절반은 없는 키
+ * 빌드 시간은 setUp 에서 한 번 출력 (PerfectHashSet 은 빌드가 더 비쌈)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class PerfectHashBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int keys;
+
+    private ImmutableSet<String> immutable;
+    private PerfectHashSet<String> perfect;
+    private String[] lookups;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> source = new ArrayList<>(keys);
+        for (int i = 0; i < keys; i++) {
+            source.add("key-" + i);
+        }
+        long start = System.nanoTime();
+        immutable = ImmutableSet.copyOf(source);
+        long immutableMillis = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        perfect = PerfectHashSet.copyOf(source);
+        long perfectMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("%n%,d keys: build ImmutableSet %,d ms, PerfectHashSet %,d ms%n",
+                keys, immutableMillis, perfectMillis);
+
+        Random random = new Random(42);
+        lookups = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookups[i] = (i % 2 == 0 ? "key-" : "nope-") + random.nextInt(keys);
+            lookups[i].hashCode();
+        }
+    }
+
+    private String nextKey() {
+        return lookups[next++ & (LOOKUPS - 1)];
+    }
+
+    @Benchmark
+    public boolean immutableSet_contains() {
+        return immutable.contains(nextKey());
+    }
+
+    @Benchmark
+    public boolean perfectHashSet_contains() {
+        return perfect.contains(nextKey());
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import org.example.collect.PersistentHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 키 수정: copy-on-write ImmutableMap vs PersistentHashMap (HAMT)
+ *
+ * - immutable_put: builder().putAll(old).put(k, v).buildKeepingLast() (O(n))
+ * - persistent_with / persistent_without: 바뀐 경로만 복사 (O(log32 n))
+ * - *_batch64: 64 개를 한 버전으로 - with 64 번 vs toBuilder() (transient, 경로를 한 번만 복사)
+ * - *_get: 조회 비용 (ImmutableMap 은 배열 한 번, HAMT 는 노드 2~4 단계)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistentHashMapBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int entries;
+
+    private ImmutableMap<String, Integer> immutable;
+    private PersistentHashMap<String, Integer> persistent;
+    private String[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        keys = new String[entries];
+        ImmutableMap.Builder<String, Integer> builder = ImmutableMap.builderWithExpectedSize(entries);
+        for (int i = 0; i < entries; i++) {
+            keys[i] = "key." + i;
+            builder.put(keys[i], i);
+        }
+        immutable = builder.build();
+        persistent = PersistentHashMap.copyOf(immutable);
+    }
+
+    private String nextKey() {
+        int i = next++;
+        if (next == entries) {
+            next = 0;
+        }
+        return keys[i];
+    }
+
+    @Benchmark
+    public ImmutableMap<String, Integer> immutable_put() {
+        return ImmutableMap.<String, Integer>builderWithExpectedSize(entries)
+                .putAll(immutable).put(nextKey(), -1).buildKeepingLast();
+    }
+
+    @Benchmark
+    public PersistentHashMap<String, Integer> persistent_with() {
+        return persistent.with(nextKey(), -1);
+    }
+
+    @Benchmark
+    public PersistentHashMap<String, Integer> persistent_without() {
+        return persistent.without(nextKey());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public PersistentHashMap<String, Integer> persistent_with_batch64() {
+        PersistentHashMap<String, Integer> map = persistent;
+        for (int i = 0; i < 64; i++) {
+            map = map.with(nextKey(), -1);
+        }
+        return map;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public PersistentHashMap<String, Integer> persistent_builder_batch64() {
+        PersistentHashMap.Builder<String, Integer> builder = persistent.toBuilder();
+        for (int i = 0; i < 64; i++) {
+            builder.put(nextKey(), -1);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public Integer immutable_get() {
+        return immutable.get(nextKey());
+    }
+
+    @Benchmark
+    public Integer persistent_get() {
+        return persistent.get(nextKey());
+    }
+}
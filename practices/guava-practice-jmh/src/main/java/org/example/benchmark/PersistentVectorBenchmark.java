@@ -0,0 +1,113 @@
+package org.example.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import org.example.collect.PersistentVector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 불변 히스토리에 이벤트 추가: copy-on-write ImmutableList vs PersistentVector (RRB 트리)
+ *
+ * - immutable_append: builder().addAll(old).add(e).build() (O(n))
+ * - vector_append / vector_with: tail 또는 바뀐 경로만 복사
+ * - *_concat: 같은 크기 두 개 이어 붙이기 (ImmutableList 는 배열 복사, 벡터는 경계 노드만)
+ * - *_subList: 가운데 절반 (ImmutableList 는 뷰, 벡터는 잘라낸 영속 벡터)
+ * - *_get / *_iterate: 읽기 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistentVectorBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ImmutableList<Integer> list;
+    private PersistentVector<Integer> vector;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        ImmutableList.Builder<Integer> builder = ImmutableList.builderWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            builder.add(i);
+        }
+        list = builder.build();
+        vector = PersistentVector.copyOf(list);
+    }
+
+    private int nextIndex() {
+        int i = next++;
+        if (next == size) {
+            next = 0;
+        }
+        return i;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> immutable_append() {
+        return ImmutableList.<Integer>builderWithExpectedSize(size + 1).addAll(list).add(-1).build();
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> vector_append() {
+        return vector.append(-1);
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> vector_with() {
+        return vector.with(nextIndex(), -1);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> immutable_concat() {
+        return ImmutableList.<Integer>builderWithExpectedSize(2 * size).addAll(list).addAll(list).build();
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> vector_concat() {
+        return vector.concat(vector);
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> immutable_subList() {
+        return list.subList(size / 4, size - size / 4);
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> vector_subList() {
+        return vector.subList(size / 4, size - size / 4);
+    }
+
+    @Benchmark
+    public Integer immutable_get() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer vector_get() {
+        return vector.get(nextIndex());
+    }
+
+    @Benchmark
+    public long immutable_iterate() {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long vector_iterate() {
+        long sum = 0;
+        for (Integer value : vector) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.example.collect.ImmutableIntList;
+import org.example.collect.ImmutableIntObjectMap;
+import org.example.collect.ImmutableIntSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImmutableCollectionsPerformanceTest.List_vs_Set_vs_Map_조회_성능 의 JMH 버전 + primitive 컬렉션
+ *
+ * 원소 0 ~ size-1 (Integer 캐시 밖의 값이 대부분), 한 번의 호출에서 전체를 한 바퀴 조회
+ * - list: get(i) 합계 (박싱 쪽은 언박싱)
+ * - set: contains(i) (박싱 쪽은 Integer.valueOf + equals)
+ * - map: get(i) 가 null 이 아닌 수
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PrimitiveCollectionsBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ImmutableList<Integer> list;
+    private ImmutableSet<Integer> set;
+    private ImmutableMap<Integer, String> map;
+    private ImmutableIntList intList;
+    private ImmutableIntSet intSet;
+    private ImmutableIntObjectMap<String> intMap;
+
+    @Setup
+    public void setUp() {
+        ImmutableList.Builder<Integer> listBuilder = ImmutableList.builderWithExpectedSize(size);
+        ImmutableMap.Builder<Integer, String> mapBuilder = ImmutableMap.builderWithExpectedSize(size);
+        ImmutableIntObjectMap.Builder<String> intMapBuilder = ImmutableIntObjectMap.builder(size);
+        for (int i = 0; i < size; i++) {
+            listBuilder.add(i);
+            mapBuilder.put(i, "value" + i);
+            intMapBuilder.put(i, "value" + i);
+        }
+        list = listBuilder.build();
+        set = ImmutableSet.copyOf(list);
+        map = mapBuilder.build();
+        intList = ImmutableIntList.copyOf(list);
+        intSet = ImmutableIntSet.copyOf(list);
+        intMap = intMapBuilder.build();
+    }
+
+    @Benchmark
+    public long list_get() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intList_get() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += intList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int set_contains() {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (set.contains(i)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int intSet_contains() {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (intSet.contains(i)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int map_get() {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (map.get(i) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int intMap_get() {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (intMap.get(i) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
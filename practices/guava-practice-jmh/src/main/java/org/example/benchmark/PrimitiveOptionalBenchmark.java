@@ -0,0 +1,74 @@
+package org.example.benchmark;
+
+import com.google.common.base.Function;
+import org.example.optional.SimpleOptional;
+import org.example.optional.SimpleOptionalInt;
+import org.example.optional.SimpleOptionalLong;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SimpleOptional&lt;Integer&gt; vs SimpleOptionalInt / SimpleOptionalLong
+ *
+ * -prof gc 의 gc.alloc.rate.norm 으로 호출당 할당량 확인
+ * - chain_*: 체인이 메서드 안에서 끝남 → 프리미티브 버전은 EA 로 0 B/op 기대
+ * - escape_*: 결과를 return → 탈출하므로 valueOf 캐시 효과 (캐시 범위 안/밖)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PrimitiveOptionalBenchmark {
+
+    private static final Function<Integer, Integer> TWICE = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer i) {
+            return i * 2;
+        }
+    };
+
+    /** 50: Integer/valueOf 캐시 범위 안, 100000: 범위 밖 */
+    @Param({"50", "100000"})
+    private int key;
+
+    @Benchmark
+    public int chain_boxed() {
+        return SimpleOptional.of(key).transform(TWICE).or(-1);
+    }
+
+    @Benchmark
+    public int chain_int() {
+        return SimpleOptionalInt.of(key).transform(i -> i * 2).or(-1);
+    }
+
+    @Benchmark
+    public long chain_intToLong() {
+        return SimpleOptionalInt.of(key)
+                .filter(i -> i > 0)
+                .transformToLong(i -> i * 1_000_000_000L)
+                .or(-1L);
+    }
+
+    @Benchmark
+    public Object escape_boxed() {
+        return SimpleOptional.of(key);
+    }
+
+    @Benchmark
+    public Object escape_intOf() {
+        return SimpleOptionalInt.of(key);
+    }
+
+    @Benchmark
+    public Object escape_intValueOf() {
+        return SimpleOptionalInt.valueOf(key);
+    }
+
+    @Benchmark
+    public Object escape_longValueOf() {
+        return SimpleOptionalLong.valueOf(key);
+    }
+}
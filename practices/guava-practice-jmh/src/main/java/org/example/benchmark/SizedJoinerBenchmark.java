@@ -0,0 +1,74 @@
+package org.example.benchmark;
+
+import com.google.common.base.Joiner;
+import org.example.joiner.SizedJoiner;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Joiner vs SizedJoiner (길이 선계산 + 한 번에 기록)
+ *
+ * -prof gc 로 B/op 비교: Joiner 는 StringBuilder 확장 복사분만큼 더 할당
+ * - *_join: String 결과
+ * - *_chars: char[] 결과 (Joiner 는 join().toCharArray())
+ * - *_utf8: byte[] 결과 (Joiner 는 join().getBytes(UTF_8))
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SizedJoinerBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int size;
+
+    private final Joiner joiner = Joiner.on(", ");
+    private final SizedJoiner sizedJoiner = SizedJoiner.on(", ");
+    private List<String> parts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        parts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            parts.add("item-" + Integer.toString(random.nextInt(1 << 20), 36));
+        }
+    }
+
+    @Benchmark
+    public String guava_join() {
+        return joiner.join(parts);
+    }
+
+    @Benchmark
+    public String sized_join() {
+        return sizedJoiner.join(parts);
+    }
+
+    @Benchmark
+    public char[] guava_chars() {
+        return joiner.join(parts).toCharArray();
+    }
+
+    @Benchmark
+    public char[] sized_chars() {
+        return sizedJoiner.joinToChars(parts);
+    }
+
+    @Benchmark
+    public byte[] guava_utf8() {
+        return joiner.join(parts).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] sized_utf8() {
+        return sizedJoiner.joinToUtf8(parts);
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import org.example.collect.SnapshotRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 런타임 설정 변경: volatile ImmutableMap 재빌드 vs SnapshotRegistry
+ *
+ * - volatileRebuild: 키 하나 바꿀 때마다 builder().putAll(old).put(k, v).buildKeepingLast() (O(n))
+ * - registryPut: PersistentHashMap.with + CAS (O(log32 n))
+ * - registrySubmit64_flush: 64 번 submit 후 flush 한 번 → 버전 하나
+ * - *_get: 읽기 비용 (스냅샷 참조 한 번 + 조회)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnapshotRegistryBenchmark {
+
+    @Param({"1000", "100000"})
+    private int entries;
+
+    private volatile ImmutableMap<String, Integer> config;
+    private SnapshotRegistry<String, Integer> registry;
+    private String[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        keys = new String[entries];
+        ImmutableMap.Builder<String, Integer> builder = ImmutableMap.builderWithExpectedSize(entries);
+        for (int i = 0; i < entries; i++) {
+            keys[i] = "config.key." + i;
+            builder.put(keys[i], i);
+        }
+        config = builder.build();
+        registry = SnapshotRegistry.create(config);
+    }
+
+    private String nextKey() {
+        int i = next++;
+        if (next == entries) {
+            next = 0;
+        }
+        return keys[i];
+    }
+
+    @Benchmark
+    public ImmutableMap<String, Integer> volatileRebuild() {
+        ImmutableMap<String, Integer> updated = ImmutableMap.<String, Integer>builderWithExpectedSize(entries)
+                .putAll(config).put(nextKey(), next).buildKeepingLast();
+        config = updated;
+        return updated;
+    }
+
+    @Benchmark
+    public SnapshotRegistry.Snapshot<String, Integer> registryPut() {
+        return registry.put(nextKey(), next);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public SnapshotRegistry.Snapshot<String, Integer> registrySubmit64_flush() {
+        for (int i = 0; i < 64; i++) {
+            registry.submit(nextKey(), next);
+        }
+        return registry.flush();
+    }
+
+    @Benchmark
+    public Integer volatile_get() {
+        return config.get(nextKey());
+    }
+
+    @Benchmark
+    public Integer registry_get() {
+        return registry.get(nextKey());
+    }
+}
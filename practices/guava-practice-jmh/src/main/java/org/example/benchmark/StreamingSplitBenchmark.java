@@ -0,0 +1,104 @@
+package org.example.benchmark;
+
+import com.google.common.base.Splitter;
+import org.example.splitter.StreamingSplitter;
+import org.example.splitter.TokenCursor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대용량 파일 분할: Splitter.splitToList vs StreamingSplitter
+ *
+ * 입력 파일은 java.io.tmpdir 에 한 번 생성해 두고 재사용 (guava-practice-split-{sizeMb}mb.csv)
+ * 파일 하나를 통째로 읽는 시간이 측정 단위이므로 SingleShotTime
+ *
+ * - splitToList: 파일 전체를 String 으로 읽고 분할 → 1 GB 면 수 GB 힙 필요 (-Xmx12g 포크)
+ * - streaming_*: -Xmx64m 포크 → 파일 크기와 무관하게 작은 힙으로 끝나는 것 자체가 검증
+ *
+ * 빠른 확인: java -jar benchmarks.jar StreamingSplit -p sizeMb=16
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+public class StreamingSplitBenchmark {
+
+    private static final String[] WORDS = {
+            "KR", "US", "JP", "PENDING", "COMPLETED", "FAILED", "12345", "3.14", " padded ", ""
+    };
+
+    @Param({"1024"})
+    private int sizeMb;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Paths.get(System.getProperty("java.io.tmpdir"), "guava-practice-split-" + sizeMb + "mb.csv");
+        long targetBytes = sizeMb * 1024L * 1024L;
+        if (Files.exists(file) && Files.size(file) >= targetBytes) {
+            return;
+        }
+        Random random = new Random(42);
+        long written = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            while (written < targetBytes) {
+                String word = WORDS[random.nextInt(WORDS.length)];
+                writer.write(word);
+                writer.write(random.nextInt(8) == 0 ? '\n' : ',');
+                written += word.length() + 1;
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx12g")
+    public long splitToList() throws IOException {
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        List<String> tokens = Splitter.on(',').trimResults().omitEmptyStrings().splitToList(content);
+        long checksum = tokens.size();
+        for (String token : tokens) {
+            checksum += token.length();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+    public long streaming_reader() throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return consume(StreamingSplitter.on(',').trimResults().omitEmptyStrings()
+                    .bufferSize(64 * 1024).cursor(reader));
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+    public long streaming_channel() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return consume(StreamingSplitter.on(',').trimResults().omitEmptyStrings()
+                    .bufferSize(64 * 1024).cursor(channel, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static long consume(TokenCursor cursor) throws IOException {
+        long checksum = 0;
+        while (cursor.next()) {
+            checksum += 1 + cursor.token().length();
+        }
+        return checksum;
+    }
+}
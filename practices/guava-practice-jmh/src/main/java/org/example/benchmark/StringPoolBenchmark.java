@@ -0,0 +1,90 @@
+package org.example.benchmark;
+
+import com.google.common.base.Splitter;
+import org.example.splitter.SliceCursor;
+import org.example.splitter.StreamingSplitter;
+import org.example.splitter.StringPool;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SplitterExample 형태의 로그 줄 "국가,상태,값" 에서 토큰을 보관할 String 으로 만드는 비용
+ * 국가 50 가지 x 상태 6 가지가 반복되고 세 번째 값은 모두 다름 (maxLength 를 넘겨 풀을 거치지 않음)
+ *
+ * - splitter: Splitter.splitToList - 토큰마다 새 String (보관하면 같은 값이 힙에 계속 쌓임)
+ * - splitterIntern / splitterMap: 새 String 을 만든 뒤 String.intern() / ConcurrentHashMap 으로 중복 제거
+ * - slicePool: SliceCursor + StringPool - 반복 값은 String 을 만들지 않음 → -prof gc 로 B/op 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringPoolBenchmark {
+
+    private static final String[] STATUSES = {"ACTIVE", "INACTIVE", "PENDING", "DELETED", "SUSPENDED", "UNKNOWN"};
+
+    private final Splitter splitter = Splitter.on(',');
+    private final SliceCursor cursor = StreamingSplitter.on(',').cursor("");
+    private final StringPool pool = StringPool.builder().maximumSize(1024).maxLength(16).build();
+    private final ConcurrentHashMap<String, String> map = new ConcurrentHashMap<>();
+    private final String[] tokens = new String[3];
+    private String[] lines;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        lines = new String[1024];
+        for (int i = 0; i < lines.length; i++) {
+            String country = "" + (char) ('A' + random.nextInt(10)) + (char) ('A' + random.nextInt(5));
+            lines[i] = country + ',' + STATUSES[random.nextInt(STATUSES.length)]
+                    + ",request-" + random.nextLong();
+        }
+    }
+
+    private String nextLine() {
+        String line = lines[next];
+        next = (next + 1) & (lines.length - 1);
+        return line;
+    }
+
+    @Benchmark
+    public List<String> splitter() {
+        return splitter.splitToList(nextLine());
+    }
+
+    @Benchmark
+    public String[] splitterIntern() {
+        int i = 0;
+        for (String token : splitter.split(nextLine())) {
+            tokens[i++] = token.intern();
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public String[] splitterMap() {
+        int i = 0;
+        for (String token : splitter.split(nextLine())) {
+            String existing = map.putIfAbsent(token, token);
+            tokens[i++] = existing == null ? token : existing;
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public String[] slicePool() {
+        SliceCursor c = cursor.reset(nextLine());
+        int i = 0;
+        while (c.next()) {
+            tokens[i++] = c.token(pool);
+        }
+        return tokens;
+    }
+}
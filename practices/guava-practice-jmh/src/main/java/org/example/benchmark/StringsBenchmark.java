@@ -0,0 +1,61 @@
+package org.example.benchmark;
+
+import com.google.common.base.Strings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DetailedStringsAnalysis.performanceBenchmark 의 JMH 버전
+ *
+ * 기존 코드는 boolean result 를 루프 안에서 버림 → 루프 전체가 제거되어
+ * "Platform 추상화 오버헤드"가 사실상 노이즈였음
+ * 여기서는 결과를 return 하고, null / 빈 문자열 / 일반 문자열을 모두 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class StringsBenchmark {
+
+    @Param({"null", "empty", "normal"})
+    private String kind;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        switch (kind) {
+            case "null":
+                input = null;
+                break;
+            case "empty":
+                input = "";
+                break;
+            default:
+                input = "benchmark_test_string";
+        }
+    }
+
+    @Benchmark
+    public boolean manualNullCheck() {
+        return input == null || input.isEmpty();
+    }
+
+    @Benchmark
+    public boolean guavaIsNullOrEmpty() {
+        return Strings.isNullOrEmpty(input);
+    }
+
+    @Benchmark
+    public String guavaNullToEmpty() {
+        return Strings.nullToEmpty(input);
+    }
+
+    @Benchmark
+    public String guavaPadStart() {
+        return Strings.padStart(Strings.nullToEmpty(input), 32, '0');
+    }
+}
@@ -2,6 +2,8 @@ package org.example;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
+import org.example.joiner.SizedJoiner;
+
 import java.util.Arrays;
 import java.util.List;
 
@@ -109,5 +111,9 @@ public class JoinerExample {
         System.out.println(sb.toString());
 
         // 성능 비교 포인트: join() vs appendTo()
+        // → 둘 다 StringBuilder 확장 복사가 생김, 길이를 먼저 계산하면 한 번에 기록 가능
+        //   (SizedJoinerBenchmark: 할당량 약 절반)
+        char[] exact = SizedJoiner.on(", ").joinToChars("Apple", "Banana", "Cherry");
+        System.out.println("SizedJoiner: " + exact.length + " chars");
     }
 }
\ No newline at end of file
@@ -1,7 +1,16 @@
 package org.example;
 
 import com.google.common.base.Splitter;
-
+import org.example.splitter.MappedMapSplitter;
+import org.example.splitter.StreamingSplitter;
+import org.example.splitter.TokenCursor;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +31,7 @@ public class SplitterExample {
         limitSplitting();
         mapSplitting();
         lazySplitting();
+        streamingSplitting();
     }
 
     /**
@@ -111,6 +121,14 @@ public class SplitterExample {
                 .withKeyValueSeparator('=')
                 .split(config);
         System.out.println("Settings: " + settings);
+
+        // 대용량 로그: Map 을 만들지 않고 엔트리마다 콜백 (실제로는 split(Path, visitor) 로 파일 매핑)
+        ByteBuffer log = ByteBuffer.wrap("status=200&bytes=512\nstatus=404&bytes=0\n".getBytes(StandardCharsets.UTF_8));
+        MappedMapSplitter.on('&', '=').split(log, (key, value) -> {
+            if (key.contentEqualsAscii("status")) {
+                System.out.println("Status: " + value.parseInt());
+            }
+        });
     }
 
     /**
@@ -140,4 +158,30 @@ public class SplitterExample {
 
         // 성능 비교 포인트: 대용량 데이터에서 차이가 클 것
     }
+
+    /**
+     * 스트리밍 분할 (StreamingSplitter)
+     *
+     * split()도 입력 String 자체는 전부 메모리에 있어야 함
+     * → 진짜 큰 파일은 Reader 에서 바로 분할
+     */
+    private static void streamingSplitting() {
+        System.out.println("\n=== 스트리밍 분할 ===");
+
+        // 실제로는 Files.newBufferedReader(path) 같은 큰 입력
+        Reader reader = new StringReader(" a , b ,, c ");
+
+        TokenCursor cursor = StreamingSplitter.on(',')
+                .trimResults()
+                .omitEmptyStrings()
+                .cursor(reader);
+        try {
+            while (cursor.next()) {
+                CharSequence token = cursor.token(); // 버퍼 위의 뷰 (String 아님)
+                System.out.println("Token: " + token);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
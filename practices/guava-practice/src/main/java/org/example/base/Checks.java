@@ -0,0 +1,3230 @@
+package org.example.base;
+
+import com.google.common.base.Strings;
+
+import java.util.Objects;
+
+/**
+ * 매 요청 경로용 Preconditions - 성공 경로에서 할당 0
+ *
+ * Guava Preconditions 는 인자 2 개까지만 primitive 오버로드가 있고 3 ~ 4 개는 Object
+ * → int/long 인자를 넘기면 호출할 때마다 박싱 (캐시 범위 밖이면 할당, EA 가 항상 없애 주지는 못함)
+ * 여기서는 인자 1 ~ 4 개 모두 long / char / Object 조합 오버로드 (2 ~ 3 개는 boolean 도)
+ * - int, short, byte 는 long 으로 넓혀짐 (오버로드 결정 1 단계 - 박싱 없음, 출력도 같음)
+ * - char 는 char 오버로드가 더 구체적이라 숫자가 아니라 문자로 출력
+ * - 메시지는 실패할 때만 Strings.lenientFormat 으로 (%s 자리표시, 그때 박싱)
+ * - 5 개 이상은 Object... (배열 할당)
+ *
+ * 오버로드에 없는 primitive (double, float, 인자 4 개의 boolean) 를 int / long / char 와 섞으면 모호함
+ * → 박싱하는 2 단계에서 (.., long, ..) 과 (.., Object, ..) 중 더 구체적인 쪽이 없음 (Guava 의 인자 2 개도 같음)
+ * → 그 인자를 (Object) 로 캐스트: checkArgument(ok, "%s %s %s", (Object) ratio, count, name)
+ *
+ * checkIndex 계열은 Objects.checkIndex 로 위임 - JIT 내장 함수라 범위 검사 제거 대상
+ */
+public final class Checks {
+
+    private Checks() {
+    }
+
+    // === checkIndex (Objects 위임) ===
+
+    /**
+     * 0 &lt;= index &lt; length, 아니면 IndexOutOfBoundsException
+     */
+    public static int checkIndex(int index, int length) {
+        return Objects.checkIndex(index, length);
+    }
+
+    /**
+     * 0 &lt;= fromIndex &lt;= toIndex &lt;= length
+     */
+    public static int checkFromToIndex(int fromIndex, int toIndex, int length) {
+        return Objects.checkFromToIndex(fromIndex, toIndex, length);
+    }
+
+    /**
+     * 0 &lt;= fromIndex &lt;= fromIndex + size &lt;= length (오버플로 포함)
+     */
+    public static int checkFromIndexSize(int fromIndex, int size, int length) {
+        return Objects.checkFromIndexSize(fromIndex, size, length);
+    }
+
+    // === checkArgument ===
+
+    public static void checkArgument(boolean expression) {
+        if (!expression) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    public static void checkArgument(boolean expression, Object errorMessage) {
+        if (!expression) {
+            throw new IllegalArgumentException(String.valueOf(errorMessage));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, boolean p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, boolean p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, long p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, char p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, boolean p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, Object p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, boolean p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, boolean p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, boolean p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, boolean p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, boolean p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, boolean p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, boolean p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, boolean p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, boolean p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, long p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, long p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, long p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, long p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, char p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, char p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, char p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, char p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, boolean p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, boolean p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, boolean p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, boolean p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, Object p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, Object p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, Object p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, boolean p1, Object p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, boolean p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, boolean p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, boolean p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, boolean p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, long p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, char p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, Object p3) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, long p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, char p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, long p1, Object p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, long p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, char p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, char p1, Object p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, long p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, char p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object p1, Object p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkArgument(boolean expression, String errorMessageTemplate, Object... errorMessageArgs) {
+        if (!expression) {
+            throw new IllegalArgumentException(Strings.lenientFormat(errorMessageTemplate, errorMessageArgs));
+        }
+    }
+
+    // === checkState ===
+
+    public static void checkState(boolean expression) {
+        if (!expression) {
+            throw new IllegalStateException();
+        }
+    }
+
+    public static void checkState(boolean expression, Object errorMessage) {
+        if (!expression) {
+            throw new IllegalStateException(String.valueOf(errorMessage));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, boolean p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, boolean p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, long p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, char p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, boolean p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, Object p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, boolean p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, boolean p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, boolean p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, boolean p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, boolean p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, boolean p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, boolean p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, boolean p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, boolean p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, long p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, long p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, long p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, long p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, char p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, char p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, char p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, char p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, boolean p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, boolean p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, boolean p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, boolean p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, Object p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, Object p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, Object p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, boolean p1, Object p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, boolean p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, boolean p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, boolean p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, boolean p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, long p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, char p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, boolean p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, Object p3) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, long p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, char p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, long p1, Object p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, long p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, char p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, char p1, Object p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, long p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, char p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, long p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, long p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, long p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, char p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, char p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, char p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, Object p3, long p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, Object p3, char p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object p1, Object p2, Object p3, Object p4) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+    }
+
+    public static void checkState(boolean expression, String errorMessageTemplate, Object... errorMessageArgs) {
+        if (!expression) {
+            throw new IllegalStateException(Strings.lenientFormat(errorMessageTemplate, errorMessageArgs));
+        }
+    }
+
+    // === checkNotNull ===
+
+    public static <T> T checkNotNull(T reference) {
+        if (reference == null) {
+            throw new NullPointerException();
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, Object errorMessage) {
+        if (reference == null) {
+            throw new NullPointerException(String.valueOf(errorMessage));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, boolean p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, boolean p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, long p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, char p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, boolean p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, Object p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, boolean p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, boolean p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, boolean p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, boolean p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, boolean p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, boolean p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, boolean p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, boolean p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, boolean p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, long p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, long p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, long p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, long p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, char p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, char p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, char p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, char p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, boolean p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, boolean p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, boolean p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, boolean p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, Object p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, Object p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, Object p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, boolean p1, Object p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, boolean p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, boolean p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, boolean p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, boolean p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, long p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, char p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, boolean p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, Object p3) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, long p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, long p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, long p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, char p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, char p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, char p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, Object p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, Object p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, long p2, Object p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, long p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, long p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, long p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, char p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, char p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, char p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, Object p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, Object p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, char p2, Object p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, long p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, long p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, long p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, char p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, char p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, char p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, Object p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, Object p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, long p1, Object p2, Object p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, long p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, long p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, long p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, char p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, char p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, char p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, Object p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, Object p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, long p2, Object p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, long p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, long p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, long p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, char p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, char p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, char p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, Object p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, Object p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, char p2, Object p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, long p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, long p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, long p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, char p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, char p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, char p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, Object p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, Object p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, char p1, Object p2, Object p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, long p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, long p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, long p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, char p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, char p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, char p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, Object p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, Object p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, long p2, Object p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, long p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, long p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, long p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, char p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, char p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, char p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, Object p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, Object p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, char p2, Object p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, long p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, long p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, long p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, char p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, char p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, char p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, Object p3, long p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, Object p3, char p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object p1, Object p2, Object p3, Object p4) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, p1, p2, p3, p4));
+        }
+        return reference;
+    }
+
+    public static <T> T checkNotNull(T reference, String errorMessageTemplate, Object... errorMessageArgs) {
+        if (reference == null) {
+            throw new NullPointerException(Strings.lenientFormat(errorMessageTemplate, errorMessageArgs));
+        }
+        return reference;
+    }
+}
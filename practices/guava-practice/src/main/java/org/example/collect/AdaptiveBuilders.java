@@ -0,0 +1,327 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 호출 지점별로 최종 크기를 배워서 ImmutableList.Builder 를 미리 크기 맞춰 주는 팩토리
+ *
+ * builderWithExpectedSize(n) 은 배열 증가 복사와 build() 의 잘라내기 복사를 없애지만 n 을 알아야 함
+ * 여기서는 호출 지점 (Site) 마다
+ * - build() 된 크기를 감쇠 히스토그램에 기록 (최근 halfLife 번이 가중치의 절반)
+ * - 다음 빌더는 그 히스토그램의 quantile (기본 0.9) 크기로 시작 (처음 16 번 뒤로는 16 번마다 갱신)
+ * - 지표: build 수, 원소 수, 배열 복사 수 (증가 + build 잘라내기 + build 후 재사용), 낭비된 칸 수
+ *
+ * 호출 지점은 상수로 한 번만 만들어 둠
+ * <pre>
+ * private static final AdaptiveBuilders.Site ROWS = AdaptiveBuilders.site("report.rows");
+ * ImmutableList.Builder 대신 ROWS.&lt;Row&gt;listBuilder() ... build()
+ * </pre>
+ * site() 는 이름 대신 부른 위치 (클래스.메서드:줄) 를 키로 씀 (StackWalker 라 static 초기화에서만)
+ *
+ * ImmutableSet / ImmutableMap 빌더는 Site.expectedSize() 로 builderWithExpectedSize 를 부르고
+ * build 후 Site.record(size) 로 기록 (복사 수는 세지 않음)
+ */
+public final class AdaptiveBuilders {
+
+    static final int DEFAULT_HALF_LIFE = 64;
+    static final double DEFAULT_QUANTILE = 0.9;
+    /** ImmutableCollection.Builder 의 기본 용량 (기록이 없을 때) */
+    static final int DEFAULT_CAPACITY = 4;
+    /** 처음 이만큼은 매번, 그 뒤로는 이만큼마다 분위수를 다시 계산 (버킷 전체를 훑는 비용) */
+    static final int REFRESH_INTERVAL = 16;
+
+    private static final ConcurrentMap<String, Site> SITES = new ConcurrentHashMap<>();
+
+    private AdaptiveBuilders() {
+    }
+
+    public static Site site(String name) {
+        return SITES.computeIfAbsent(checkNotNull(name), n -> new Site(n, DEFAULT_HALF_LIFE, DEFAULT_QUANTILE));
+    }
+
+    /**
+     * halfLife: 이전 기록의 가중치가 절반이 되는 build 수, quantile: 미리 잡을 크기의 분위수
+     * 같은 이름이 이미 있으면 그 Site (설정은 처음 것)
+     */
+    public static Site site(String name, int halfLife, double quantile) {
+        checkArgument(quantile > 0 && quantile <= 1, "quantile must be in (0, 1]: %s", quantile);
+        return SITES.computeIfAbsent(checkNotNull(name), n -> new Site(n, halfLife, quantile));
+    }
+
+    /**
+     * 부른 위치를 이름으로 (static final 필드 초기화에서 한 번)
+     */
+    public static Site site() {
+        StackWalker.StackFrame caller = StackWalker.getInstance()
+                .walk(frames -> frames.skip(1).findFirst())
+                .orElseThrow(IllegalStateException::new);
+        return site(caller.getClassName() + "." + caller.getMethodName() + ":" + caller.getLineNumber());
+    }
+
+    /**
+     * 등록된 모든 호출 지점의 지표 (순서는 보장하지 않음)
+     */
+    public static ImmutableMap<String, SiteStats> stats() {
+        ImmutableMap.Builder<String, SiteStats> builder = ImmutableMap.builderWithExpectedSize(SITES.size());
+        for (Site site : SITES.values()) {
+            builder.put(site.name, site.stats());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 호출 지점 하나 - 여러 스레드에서 함께 써도 됨 (빌더 자체는 스레드마다 따로)
+     */
+    public static final class Site {
+        private final String name;
+        private final DecayingSizeHistogram histogram;
+        private final double quantile;
+        private volatile int expectedSize = -1;
+
+        // 히스토그램과 함께 this 로 잠금 (build 당 한 번이라 LongAdder 여러 개보다 잠금 한 번이 쌈)
+        private long builds;
+        private long elements;
+        private long arrayCopies;
+        private long wastedSlots;
+
+        Site(String name, int halfLife, double quantile) {
+            this.name = name;
+            this.histogram = new DecayingSizeHistogram(halfLife);
+            this.quantile = quantile;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /**
+         * 다음 빌더의 시작 용량 (기록이 없으면 -1)
+         */
+        public int expectedSize() {
+            return expectedSize;
+        }
+
+        public <E> ListBuilder<E> listBuilder() {
+            int expected = expectedSize;
+            return new ListBuilder<>(this, expected < 0 ? DEFAULT_CAPACITY : expected);
+        }
+
+        /**
+         * 다른 빌더로 만든 결과의 크기만 기록
+         */
+        public void record(int finalSize) {
+            record(finalSize, 0, 0);
+        }
+
+        synchronized void record(int finalSize, int copies, int wasted) {
+            long count = histogram.record(finalSize);
+            if (count <= REFRESH_INTERVAL || count % REFRESH_INTERVAL == 0) {
+                expectedSize = histogram.quantile(quantile);
+            }
+            builds++;
+            elements += finalSize;
+            arrayCopies += copies;
+            wastedSlots += wasted;
+        }
+
+        public synchronized SiteStats stats() {
+            return new SiteStats(name, builds, elements, arrayCopies, wastedSlots, expectedSize);
+        }
+
+        @Override
+        public String toString() {
+            return stats().toString();
+        }
+    }
+
+    /**
+     * ImmutableList.Builder 를 감싸 배열 복사와 낭비를 셈
+     * ImmutableList.Builder 는 final 이라 상속 대신 위임, 배열 크기는 Guava 와 같은 규칙으로 따라감
+     * (ImmutableCollection.Builder.expandedCapacity: 1.5 배 + 1, 모자라면 다음 2 의 거듭제곱)
+     *
+     * add(e) 는 크기만 세고, 한 개씩 늘어난 만큼의 증가는 build / 여러 개 추가 직전에 한꺼번에 재생
+     * (원소마다 용량을 비교하면 위임만 할 때보다 원소당 수 ns 느려짐)
+     */
+    public static final class ListBuilder<E> {
+        private final Site site;
+        private final ImmutableList.Builder<E> delegate;
+        private int size;
+        /** capacity / forceCopy / copies 가 반영된 크기 */
+        private int synced;
+        private int capacity;
+        private boolean forceCopy;
+        private int copies;
+
+        ListBuilder(Site site, int capacity) {
+            this.site = site;
+            this.delegate = ImmutableList.builderWithExpectedSize(capacity);
+            this.capacity = capacity;
+        }
+
+        public ListBuilder<E> add(E element) {
+            delegate.add(element);
+            size++;
+            return this;
+        }
+
+        @SafeVarargs
+        public final ListBuilder<E> add(E... elements) {
+            delegate.add(elements);
+            addedAtOnce(elements.length);
+            return this;
+        }
+
+        public ListBuilder<E> addAll(Iterable<? extends E> elements) {
+            if (elements instanceof Collection) {
+                Collection<? extends E> collection = (Collection<? extends E>) elements;
+                delegate.addAll(collection);
+                // Guava 도 Collection 이면 한 번에 늘림
+                addedAtOnce(collection.size());
+                return this;
+            }
+            return addAll(elements.iterator());
+        }
+
+        public ListBuilder<E> addAll(Iterator<? extends E> elements) {
+            while (elements.hasNext()) {
+                add(elements.next());
+            }
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * build 할 때마다 Site 에 기록 (같은 빌더로 여러 번 build 해도 됨)
+         */
+        public ImmutableList<E> build() {
+            ImmutableList<E> list = delegate.build();
+            sync();
+            int wasted = capacity - size;
+            // 원소 2 개 이상이면 RegularImmutableList 가 배열을 그대로 쓰거나 딱 맞게 잘라 복사
+            if (size >= 2 && wasted > 0) {
+                copies++;
+            }
+            site.record(size, copies, wasted);
+            copies = 0;
+            forceCopy = true;
+            return list;
+        }
+
+        private void addedAtOnce(int count) {
+            sync();
+            int minCapacity = size + count;
+            if (capacity < minCapacity) {
+                capacity = expandedCapacity(capacity, minCapacity);
+                copies++;
+            } else if (forceCopy) {
+                copies++;
+            }
+            forceCopy = false;
+            size = minCapacity;
+            synced = size;
+        }
+
+        /**
+         * synced 이후 한 개씩 추가된 원소에 대한 Guava 의 증가를 재생
+         */
+        private void sync() {
+            if (synced == size) {
+                return;
+            }
+            if (forceCopy) {
+                // build 로 내보낸 배열은 다시 쓰지 않음 - 자리가 있으면 복사, 없으면 아래 증가가 대신함
+                if (capacity > synced) {
+                    copies++;
+                }
+                forceCopy = false;
+            }
+            while (capacity < size) {
+                capacity = expandedCapacity(capacity, capacity + 1);
+                copies++;
+            }
+            synced = size;
+        }
+
+        static int expandedCapacity(int oldCapacity, int minCapacity) {
+            int newCapacity = oldCapacity + (oldCapacity >> 1) + 1;
+            if (newCapacity < minCapacity) {
+                newCapacity = Integer.highestOneBit(minCapacity - 1) << 1;
+            }
+            return newCapacity < 0 ? Integer.MAX_VALUE : newCapacity;
+        }
+    }
+
+    /**
+     * 호출 지점 하나의 누적 지표
+     */
+    public static final class SiteStats {
+        private final String name;
+        private final long builds;
+        private final long elements;
+        private final long arrayCopies;
+        private final long wastedSlots;
+        private final int expectedSize;
+
+        SiteStats(String name, long builds, long elements, long arrayCopies, long wastedSlots, int expectedSize) {
+            this.name = name;
+            this.builds = builds;
+            this.elements = elements;
+            this.arrayCopies = arrayCopies;
+            this.wastedSlots = wastedSlots;
+            this.expectedSize = expectedSize;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long builds() {
+            return builds;
+        }
+
+        public long elements() {
+            return elements;
+        }
+
+        /** 배열 증가 + build 잘라내기 + build 후 재사용 복사 */
+        public long arrayCopies() {
+            return arrayCopies;
+        }
+
+        /** build 시점에 잡혀 있던 용량 - 크기 의 합 */
+        public long wastedSlots() {
+            return wastedSlots;
+        }
+
+        public int expectedSize() {
+            return expectedSize;
+        }
+
+        public double copiesPerBuild() {
+            return builds == 0 ? 0 : (double) arrayCopies / builds;
+        }
+
+        public double wastedSlotsPerBuild() {
+            return builds == 0 ? 0 : (double) wastedSlots / builds;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: builds=%d, avgSize=%.1f, copies/build=%.2f, wasted/build=%.1f, expectedSize=%d",
+                    name, builds, builds == 0 ? 0.0 : (double) elements / builds,
+                    copiesPerBuild(), wastedSlotsPerBuild(), expectedSize);
+        }
+    }
+}
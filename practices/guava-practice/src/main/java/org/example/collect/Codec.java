@@ -0,0 +1,121 @@
+package org.example.collect;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * OffHeapImmutableMap 의 키/값 직렬화
+ *
+ * - encode: out 의 position 부터 상대 쓰기 (공간이 모자라면 BufferOverflowException → 호출 쪽이 버퍼를 키워 다시 호출)
+ * - decode: in 의 [offset, offset + length) 를 절대 위치로 읽기 (position 은 건드리지 않음 → 여러 스레드가 공유)
+ *
+ * 같은 값은 항상 같은 바이트로 인코딩되어야 함 (키 비교/해시를 바이트로 하므로)
+ */
+public interface Codec<T> {
+
+    Class<T> type();
+
+    void encode(T value, ByteBuffer out);
+
+    T decode(ByteBuffer in, int offset, int length);
+
+    static Codec<String> utf8() {
+        return Utf8.INSTANCE;
+    }
+
+    static Codec<Integer> int32() {
+        return Int32.INSTANCE;
+    }
+
+    static Codec<Long> int64() {
+        return Int64.INSTANCE;
+    }
+
+    /**
+     * String.getBytes(UTF_8) 와 같은 바이트를 임시 byte[] 없이 바로 기록
+     * (짝이 맞지 않는 surrogate 는 getBytes 처럼 '?')
+     */
+    final class Utf8 implements Codec<String> {
+        static final Utf8 INSTANCE = new Utf8();
+
+        @Override
+        public Class<String> type() {
+            return String.class;
+        }
+
+        @Override
+        public void encode(String value, ByteBuffer out) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    out.put((byte) c);
+                } else if (c < 0x800) {
+                    out.put((byte) (0xC0 | (c >>> 6)));
+                    out.put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isSurrogate(c)) {
+                    int codePoint = Character.codePointAt(value, i);
+                    if (codePoint == c) {
+                        out.put((byte) '?');
+                        continue;
+                    }
+                    out.put((byte) (0xF0 | (codePoint >>> 18)));
+                    out.put((byte) (0x80 | ((codePoint >>> 12) & 0x3F)));
+                    out.put((byte) (0x80 | ((codePoint >>> 6) & 0x3F)));
+                    out.put((byte) (0x80 | (codePoint & 0x3F)));
+                    i++;
+                } else {
+                    out.put((byte) (0xE0 | (c >>> 12)));
+                    out.put((byte) (0x80 | ((c >>> 6) & 0x3F)));
+                    out.put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+        }
+
+        @Override
+        public String decode(ByteBuffer in, int offset, int length) {
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = in.get(offset + i);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    final class Int32 implements Codec<Integer> {
+        static final Int32 INSTANCE = new Int32();
+
+        @Override
+        public Class<Integer> type() {
+            return Integer.class;
+        }
+
+        @Override
+        public void encode(Integer value, ByteBuffer out) {
+            out.putInt(value);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer in, int offset, int length) {
+            return in.getInt(offset);
+        }
+    }
+
+    final class Int64 implements Codec<Long> {
+        static final Int64 INSTANCE = new Int64();
+
+        @Override
+        public Class<Long> type() {
+            return Long.class;
+        }
+
+        @Override
+        public void encode(Long value, ByteBuffer out) {
+            out.putLong(value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer in, int offset, int length) {
+            return in.getLong(offset);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterators;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 병렬로 만들 수 있는 불변 해시 셋 - RegularImmutableSet 과 같은 구성 (삽입 순서 배열 + 선형 탐사 테이블)
+ *
+ * ImmutableSet.copyOf 는 한 스레드가 테이블 전체를 채움
+ * 여기서는 테이블을 2^partitionBits 개 영역으로 나누고
+ * - 원소의 (섞은) 해시 상위 비트 = 영역, 하위 비트 = 영역 안 위치, 탐사도 영역 안에서만 돌아감
+ * - 영역마다 다른 스레드가 채우므로 잠금/병합 없이 바로 최종 테이블이 됨
+ * - 중복은 같은 영역에 떨어지므로 영역 안에서 (입력 순서대로) 처음 것만 남김 → ImmutableSet 과 같은 순서
+ *
+ * 영역 크기 = 가장 많이 받은 영역의 원소 수 * 2 이상의 2 의 거듭제곱 (부하율 0.5 이하)
+ * 만드는 방법은 ParallelImmutableCollections
+ */
+public final class CompactImmutableSet<E> extends AbstractSet<E> {
+
+    private static final CompactImmutableSet<Object> EMPTY =
+            new CompactImmutableSet<>(new Object[0], new Object[1], 0, 0, 0);
+
+    /** 삽입 순서 */
+    private final Object[] elements;
+    private final Object[] table;
+    private final int partitionBits;
+    private final int regionMask;
+    private final int hashCode;
+
+    CompactImmutableSet(Object[] elements, Object[] table, int partitionBits, int regionBits, int hashCode) {
+        this.elements = elements;
+        this.table = table;
+        this.partitionBits = partitionBits;
+        this.regionMask = (1 << regionBits) - 1;
+        this.hashCode = hashCode;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> CompactImmutableSet<E> of() {
+        return (CompactImmutableSet<E>) EMPTY;
+    }
+
+    /**
+     * 한 스레드로 (원소가 적거나 병렬이 필요 없을 때)
+     */
+    public static <E> CompactImmutableSet<E> copyOf(Iterable<? extends E> elements) {
+        return ParallelImmutableCollections.copyOfSet(elements, ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+    }
+
+    static int partition(int hash, int partitionBits) {
+        return partitionBits == 0 ? 0 : hash >>> (Integer.SIZE - partitionBits);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        int hash = PrimitiveTables.smear(o.hashCode());
+        int base = partition(hash, partitionBits) * (regionMask + 1);
+        for (int i = hash & regionMask; ; i = (i + 1) & regionMask) {
+            Object candidate = table[base + i];
+            if (candidate == null) {
+                return false;
+            }
+            if (candidate.equals(o)) {
+                return true;
+            }
+        }
+    }
+
+    int tableLength() {
+        return table.length;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        return (Iterator<E>) Iterators.forArray(elements);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * 삽입 순서의 ImmutableList (원소 배열을 복사 없이 공유)
+     */
+    public ImmutableList<E> asList() {
+        return ImmutableList.copyOf(new ParallelImmutableCollections.TrustedArrayList<E>(elements));
+    }
+
+    /**
+     * Guava ImmutableSet 으로 (한 스레드로 다시 해싱)
+     */
+    public ImmutableSet<E> toImmutableSet() {
+        return ImmutableSet.copyOf(asList());
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 지수 감쇠 (exponentially decayed) 크기 히스토그램
+ *
+ * - 버킷: 0 ~ 7 은 값 그대로, 그 위는 2 의 거듭제곱 구간을 4 칸씩 (버킷 폭이 값의 25% 이하)
+ * - 기록할 때마다 이전 기록의 가중치가 decay 배 → 최근 halfLife 번의 기록이 가중치의 절반
+ *   모든 버킷에 곱하는 대신 새 기록의 가중치를 1 / decay 배씩 키우고, 너무 커지면 전체를 다시 나눔
+ * - quantile(q): 가중치 누적이 q 를 넘는 버킷에서 지금까지 본 가장 큰 값
+ *   (크기가 일정한 호출 지점이면 그 크기가 그대로 나옴)
+ *
+ * 동기화하지 않음 - 여러 스레드에서 쓰면 호출 쪽에서 잠금
+ */
+final class DecayingSizeHistogram {
+
+    static final int BUCKETS = 8 + (Integer.SIZE - 1 - 3) * 4;
+    private static final double RESCALE_THRESHOLD = 1e100;
+
+    private final double decay;
+    private final double[] weights = new double[BUCKETS];
+    private final int[] maxima = new int[BUCKETS];
+    private double increment = 1;
+    private double total;
+    private long count;
+
+    DecayingSizeHistogram(int halfLife) {
+        checkArgument(halfLife > 0, "halfLife must be positive: %s", halfLife);
+        this.decay = Math.pow(0.5, 1.0 / halfLife);
+    }
+
+    static int bucket(int size) {
+        if (size < 8) {
+            return size;
+        }
+        int exponent = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(size);
+        int sub = (size >>> (exponent - 2)) & 3;
+        return 8 + (exponent - 3) * 4 + sub;
+    }
+
+    /**
+     * 기록 후 지금까지의 기록 수
+     */
+    long record(int size) {
+        checkArgument(size >= 0, "negative size: %s", size);
+        increment /= decay;
+        if (increment > RESCALE_THRESHOLD) {
+            for (int i = 0; i < BUCKETS; i++) {
+                weights[i] /= increment;
+            }
+            total /= increment;
+            increment = 1;
+        }
+        int b = bucket(size);
+        weights[b] += increment;
+        total += increment;
+        maxima[b] = Math.max(maxima[b], size);
+        return ++count;
+    }
+
+    /**
+     * 기록이 없으면 -1
+     */
+    int quantile(double q) {
+        checkArgument(q > 0 && q <= 1, "quantile must be in (0, 1]: %s", q);
+        if (count == 0) {
+            return -1;
+        }
+        double threshold = total * q;
+        double cumulative = 0;
+        int last = -1;
+        for (int b = 0; b < BUCKETS; b++) {
+            if (weights[b] > 0) {
+                last = b;
+                cumulative += weights[b];
+                if (cumulative >= threshold) {
+                    return maxima[b];
+                }
+            }
+        }
+        // 부동소수 오차로 누적이 threshold 에 못 미친 경우
+        return maxima[last];
+    }
+
+    long count() {
+        return count;
+    }
+}
@@ -0,0 +1,432 @@
+package org.example.collect;
+
+import com.google.common.collect.Iterables;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 앞부분 압축 (front coding) 불변 정렬 문자열 집합 - URL / 키 사전용
+ *
+ * ImmutableSortedSet&lt;String&gt; 은 원소마다 String 객체 + byte[] (헤더만 40 바이트 안팎)
+ * 정렬된 문자열은 앞 원소와 앞부분이 많이 겹침 (Strings.commonPrefix)
+ * → blockSize 개씩 묶어 블록 첫 원소 (head) 는 전체, 나머지는 (앞 원소와 겹치는 길이, 나머지 바이트) 만
+ *   모두 byte[] 하나에 이어 붙이고, 블록 시작 위치만 int[] 로
+ *
+ * 인코딩: char (UTF-16 단위) 마다 1 ~ 3 바이트 (CESU-8 - surrogate 도 따로)
+ * → 부호 없는 바이트 순서 = String.compareTo 순서 (UTF-8 은 보조 문자에서 순서가 달라짐)
+ *
+ * 조회 (contains / ceiling)
+ * 1. 블록 head 들에 이진 탐색 → key 이하인 마지막 블록
+ * 2. 블록 안을 앞에서부터: key 와 겹친 길이 (lcp) 와 원소의 공유 길이만 비교해 대부분 바이트를 보지 않고 넘김
+ * ASCII key 는 인코딩 없이 그대로 비교 (할당 0)
+ *
+ * null 은 NullPointerException, 중복은 하나만
+ */
+public final class FrontCodedStringSet extends AbstractSet<String> {
+
+    static final int DEFAULT_BLOCK_SIZE = 16;
+
+    private static final FrontCodedStringSet EMPTY =
+            new FrontCodedStringSet(new byte[0], new int[0], 0, DEFAULT_BLOCK_SIZE, 0);
+
+    private final byte[] data;
+    /** 블록 head 의 data 위치 */
+    private final int[] blocks;
+    private final int size;
+    private final int blockSize;
+    /** 가장 긴 원소의 인코딩 바이트 수 (복원 버퍼 크기) */
+    private final int maxEntryBytes;
+
+    private FrontCodedStringSet(byte[] data, int[] blocks, int size, int blockSize, int maxEntryBytes) {
+        this.data = data;
+        this.blocks = blocks;
+        this.size = size;
+        this.blockSize = blockSize;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    public static FrontCodedStringSet of() {
+        return EMPTY;
+    }
+
+    public static FrontCodedStringSet copyOf(Iterable<String> strings) {
+        return copyOf(strings, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * blockSize 가 크면 더 작아지고 조회는 블록 안 순차 비교만큼 느려짐
+     */
+    public static FrontCodedStringSet copyOf(Iterable<String> strings, int blockSize) {
+        checkArgument(blockSize > 0, "blockSize must be positive: %s", blockSize);
+        if (strings instanceof FrontCodedStringSet && ((FrontCodedStringSet) strings).blockSize == blockSize) {
+            return (FrontCodedStringSet) strings;
+        }
+        String[] sorted = Iterables.toArray(strings, String.class);
+        for (int i = 0; i < sorted.length; i++) {
+            checkNotNull(sorted[i], "at index %s", i);
+        }
+        Arrays.sort(sorted);
+        int n = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (n == 0 || !sorted[i].equals(sorted[n - 1])) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        if (n == 0) {
+            return EMPTY;
+        }
+
+        int[] blocks = new int[(n + blockSize - 1) / blockSize];
+        byte[] out = new byte[64];
+        int position = 0;
+        byte[] previous = new byte[0];
+        int previousLength = 0;
+        byte[] current = new byte[0];
+        int maxEntryBytes = 0;
+        for (int i = 0; i < n; i++) {
+            String s = sorted[i];
+            if (current.length < s.length() * 3) {
+                current = new byte[s.length() * 3];
+            }
+            int length = encode(s, current);
+            maxEntryBytes = Math.max(maxEntryBytes, length);
+            int shared = 0;
+            if (i % blockSize == 0) {
+                blocks[i / blockSize] = position;
+            } else {
+                int limit = Math.min(length, previousLength);
+                while (shared < limit && current[shared] == previous[shared]) {
+                    shared++;
+                }
+            }
+            // varint 둘 (최대 5 바이트씩) + 나머지 바이트
+            if (out.length - position < 10 + length - shared) {
+                out = Arrays.copyOf(out, Math.max(out.length * 2, position + 10 + length - shared));
+            }
+            if (i % blockSize != 0) {
+                position = writeVarint(out, position, shared);
+            }
+            position = writeVarint(out, position, length - shared);
+            System.arraycopy(current, shared, out, position, length - shared);
+            position += length - shared;
+
+            byte[] swap = previous;
+            previous = current;
+            previousLength = length;
+            current = swap;
+        }
+        return new FrontCodedStringSet(Arrays.copyOf(out, position), blocks, n, blockSize, maxEntryBytes);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return object instanceof String && (search((String) object) & 1) != 0;
+    }
+
+    /**
+     * key 이상인 가장 작은 원소, 없으면 null (NavigableSet.ceiling)
+     */
+    public String ceiling(String key) {
+        int index = (int) (search(checkNotNull(key)) >>> 1);
+        return index == size ? null : new Cursor(index).next();
+    }
+
+    public String first() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return new Cursor(0).next();
+    }
+
+    public String last() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return new Cursor(size - 1).next();
+    }
+
+    /**
+     * prefix 로 시작하는 원소들 (정렬 순서) - ceiling(prefix) 부터 prefix 가 끝날 때까지만 복원
+     */
+    public Iterable<String> withPrefix(String prefix) {
+        byte[] encodedPrefix = new byte[prefix.length() * 3];
+        int prefixLength = encode(prefix, encodedPrefix);
+        return () -> new Cursor((int) (search(prefix) >>> 1)) {
+            @Override
+            public boolean hasNext() {
+                return super.hasNext() && peekStartsWith(encodedPrefix, prefixLength);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Cursor(0);
+    }
+
+    /**
+     * 원소를 저장하는 데 쓰는 바이트 (data + 블록 위치)
+     */
+    public long encodedBytes() {
+        return data.length + 4L * blocks.length;
+    }
+
+    /**
+     * (key 이상인 첫 원소의 순번 &lt;&lt; 1) | (같은 원소가 있으면 1)
+     */
+    private long search(String key) {
+        if (size == 0) {
+            return 0;
+        }
+        byte[] encoded = null;
+        int keyLength = key.length();
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) >= 0x80) {
+                encoded = new byte[key.length() * 3];
+                keyLength = encode(key, encoded);
+                break;
+            }
+        }
+
+        // key 이하인 마지막 head
+        int low = 0;
+        int high = blocks.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int position = blocks[mid];
+            int length = readVarint(position);
+            int cmp = compare(position + varintSize(length), length, key, encoded, 0, keyLength);
+            if (cmp == 0) {
+                return ((long) mid * blockSize << 1) | 1;
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (high < 0) {
+            return 0;
+        }
+
+        int block = high;
+        int position = blocks[block];
+        int length = readVarint(position);
+        position += varintSize(length);
+        // head < key, 겹친 길이
+        int lcp = mismatch(position, length, key, encoded, 0, keyLength);
+        position += length;
+        int index = block * blockSize + 1;
+        int end = Math.min(size, (block + 1) * blockSize);
+        for (; index < end; index++) {
+            int shared = readVarint(position);
+            position += varintSize(shared);
+            int suffix = readVarint(position);
+            position += varintSize(suffix);
+            if (shared < lcp) {
+                // 앞 원소와 key 가 같은 자리에서 원소가 커짐 → key 보다 큼
+                return (long) index << 1;
+            }
+            if (shared == lcp) {
+                int matched = mismatch(position, suffix, key, encoded, lcp, keyLength);
+                int k = lcp + matched;
+                if (matched == suffix) {
+                    if (k == keyLength) {
+                        return ((long) index << 1) | 1;
+                    }
+                    lcp = k;
+                } else if (k == keyLength || (data[position + matched] & 0xFF) > keyByte(key, encoded, k)) {
+                    return (long) index << 1;
+                } else {
+                    lcp = k;
+                }
+            }
+            // shared > lcp: 앞 원소처럼 lcp 자리에서 key 보다 작음
+            position += suffix;
+        }
+        return (long) end << 1;
+    }
+
+    /**
+     * data[position, +length) 와 key 인코딩 [from, keyLength) 가 처음 다른 위치 (상대)
+     */
+    private int mismatch(int position, int length, String key, byte[] encoded, int from, int keyLength) {
+        int limit = Math.min(length, keyLength - from);
+        int i = 0;
+        if (encoded == null) {
+            while (i < limit && data[position + i] == (byte) key.charAt(from + i)) {
+                i++;
+            }
+        } else {
+            while (i < limit && data[position + i] == encoded[from + i]) {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    private int compare(int position, int length, String key, byte[] encoded, int from, int keyLength) {
+        int i = mismatch(position, length, key, encoded, from, keyLength);
+        if (i < length && from + i < keyLength) {
+            return (data[position + i] & 0xFF) - keyByte(key, encoded, from + i);
+        }
+        return length - (keyLength - from);
+    }
+
+    private static int keyByte(String key, byte[] encoded, int index) {
+        return encoded == null ? key.charAt(index) : encoded[index] & 0xFF;
+    }
+
+    private int readVarint(int position) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[position++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+
+    private static int writeVarint(byte[] out, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            out[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[position++] = (byte) value;
+        return position;
+    }
+
+    /**
+     * char 마다 1 ~ 3 바이트, 바이트 수 반환 (out 은 length * 3 이상)
+     */
+    static int encode(String s, byte[] out) {
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                out[n++] = (byte) c;
+            } else if (c < 0x800) {
+                out[n++] = (byte) (0xC0 | (c >> 6));
+                out[n++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                out[n++] = (byte) (0xE0 | (c >> 12));
+                out[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[n++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return n;
+    }
+
+    static String decode(byte[] bytes, int length) {
+        char[] chars = new char[length];
+        int n = 0;
+        for (int i = 0; i < length; ) {
+            int b = bytes[i] & 0xFF;
+            if (b < 0x80) {
+                chars[n++] = (char) b;
+                i++;
+            } else if (b < 0xE0) {
+                chars[n++] = (char) (((b & 0x1F) << 6) | (bytes[i + 1] & 0x3F));
+                i += 2;
+            } else {
+                chars[n++] = (char) (((b & 0x0F) << 12) | ((bytes[i + 1] & 0x3F) << 6) | (bytes[i + 2] & 0x3F));
+                i += 3;
+            }
+        }
+        return new String(chars, 0, n);
+    }
+
+    /**
+     * index 번째 원소부터 순서대로 복원 (블록 head 부터 다시 읽어 index 까지 건너뜀)
+     */
+    private class Cursor implements Iterator<String> {
+        private final byte[] buffer = new byte[maxEntryBytes];
+        private int length;
+        /** 다음 advance 가 읽을 순번 */
+        private int index;
+        private int position;
+        /** buffer 에 아직 내보내지 않은 원소가 있는지 */
+        private boolean pending;
+
+        Cursor(int start) {
+            if (start < size) {
+                index = start - start % blockSize;
+                while (index <= start) {
+                    advance();
+                }
+                pending = true;
+            }
+        }
+
+        private void advance() {
+            if (index % blockSize == 0) {
+                position = blocks[index / blockSize];
+                length = readVarint(position);
+                position += varintSize(length);
+                System.arraycopy(data, position, buffer, 0, length);
+                position += length;
+            } else {
+                int shared = readVarint(position);
+                position += varintSize(shared);
+                int suffix = readVarint(position);
+                position += varintSize(suffix);
+                System.arraycopy(data, position, buffer, shared, suffix);
+                position += suffix;
+                length = shared + suffix;
+            }
+            index++;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pending;
+        }
+
+        boolean peekStartsWith(byte[] prefix, int prefixLength) {
+            if (length < prefixLength) {
+                return false;
+            }
+            for (int i = 0; i < prefixLength; i++) {
+                if (buffer[i] != prefix[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String value = decode(buffer, length);
+            if (index < size) {
+                advance();
+            } else {
+                pending = false;
+            }
+            return value;
+        }
+    }
+}
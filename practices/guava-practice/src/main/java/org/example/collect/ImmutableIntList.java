@@ -0,0 +1,269 @@
+package org.example.collect;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+/**
+ * int 전용 불변 리스트 (Guava ImmutableIntArray 와 같은 구조)
+ *
+ * ImmutableList<Integer> 는 원소마다 Integer 객체 (16 바이트) + 참조 (4 바이트)
+ * → 여기서는 int[] 하나 (원소당 4 바이트), get 할 때 언박싱도 없음
+ *
+ * subList 는 복사하지 않고 같은 배열의 [start, end) 를 공유
+ * List<Integer> 가 필요한 API 에는 asList() 뷰를 넘김 (꺼낼 때마다 박싱)
+ */
+public final class ImmutableIntList {
+
+    private static final ImmutableIntList EMPTY = new ImmutableIntList(new int[0], 0, 0);
+
+    private final int[] array;
+    private final int start;
+    private final int end;
+
+    private ImmutableIntList(int[] array, int start, int end) {
+        this.array = array;
+        this.start = start;
+        this.end = end;
+    }
+
+    public static ImmutableIntList of() {
+        return EMPTY;
+    }
+
+    public static ImmutableIntList of(int... values) {
+        return copyOf(values);
+    }
+
+    public static ImmutableIntList copyOf(int[] values) {
+        return values.length == 0 ? EMPTY : new ImmutableIntList(values.clone(), 0, values.length);
+    }
+
+    /**
+     * 박싱된 컬렉션에서 복사 (null 원소는 NullPointerException)
+     */
+    public static ImmutableIntList copyOf(Collection<Integer> values) {
+        return values.isEmpty() ? EMPTY : builder(values.size()).addAll(values).build();
+    }
+
+    public static Builder builder() {
+        return new Builder(10);
+    }
+
+    public static Builder builder(int expectedSize) {
+        checkArgument(expectedSize >= 0, "Invalid initialCapacity: %s", expectedSize);
+        return new Builder(expectedSize);
+    }
+
+    public int size() {
+        return end - start;
+    }
+
+    public boolean isEmpty() {
+        return end == start;
+    }
+
+    public int get(int index) {
+        checkElementIndex(index, size());
+        return array[start + index];
+    }
+
+    public int indexOf(int target) {
+        for (int i = start; i < end; i++) {
+            if (array[i] == target) {
+                return i - start;
+            }
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(int target) {
+        for (int i = end - 1; i >= start; i--) {
+            if (array[i] == target) {
+                return i - start;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int target) {
+        return indexOf(target) >= 0;
+    }
+
+    public void forEach(IntConsumer consumer) {
+        for (int i = start; i < end; i++) {
+            consumer.accept(array[i]);
+        }
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(array, start, end);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOfRange(array, start, end);
+    }
+
+    public ImmutableIntList subList(int startIndex, int endIndex) {
+        checkPositionIndexes(startIndex, endIndex, size());
+        return startIndex == endIndex ? EMPTY : new ImmutableIntList(array, start + startIndex, start + endIndex);
+    }
+
+    /**
+     * 박싱 뷰 (복사 없음, 수정 불가) - equals/hashCode 는 같은 원소의 List<Integer> 와 같음
+     */
+    public List<Integer> asList() {
+        return new AsList(this);
+    }
+
+    /**
+     * subList 로 큰 배열을 붙잡고 있으면 필요한 만큼만 남긴 사본
+     */
+    public ImmutableIntList trimmed() {
+        return start > 0 || end < array.length ? new ImmutableIntList(toArray(), 0, size()) : this;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof ImmutableIntList)) {
+            return false;
+        }
+        ImmutableIntList that = (ImmutableIntList) object;
+        return Arrays.equals(array, start, end, that.array, that.start, that.end);
+    }
+
+    /**
+     * List<Integer>.hashCode() 와 같은 값
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + array[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+        StringBuilder builder = new StringBuilder(size() * 5).append('[').append(array[start]);
+        for (int i = start + 1; i < end; i++) {
+            builder.append(", ").append(array[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    public static final class Builder {
+        private int[] array;
+        private int count;
+
+        private Builder(int initialCapacity) {
+            this.array = new int[initialCapacity];
+        }
+
+        public Builder add(int value) {
+            ensureRoomFor(1);
+            array[count++] = value;
+            return this;
+        }
+
+        public Builder addAll(int[] values) {
+            ensureRoomFor(values.length);
+            System.arraycopy(values, 0, array, count, values.length);
+            count += values.length;
+            return this;
+        }
+
+        public Builder addAll(Iterable<Integer> values) {
+            if (values instanceof Collection) {
+                ensureRoomFor(((Collection<?>) values).size());
+            }
+            for (Integer value : values) {
+                add(value);
+            }
+            return this;
+        }
+
+        public Builder addAll(ImmutableIntList values) {
+            ensureRoomFor(values.size());
+            System.arraycopy(values.array, values.start, array, count, values.size());
+            count += values.size();
+            return this;
+        }
+
+        /**
+         * 배열이 꽉 찼으면 복사 없이 그대로 사용
+         * (빌더는 count 앞쪽을 다시 쓰지 않고, 더 넣으면 새 배열로 옮기므로 build 후에 계속 써도 안전)
+         */
+        public ImmutableIntList build() {
+            if (count == 0) {
+                return EMPTY;
+            }
+            return new ImmutableIntList(count == array.length ? array : Arrays.copyOf(array, count), 0, count);
+        }
+
+        private void ensureRoomFor(int more) {
+            int needed = count + more;
+            if (needed > array.length) {
+                array = Arrays.copyOf(array, Math.max(needed, array.length + (array.length >> 1) + 1));
+            }
+        }
+    }
+
+    private static final class AsList extends AbstractList<Integer> implements RandomAccess {
+        private final ImmutableIntList parent;
+
+        AsList(ImmutableIntList parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return parent.get(index);
+        }
+
+        @Override
+        public int size() {
+            return parent.size();
+        }
+
+        @Override
+        public boolean contains(Object target) {
+            return indexOf(target) >= 0;
+        }
+
+        @Override
+        public int indexOf(Object target) {
+            return target instanceof Integer ? parent.indexOf((Integer) target) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object target) {
+            return target instanceof Integer ? parent.lastIndexOf((Integer) target) : -1;
+        }
+
+        @Override
+        public List<Integer> subList(int fromIndex, int toIndex) {
+            return parent.subList(fromIndex, toIndex).asList();
+        }
+
+        @Override
+        public String toString() {
+            return parent.toString();
+        }
+    }
+}
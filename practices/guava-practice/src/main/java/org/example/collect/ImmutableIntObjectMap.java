@@ -0,0 +1,211 @@
+package org.example.collect;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * int 키 불변 맵 (오픈 어드레싱, 선형 탐사)
+ *
+ * RegularImmutableMap<Integer, V> 는 엔트리마다 Integer 키 + 엔트리 객체 + 테이블 참조
+ * 여기서는 키 int[] + 값 Object[] (넣은 순서) + 테이블 int[] (엔트리 위치 + 1)
+ * get(int) 는 박싱 없이 int 비교만
+ *
+ * null 키/값, 중복 키는 ImmutableMap 과 같은 예외
+ */
+public final class ImmutableIntObjectMap<V> {
+
+    /**
+     * forEach 콜백 (BiConsumer<Integer, V> 와 달리 키를 박싱하지 않음)
+     */
+    @FunctionalInterface
+    public interface IntObjectConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    private static final ImmutableIntObjectMap<Object> EMPTY =
+            new ImmutableIntObjectMap<>(new int[0], new Object[0], new int[2]);
+
+    private final int[] keys;
+    private final Object[] values;
+    private final int[] table;
+    private final int mask;
+
+    private ImmutableIntObjectMap(int[] keys, Object[] values, int[] table) {
+        this.keys = keys;
+        this.values = values;
+        this.table = table;
+        this.mask = table.length - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> ImmutableIntObjectMap<V> of() {
+        return (ImmutableIntObjectMap<V>) EMPTY;
+    }
+
+    public static <V> ImmutableIntObjectMap<V> copyOf(Map<Integer, ? extends V> map) {
+        Builder<V> builder = builder(map.size());
+        for (Map.Entry<Integer, ? extends V> entry : map.entrySet()) {
+            builder.put(checkNotNull(entry.getKey(), "null key in entry: null=%s", entry.getValue()),
+                    entry.getValue());
+        }
+        return builder.build();
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>(8);
+    }
+
+    public static <V> Builder<V> builder(int expectedSize) {
+        return new Builder<>(expectedSize);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(IntObjectConsumer<? super V> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            consumer.accept(keys[i], (V) values[i]);
+        }
+    }
+
+    /**
+     * 키 (넣은 순서)
+     */
+    public ImmutableIntList keys() {
+        return ImmutableIntList.copyOf(keys);
+    }
+
+    private int indexOf(int key) {
+        for (int i = PrimitiveTables.smear(key) & mask; ; i = (i + 1) & mask) {
+            int slot = table[i];
+            if (slot == 0) {
+                return -1;
+            }
+            if (keys[slot - 1] == key) {
+                return slot - 1;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof ImmutableIntObjectMap)) {
+            return false;
+        }
+        ImmutableIntObjectMap<?> that = (ImmutableIntObjectMap<?>) object;
+        if (size() != that.size()) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (!values[i].equals(that.get(keys[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Map<Integer, V>.hashCode() 와 같은 값
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < keys.length; i++) {
+            hash += keys[i] ^ values[i].hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(size() * 16).append('{');
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(keys[i]).append('=').append(values[i]);
+        }
+        return builder.append('}').toString();
+    }
+
+    public static final class Builder<V> {
+        private int[] keys;
+        private Object[] values;
+        private int count;
+
+        private Builder(int initialCapacity) {
+            this.keys = new int[initialCapacity];
+            this.values = new Object[initialCapacity];
+        }
+
+        public Builder<V> put(int key, V value) {
+            if (value == null) {
+                throw new NullPointerException("null value in entry: " + key + "=null");
+            }
+            if (count == keys.length) {
+                int capacity = Math.max(8, count + (count >> 1) + 1);
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            keys[count] = key;
+            values[count] = value;
+            count++;
+            return this;
+        }
+
+        public Builder<V> putAll(Map<Integer, ? extends V> map) {
+            for (Map.Entry<Integer, ? extends V> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        public ImmutableIntObjectMap<V> build() {
+            if (count == 0) {
+                return of();
+            }
+            int[] table = new int[PrimitiveTables.tableSize(count)];
+            int mask = table.length - 1;
+            for (int index = 0; index < count; index++) {
+                int key = keys[index];
+                int i = PrimitiveTables.smear(key) & mask;
+                while (table[i] != 0) {
+                    int existing = table[i] - 1;
+                    if (keys[existing] == key) {
+                        throw new IllegalArgumentException("Multiple entries with same key: "
+                                + key + "=" + values[index] + " and " + key + "=" + values[existing]);
+                    }
+                    i = (i + 1) & mask;
+                }
+                table[i] = index + 1;
+            }
+            return new ImmutableIntObjectMap<>(Arrays.copyOf(keys, count), Arrays.copyOf(values, count), table);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.collect;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * int 전용 불변 집합 (오픈 어드레싱, 선형 탐사)
+ *
+ * RegularImmutableSet<Integer> 는 원소 배열 + 해시 테이블 (둘 다 참조) + 원소마다 Integer 객체
+ * 여기서는 원소 int[] (넣은 순서) + 테이블 int[] (원소 위치 + 1) → 원소당 약 12 바이트
+ * contains(int) 는 박싱/equals 호출 없이 int 비교만
+ *
+ * 중복은 ImmutableSet 처럼 처음 넣은 것만 남김
+ */
+public final class ImmutableIntSet {
+
+    private static final ImmutableIntSet EMPTY = new ImmutableIntSet(new int[0], new int[2]);
+
+    private final int[] elements;
+    private final int[] table;
+    private final int mask;
+
+    private ImmutableIntSet(int[] elements, int[] table) {
+        this.elements = elements;
+        this.table = table;
+        this.mask = table.length - 1;
+    }
+
+    public static ImmutableIntSet of() {
+        return EMPTY;
+    }
+
+    public static ImmutableIntSet of(int... values) {
+        return copyOf(values);
+    }
+
+    public static ImmutableIntSet copyOf(int[] values) {
+        return builder(values.length).addAll(values).build();
+    }
+
+    /**
+     * 박싱된 컬렉션에서 복사 (null 원소는 NullPointerException)
+     */
+    public static ImmutableIntSet copyOf(Collection<Integer> values) {
+        Builder builder = builder(values.size());
+        for (Integer value : values) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder(ImmutableIntList.builder());
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(ImmutableIntList.builder(expectedSize));
+    }
+
+    public int size() {
+        return elements.length;
+    }
+
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    public boolean contains(int value) {
+        for (int i = PrimitiveTables.smear(value) & mask; ; i = (i + 1) & mask) {
+            int slot = table[i];
+            if (slot == 0) {
+                return false;
+            }
+            if (elements[slot - 1] == value) {
+                return true;
+            }
+        }
+    }
+
+    public void forEach(IntConsumer consumer) {
+        for (int element : elements) {
+            consumer.accept(element);
+        }
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(elements);
+    }
+
+    /**
+     * 넣은 순서
+     */
+    public int[] toArray() {
+        return elements.clone();
+    }
+
+    public ImmutableIntList asIntList() {
+        return ImmutableIntList.copyOf(elements);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof ImmutableIntSet)) {
+            return false;
+        }
+        ImmutableIntSet that = (ImmutableIntSet) object;
+        if (size() != that.size()) {
+            return false;
+        }
+        for (int element : elements) {
+            if (!that.contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Set<Integer>.hashCode() 와 같은 값 (원소 합)
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int element : elements) {
+            hash += element;
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(elements);
+    }
+
+    /**
+     * 원소는 ImmutableIntList.Builder 에 모아 두었다가 build 할 때 한 번에 중복 제거 + 테이블 구성
+     */
+    public static final class Builder {
+        private final ImmutableIntList.Builder values;
+
+        private Builder(ImmutableIntList.Builder values) {
+            this.values = values;
+        }
+
+        public Builder add(int value) {
+            values.add(value);
+            return this;
+        }
+
+        public Builder addAll(int[] array) {
+            values.addAll(array);
+            return this;
+        }
+
+        public Builder addAll(Iterable<Integer> iterable) {
+            values.addAll(iterable);
+            return this;
+        }
+
+        public ImmutableIntSet build() {
+            int[] candidates = values.build().toArray();
+            if (candidates.length == 0) {
+                return EMPTY;
+            }
+            int[] table = new int[PrimitiveTables.tableSize(candidates.length)];
+            int mask = table.length - 1;
+            int size = 0;
+            outer:
+            for (int value : candidates) {
+                int i = PrimitiveTables.smear(value) & mask;
+                while (table[i] != 0) {
+                    if (candidates[table[i] - 1] == value) {
+                        continue outer;
+                    }
+                    i = (i + 1) & mask;
+                }
+                // 중복이 아닌 원소는 앞쪽으로 모음 (넣은 순서 유지)
+                candidates[size] = value;
+                table[i] = ++size;
+            }
+            if (size < candidates.length) {
+                candidates = Arrays.copyOf(candidates, size);
+                // 중복이 많았으면 테이블도 줄임
+                if (PrimitiveTables.tableSize(size) < table.length) {
+                    return rehash(candidates);
+                }
+            }
+            return new ImmutableIntSet(candidates, table);
+        }
+
+        private static ImmutableIntSet rehash(int[] elements) {
+            int[] table = new int[PrimitiveTables.tableSize(elements.length)];
+            int mask = table.length - 1;
+            for (int index = 0; index < elements.length; index++) {
+                int i = PrimitiveTables.smear(elements[index]) & mask;
+                while (table[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = index + 1;
+            }
+            return new ImmutableIntSet(elements, table);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.collect;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * long → long 불변 맵 (ImmutableIntObjectMap 과 같은 구조, 값도 long[])
+ *
+ * ImmutableMap<Long, Long> 은 엔트리마다 Long 두 개 (각 16 바이트) + 엔트리 객체
+ * 여기서는 엔트리당 키/값 16 바이트 + 테이블 슬롯 (int)
+ *
+ * 값이 primitive 라 "없음" 을 null 로 돌려줄 수 없음
+ * → getOrDefault(key, default) / containsKey, 또는 없으면 예외인 get(key)
+ */
+public final class ImmutableLongLongMap {
+
+    @FunctionalInterface
+    public interface LongLongConsumer {
+        void accept(long key, long value);
+    }
+
+    private static final ImmutableLongLongMap EMPTY = new ImmutableLongLongMap(new long[0], new long[0], new int[2]);
+
+    private final long[] keys;
+    private final long[] values;
+    private final int[] table;
+    private final int mask;
+
+    private ImmutableLongLongMap(long[] keys, long[] values, int[] table) {
+        this.keys = keys;
+        this.values = values;
+        this.table = table;
+        this.mask = table.length - 1;
+    }
+
+    public static ImmutableLongLongMap of() {
+        return EMPTY;
+    }
+
+    /**
+     * 박싱된 맵에서 복사 (null 키/값은 NullPointerException)
+     */
+    public static ImmutableLongLongMap copyOf(Map<Long, Long> map) {
+        Builder builder = builder(map.size());
+        for (Map.Entry<Long, Long> entry : map.entrySet()) {
+            Long key = entry.getKey();
+            Long value = entry.getValue();
+            if (key == null || value == null) {
+                throw new NullPointerException("null " + (key == null ? "key" : "value") + " in entry: "
+                        + key + "=" + value);
+            }
+            builder.put(key, value);
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder(8);
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * 없는 키면 NoSuchElementException
+     */
+    public long get(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            throw new NoSuchElementException("no value for key: " + key);
+        }
+        return values[index];
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        int index = indexOf(key);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    public void forEach(LongLongConsumer consumer) {
+        checkNotNull(consumer);
+        for (int i = 0; i < keys.length; i++) {
+            consumer.accept(keys[i], values[i]);
+        }
+    }
+
+    private int indexOf(long key) {
+        for (int i = PrimitiveTables.smear(key) & mask; ; i = (i + 1) & mask) {
+            int slot = table[i];
+            if (slot == 0) {
+                return -1;
+            }
+            if (keys[slot - 1] == key) {
+                return slot - 1;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof ImmutableLongLongMap)) {
+            return false;
+        }
+        ImmutableLongLongMap that = (ImmutableLongLongMap) object;
+        if (size() != that.size()) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            int index = that.indexOf(keys[i]);
+            if (index < 0 || that.values[index] != values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Map<Long, Long>.hashCode() 와 같은 값
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < keys.length; i++) {
+            hash += Long.hashCode(keys[i]) ^ Long.hashCode(values[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(size() * 16).append('{');
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(keys[i]).append('=').append(values[i]);
+        }
+        return builder.append('}').toString();
+    }
+
+    public static final class Builder {
+        private long[] keys;
+        private long[] values;
+        private int count;
+
+        private Builder(int initialCapacity) {
+            this.keys = new long[initialCapacity];
+            this.values = new long[initialCapacity];
+        }
+
+        public Builder put(long key, long value) {
+            if (count == keys.length) {
+                int capacity = Math.max(8, count + (count >> 1) + 1);
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            keys[count] = key;
+            values[count] = value;
+            count++;
+            return this;
+        }
+
+        public ImmutableLongLongMap build() {
+            if (count == 0) {
+                return EMPTY;
+            }
+            int[] table = new int[PrimitiveTables.tableSize(count)];
+            int mask = table.length - 1;
+            for (int index = 0; index < count; index++) {
+                long key = keys[index];
+                int i = PrimitiveTables.smear(key) & mask;
+                while (table[i] != 0) {
+                    int existing = table[i] - 1;
+                    if (keys[existing] == key) {
+                        throw new IllegalArgumentException("Multiple entries with same key: "
+                                + key + "=" + values[index] + " and " + key + "=" + values[existing]);
+                    }
+                    i = (i + 1) & mask;
+                }
+                table[i] = index + 1;
+            }
+            return new ImmutableLongLongMap(Arrays.copyOf(keys, count), Arrays.copyOf(values, count), table);
+        }
+    }
+}
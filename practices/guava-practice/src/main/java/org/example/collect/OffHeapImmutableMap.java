@@ -0,0 +1,427 @@
+package org.example.collect;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * 키/값을 힙 밖 (direct ByteBuffer 또는 메모리 매핑 파일) 에 직렬화해 둔 불변 해시 맵
+ *
+ * RegularImmutableMap 은 엔트리마다 키/값/엔트리 객체 + 해시 테이블 배열 → 수천만 엔트리면 old gen 수 GB
+ * 여기서는 힙에 맵 객체 하나만 있고 나머지는 전부 바이트
+ * - 인덱스: 오픈 어드레싱 (선형 탐사, 적재율 0.75 이하), 슬롯 = long (해시 상위 24 비트 태그 + 레코드 위치)
+ * - 데이터: 레코드 = keyLength(int) + valueLength(int) + 키 바이트 + 값 바이트, put 순서대로 이어 붙임
+ *   → 순회 순서는 ImmutableMap 처럼 넣은 순서
+ * - 키 비교/해시는 인코딩된 바이트로 (get 할 때 키를 스레드별 버퍼에 인코딩, 할당 없음)
+ *   값은 get 할 때마다 새로 디코딩 (String 값이면 String 생성)
+ *
+ * 파일 형식 (빅 엔디안)
+ * [magic int][version int][size long][capacity long][maxRecord int][0 int][인덱스 capacity * 8][데이터]
+ * Builder.buildTo(Path) 로 쓰고 open(Path) 로 매핑만 하면 바로 조회 가능 (읽어 들이는 단계 없음)
+ *
+ * 매핑은 GC 가 맵을 회수할 때 해제됨 (Java 11 에는 명시적 unmap 이 없음)
+ */
+public final class OffHeapImmutableMap<K, V> extends AbstractMap<K, V> {
+
+    static final int MAGIC = 0x4F48494D;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int RECORD_HEADER_BYTES = 8;
+
+    private static final int OFFSET_BITS = 40;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    private static final int TAG_SHIFT = OFFSET_BITS;
+
+    /** get/containsKey 에서 키를 인코딩할 스레드별 버퍼 (모자라면 두 배로 교체) */
+    private static final ThreadLocal<ByteBuffer> PROBE = ThreadLocal.withInitial(() -> ByteBuffer.allocate(64));
+
+    private final Codec<K> keyCodec;
+    private final Codec<V> valueCodec;
+    private final Region region;
+    private final int size;
+    private final long mask;
+    private final long dataStart;
+
+    private OffHeapImmutableMap(Codec<K> keyCodec, Codec<V> valueCodec, Region region) {
+        checkArgument(region.size() >= HEADER_BYTES && region.getInt(0) == MAGIC,
+                "not an OffHeapImmutableMap region");
+        checkArgument(region.getInt(4) == VERSION, "unsupported version: %s", region.getInt(4));
+        long capacity = region.getLong(16);
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.region = region;
+        this.size = Math.toIntExact(region.getLong(8));
+        this.mask = capacity - 1;
+        this.dataStart = HEADER_BYTES + capacity * Long.BYTES;
+    }
+
+    public static <K, V> Builder<K, V> builder(Codec<K> keyCodec, Codec<V> valueCodec) {
+        return new Builder<>(checkNotNull(keyCodec), checkNotNull(valueCodec));
+    }
+
+    public static <K, V> OffHeapImmutableMap<K, V> copyOf(Map<? extends K, ? extends V> map,
+                                                          Codec<K> keyCodec, Codec<V> valueCodec) {
+        return builder(keyCodec, valueCodec).putAll(map).build();
+    }
+
+    /**
+     * Builder.buildTo(Path) 로 만든 파일을 읽기 전용으로 매핑 (파일 크기와 무관하게 즉시 반환)
+     */
+    public static <K, V> OffHeapImmutableMap<K, V> open(Path file, Codec<K> keyCodec, Codec<V> valueCodec)
+            throws IOException {
+        checkNotNull(keyCodec);
+        checkNotNull(valueCodec);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            checkArgument(size >= HEADER_BYTES, "not an OffHeapImmutableMap file: %s", file);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // 헤더를 끝까지 읽음
+            }
+            int maxRecord = header.getInt(24);
+            Region region = Region.map(channel, FileChannel.MapMode.READ_ONLY, size, overlap(maxRecord));
+            return new OffHeapImmutableMap<>(keyCodec, valueCodec, region);
+        }
+    }
+
+    /**
+     * 인덱스 + 데이터 전체 크기 (힙 밖)
+     */
+    public long offHeapBytes() {
+        return region.size();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        long record = find(key);
+        return record < 0 ? null : value(record);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+        };
+    }
+
+    /**
+     * 키가 있는 레코드의 주소, 없으면 -1
+     */
+    private long find(Object key) {
+        if (!keyCodec.type().isInstance(key)) {
+            return -1;
+        }
+        ByteBuffer probe = encode(keyCodec.type().cast(key));
+        int length = probe.position();
+        long hash = hash(probe, 0, length);
+        long tag = hash >>> TAG_SHIFT;
+        for (long i = hash & mask; ; i = (i + 1) & mask) {
+            long slot = region.getLong(HEADER_BYTES + (i << 3));
+            if (slot == 0) {
+                return -1;
+            }
+            if (slot >>> OFFSET_BITS == tag) {
+                long record = dataStart + (slot & OFFSET_MASK) - 1;
+                if (region.getInt(record) == length
+                        && region.contentEquals(record + RECORD_HEADER_BYTES, probe, 0, length)) {
+                    return record;
+                }
+            }
+        }
+    }
+
+    private ByteBuffer encode(K key) {
+        ByteBuffer probe = PROBE.get();
+        while (true) {
+            probe.clear();
+            try {
+                keyCodec.encode(key, probe);
+                return probe;
+            } catch (BufferOverflowException e) {
+                probe = ByteBuffer.allocate(probe.capacity() * 2);
+                PROBE.set(probe);
+            }
+        }
+    }
+
+    private K key(long record) {
+        return keyCodec.decode(region.window(record), region.offset(record) + RECORD_HEADER_BYTES,
+                region.getInt(record));
+    }
+
+    private V value(long record) {
+        ByteBuffer window = region.window(record);
+        int at = region.offset(record);
+        int keyLength = window.getInt(at);
+        return valueCodec.decode(window, at + RECORD_HEADER_BYTES + keyLength, window.getInt(at + 4));
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private long record = dataStart;
+        private int remaining = size;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> entry = new SimpleImmutableEntry<>(key(record), value(record));
+            record += RECORD_HEADER_BYTES + region.getInt(record) + region.getInt(record + 4);
+            remaining--;
+            return entry;
+        }
+    }
+
+    /**
+     * FNV-1a (8 바이트 단위) + murmur3 fmix64
+     * 하위 비트는 인덱스 위치, 상위 24 비트는 슬롯 태그로 사용
+     */
+    static long hash(ByteBuffer bytes, int from, int length) {
+        long h = 0xcbf29ce484222325L;
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            h = (h ^ bytes.getLong(from + i)) * 0x100000001b3L;
+        }
+        for (; i < length; i++) {
+            h = (h ^ bytes.get(from + i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 적재율 0.75 이하인 가장 작은 2 의 거듭제곱 (빈 슬롯이 항상 있어 탐사가 끝남)
+     */
+    static long tableSize(int size) {
+        long capacity = 2;
+        while (capacity * 3 / 4 < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * 창 겹침 = 가장 긴 레코드 (인덱스 슬롯 8 바이트보다는 크게)
+     */
+    private static int overlap(int maxRecord) {
+        return Math.max(maxRecord, Long.BYTES);
+    }
+
+    /**
+     * ImmutableMap.builder() 처럼 put 을 모았다가 build
+     *
+     * put 할 때 바로 인코딩해서 direct 버퍼 (최대 64 MB 조각) 에 쌓아 둠
+     * 힙에는 엔트리당 해시 + 위치 (long 두 개) 만 → 5천만 엔트리면 빌드 중 약 800 MB
+     * 중복 키는 build 시점에 IllegalArgumentException (메시지는 ImmutableMap 과 같은 형식)
+     */
+    public static final class Builder<K, V> {
+
+        private static final int MIN_CHUNK_BYTES = 4 * 1024;
+        private static final int MAX_CHUNK_BYTES = 64 * 1024 * 1024;
+
+        private final Codec<K> keyCodec;
+        private final Codec<V> valueCodec;
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private ByteBuffer current;
+        /** 엔트리별 키 해시 */
+        private long[] hashes = new long[16];
+        /** 엔트리별 (조각 번호 << 32 | 조각 안 위치) */
+        private long[] staged = new long[16];
+        private int count;
+        private long dataBytes;
+        private int maxRecord;
+
+        private Builder(Codec<K> keyCodec, Codec<V> valueCodec) {
+            this.keyCodec = keyCodec;
+            this.valueCodec = valueCodec;
+        }
+
+        public Builder<K, V> put(K key, V value) {
+            if (key == null || value == null) {
+                throw new NullPointerException("null " + (key == null ? "key" : "value") + " in entry: "
+                        + key + "=" + value);
+            }
+            checkState(count < Integer.MAX_VALUE - 8, "too many entries");
+            if (current == null) {
+                newChunk(MIN_CHUNK_BYTES);
+            }
+            while (true) {
+                int start = current.position();
+                try {
+                    if (current.remaining() < RECORD_HEADER_BYTES) {
+                        throw new BufferOverflowException();
+                    }
+                    current.position(start + RECORD_HEADER_BYTES);
+                    keyCodec.encode(key, current);
+                    int keyEnd = current.position();
+                    valueCodec.encode(value, current);
+                    int end = current.position();
+                    current.putInt(start, keyEnd - start - RECORD_HEADER_BYTES);
+                    current.putInt(start + 4, end - keyEnd);
+                    add(hash(current, start + RECORD_HEADER_BYTES, keyEnd - start - RECORD_HEADER_BYTES),
+                            start, end - start);
+                    return this;
+                } catch (BufferOverflowException e) {
+                    current.position(start);
+                    if (start == 0) {
+                        // 빈 조각에도 안 들어가는 레코드 → 더 큰 조각으로 교체
+                        chunks.remove(chunks.size() - 1);
+                        checkArgument(current.capacity() < Integer.MAX_VALUE / 2, "entry too large: %s", key);
+                        newChunk(current.capacity() * 2);
+                    } else {
+                        newChunk(Math.min(MAX_CHUNK_BYTES, current.capacity() * 2));
+                    }
+                }
+            }
+        }
+
+        public Builder<K, V> putAll(Map<? extends K, ? extends V> map) {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * direct 버퍼 하나에 빌드 (전체 2 GB 미만)
+         */
+        public OffHeapImmutableMap<K, V> build() {
+            long capacity = tableSize(count);
+            long total = HEADER_BYTES + capacity * Long.BYTES + dataBytes;
+            checkState(total <= Integer.MAX_VALUE, "%s bytes: use buildTo(Path) for maps over 2 GB", total);
+            Region region = Region.of(ByteBuffer.allocateDirect((int) total));
+            write(region, capacity);
+            return new OffHeapImmutableMap<>(keyCodec, valueCodec, region);
+        }
+
+        /**
+         * 파일로 빌드한 뒤 open(Path) 로 다시 매핑 (2 GB 이상도 가능)
+         */
+        public OffHeapImmutableMap<K, V> buildTo(Path file) throws IOException {
+            long capacity = tableSize(count);
+            long total = HEADER_BYTES + capacity * Long.BYTES + dataBytes;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                Region region = Region.map(channel, FileChannel.MapMode.READ_WRITE, total, overlap(maxRecord));
+                write(region, capacity);
+                region.force();
+            }
+            return open(file, keyCodec, valueCodec);
+        }
+
+        private void newChunk(int bytes) {
+            current = ByteBuffer.allocateDirect(bytes);
+            chunks.add(current);
+        }
+
+        private void add(long hash, int start, int length) {
+            if (count == hashes.length) {
+                hashes = Arrays.copyOf(hashes, count * 2);
+                staged = Arrays.copyOf(staged, count * 2);
+            }
+            hashes[count] = hash;
+            staged[count] = ((long) (chunks.size() - 1) << 32) | start;
+            count++;
+            dataBytes += length;
+            maxRecord = Math.max(maxRecord, length);
+        }
+
+        /**
+         * 헤더 + 데이터 복사 + 인덱스 삽입 (region 은 0 으로 채워진 상태 → 빈 슬롯 = 0)
+         */
+        private void write(Region region, long capacity) {
+            checkState(dataBytes < OFFSET_MASK, "data too large: %s bytes", dataBytes);
+            region.putInt(0, MAGIC);
+            region.putInt(4, VERSION);
+            region.putLong(8, count);
+            region.putLong(16, capacity);
+            region.putInt(24, maxRecord);
+
+            long mask = capacity - 1;
+            long dataStart = HEADER_BYTES + capacity * Long.BYTES;
+            long offset = 0;
+            for (int i = 0; i < count; i++) {
+                ByteBuffer chunk = chunks.get((int) (staged[i] >>> 32));
+                int start = (int) staged[i];
+                int keyLength = chunk.getInt(start);
+                int length = RECORD_HEADER_BYTES + keyLength + chunk.getInt(start + 4);
+                region.put(dataStart + offset, chunk, start, start + length);
+
+                long tag = hashes[i] >>> TAG_SHIFT;
+                long index = hashes[i] & mask;
+                while (true) {
+                    long slotAddress = HEADER_BYTES + (index << 3);
+                    long slot = region.getLong(slotAddress);
+                    if (slot == 0) {
+                        region.putLong(slotAddress, (tag << OFFSET_BITS) | (offset + 1));
+                        break;
+                    }
+                    long existing = dataStart + (slot & OFFSET_MASK) - 1;
+                    if (slot >>> OFFSET_BITS == tag && region.getInt(existing) == keyLength
+                            && region.contentEquals(existing + RECORD_HEADER_BYTES, chunk,
+                            start + RECORD_HEADER_BYTES, keyLength)) {
+                        throw duplicate(chunk, start, region, existing);
+                    }
+                    index = (index + 1) & mask;
+                }
+                offset += length;
+            }
+        }
+
+        private IllegalArgumentException duplicate(ByteBuffer chunk, int start, Region region, long existing) {
+            int keyLength = chunk.getInt(start);
+            K key = keyCodec.decode(chunk, start + RECORD_HEADER_BYTES, keyLength);
+            V value = valueCodec.decode(chunk, start + RECORD_HEADER_BYTES + keyLength, chunk.getInt(start + 4));
+            ByteBuffer window = region.window(existing);
+            int at = region.offset(existing);
+            int existingKeyLength = window.getInt(at);
+            V existingValue = valueCodec.decode(window, at + RECORD_HEADER_BYTES + existingKeyLength,
+                    window.getInt(at + 4));
+            return new IllegalArgumentException("Multiple entries with same key: "
+                    + key + "=" + value + " and " + key + "=" + existingValue);
+        }
+    }
+}
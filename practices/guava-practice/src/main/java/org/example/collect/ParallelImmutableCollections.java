@@ -0,0 +1,378 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.stream.Collector;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 아주 큰 입력용 fork/join 병렬 생성 - ImmutableList / CompactImmutableSet
+ *
+ * ImmutableList
+ * - RandomAccess 리스트는 구간별로 나눠 결과 배열에 복사
+ * - 결과 배열을 toArray() 가 그대로 돌려주는 리스트로 감싸 ImmutableList.copyOf 에 넘김
+ *   (copyOf(Collection) 은 toArray() 결과를 복사하지 않고 null 검사 후 그대로 씀)
+ *
+ * CompactImmutableSet (해시/중복 제거를 병렬로)
+ * 1. 구간별: null 검사 + hashCode, 구간 x 영역 별 개수
+ * 2. 구간별: 원소 위치를 영역별로 흩뿌림 (입력 순서 유지)
+ * 3. 영역별: 자기 영역의 테이블을 채우며 중복 표시 - 영역이 겹치지 않으므로 잠금 없음
+ * 4. 구간별: 중복이 아닌 원소를 입력 순서대로 모음
+ * hashCode 가 한 영역에 쏠리면 (모든 영역을 가장 큰 영역 크기로 잡으므로 테이블이 커짐) 영역 1 개로 (2 ~ 4 는 그대로 병렬)
+ *
+ * Collector 는 스레드마다 배열 조각에 모으고 combine 은 조각 목록만 이어 붙임 (중간 ArrayList 없음)
+ * 원소가 PARALLEL_THRESHOLD 보다 적거나 pool 의 병렬도가 1 이면 같은 코드를 한 스레드로
+ */
+public final class ParallelImmutableCollections {
+
+    /** 이보다 적으면 태스크 비용이 나눠서 얻는 이득보다 큼 */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int MAX_TABLE_BITS = 30;
+    /** 가장 큰 영역이 평균의 이 배수를 넘으면 (hashCode 쏠림) 영역 없이 테이블 하나로 */
+    static final int MAX_REGION_SKEW = 4;
+    private static final int MIN_SEGMENT = 16;
+    private static final int MAX_SEGMENT = 1 << 16;
+
+    private ParallelImmutableCollections() {
+    }
+
+    public static <E> ImmutableList<E> copyOfList(Collection<? extends E> elements) {
+        return copyOfList(elements, ForkJoinPool.commonPool());
+    }
+
+    public static <E> ImmutableList<E> copyOfList(Collection<? extends E> elements, ForkJoinPool pool) {
+        return ImmutableList.copyOf(new TrustedArrayList<E>(toArray(elements, pool, PARALLEL_THRESHOLD)));
+    }
+
+    public static <E> CompactImmutableSet<E> copyOfSet(Iterable<? extends E> elements) {
+        return copyOfSet(elements, ForkJoinPool.commonPool());
+    }
+
+    public static <E> CompactImmutableSet<E> copyOfSet(Iterable<? extends E> elements, ForkJoinPool pool) {
+        return copyOfSet(elements, pool, PARALLEL_THRESHOLD);
+    }
+
+    static <E> CompactImmutableSet<E> copyOfSet(Iterable<? extends E> elements, ForkJoinPool pool, int threshold) {
+        Object[] array = elements instanceof Collection
+                ? toArray((Collection<?>) elements, pool, threshold)
+                : Lists.newArrayList(elements).toArray();
+        return buildSet(array, pool, threshold);
+    }
+
+    /**
+     * 병렬 스트림용 - 순서가 있는 스트림이면 만남 순서 그대로
+     */
+    public static <E> Collector<E, ?, ImmutableList<E>> toImmutableList() {
+        return toImmutableList(ForkJoinPool.commonPool());
+    }
+
+    public static <E> Collector<E, ?, ImmutableList<E>> toImmutableList(ForkJoinPool pool) {
+        return Collector.<E, Segments, ImmutableList<E>>of(Segments::new, Segments::add, Segments::addAll,
+                segments -> ImmutableList.copyOf(new TrustedArrayList<E>(segments.toArray(pool, PARALLEL_THRESHOLD))));
+    }
+
+    /**
+     * 병렬 스트림용 - 중복은 만남 순서로 처음 것만
+     */
+    public static <E> Collector<E, ?, CompactImmutableSet<E>> toCompactImmutableSet() {
+        return toCompactImmutableSet(ForkJoinPool.commonPool());
+    }
+
+    public static <E> Collector<E, ?, CompactImmutableSet<E>> toCompactImmutableSet(ForkJoinPool pool) {
+        return Collector.<E, Segments, CompactImmutableSet<E>>of(Segments::new, Segments::add, Segments::addAll,
+                segments -> buildSet(segments.toArray(pool, PARALLEL_THRESHOLD), pool, PARALLEL_THRESHOLD));
+    }
+
+    private static boolean parallel(int size, ForkJoinPool pool, int threshold) {
+        return size >= threshold && pool.getParallelism() > 1;
+    }
+
+    private static Object[] toArray(Collection<?> elements, ForkJoinPool pool, int threshold) {
+        int size = elements.size();
+        if (!(elements instanceof List && elements instanceof RandomAccess) || !parallel(size, pool, threshold)) {
+            return elements.toArray();
+        }
+        List<?> list = (List<?>) elements;
+        Object[] array = new Object[size];
+        int chunks = pool.getParallelism() * 4;
+        forEachChunk(pool, chunks, c -> {
+            for (int i = chunkStart(c, chunks, size), end = chunkStart(c + 1, chunks, size); i < end; i++) {
+                array[i] = list.get(i);
+            }
+        });
+        return array;
+    }
+
+    static <E> CompactImmutableSet<E> buildSet(Object[] input, ForkJoinPool pool, int threshold) {
+        int n = input.length;
+        if (n == 0) {
+            return CompactImmutableSet.of();
+        }
+        boolean parallel = parallel(n, pool, threshold);
+        // 영역 수 = 병렬도 * 4 이상의 2 의 거듭제곱 (영역마다 원소 수가 달라도 일이 고르게 나뉘도록)
+        int partitionBits = parallel ? Integer.SIZE - Integer.numberOfLeadingZeros(pool.getParallelism() * 4 - 1) : 0;
+        int partitions = 1 << partitionBits;
+        int chunks = parallel ? partitions : 1;
+
+        // 1. null 검사 + hashCode, 구간 x 영역 개수
+        int[] hashes = new int[n];
+        int[] counts = new int[chunks * partitions];
+        forEachChunk(pool, chunks, c -> {
+            for (int i = chunkStart(c, chunks, n), end = chunkStart(c + 1, chunks, n); i < end; i++) {
+                Object element = checkNotNull(input[i], "at index %s", i);
+                int hash = element.hashCode();
+                hashes[i] = hash;
+                counts[c * partitions + CompactImmutableSet.partition(PrimitiveTables.smear(hash), partitionBits)]++;
+            }
+        });
+
+        int maxCount = 0;
+        for (int p = 0; p < partitions; p++) {
+            int count = 0;
+            for (int c = 0; c < chunks; c++) {
+                count += counts[c * partitions + p];
+            }
+            maxCount = Math.max(maxCount, count);
+        }
+        if (partitionBits > 0 && ((long) maxCount * partitions > (long) MAX_REGION_SKEW * n
+                || partitionBits + regionBits(maxCount) > MAX_TABLE_BITS)) {
+            // 쏠림 - 영역 1 개, 구간별 개수는 구간 길이 그대로
+            int[] chunkCounts = new int[chunks];
+            for (int c = 0; c < chunks; c++) {
+                chunkCounts[c] = chunkStart(c + 1, chunks, n) - chunkStart(c, chunks, n);
+            }
+            return buildSet(input, hashes, chunkCounts, chunks, 0, pool);
+        }
+        return buildSet(input, hashes, counts, chunks, partitionBits, pool);
+    }
+
+    private static int regionBits(int maxCount) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(2 * maxCount - 1);
+    }
+
+    /**
+     * 2 ~ 4 단계 - counts 는 구간 x 영역 개수
+     */
+    private static <E> CompactImmutableSet<E> buildSet(Object[] input, int[] hashes, int[] counts, int chunks,
+            int partitionBits, ForkJoinPool pool) {
+        int n = input.length;
+        int partitions = 1 << partitionBits;
+
+        // 영역 p 의 구간 c 몫이 들어갈 위치
+        int[] partitionStart = new int[partitions + 1];
+        int[] offsets = new int[chunks * partitions];
+        int maxCount = 0;
+        for (int p = 0; p < partitions; p++) {
+            int position = partitionStart[p];
+            for (int c = 0; c < chunks; c++) {
+                offsets[c * partitions + p] = position;
+                position += counts[c * partitions + p];
+            }
+            partitionStart[p + 1] = position;
+            maxCount = Math.max(maxCount, position - partitionStart[p]);
+        }
+        int regionBits = regionBits(maxCount);
+        checkArgument(partitionBits + regionBits <= MAX_TABLE_BITS, "too many elements: %s", n);
+
+        // 2. 영역별로 흩뿌림 (구간 순서 + 구간 안 순서 = 입력 순서)
+        int[] order = new int[n];
+        forEachChunk(pool, chunks, c -> {
+            for (int i = chunkStart(c, chunks, n), end = chunkStart(c + 1, chunks, n); i < end; i++) {
+                int p = CompactImmutableSet.partition(PrimitiveTables.smear(hashes[i]), partitionBits);
+                order[offsets[c * partitions + p]++] = i;
+            }
+        });
+
+        // 3. 영역별로 테이블 채우기 - 먼저 들어온 원소가 남고 뒤의 같은 원소는 중복
+        Object[] table = new Object[partitions << regionBits];
+        boolean[] duplicate = new boolean[n];
+        int regionMask = (1 << regionBits) - 1;
+        forEachChunk(pool, partitions, p -> {
+            int base = p << regionBits;
+            for (int k = partitionStart[p], end = partitionStart[p + 1]; k < end; k++) {
+                int i = order[k];
+                Object element = input[i];
+                for (int j = PrimitiveTables.smear(hashes[i]) & regionMask; ; j = (j + 1) & regionMask) {
+                    Object existing = table[base + j];
+                    if (existing == null) {
+                        table[base + j] = element;
+                        break;
+                    }
+                    if (existing.equals(element)) {
+                        duplicate[i] = true;
+                        break;
+                    }
+                }
+            }
+        });
+
+        // 4. 중복이 아닌 원소를 입력 순서대로 (구간별 개수 → 시작 위치 → 복사)
+        int[] kept = new int[chunks + 1];
+        int[] hashSums = new int[chunks];
+        forEachChunk(pool, chunks, c -> {
+            int count = 0;
+            int sum = 0;
+            for (int i = chunkStart(c, chunks, n), end = chunkStart(c + 1, chunks, n); i < end; i++) {
+                if (!duplicate[i]) {
+                    count++;
+                    sum += hashes[i];
+                }
+            }
+            kept[c + 1] = count;
+            hashSums[c] = sum;
+        });
+        int hashCode = 0;
+        for (int c = 0; c < chunks; c++) {
+            kept[c + 1] += kept[c];
+            hashCode += hashSums[c];
+        }
+        Object[] elements = new Object[kept[chunks]];
+        forEachChunk(pool, chunks, c -> {
+            int position = kept[c];
+            for (int i = chunkStart(c, chunks, n), end = chunkStart(c + 1, chunks, n); i < end; i++) {
+                if (!duplicate[i]) {
+                    elements[position++] = input[i];
+                }
+            }
+        });
+        return new CompactImmutableSet<>(elements, table, partitionBits, regionBits, hashCode);
+    }
+
+    static int chunkStart(int chunk, int chunks, int size) {
+        return (int) ((long) size * chunk / chunks);
+    }
+
+    /**
+     * task(0) ~ task(chunks - 1) 을 pool 에서 (하나면 현재 스레드에서 바로)
+     */
+    static void forEachChunk(ForkJoinPool pool, int chunks, IntConsumer task) {
+        if (chunks == 1) {
+            task.accept(0);
+        } else {
+            pool.invoke(new ChunkAction(task, 0, chunks));
+        }
+    }
+
+    /**
+     * [from, to) 구간의 chunk 를 반으로 나눠 fork
+     */
+    private static final class ChunkAction extends RecursiveAction {
+        private final IntConsumer task;
+        private final int from;
+        private final int to;
+
+        ChunkAction(IntConsumer task, int from, int to) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                task.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkAction(task, from, mid), new ChunkAction(task, mid, to));
+        }
+    }
+
+    /**
+     * toArray() 가 감싼 배열을 그대로 돌려주는 리스트
+     * ImmutableList.copyOf 에 배열의 소유권을 넘길 때만 (넘긴 뒤 배열을 바꾸면 안 됨)
+     */
+    static final class TrustedArrayList<E> extends AbstractList<E> implements RandomAccess {
+        private final Object[] array;
+
+        TrustedArrayList(Object[] array) {
+            this.array = array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            return (E) array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return array;
+        }
+    }
+
+    /**
+     * Collector 누적 - 배열 조각 목록 (조각 크기는 지금까지 원소 수만큼, 16 ~ 65536)
+     * combine 은 조각 목록만 이어 붙이고 원소는 finisher 에서 한 번만 복사
+     */
+    private static final class Segments {
+        private final List<Object[]> arrays = new ArrayList<>();
+        private final List<Integer> lengths = new ArrayList<>();
+        private Object[] current;
+        private int currentLength;
+        private int size;
+
+        void add(Object element) {
+            checkNotNull(element, "at index %s", size);
+            if (current == null || currentLength == current.length) {
+                seal();
+                current = new Object[Math.min(MAX_SEGMENT, Math.max(MIN_SEGMENT, size))];
+            }
+            current[currentLength++] = element;
+            size++;
+        }
+
+        Segments addAll(Segments other) {
+            seal();
+            other.seal();
+            arrays.addAll(other.arrays);
+            lengths.addAll(other.lengths);
+            size += other.size;
+            return this;
+        }
+
+        private void seal() {
+            if (current != null) {
+                arrays.add(current);
+                lengths.add(currentLength);
+                current = null;
+                currentLength = 0;
+            }
+        }
+
+        Object[] toArray(ForkJoinPool pool, int threshold) {
+            seal();
+            Object[] result = new Object[size];
+            int[] starts = new int[arrays.size() + 1];
+            for (int s = 0; s < arrays.size(); s++) {
+                starts[s + 1] = starts[s] + lengths.get(s);
+            }
+            int segments = arrays.size();
+            IntConsumer copy = s -> System.arraycopy(arrays.get(s), 0, result, starts[s], lengths.get(s));
+            if (segments > 1 && parallel(size, pool, threshold)) {
+                forEachChunk(pool, segments, copy);
+            } else {
+                for (int s = 0; s < segments; s++) {
+                    copy.accept(s);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package org.example.collect;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 고정된 키 집합용 최소 완전 해시 (CHD 의 hash-and-displace 방식)
+ *
+ * 1. 키마다 64 비트 해시 h → 버킷 (키 평균 BUCKET_SIZE 개) 으로 나눔
+ * 2. 큰 버킷부터, 버킷 안의 모든 키가 빈 슬롯에 서로 겹치지 않게 들어가는 변위 d 를 0, 1, 2... 순서로 찾음
+ *    슬롯 = position(h, d) ∈ [0, n) → 슬롯 수 = 키 수 (빈 칸 없음)
+ * 3. 조회: 버킷의 d 를 읽고 슬롯 하나만 확인 (탐사 없음)
+ *
+ * 추가 메모리는 버킷당 int 하나 → 키당 1 바이트
+ *
+ * 해시
+ * - 기본: hashCode() 에 seed 를 섞고 곱셈 한 번 (String 은 hashCode 가 캐시되므로 조회 비용이 거의 없음)
+ * - 서로 다른 키의 hashCode 가 같으면 ("Aa" / "BB") 어떤 d 로도 나눌 수 없음
+ *   → 키가 전부 String 이면 글자 단위 해시로 바꿔 다시 빌드
+ *   → 아니면 (0L / -1L, List.of(1, 0) / List.of(0, 31)) hashCode 마다 하나만 해시하고 나머지는 충돌 목록
+ *     슬롯 [0, size) 는 해시, [size, size + overflow) 는 충돌 목록
+ *     같은 hashCode 는 같은 슬롯이므로 그 슬롯 키와 hashCode 가 같을 때만 목록을 훑음
+ */
+final class PerfectHash {
+
+    static final int BUCKET_SIZE = 4;
+    /**
+     * 버킷 하나에서 시도할 최대 변위 = 키 수 * 16 (넘으면 seed 를 바꿔 처음부터)
+     * 마지막 빈 슬롯에 들어갈 버킷은 평균 n 번 시도 → 16n 을 넘길 확률은 e^-16
+     */
+    private static final int DISPLACEMENT_FACTOR = 16;
+    private static final int MAX_ATTEMPTS = 16;
+
+    final long seed;
+    final boolean contentHash;
+    final int[] displacements;
+    final int size;
+    final int overflow;
+
+    private PerfectHash(long seed, boolean contentHash, int[] displacements, int size, int overflow) {
+        this.seed = seed;
+        this.contentHash = contentHash;
+        this.displacements = displacements;
+        this.size = size;
+        this.overflow = overflow;
+    }
+
+    /**
+     * 서로 다른 (equals 가 아닌) 키들로 빌드, slots[i] = keys[i] 의 슬롯
+     */
+    static PerfectHash build(Object[] keys, int[] slots) {
+        boolean contentHash = false;
+        boolean[] overflowKeys = null;
+        Random random = new Random(keys.length);
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            long seed = random.nextLong();
+            long[] hashes = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                hashes[i] = hash(keys[i], seed, contentHash);
+            }
+            if (overflowKeys == null) {
+                int[] duplicate = findDuplicateHash(hashes);
+                if (duplicate != null) {
+                    if (contentHash || keys[duplicate[0]].hashCode() != keys[duplicate[1]].hashCode()) {
+                        continue;
+                    }
+                    if (allStrings(keys)) {
+                        contentHash = true;
+                        continue;
+                    }
+                    // hashCode 가 같으면 seed 와 관계없이 h 도 같음 → 한 번 나누면 계속 유효
+                    overflowKeys = repeatedHashes(hashes);
+                }
+            }
+            if (overflowKeys == null) {
+                int[] displacements = place(hashes, slots);
+                if (displacements != null) {
+                    return new PerfectHash(seed, contentHash, displacements, keys.length, 0);
+                }
+                continue;
+            }
+            int overflow = 0;
+            for (boolean b : overflowKeys) {
+                if (b) {
+                    overflow++;
+                }
+            }
+            int size = keys.length - overflow;
+            long[] hashed = new long[size];
+            for (int i = 0, j = 0; i < keys.length; i++) {
+                if (!overflowKeys[i]) {
+                    hashed[j++] = hashes[i];
+                }
+            }
+            int[] hashedSlots = new int[size];
+            int[] displacements = place(hashed, hashedSlots);
+            if (displacements != null) {
+                for (int i = 0, j = 0, next = size; i < keys.length; i++) {
+                    slots[i] = overflowKeys[i] ? next++ : hashedSlots[j++];
+                }
+                return new PerfectHash(seed, false, displacements, size, overflow);
+            }
+        }
+        throw new IllegalStateException("could not build a perfect hash for " + keys.length + " keys");
+    }
+
+    /**
+     * key 의 슬롯, 없으면 -1
+     * table = 슬롯 순서로 놓은 빌드 키 (해시 슬롯 하나를 equals 로 확인, 충돌 목록이 있으면 이어서)
+     */
+    int find(Object key, Object[] table) {
+        if (contentHash && !(key instanceof String)) {
+            return -1;
+        }
+        long h = hash(key, seed, contentHash);
+        int slot = position(h, displacements[bucket(h, displacements.length)], size);
+        Object candidate = table[slot];
+        if (candidate.equals(key)) {
+            return slot;
+        }
+        if (overflow == 0 || candidate.hashCode() != key.hashCode()) {
+            return -1;
+        }
+        for (int i = size; i < size + overflow; i++) {
+            if (table[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int bucketCount(int size) {
+        return Math.max(1, (size + BUCKET_SIZE - 1) / BUCKET_SIZE);
+    }
+
+    /**
+     * 상위 32 비트로 버킷 (곱셈 한 번으로 [0, buckets) 범위로 축소, 나머지 연산 없음)
+     */
+    private static int bucket(long h, int buckets) {
+        return (int) (((h >>> 32) * buckets) >>> 32);
+    }
+
+    /**
+     * 변위를 섞은 뒤 곱셈 해시 (Fibonacci hashing) 의 상위 비트로 슬롯
+     * 조회 경로라 fmix64 대신 곱셈 한 번
+     */
+    private static int position(long h, int displacement, int size) {
+        long x = (h ^ displacement) * 0x9E3779B97F4A7C15L;
+        return (int) (((x >>> 32) * size) >>> 32);
+    }
+
+    static long hash(Object key, long seed, boolean contentHash) {
+        if (contentHash) {
+            String chars = (String) key;
+            long h = seed;
+            for (int i = 0; i < chars.length(); i++) {
+                h = (h ^ chars.charAt(i)) * 0x100000001b3L;
+            }
+            return mix(h ^ chars.length());
+        }
+        // hashCode 가 다르면 h 도 항상 다름 (xor + 홀수 곱은 전단사)
+        return (seed ^ (key.hashCode() & 0xFFFFFFFFL)) * 0xC2B2AE3D27D4EB4FL;
+    }
+
+    /** murmur3 fmix64 (글자 단위 해시의 마무리) */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 큰 버킷부터 변위를 찾아 슬롯을 채움, 한 버킷이라도 실패하면 null
+     */
+    private static int[] place(long[] hashes, int[] slots) {
+        int size = hashes.length;
+        int buckets = bucketCount(size);
+        // 버킷별 키 목록 (counting sort)
+        int[] start = new int[buckets + 1];
+        for (long h : hashes) {
+            start[bucket(h, buckets) + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            start[b + 1] += start[b];
+        }
+        int[] members = new int[size];
+        int[] fill = Arrays.copyOf(start, buckets);
+        for (int i = 0; i < size; i++) {
+            members[fill[bucket(hashes[i], buckets)]++] = i;
+        }
+        // 버킷 크기 내림차순
+        Integer[] order = new Integer[buckets];
+        for (int b = 0; b < buckets; b++) {
+            order[b] = b;
+        }
+        Arrays.sort(order, (a, b) -> (start[b + 1] - start[b]) - (start[a + 1] - start[a]));
+
+        int maxDisplacement = (int) Math.min(Integer.MAX_VALUE, Math.max(1 << 16, (long) DISPLACEMENT_FACTOR * size));
+        int[] displacements = new int[buckets];
+        boolean[] taken = new boolean[size];
+        int[] candidate = new int[64];
+        for (int b : order) {
+            int from = start[b];
+            int count = start[b + 1] - from;
+            if (count == 0) {
+                break;
+            }
+            if (candidate.length < count) {
+                candidate = new int[count];
+            }
+            int displacement = 0;
+            search:
+            while (true) {
+                if (displacement == maxDisplacement) {
+                    return null;
+                }
+                for (int k = 0; k < count; k++) {
+                    int slot = position(hashes[members[from + k]], displacement, size);
+                    if (taken[slot]) {
+                        displacement++;
+                        continue search;
+                    }
+                    for (int j = 0; j < k; j++) {
+                        if (candidate[j] == slot) {
+                            displacement++;
+                            continue search;
+                        }
+                    }
+                    candidate[k] = slot;
+                }
+                break;
+            }
+            displacements[b] = displacement;
+            for (int k = 0; k < count; k++) {
+                taken[candidate[k]] = true;
+                slots[members[from + k]] = candidate[k];
+            }
+        }
+        return displacements;
+    }
+
+    /**
+     * 64 비트 해시가 같은 두 키의 위치 (없으면 null)
+     */
+    private static int[] findDuplicateHash(long[] hashes) {
+        long[] sorted = hashes.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                long h = sorted[i];
+                int first = -1;
+                for (int j = 0; j < hashes.length; j++) {
+                    if (hashes[j] == h) {
+                        if (first < 0) {
+                            first = j;
+                        } else {
+                            return new int[]{first, j};
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 앞에 같은 해시가 이미 나온 키 → 충돌 목록
+     */
+    private static boolean[] repeatedHashes(long[] hashes) {
+        boolean[] repeated = new boolean[hashes.length];
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < hashes.length; i++) {
+            repeated[i] = !seen.add(hashes[i]);
+        }
+        return repeated;
+    }
+
+    private static boolean allStrings(Object[] keys) {
+        for (Object key : keys) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
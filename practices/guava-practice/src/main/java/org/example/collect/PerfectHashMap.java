@@ -0,0 +1,150 @@
+package org.example.collect;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 고정된 키 집합용 불변 맵 - PerfectHashSet 과 같은 최소 완전 해시, 값은 키와 같은 슬롯의 배열
+ *
+ * get 은 변위 하나 읽고 슬롯 하나만 equals 로 확인
+ * null 키/값, 중복 키는 ImmutableMap 과 같은 메시지의 예외 (중복 키는 build 가 아니라 put 할 때)
+ * 순회 순서는 슬롯 순서 (넣은 순서가 아님)
+ */
+public final class PerfectHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final PerfectHashMap<Object, Object> EMPTY =
+            new PerfectHashMap<>(new Object[0], new Object[0], null);
+
+    private final Object[] keys;
+    private final Object[] values;
+    private final PerfectHash hash;
+
+    private PerfectHashMap(Object[] keys, Object[] values, PerfectHash hash) {
+        this.keys = keys;
+        this.values = values;
+        this.hash = hash;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PerfectHashMap<K, V> of() {
+        return (PerfectHashMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> PerfectHashMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PerfectHashMap) {
+            @SuppressWarnings("unchecked")
+            PerfectHashMap<K, V> perfect = (PerfectHashMap<K, V>) map;
+            return perfect;
+        }
+        return PerfectHashMap.<K, V>builder().putAll(map).build();
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return slotOf(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int slot = slotOf(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    private int slotOf(Object key) {
+        if (key == null || keys.length == 0) {
+            return -1;
+        }
+        return hash.find(key, keys);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public int size() {
+                return keys.length;
+            }
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new Iterator<Entry<K, V>>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < keys.length;
+                    }
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Entry<K, V> next() {
+                        if (index == keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<K, V> entry = new SimpleImmutableEntry<>((K) keys[index], (V) values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+        };
+    }
+
+    public static final class Builder<K, V> {
+        private final Map<K, V> entries = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder<K, V> put(K key, V value) {
+            if (key == null || value == null) {
+                throw new NullPointerException("null " + (key == null ? "key" : "value") + " in entry: "
+                        + key + "=" + value);
+            }
+            V previous = entries.putIfAbsent(key, value);
+            if (previous != null) {
+                throw new IllegalArgumentException("Multiple entries with same key: "
+                        + key + "=" + value + " and " + key + "=" + previous);
+            }
+            return this;
+        }
+
+        public Builder<K, V> putAll(Map<? extends K, ? extends V> map) {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        public PerfectHashMap<K, V> build() {
+            if (entries.isEmpty()) {
+                return of();
+            }
+            Object[] input = entries.keySet().toArray();
+            int[] slots = new int[input.length];
+            PerfectHash hash = PerfectHash.build(input, slots);
+            Object[] keys = new Object[input.length];
+            Object[] values = new Object[input.length];
+            for (int i = 0; i < input.length; i++) {
+                keys[slots[i]] = input[i];
+                values[slots[i]] = entries.get(input[i]);
+            }
+            return new PerfectHashMap<>(keys, values, hash);
+        }
+    }
+}
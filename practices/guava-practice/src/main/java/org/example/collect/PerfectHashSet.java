@@ -0,0 +1,123 @@
+package org.example.collect;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 고정된 키 집합 (국가 코드, 상태 코드, 헤더 이름 등) 용 불변 집합 - 최소 완전 해시 (PerfectHash)
+ *
+ * RegularImmutableSet 은 적재율 기반 테이블 (원소 수보다 큰 배열) + 충돌 시 선형 탐사
+ * 여기서는 원소 수와 같은 크기의 배열 + 버킷 변위 int[] (원소 4 개당 하나)
+ * contains 는 변위 하나 읽고 슬롯 하나만 equals 로 확인 (없는 원소도 한 번)
+ * hashCode 가 같은 다른 원소 (String 제외) 는 끝의 충돌 목록에서 찾음
+ *
+ * - 중복은 ImmutableSet 처럼 하나만 남김, null 은 NullPointerException
+ * - 순회 순서는 슬롯 순서 (넣은 순서가 아님)
+ * - 빌드 비용이 ImmutableSet 보다 큼 → 한 번 만들어 오래 쓰는 정적 집합용
+ */
+public final class PerfectHashSet<E> extends AbstractSet<E> {
+
+    private static final PerfectHashSet<Object> EMPTY = new PerfectHashSet<>(new Object[0], null);
+
+    private final Object[] elements;
+    private final PerfectHash hash;
+
+    private PerfectHashSet(Object[] elements, PerfectHash hash) {
+        this.elements = elements;
+        this.hash = hash;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PerfectHashSet<E> of() {
+        return (PerfectHashSet<E>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <E> PerfectHashSet<E> of(E... elements) {
+        return copyOf(Arrays.asList(elements));
+    }
+
+    public static <E> PerfectHashSet<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof PerfectHashSet) {
+            @SuppressWarnings("unchecked")
+            PerfectHashSet<E> set = (PerfectHashSet<E>) elements;
+            return set;
+        }
+        return PerfectHashSet.<E>builder().addAll(elements).build();
+    }
+
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        if (object == null || elements.length == 0) {
+            return false;
+        }
+        return hash.find(object, elements) >= 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        @SuppressWarnings("unchecked")
+        Iterator<E> iterator = (Iterator<E>) Arrays.asList(elements).iterator();
+        return iterator;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    /**
+     * 변위 배열 크기 (원소 외에 추가로 드는 int 개수)
+     */
+    int displacementCount() {
+        return hash == null ? 0 : hash.displacements.length;
+    }
+
+    public static final class Builder<E> {
+        private final Set<E> elements = new LinkedHashSet<>();
+
+        private Builder() {
+        }
+
+        public Builder<E> add(E element) {
+            elements.add(checkNotNull(element));
+            return this;
+        }
+
+        public Builder<E> addAll(Iterable<? extends E> iterable) {
+            for (E element : iterable) {
+                add(element);
+            }
+            return this;
+        }
+
+        public PerfectHashSet<E> build() {
+            if (elements.isEmpty()) {
+                return of();
+            }
+            Object[] keys = elements.toArray();
+            int[] slots = new int[keys.length];
+            PerfectHash hash = PerfectHash.build(keys, slots);
+            Object[] table = new Object[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                table[slots[i]] = keys[i];
+            }
+            return new PerfectHashSet<>(table, hash);
+        }
+    }
+}
@@ -0,0 +1,502 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 영속(persistent) 해시 맵 - HAMT (hash array mapped trie)
+ *
+ * ImmutableMap 은 "수정" 하려면 빌더로 전체를 다시 복사 (O(n))
+ * 여기서는 with / without 이 바뀐 경로의 노드만 새로 만들고 나머지는 이전 버전과 공유 (O(log32 n))
+ *
+ * 노드 = 32 비트 bitmap + 배열 (항목마다 2 칸)
+ * - [키, 값] 또는 [null, 하위 노드]
+ * - 해시 5 비트씩 한 단계 (최대 7 단계), 32 비트 해시가 모두 같으면 CollisionNode (선형 탐색)
+ *
+ * 여러 개를 한 번에 바꿀 때는 toBuilder() (transient)
+ * - 빌더가 만든 노드에는 빌더의 edit 토큰이 붙고, 같은 토큰의 노드는 복사하지 않고 그 자리에서 수정
+ * - build() 하면 토큰을 새로 바꿈 → 이미 내보낸 맵의 노드는 다시 수정되지 않음 (빌더는 계속 사용 가능)
+ *
+ * null 키/값은 허용하지 않음 → get 이 null 이면 없는 키
+ */
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final PersistentHashMap<Object, Object> EMPTY = new PersistentHashMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> of() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * ImmutableMap 등 다른 맵에서 (transient 로 한 번에) - 순회 순서는 해시 순서
+     */
+    public static <K, V> PersistentHashMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap) {
+            @SuppressWarnings("unchecked")
+            PersistentHashMap<K, V> persistent = (PersistentHashMap<K, V>) map;
+            return persistent;
+        }
+        return PersistentHashMap.<K, V>builder().putAll(map).build();
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>(of());
+    }
+
+    /**
+     * 이 버전에서 시작하는 transient 빌더 (이 맵은 바뀌지 않음)
+     */
+    public Builder<K, V> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    public ImmutableMap<K, V> toImmutableMap() {
+        return ImmutableMap.copyOf(this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (key == null || root == null) {
+            return null;
+        }
+        return (V) root.find(0, hash(key), key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * key → value 인 새 버전 (같은 값이면 this)
+     */
+    public PersistentHashMap<K, V> with(K key, V value) {
+        checkEntry(key, value);
+        boolean[] added = new boolean[1];
+        Node newRoot = (root == null ? BitmapNode.EMPTY : root).assoc(null, 0, hash(key), key, value, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * key 가 빠진 새 버전 (없던 키면 this)
+     */
+    public PersistentHashMap<K, V> without(Object key) {
+        if (key == null || root == null) {
+            return this;
+        }
+        Node newRoot = root.without(null, 0, hash(key), key);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? of() : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * 여러 항목을 더한 새 버전 (transient 로 한 번에)
+     */
+    public PersistentHashMap<K, V> withAll(Map<? extends K, ? extends V> map) {
+        return map.isEmpty() ? this : toBuilder().putAll(map).build();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+        };
+    }
+
+    /**
+     * Guava Hashing.smear 와 같은 섞기 (hashCode 하위 비트가 단조로운 Integer 키도 고르게)
+     */
+    static int hash(Object key) {
+        return PrimitiveTables.smear(key.hashCode());
+    }
+
+    private static void checkEntry(Object key, Object value) {
+        checkNotNull(key, "null key");
+        checkNotNull(value, "null value for key: %s", key);
+    }
+
+    /**
+     * transient 편집 - 한 스레드에서만 사용
+     */
+    public static final class Builder<K, V> {
+        private Node root;
+        private int size;
+        private Object edit = new Object();
+        private final boolean[] added = new boolean[1];
+        /** 마지막으로 내보낸 (또는 시작한) 버전 - 그 뒤 편집이 없으면 build() 가 그대로 반환 */
+        private PersistentHashMap<K, V> built;
+
+        private Builder(PersistentHashMap<K, V> source) {
+            this.root = source.root;
+            this.size = source.size;
+            this.built = source;
+        }
+
+        public Builder<K, V> put(K key, V value) {
+            checkEntry(key, value);
+            added[0] = false;
+            root = (root == null ? BitmapNode.EMPTY : root).assoc(edit, 0, hash(key), key, value, added);
+            if (added[0]) {
+                size++;
+            }
+            return this;
+        }
+
+        public Builder<K, V> putAll(Map<? extends K, ? extends V> map) {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        public Builder<K, V> remove(Object key) {
+            // 같은 토큰의 노드는 그 자리에서 지워져 인스턴스가 그대로일 수 있음 → 있는지 먼저 확인
+            if (get(key) != null) {
+                root = root.without(edit, 0, hash(key), key);
+                size--;
+            }
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            return key == null || root == null ? null : (V) root.find(0, hash(key), key);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public PersistentHashMap<K, V> build() {
+            // 토큰을 바꾼 뒤의 첫 편집은 루트부터 복사하므로, 루트가 같으면 내용도 같음
+            if (root != built.root) {
+                // 이후 편집이 내보낸 노드를 건드리지 않도록 토큰 교체
+                edit = new Object();
+                built = root == null ? of() : new PersistentHashMap<>(root, size);
+            }
+            return built;
+        }
+    }
+
+    abstract static class Node {
+        /** 이 노드를 만든 transient 의 토큰 (영속 연산으로 만든 노드는 null) */
+        final Object edit;
+        /** [키, 값] 또는 [null, 하위 노드] 쌍 */
+        Object[] array;
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+
+        final boolean ownedBy(Object edit) {
+            return edit != null && edit == this.edit;
+        }
+
+        abstract Object find(int shift, int hash, Object key);
+
+        /**
+         * edit 가 null 이 아니고 이 노드의 토큰과 같으면 그 자리에서 수정
+         */
+        abstract Node assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] added);
+
+        /**
+         * 빈 노드가 되면 null, 없는 키면 this
+         */
+        abstract Node without(Object edit, int shift, int hash, Object key);
+    }
+
+    static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+        int bitmap;
+
+        BitmapNode(Object edit, int bitmap, Object[] array) {
+            super(edit, array);
+            this.bitmap = bitmap;
+        }
+
+        private static int bit(int shift, int hash) {
+            return 1 << ((hash >>> shift) & 31);
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private BitmapNode editable(Object edit) {
+            return ownedBy(edit) ? this : new BitmapNode(edit, bitmap, array.clone());
+        }
+
+        private BitmapNode set(Object edit, int index, Object element) {
+            BitmapNode node = editable(edit);
+            node.array[index] = element;
+            return node;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int bit = bit(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int i = 2 * index(bit);
+            Object k = array[i];
+            if (k == null) {
+                return ((Node) array[i + 1]).find(shift + 5, hash, key);
+            }
+            return key.equals(k) ? array[i + 1] : null;
+        }
+
+        @Override
+        Node assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = bit(shift, hash);
+            int i = 2 * index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, i);
+                newArray[i] = key;
+                newArray[i + 1] = value;
+                System.arraycopy(array, i, newArray, i + 2, array.length - i);
+                added[0] = true;
+                if (ownedBy(edit)) {
+                    array = newArray;
+                    bitmap |= bit;
+                    return this;
+                }
+                return new BitmapNode(edit, bitmap | bit, newArray);
+            }
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                Node child = ((Node) v).assoc(edit, shift + 5, hash, key, value, added);
+                return child == v ? this : set(edit, i + 1, child);
+            }
+            if (key.equals(k)) {
+                return v == value ? this : set(edit, i + 1, value);
+            }
+            added[0] = true;
+            BitmapNode node = editable(edit);
+            node.array[i] = null;
+            node.array[i + 1] = createNode(edit, shift + 5, k, v, hash, key, value);
+            return node;
+        }
+
+        @Override
+        Node without(Object edit, int shift, int hash, Object key) {
+            int bit = bit(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = 2 * index(bit);
+            Object k = array[i];
+            if (k == null) {
+                Node child = (Node) array[i + 1];
+                Node newChild = child.without(edit, shift + 5, hash, key);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild != null) {
+                    return set(edit, i + 1, newChild);
+                }
+            } else if (!key.equals(k)) {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            System.arraycopy(array, i + 2, newArray, i, array.length - i - 2);
+            if (ownedBy(edit)) {
+                array = newArray;
+                bitmap ^= bit;
+                return this;
+            }
+            return new BitmapNode(edit, bitmap ^ bit, newArray);
+        }
+
+        /**
+         * 같은 칸에 들어온 두 항목을 한 단계 아래 노드로 (해시가 완전히 같으면 CollisionNode)
+         */
+        private static Node createNode(Object edit, int shift, Object key1, Object value1,
+                                       int hash2, Object key2, Object value2) {
+            int hash1 = hash(key1);
+            if (hash1 == hash2) {
+                return new CollisionNode(edit, hash1, new Object[]{key1, value1, key2, value2});
+            }
+            boolean[] ignored = new boolean[1];
+            return new BitmapNode(edit, 0, new Object[0])
+                    .assoc(edit, shift, hash1, key1, value1, ignored)
+                    .assoc(edit, shift, hash2, key2, value2, ignored);
+        }
+    }
+
+    /**
+     * 32 비트 해시가 같은 키들 (배열에 null 키 없음)
+     */
+    static final class CollisionNode extends Node {
+        final int hash;
+
+        CollisionNode(Object edit, int hash, Object[] array) {
+            super(edit, array);
+            this.hash = hash;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private CollisionNode withArray(Object edit, Object[] newArray) {
+            if (ownedBy(edit)) {
+                array = newArray;
+                return this;
+            }
+            return new CollisionNode(edit, hash, newArray);
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int i = indexOf(key);
+            return i < 0 ? null : array[i + 1];
+        }
+
+        @Override
+        Node assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                // 해시가 다른 키 → 이 노드를 한 단계 아래로 내리고 BitmapNode 로 감쌈
+                int bit = 1 << ((this.hash >>> shift) & 31);
+                return new BitmapNode(edit, bit, new Object[]{null, this}).assoc(edit, shift, hash, key, value, added);
+            }
+            int i = indexOf(key);
+            if (i >= 0) {
+                if (array[i + 1] == value) {
+                    return this;
+                }
+                Object[] newArray = ownedBy(edit) ? array : array.clone();
+                newArray[i + 1] = value;
+                return withArray(edit, newArray);
+            }
+            Object[] newArray = Arrays.copyOf(array, array.length + 2);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            added[0] = true;
+            return withArray(edit, newArray);
+        }
+
+        @Override
+        Node without(Object edit, int shift, int hash, Object key) {
+            int i = indexOf(key);
+            if (i < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            System.arraycopy(array, i + 2, newArray, i, array.length - i - 2);
+            return withArray(edit, newArray);
+        }
+    }
+
+    /**
+     * 노드 배열 스택으로 깊이 우선 순회 (깊이는 최대 7 단계 + CollisionNode)
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+        private final Object[][] arrays = new Object[8][];
+        private final int[] positions = new int[8];
+        private int depth = -1;
+        private Object nextKey;
+        private Object nextValue;
+
+        EntryIterator(Node root) {
+            if (root != null) {
+                push(root.array);
+            }
+            advance();
+        }
+
+        private void push(Object[] array) {
+            arrays[++depth] = array;
+            positions[depth] = 0;
+        }
+
+        private void advance() {
+            while (depth >= 0) {
+                Object[] array = arrays[depth];
+                int position = positions[depth];
+                if (position >= array.length) {
+                    arrays[depth--] = null;
+                    continue;
+                }
+                positions[depth] = position + 2;
+                if (array[position] != null) {
+                    nextKey = array[position];
+                    nextValue = array[position + 1];
+                    return;
+                }
+                push(((Node) array[position + 1]).array);
+            }
+            nextKey = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextKey != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (nextKey == null) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> entry = new SimpleImmutableEntry<>((K) nextKey, (V) nextValue);
+            advance();
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 영속 해시 셋 - 값이 PRESENT 하나뿐인 PersistentHashMap
+ *
+ * with / without 은 O(log32 n) 으로 새 버전, 여러 개는 toBuilder() (transient) 로 한 번에
+ * null 원소는 허용하지 않음
+ */
+public final class PersistentHashSet<E> extends AbstractSet<E> {
+
+    private static final Object PRESENT = Boolean.TRUE;
+    private static final PersistentHashSet<Object> EMPTY = new PersistentHashSet<>(PersistentHashMap.of());
+
+    private final PersistentHashMap<E, Object> map;
+
+    private PersistentHashSet(PersistentHashMap<E, Object> map) {
+        this.map = map;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentHashSet<E> of() {
+        return (PersistentHashSet<E>) EMPTY;
+    }
+
+    /**
+     * ImmutableSet 등 다른 컬렉션에서 (중복은 하나로, 순회 순서는 해시 순서)
+     */
+    public static <E> PersistentHashSet<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof PersistentHashSet) {
+            @SuppressWarnings("unchecked")
+            PersistentHashSet<E> persistent = (PersistentHashSet<E>) elements;
+            return persistent;
+        }
+        return PersistentHashSet.<E>builder().addAll(elements).build();
+    }
+
+    public static <E> Builder<E> builder() {
+        return new Builder<>(PersistentHashMap.builder());
+    }
+
+    public Builder<E> toBuilder() {
+        return new Builder<>(map.toBuilder());
+    }
+
+    public ImmutableSet<E> toImmutableSet() {
+        return ImmutableSet.copyOf(this);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return map.containsKey(o);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return map.keySet().iterator();
+    }
+
+    public PersistentHashSet<E> with(E element) {
+        return wrap(map.with(checkNotNull(element), PRESENT));
+    }
+
+    public PersistentHashSet<E> without(Object element) {
+        return wrap(map.without(element));
+    }
+
+    public PersistentHashSet<E> withAll(Collection<? extends E> elements) {
+        return elements.isEmpty() ? this : toBuilder().addAll(elements).build();
+    }
+
+    private PersistentHashSet<E> wrap(PersistentHashMap<E, Object> newMap) {
+        if (newMap == map) {
+            return this;
+        }
+        return newMap.isEmpty() ? of() : new PersistentHashSet<>(newMap);
+    }
+
+    /**
+     * transient 편집 - 한 스레드에서만 사용, build() 후에도 계속 사용 가능
+     */
+    public static final class Builder<E> {
+        private final PersistentHashMap.Builder<E, Object> map;
+
+        private Builder(PersistentHashMap.Builder<E, Object> map) {
+            this.map = map;
+        }
+
+        public Builder<E> add(E element) {
+            map.put(checkNotNull(element), PRESENT);
+            return this;
+        }
+
+        public Builder<E> addAll(Iterable<? extends E> elements) {
+            for (E element : elements) {
+                add(element);
+            }
+            return this;
+        }
+
+        public Builder<E> remove(Object element) {
+            map.remove(element);
+            return this;
+        }
+
+        public boolean contains(Object element) {
+            return map.get(element) != null;
+        }
+
+        public int size() {
+            return map.size();
+        }
+
+        public PersistentHashSet<E> build() {
+            PersistentHashMap<E, Object> built = map.build();
+            return built.isEmpty() ? of() : new PersistentHashSet<>(built);
+        }
+    }
+}
@@ -0,0 +1,648 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+/**
+ * 영속(persistent) 벡터 - 32 갈래 RRB 트리 (relaxed radix balanced) + tail 버퍼
+ *
+ * ImmutableList 에 원소 하나를 붙이려면 배열 전체를 복사 (O(n))
+ * 여기서는 바뀐 경로의 노드만 새로 만들고 나머지는 이전 버전과 공유
+ * - append: tail (최대 32 개) 에 붙이고, 가득 차면 잎 하나로 트리에 넣음 (대부분 O(1), 가끔 O(log32 n))
+ * - get / with(index, e): O(log32 n)
+ * - concat / subList: 경계의 노드만 다시 만듦 O(log32 n) (배열 복사 없음)
+ *
+ * 노드
+ * - 잎 = Object[] (원소 최대 32 개)
+ * - 내부 노드 = 자식 최대 32 개, 마지막을 뺀 자식이 모두 가득 차 있으면 sizes 없이 비트 연산으로 자식을 찾음 (strict)
+ *   concat / subList 경계처럼 덜 찬 자식이 끼면 누적 크기 배열 sizes 로 찾음 (relaxed)
+ * - concat 은 경계 노드를 합치면서 자식 수가 최적 + 2 를 넘지 않게 재분배 → 높이가 O(log32 n) 로 유지
+ *
+ * ImmutableList 처럼 null 원소는 허용하지 않음 (ImmutableList.copyOf(vector) 가 그대로 동작)
+ * List 의 변경 메서드 (add, set, ...) 는 UnsupportedOperationException → append / with 사용
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    static final int BITS = 5;
+    static final int WIDTH = 1 << BITS;
+    /** concat 재분배에서 허용하는 최적 자식 수 대비 여유 */
+    private static final int EXTRAS = 2;
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+    private static final PersistentVector<Object> EMPTY = new PersistentVector<>(0, null, 0, EMPTY_ARRAY);
+
+    private final int size;
+    /** 트리가 비어 있으면 null */
+    private final Node root;
+    /** root 의 높이 (잎 = 0 이므로 root 가 있으면 1 이상) */
+    private final int height;
+    /** 트리 뒤의 원소 0 ~ 32 개 */
+    private final Object[] tail;
+
+    private PersistentVector(int size, Node root, int height, Object[] tail) {
+        this.size = size;
+        this.root = root;
+        this.height = height;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> of() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <E> PersistentVector<E> of(E... elements) {
+        return fromArray(elements.clone(), elements.length);
+    }
+
+    /**
+     * ImmutableList 등에서 (toArray 한 번 후 잎을 바로 채움, O(n))
+     */
+    public static <E> PersistentVector<E> copyOf(Iterable<? extends E> elements) {
+        if (elements instanceof PersistentVector) {
+            @SuppressWarnings("unchecked")
+            PersistentVector<E> vector = (PersistentVector<E>) elements;
+            return vector;
+        }
+        if (elements instanceof Collection) {
+            Object[] array = ((Collection<?>) elements).toArray();
+            return fromArray(array, array.length);
+        }
+        return PersistentVector.<E>builder().addAll(elements).build();
+    }
+
+    public static <E> Builder<E> builder() {
+        return new Builder<>(WIDTH);
+    }
+
+    public static <E> Builder<E> builderWithExpectedSize(int expectedSize) {
+        checkArgument(expectedSize >= 0, "expectedSize cannot be negative but was: %s", expectedSize);
+        return new Builder<>(expectedSize);
+    }
+
+    public ImmutableList<E> toImmutableList() {
+        return ImmutableList.copyOf(this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkElementIndex(index, size);
+        int treeSize = size - tail.length;
+        if (index >= treeSize) {
+            return (E) tail[index - treeSize];
+        }
+        Object node = root;
+        for (int h = height; h > 0; h--) {
+            Node n = (Node) node;
+            int shift = h * BITS;
+            int child = n.childIndex(shift, index);
+            index -= n.childStart(shift, child);
+            node = n.children[child];
+        }
+        return (E) ((Object[]) node)[index];
+    }
+
+    /**
+     * set 의 영속 버전 - index 의 원소만 바뀐 새 버전
+     */
+    public PersistentVector<E> with(int index, E element) {
+        checkElementIndex(index, size);
+        checkNotNull(element);
+        int treeSize = size - tail.length;
+        if (index >= treeSize) {
+            Object[] newTail = tail.clone();
+            newTail[index - treeSize] = element;
+            return new PersistentVector<>(size, root, height, newTail);
+        }
+        return new PersistentVector<>(size, (Node) withElement(root, height, index, element), height, tail);
+    }
+
+    public PersistentVector<E> append(E element) {
+        checkNotNull(element);
+        if (tail.length < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, root, height, newTail);
+        }
+        return pushTail(new Object[]{element});
+    }
+
+    public PersistentVector<E> appendAll(Iterable<? extends E> elements) {
+        return concat(copyOf(elements));
+    }
+
+    /**
+     * this 뒤에 other 를 이어 붙인 새 버전 - 두 트리의 경계 경로만 다시 만듦
+     */
+    public PersistentVector<E> concat(PersistentVector<? extends E> other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            @SuppressWarnings("unchecked")
+            PersistentVector<E> result = (PersistentVector<E>) other;
+            return result;
+        }
+        if (other.root == null) {
+            return appendTail(other.tail);
+        }
+        PersistentVector<E> left = tail.length == 0 ? this : pushTail(EMPTY_ARRAY);
+        Object[] nodes = concat(left.root, left.height, other.root, other.height);
+        int h = Math.max(left.height, other.height);
+        Node newRoot = nodes.length == 1 ? (Node) nodes[0] : node(nodes, ++h);
+        return new PersistentVector<>(size + other.size, newRoot, h, other.tail);
+    }
+
+    /**
+     * [fromIndex, toIndex) 를 담은 새 벡터 (뷰가 아니라 경계 노드만 잘라 만든 영속 벡터)
+     */
+    @Override
+    public PersistentVector<E> subList(int fromIndex, int toIndex) {
+        checkPositionIndexes(fromIndex, toIndex, size);
+        if (fromIndex == 0 && toIndex == size) {
+            return this;
+        }
+        if (fromIndex == toIndex) {
+            return of();
+        }
+        int treeSize = size - tail.length;
+        if (fromIndex >= treeSize) {
+            return new PersistentVector<>(toIndex - fromIndex, null, 0,
+                    Arrays.copyOfRange(tail, fromIndex - treeSize, toIndex - treeSize));
+        }
+        Object[] newTail = toIndex <= treeSize ? EMPTY_ARRAY : Arrays.copyOfRange(tail, 0, toIndex - treeSize);
+        Object sliced = slice(root, height, fromIndex, Math.min(toIndex, treeSize));
+        int h = height;
+        // 자식이 하나뿐인 루트는 걷어냄 (루트는 높이 1 이상의 노드로 유지)
+        while (h > 1 && ((Node) sliced).children.length == 1) {
+            sliced = ((Node) sliced).children[0];
+            h--;
+        }
+        return new PersistentVector<>(toIndex - fromIndex, (Node) sliced, h, newTail);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new LeafIterator();
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int position = root == null ? 0 : copyTo(root, height, result, 0);
+        System.arraycopy(tail, 0, result, position, tail.length);
+        return result;
+    }
+
+    /**
+     * 현재 tail 을 잎으로 트리에 넣고 newTail 로 바꾼 새 버전
+     */
+    private PersistentVector<E> pushTail(Object[] newTail) {
+        int newSize = size + newTail.length;
+        if (root == null) {
+            return new PersistentVector<>(newSize, new Node(new Object[]{tail}, null, tail.length), 1, newTail);
+        }
+        Node pushed = pushLeaf(root, height, tail);
+        if (pushed != null) {
+            return new PersistentVector<>(newSize, pushed, height, newTail);
+        }
+        Node newRoot = node(new Object[]{root, path(height, tail)}, height + 1);
+        return new PersistentVector<>(newSize, newRoot, height + 1, newTail);
+    }
+
+    /**
+     * 트리가 없는 (원소 32 개 이하) 벡터를 붙일 때 - tail 끼리 합치고 넘치면 잎 하나를 트리로
+     */
+    private PersistentVector<E> appendTail(Object[] more) {
+        Object[] merged = Arrays.copyOf(tail, tail.length + more.length);
+        System.arraycopy(more, 0, merged, tail.length, more.length);
+        if (merged.length <= WIDTH) {
+            return new PersistentVector<>(size + more.length, root, height, merged);
+        }
+        PersistentVector<E> full = new PersistentVector<>(size - tail.length + WIDTH, root, height,
+                Arrays.copyOf(merged, WIDTH));
+        return full.pushTail(Arrays.copyOfRange(merged, WIDTH, merged.length));
+    }
+
+    static <E> PersistentVector<E> fromArray(Object[] elements, int length) {
+        for (int i = 0; i < length; i++) {
+            checkNotNull(elements[i], "at index %s", i);
+        }
+        if (length == 0) {
+            return of();
+        }
+        int tailLength = ((length - 1) & (WIDTH - 1)) + 1;
+        int treeSize = length - tailLength;
+        Object[] tail = Arrays.copyOfRange(elements, treeSize, length);
+        if (treeSize == 0) {
+            return new PersistentVector<>(length, null, 0, tail);
+        }
+        // 가득 찬 잎부터 32 개씩 묶어 올라감 → 모든 노드가 strict
+        Object[] level = new Object[treeSize / WIDTH];
+        for (int i = 0; i < level.length; i++) {
+            level[i] = Arrays.copyOfRange(elements, i * WIDTH, (i + 1) * WIDTH);
+        }
+        int h = 0;
+        do {
+            h++;
+            Object[] parents = new Object[(level.length + WIDTH - 1) / WIDTH];
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = node(Arrays.copyOfRange(level, i * WIDTH, Math.min(level.length, (i + 1) * WIDTH)), h);
+            }
+            level = parents;
+        } while (level.length > 1);
+        return new PersistentVector<>(length, (Node) level[0], h, tail);
+    }
+
+    /**
+     * 내부 노드 - sizes 는 누적 원소 수 (strict 면 null)
+     */
+    static final class Node {
+        final Object[] children;
+        final int[] sizes;
+        final int size;
+
+        Node(Object[] children, int[] sizes, int size) {
+            this.children = children;
+            this.sizes = sizes;
+            this.size = size;
+        }
+
+        /**
+         * 전체 index 를 담은 자식 (shift = 이 노드 높이 * 5)
+         * relaxed 자식은 가득 찬 것보다 작으므로 index >>> shift 는 답 이하 → 거기서부터 앞으로 찾음
+         */
+        int childIndex(int shift, int index) {
+            int guess = shift >= Integer.SIZE ? 0 : index >>> shift;
+            if (sizes == null) {
+                return guess & (WIDTH - 1);
+            }
+            while (sizes[guess] <= index) {
+                guess++;
+            }
+            return guess;
+        }
+
+        int childStart(int shift, int child) {
+            if (child == 0) {
+                return 0;
+            }
+            return sizes == null ? child << shift : sizes[child - 1];
+        }
+
+        /**
+         * strict 노드도 누적 크기 배열로
+         */
+        int[] cumulativeSizes(int h) {
+            if (sizes != null) {
+                return sizes;
+            }
+            int full = (int) capacity(h - 1);
+            int[] result = new int[children.length];
+            for (int i = 0; i < result.length - 1; i++) {
+                result[i] = (i + 1) * full;
+            }
+            result[result.length - 1] = size;
+            return result;
+        }
+    }
+
+    /**
+     * 높이 h 노드가 담을 수 있는 최대 원소 수 (잎 = 32)
+     */
+    static long capacity(int h) {
+        int bits = BITS * (h + 1);
+        return bits >= Long.SIZE - 1 ? Long.MAX_VALUE : 1L << bits;
+    }
+
+    static int sizeOf(Object node, int h) {
+        return h == 0 ? ((Object[]) node).length : ((Node) node).size;
+    }
+
+    /**
+     * 높이 h 노드 - 마지막을 뺀 자식이 모두 가득 차 있으면 strict
+     */
+    static Node node(Object[] children, int h) {
+        long full = capacity(h - 1);
+        int total = 0;
+        boolean strict = true;
+        for (int i = 0; i < children.length; i++) {
+            int childSize = sizeOf(children[i], h - 1);
+            total += childSize;
+            if (i < children.length - 1 && childSize != full) {
+                strict = false;
+            }
+        }
+        if (strict) {
+            return new Node(children, null, total);
+        }
+        int[] sizes = new int[children.length];
+        int sum = 0;
+        for (int i = 0; i < children.length; i++) {
+            sum += sizeOf(children[i], h - 1);
+            sizes[i] = sum;
+        }
+        return new Node(children, sizes, total);
+    }
+
+    /**
+     * 높이 h 까지 자식 하나짜리 노드로 감싼 leaf
+     */
+    private static Object path(int h, Object[] leaf) {
+        Object node = leaf;
+        for (int i = 1; i <= h; i++) {
+            node = new Node(new Object[]{node}, null, leaf.length);
+        }
+        return node;
+    }
+
+    /**
+     * 오른쪽 끝에 잎을 넣은 새 노드 (빈 자리가 없으면 null)
+     */
+    private static Node pushLeaf(Node node, int h, Object[] leaf) {
+        int n = node.children.length;
+        if (h > 1) {
+            Node pushed = pushLeaf((Node) node.children[n - 1], h - 1, leaf);
+            if (pushed != null) {
+                Object[] children = node.children.clone();
+                children[n - 1] = pushed;
+                int[] sizes = node.sizes;
+                if (sizes != null) {
+                    sizes = sizes.clone();
+                    sizes[n - 1] += leaf.length;
+                }
+                return new Node(children, sizes, node.size + leaf.length);
+            }
+        }
+        if (n == WIDTH) {
+            return null;
+        }
+        Object[] children = Arrays.copyOf(node.children, n + 1);
+        children[n] = path(h - 1, leaf);
+        int[] sizes = null;
+        // 덜 찬 자식 뒤에 새 자식이 오면 비트 연산으로 찾을 수 없음 → relaxed
+        if (node.sizes != null || sizeOf(node.children[n - 1], h - 1) != capacity(h - 1)) {
+            sizes = Arrays.copyOf(node.cumulativeSizes(h), n + 1);
+            sizes[n] = node.size + leaf.length;
+        }
+        return new Node(children, sizes, node.size + leaf.length);
+    }
+
+    private static Object withElement(Object node, int h, int index, Object element) {
+        if (h == 0) {
+            Object[] leaf = ((Object[]) node).clone();
+            leaf[index] = element;
+            return leaf;
+        }
+        Node n = (Node) node;
+        int shift = h * BITS;
+        int child = n.childIndex(shift, index);
+        Object[] children = n.children.clone();
+        children[child] = withElement(children[child], h - 1, index - n.childStart(shift, child), element);
+        return new Node(children, n.sizes, n.size);
+    }
+
+    /**
+     * [from, to) 만 남긴 높이 h 노드 (양 끝 자식만 다시 자르고 가운데는 공유)
+     */
+    private static Object slice(Object node, int h, int from, int to) {
+        if (h == 0) {
+            Object[] leaf = (Object[]) node;
+            return from == 0 && to == leaf.length ? leaf : Arrays.copyOfRange(leaf, from, to);
+        }
+        Node n = (Node) node;
+        if (from == 0 && to == n.size) {
+            return n;
+        }
+        int shift = h * BITS;
+        int first = n.childIndex(shift, from);
+        int last = n.childIndex(shift, to - 1);
+        int firstStart = n.childStart(shift, first);
+        Object[] children = Arrays.copyOfRange(n.children, first, last + 1);
+        if (first == last) {
+            children[0] = slice(children[0], h - 1, from - firstStart, to - firstStart);
+        } else {
+            children[0] = slice(children[0], h - 1, from - firstStart, sizeOf(children[0], h - 1));
+            int lastStart = n.childStart(shift, last);
+            children[children.length - 1] = slice(children[children.length - 1], h - 1, 0, to - lastStart);
+        }
+        return node(children, h);
+    }
+
+    /**
+     * 높이 hl 의 left 와 높이 hr 의 right 를 이은 노드들 (높이 max(hl, hr), 1 ~ 3 개)
+     * 높은 쪽의 경계 자식으로 내려가 같은 높이에서 합친 뒤, 올라오며 경계 노드를 재분배
+     */
+    private static Object[] concat(Object left, int hl, Object right, int hr) {
+        if (hl > hr) {
+            Node l = (Node) left;
+            Object[] mid = concat(l.children[l.children.length - 1], hl - 1, right, hr);
+            return rebalance(l, mid, null, hl);
+        }
+        if (hl < hr) {
+            Node r = (Node) right;
+            Object[] mid = concat(left, hl, r.children[0], hr - 1);
+            return rebalance(null, mid, r, hr);
+        }
+        if (hl == 0) {
+            Object[] l = (Object[]) left;
+            Object[] r = (Object[]) right;
+            if (l.length + r.length > WIDTH) {
+                return new Object[]{l, r};
+            }
+            Object[] merged = Arrays.copyOf(l, l.length + r.length);
+            System.arraycopy(r, 0, merged, l.length, r.length);
+            return new Object[]{merged};
+        }
+        Node l = (Node) left;
+        Node r = (Node) right;
+        Object[] mid = concat(l.children[l.children.length - 1], hl - 1, r.children[0], hr - 1);
+        return rebalance(l, mid, r, hl);
+    }
+
+    /**
+     * left 의 마지막 자식 / right 의 첫 자식 자리에 mid 를 넣고 재분배해 높이 h 노드들로 묶음
+     */
+    private static Object[] rebalance(Node left, Object[] mid, Node right, int h) {
+        int leftCount = left == null ? 0 : left.children.length - 1;
+        int rightCount = right == null ? 0 : right.children.length - 1;
+        Object[] all = new Object[leftCount + mid.length + rightCount];
+        if (left != null) {
+            System.arraycopy(left.children, 0, all, 0, leftCount);
+        }
+        System.arraycopy(mid, 0, all, leftCount, mid.length);
+        if (right != null) {
+            System.arraycopy(right.children, 1, all, leftCount + mid.length, rightCount);
+        }
+        all = redistribute(all, h - 1);
+        Object[] nodes = new Object[(all.length + WIDTH - 1) / WIDTH];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = node(Arrays.copyOfRange(all, i * WIDTH, Math.min(all.length, (i + 1) * WIDTH)), h);
+        }
+        return nodes;
+    }
+
+    /**
+     * 높이 h 노드들의 칸 (잎이면 원소, 아니면 자식) 수가 최적 (ceil(전체 / 32)) + EXTRAS 개를 넘으면
+     * 앞에서부터 덜 찬 노드의 칸을 뒤 노드들로 밀어 노드 하나씩 줄임 (Bagwell & Rompf 의 concat 계획)
+     */
+    private static Object[] redistribute(Object[] nodes, int h) {
+        int count = nodes.length;
+        int[] slots = new int[count];
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            slots[i] = h == 0 ? ((Object[]) nodes[i]).length : ((Node) nodes[i]).children.length;
+            total += slots[i];
+        }
+        int optimal = (total + WIDTH - 1) / WIDTH;
+        if (count <= optimal + EXTRAS) {
+            return nodes;
+        }
+        while (count > optimal + EXTRAS) {
+            int i = 0;
+            while (slots[i] >= WIDTH - EXTRAS / 2) {
+                i++;
+            }
+            // 노드 수가 최적 + EXTRAS 를 넘는 동안은 i 뒤에 항상 칸을 받을 노드가 있음
+            int remaining = slots[i];
+            do {
+                int filled = Math.min(remaining + slots[i + 1], WIDTH);
+                slots[i] = filled;
+                remaining = remaining + slots[i + 1] - filled;
+                i++;
+            } while (remaining > 0);
+            System.arraycopy(slots, i + 1, slots, i, count - i - 1);
+            count--;
+        }
+        Object[] flat = new Object[total];
+        int position = 0;
+        for (Object node : nodes) {
+            Object[] contents = h == 0 ? (Object[]) node : ((Node) node).children;
+            System.arraycopy(contents, 0, flat, position, contents.length);
+            position += contents.length;
+        }
+        Object[] result = new Object[count];
+        position = 0;
+        for (int i = 0; i < count; i++) {
+            Object[] contents = Arrays.copyOfRange(flat, position, position + slots[i]);
+            result[i] = h == 0 ? contents : node(contents, h);
+            position += slots[i];
+        }
+        return result;
+    }
+
+    private static int copyTo(Object node, int h, Object[] dest, int position) {
+        if (h == 0) {
+            Object[] leaf = (Object[]) node;
+            System.arraycopy(leaf, 0, dest, position, leaf.length);
+            return position + leaf.length;
+        }
+        for (Object child : ((Node) node).children) {
+            position = copyTo(child, h - 1, dest, position);
+        }
+        return position;
+    }
+
+    /**
+     * 잎 단위로 순회 - 잎을 찾을 때만 트리를 내려감 (원소당 O(1))
+     */
+    private final class LeafIterator implements Iterator<E> {
+        private int index;
+        private Object[] leaf = EMPTY_ARRAY;
+        private int leafStart;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+            if (index - leafStart >= leaf.length) {
+                loadLeaf();
+            }
+            return (E) leaf[index++ - leafStart];
+        }
+
+        private void loadLeaf() {
+            int treeSize = size - tail.length;
+            if (index >= treeSize) {
+                leaf = tail;
+                leafStart = treeSize;
+                return;
+            }
+            Object node = root;
+            int offset = index;
+            for (int h = height; h > 0; h--) {
+                Node n = (Node) node;
+                int shift = h * BITS;
+                int child = n.childIndex(shift, offset);
+                offset -= n.childStart(shift, child);
+                node = n.children[child];
+            }
+            leaf = (Object[]) node;
+            leafStart = index - offset;
+        }
+    }
+
+    /**
+     * 배열에 모았다가 build() 에서 잎을 바로 채움 (build 후에도 계속 사용 가능)
+     */
+    public static final class Builder<E> {
+        private Object[] contents;
+        private int size;
+
+        Builder(int capacity) {
+            this.contents = new Object[capacity];
+        }
+
+        public Builder<E> add(E element) {
+            checkNotNull(element);
+            ensureCapacity(size + 1);
+            contents[size++] = element;
+            return this;
+        }
+
+        public Builder<E> addAll(Iterable<? extends E> elements) {
+            if (elements instanceof Collection) {
+                ensureCapacity(size + ((Collection<?>) elements).size());
+            }
+            for (E element : elements) {
+                add(element);
+            }
+            return this;
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (contents.length < minCapacity) {
+                contents = Arrays.copyOf(contents, Math.max(minCapacity, contents.length + (contents.length >> 1) + 1));
+            }
+        }
+
+        public PersistentVector<E> build() {
+            return fromArray(contents, size);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * ImmutableIntSet / ImmutableIntObjectMap / ImmutableLongLongMap 공용 해시 테이블 도우미
+ *
+ * 테이블은 int[] 하나: 슬롯 = 원소 배열의 (위치 + 1), 0 = 빈 칸
+ * → 원소는 넣은 순서대로 별도 배열에 두고 (ImmutableSet/ImmutableMap 과 같은 순회 순서)
+ *   0 도 일반 값처럼 저장 (빈 칸 표시용 값을 따로 정할 필요 없음)
+ */
+final class PrimitiveTables {
+
+    /** Guava Hashing.smear 와 같은 상수 (murmur3 의 섞기 단계) */
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+    /** Guava ImmutableSet.MAX_TABLE_SIZE 와 같음 (int 로 만들 수 있는 가장 큰 2 의 거듭제곱) */
+    static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private PrimitiveTables() {
+    }
+
+    static int smear(int value) {
+        return C2 * Integer.rotateLeft(value * C1, 15);
+    }
+
+    static int smear(long value) {
+        return smear(Long.hashCode(value));
+    }
+
+    /**
+     * 적재율 0.5 이하인 가장 작은 2 의 거듭제곱 (선형 탐사가 짧고, 빈 칸이 항상 있음)
+     * 슬롯이 int 라 원소당 8 바이트 이하
+     * 원소가 MAX_TABLE_SIZE / 2 를 넘으면 IllegalArgumentException (capacity 가 넘쳐 무한 반복하지 않도록)
+     */
+    static int tableSize(int size) {
+        checkArgument(size <= MAX_TABLE_SIZE >>> 1, "collection too large: %s", size);
+        int capacity = 2;
+        while (capacity >>> 1 < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.collect;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * long 주소로 접근하는 바이트 영역 (ByteBuffer 하나는 int 인덱스라 2 GB 미만)
+ *
+ * 큰 파일은 1 GB 창 여러 개로 매핑하되 창마다 뒤로 overlap 바이트를 더 매핑
+ * → overlap 이하 길이의 읽기/쓰기는 시작 주소가 속한 창 하나 안에서 끝남 (창 경계 분기 없음)
+ * 같은 파일의 겹친 매핑은 페이지 캐시를 공유하므로 한 창에 쓴 내용이 다른 창에서도 보임
+ */
+final class Region {
+
+    static final int WINDOW_SHIFT = 30;
+    static final long WINDOW_SIZE = 1L << WINDOW_SHIFT;
+    private static final long WINDOW_MASK = WINDOW_SIZE - 1;
+
+    private final ByteBuffer[] windows;
+    private final long size;
+
+    private Region(ByteBuffer[] windows, long size) {
+        this.windows = windows;
+        this.size = size;
+    }
+
+    /**
+     * 창 하나 (메모리 빌드 / 2 GB 미만 파일)
+     */
+    static Region of(ByteBuffer buffer) {
+        return new Region(new ByteBuffer[]{buffer}, buffer.capacity());
+    }
+
+    static Region map(FileChannel channel, FileChannel.MapMode mode, long size, int overlap) throws IOException {
+        if (size <= Integer.MAX_VALUE) {
+            return of(channel.map(mode, 0, size));
+        }
+        checkArgument(overlap >= 0 && WINDOW_SIZE + overlap <= Integer.MAX_VALUE, "overlap too large: %s", overlap);
+        ByteBuffer[] windows = new ByteBuffer[(int) ((size + WINDOW_MASK) >>> WINDOW_SHIFT)];
+        for (int i = 0; i < windows.length; i++) {
+            long position = (long) i << WINDOW_SHIFT;
+            windows[i] = channel.map(mode, position, Math.min(WINDOW_SIZE + overlap, size - position));
+        }
+        return new Region(windows, size);
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * address 가 속한 창 (windows.length == 1 이면 항상 0 번)
+     */
+    ByteBuffer window(long address) {
+        return windows.length == 1 ? windows[0] : windows[(int) (address >>> WINDOW_SHIFT)];
+    }
+
+    /**
+     * window(address) 안에서의 위치
+     */
+    int offset(long address) {
+        return windows.length == 1 ? (int) address : (int) (address & WINDOW_MASK);
+    }
+
+    int getInt(long address) {
+        return window(address).getInt(offset(address));
+    }
+
+    long getLong(long address) {
+        return window(address).getLong(offset(address));
+    }
+
+    void putInt(long address, int value) {
+        window(address).putInt(offset(address), value);
+    }
+
+    void putLong(long address, long value) {
+        window(address).putLong(offset(address), value);
+    }
+
+    /**
+     * source 의 [from, to) 를 address 에 복사 (source 의 position 은 그대로)
+     */
+    void put(long address, ByteBuffer source, int from, int to) {
+        ByteBuffer target = window(address).duplicate();
+        target.position(offset(address));
+        ByteBuffer slice = source.duplicate();
+        slice.limit(to).position(from);
+        target.put(slice);
+    }
+
+    /**
+     * address 의 length 바이트가 bytes[from, from + length) 와 같은지 (8 바이트씩 비교)
+     */
+    boolean contentEquals(long address, ByteBuffer bytes, int from, int length) {
+        ByteBuffer window = window(address);
+        int at = offset(address);
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            if (window.getLong(at + i) != bytes.getLong(from + i)) {
+                return false;
+            }
+        }
+        for (; i < length; i++) {
+            if (window.get(at + i) != bytes.get(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 파일 매핑이면 디스크에 반영
+     */
+    void force() {
+        for (ByteBuffer window : windows) {
+            if (window instanceof MappedByteBuffer) {
+                ((MappedByteBuffer) window).force();
+            }
+        }
+    }
+}
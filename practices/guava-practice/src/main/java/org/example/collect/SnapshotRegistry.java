@@ -0,0 +1,237 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 런타임에 바뀌는 설정용 버전 스냅샷 레지스트리
+ *
+ * "volatile ImmutableMap 필드 + 바뀔 때마다 copyOf" 는 읽기는 동기화가 필요 없지만 쓰기가 O(n)
+ * 여기서는
+ * - 현재 스냅샷을 AtomicReference 에 두고 CAS 로 교체 (락 없음, 읽기는 get() 한 번)
+ * - 스냅샷의 맵은 PersistentHashMap → put/remove 가 O(log32 n), 이전 스냅샷과 노드 공유
+ * - submit() 으로 모은 변경은 flush() 한 번에 한 버전으로 반영 (같은 키는 마지막 값만)
+ *   coalescing(scheduler, window) 로 만들면 첫 submit 후 window 가 지나면 자동 flush
+ *   flush 끼리는 락으로 차례로 (읽기 / put 은 그대로 락 없음)
+ * - ImmutableMap 이 필요한 쪽은 Snapshot.toImmutableMap() → 버전당 한 번만 만들고 캐시
+ *
+ * 읽는 쪽은 snapshot() 을 한 번 잡아 두면 그동안 다른 스레드가 바꿔도 같은 내용을 봄
+ */
+public final class SnapshotRegistry<K, V> {
+
+    /** submit 대기 중인 삭제 표시 */
+    private static final Object REMOVED = new Object();
+
+    /**
+     * 한 버전의 내용 (불변)
+     */
+    public static final class Snapshot<K, V> {
+        private final long version;
+        private final PersistentHashMap<K, V> map;
+        private volatile ImmutableMap<K, V> immutable;
+
+        Snapshot(long version, PersistentHashMap<K, V> map) {
+            this.version = version;
+            this.map = map;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public PersistentHashMap<K, V> map() {
+            return map;
+        }
+
+        public V get(Object key) {
+            return map.get(key);
+        }
+
+        public int size() {
+            return map.size();
+        }
+
+        /**
+         * 이 버전의 ImmutableMap (처음 부를 때 한 번 O(n), 동시에 불리면 둘 다 만들어도 내용은 같음)
+         */
+        public ImmutableMap<K, V> toImmutableMap() {
+            ImmutableMap<K, V> result = immutable;
+            if (result == null) {
+                result = ImmutableMap.copyOf(map);
+                immutable = result;
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "v" + version + " " + map;
+        }
+    }
+
+    private final AtomicReference<Snapshot<K, V>> current;
+    private final ConcurrentHashMap<K, Object> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final long windowNanos;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    /** flush 는 한 번에 하나만 (꺼내기 + 반영) */
+    private final Object flushLock = new Object();
+
+    private SnapshotRegistry(PersistentHashMap<K, V> initial, ScheduledExecutorService scheduler, long windowNanos) {
+        this.current = new AtomicReference<>(new Snapshot<>(0, initial));
+        this.scheduler = scheduler;
+        this.windowNanos = windowNanos;
+    }
+
+    public static <K, V> SnapshotRegistry<K, V> create() {
+        return new SnapshotRegistry<>(PersistentHashMap.of(), null, 0);
+    }
+
+    public static <K, V> SnapshotRegistry<K, V> create(Map<? extends K, ? extends V> initial) {
+        return new SnapshotRegistry<>(PersistentHashMap.copyOf(initial), null, 0);
+    }
+
+    /**
+     * submit 후 window 안에 들어온 변경을 scheduler 에서 한 번에 flush
+     */
+    public static <K, V> SnapshotRegistry<K, V> coalescing(Map<? extends K, ? extends V> initial,
+                                                           ScheduledExecutorService scheduler, Duration window) {
+        checkNotNull(scheduler);
+        checkArgument(!window.isNegative(), "negative window: %s", window);
+        return new SnapshotRegistry<>(PersistentHashMap.copyOf(initial), scheduler, window.toNanos());
+    }
+
+    public Snapshot<K, V> snapshot() {
+        return current.get();
+    }
+
+    /**
+     * 현재 스냅샷에서 조회 (flush 되지 않은 submit 은 보이지 않음)
+     */
+    public V get(Object key) {
+        return current.get().get(key);
+    }
+
+    public long version() {
+        return current.get().version();
+    }
+
+    public Snapshot<K, V> put(K key, V value) {
+        checkNotNull(key);
+        checkNotNull(value);
+        return update(map -> map.with(key, value));
+    }
+
+    public Snapshot<K, V> remove(Object key) {
+        return update(map -> map.without(key));
+    }
+
+    /**
+     * 여러 변경을 한 버전으로 (edit 는 CAS 실패 시 새 스냅샷으로 다시 호출되므로 부수 효과 없이)
+     * 내용이 그대로면 버전도 그대로
+     */
+    public Snapshot<K, V> update(UnaryOperator<PersistentHashMap<K, V>> edit) {
+        while (true) {
+            Snapshot<K, V> before = current.get();
+            PersistentHashMap<K, V> map = checkNotNull(edit.apply(before.map));
+            if (map == before.map) {
+                return before;
+            }
+            Snapshot<K, V> after = new Snapshot<>(before.version + 1, map);
+            if (current.compareAndSet(before, after)) {
+                return after;
+            }
+        }
+    }
+
+    /**
+     * 나중에 flush 할 변경 (같은 키는 마지막 submit 만 남음)
+     */
+    public void submit(K key, V value) {
+        pending.put(checkNotNull(key), checkNotNull(value));
+        scheduleFlush();
+    }
+
+    public void submitRemoval(K key) {
+        pending.put(checkNotNull(key), REMOVED);
+        scheduleFlush();
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 대기 중인 변경을 한 버전으로 반영 (없으면 현재 스냅샷 그대로)
+     *
+     * 동시에 두 번 불리면 (여러 스레드 scheduler, 예약된 flush 중 직접 호출) 차례로
+     * 겹치면 먼저 꺼낸 v1 이 나중에 꺼낸 v2 보다 늦게 CAS 에 성공해 v2 를 덮어쓸 수 있음
+     */
+    public Snapshot<K, V> flush() {
+        synchronized (flushLock) {
+            return drainAndApply();
+        }
+    }
+
+    private Snapshot<K, V> drainAndApply() {
+        List<Map.Entry<K, Object>> drained = new ArrayList<>(pending.size());
+        for (Map.Entry<K, Object> entry : pending.entrySet()) {
+            // 꺼내는 사이 같은 키가 다시 submit 됐으면 그 값은 다음 flush 로
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                drained.add(entry);
+            }
+        }
+        if (drained.isEmpty()) {
+            return current.get();
+        }
+        // transient 빌더로 한 번에 (CAS 실패 시 새 스냅샷에서 빌더부터 다시)
+        return update(map -> {
+            PersistentHashMap.Builder<K, V> builder = map.toBuilder();
+            for (Map.Entry<K, Object> entry : drained) {
+                if (entry.getValue() == REMOVED) {
+                    builder.remove(entry.getKey());
+                } else {
+                    builder.put(entry.getKey(), value(entry));
+                }
+            }
+            return builder.build();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V value(Map.Entry<?, Object> entry) {
+        return (V) entry.getValue();
+    }
+
+    /**
+     * scheduler 가 거부하면 (RejectedExecutionException 등) 예약 표시를 풀고 그대로 던짐
+     * → 변경은 pending 에 남고 다음 submit 이 다시 예약 (또는 직접 flush)
+     */
+    private void scheduleFlush() {
+        if (scheduler != null && flushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.schedule(() -> {
+                    // flush 전에 풀어야 flush 중에 들어온 submit 이 다음 flush 를 예약함
+                    flushScheduled.set(false);
+                    flush();
+                }, windowNanos, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                flushScheduled.set(false);
+                throw e;
+            }
+        }
+    }
+}
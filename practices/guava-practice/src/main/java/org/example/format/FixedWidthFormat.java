@@ -0,0 +1,339 @@
+package org.example.format;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * 고정 폭 레코드 포맷 - String.format("%s:%s:%s", Strings.padStart(...), ...) 대체
+ *
+ * String.format + padStart 는 한 줄마다 패딩된 String 여러 개, varargs 배열, Formatter 를 만듦
+ * FixedWidthFormat 은 레이아웃을 한 번 컴파일해 두고
+ * - 필드 위치/폭이 고정이므로 Line 의 char[] 에 리터럴은 처음 한 번만 기록
+ * - 레코드마다 필드 자리만 덮어씀: 숫자는 자릿수를 뒤에서부터 직접, 텍스트는 getChars 로
+ * → 레코드당 할당 0 (Line 은 스레드마다 하나를 재사용)
+ *
+ * 폭을 넘는 값: 숫자는 잘라낼 수 없으므로 IllegalArgumentException, 텍스트는 폭에서 자름 (열 정렬 유지)
+ * 출력: chars() 그대로 / appendTo(StringBuilder) / writeTo(ByteBuffer) - UTF-8
+ */
+public final class FixedWidthFormat {
+
+    private static final byte NUMBER = 0;
+    private static final byte LEFT = 1;
+    private static final byte RIGHT = 2;
+
+    /** 리터럴과 필드 패딩이 채워진 한 줄 */
+    private final char[] template;
+    private final int[] starts;
+    private final int[] widths;
+    private final byte[] kinds;
+    private final char[] pads;
+
+    private FixedWidthFormat(char[] template, int[] starts, int[] widths, byte[] kinds, char[] pads) {
+        this.template = template;
+        this.starts = starts;
+        this.widths = widths;
+        this.kinds = kinds;
+        this.pads = pads;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** 한 줄의 문자 수 */
+    public int width() {
+        return template.length;
+    }
+
+    public int fieldCount() {
+        return starts.length;
+    }
+
+    /**
+     * 재사용할 줄 버퍼 (스레드 안전하지 않음 - 스레드마다 하나)
+     */
+    public Line newLine() {
+        return new Line(this);
+    }
+
+    public static final class Builder {
+        private final StringBuilder template = new StringBuilder();
+        private final List<int[]> fields = new ArrayList<>();
+        private final StringBuilder pads = new StringBuilder();
+
+        private Builder() {
+        }
+
+        public Builder literal(String text) {
+            template.append(checkNotNull(text));
+            return this;
+        }
+
+        public Builder literal(char c) {
+            template.append(c);
+            return this;
+        }
+
+        /**
+         * 0 으로 채운 오른쪽 정렬 숫자 (String.format("%0{width}d") 와 같음, 음수는 맨 앞에 '-')
+         */
+        public Builder number(int width) {
+            return field(NUMBER, width, '0');
+        }
+
+        /**
+         * pad 로 채운 오른쪽 정렬 숫자 ('-' 는 숫자 바로 앞)
+         */
+        public Builder number(int width, char pad) {
+            return field(NUMBER, width, pad);
+        }
+
+        /** 왼쪽 정렬 텍스트, 오른쪽을 공백으로 */
+        public Builder left(int width) {
+            return field(LEFT, width, ' ');
+        }
+
+        public Builder left(int width, char pad) {
+            return field(LEFT, width, pad);
+        }
+
+        /** 오른쪽 정렬 텍스트 (Strings.padStart) */
+        public Builder right(int width) {
+            return field(RIGHT, width, ' ');
+        }
+
+        public Builder right(int width, char pad) {
+            return field(RIGHT, width, pad);
+        }
+
+        private Builder field(byte kind, int width, char pad) {
+            checkArgument(width > 0, "width must be positive: %s", width);
+            fields.add(new int[]{template.length(), width, kind});
+            pads.append(pad);
+            for (int i = 0; i < width; i++) {
+                template.append(pad);
+            }
+            return this;
+        }
+
+        public FixedWidthFormat build() {
+            int n = fields.size();
+            int[] starts = new int[n];
+            int[] widths = new int[n];
+            byte[] kinds = new byte[n];
+            for (int i = 0; i < n; i++) {
+                int[] field = fields.get(i);
+                starts[i] = field[0];
+                widths[i] = field[1];
+                kinds[i] = (byte) field[2];
+            }
+            return new FixedWidthFormat(template.toString().toCharArray(), starts, widths, kinds,
+                    pads.toString().toCharArray());
+        }
+    }
+
+    /**
+     * 필드를 순서대로 put 한 뒤 출력 - 출력하면 다음 레코드를 위해 첫 필드로 돌아감
+     * 모든 필드를 채우기 전에 출력하면 IllegalStateException (이전 레코드 값이 섞이지 않도록)
+     */
+    public static final class Line {
+        private static final long[] POWERS_OF_TEN = new long[19];
+
+        static {
+            POWERS_OF_TEN[0] = 1;
+            for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+                POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+            }
+        }
+
+        private final FixedWidthFormat format;
+        private final char[] chars;
+        private int field;
+
+        private Line(FixedWidthFormat format) {
+            this.format = format;
+            this.chars = format.template.clone();
+        }
+
+        /**
+         * 숫자 필드 (int 는 long 으로 넓혀짐)
+         */
+        public Line put(long value) {
+            int f = nextField(NUMBER);
+            int start = format.starts[f];
+            int width = format.widths[f];
+            char pad = format.pads[f];
+            boolean negative = value < 0;
+            int digits = digits(value);
+            int length = negative ? digits + 1 : digits;
+            checkArgument(length <= width, "value %s does not fit width %s", value, width);
+
+            // 음수 그대로 나누면 MIN_VALUE 도 처리됨, int 범위면 int 나눗셈 (long 나눗셈보다 훨씬 빠름)
+            int end = start + width;
+            if (value == (int) value) {
+                int q = negative ? (int) value : (int) -value;
+                for (int i = end - 1; i >= end - digits; i--) {
+                    int next = q / 10;
+                    chars[i] = (char) ('0' + next * 10 - q);
+                    q = next;
+                }
+            } else {
+                long q = negative ? value : -value;
+                for (int i = end - 1; i >= end - digits; i--) {
+                    long next = q / 10;
+                    chars[i] = (char) ('0' + next * 10 - q);
+                    q = next;
+                }
+            }
+            int padEnd = end - length;
+            if (negative && pad == '0') {
+                chars[start] = '-';
+                fill(start + 1, end - digits, '0');
+            } else {
+                fill(start, padEnd, pad);
+                if (negative) {
+                    chars[padEnd] = '-';
+                }
+            }
+            field++;
+            return this;
+        }
+
+        /**
+         * 텍스트 필드 - null 은 "null", 폭보다 길면 앞에서부터 폭만큼
+         */
+        public Line put(CharSequence text) {
+            CharSequence value = text == null ? "null" : text;
+            int f = nextField(LEFT);
+            int start = format.starts[f];
+            int width = format.widths[f];
+            int length = Math.min(value.length(), width);
+            int textStart = format.kinds[f] == LEFT ? start : start + width - length;
+            if (value instanceof String) {
+                ((String) value).getChars(0, length, chars, textStart);
+            } else if (value instanceof StringBuilder) {
+                ((StringBuilder) value).getChars(0, length, chars, textStart);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    chars[textStart + i] = value.charAt(i);
+                }
+            }
+            char pad = format.pads[f];
+            if (format.kinds[f] == LEFT) {
+                fill(start + length, start + width, pad);
+            } else {
+                fill(start, textStart, pad);
+            }
+            field++;
+            return this;
+        }
+
+        /**
+         * 한 글자 텍스트 필드 (없으면 char 가 long 으로 넓혀져 숫자 필드로 감)
+         */
+        public Line put(char c) {
+            int f = nextField(LEFT);
+            int start = format.starts[f];
+            int end = start + format.widths[f];
+            char pad = format.pads[f];
+            if (format.kinds[f] == LEFT) {
+                chars[start] = c;
+                fill(start + 1, end, pad);
+            } else {
+                fill(start, end - 1, pad);
+                chars[end - 1] = c;
+            }
+            field++;
+            return this;
+        }
+
+        /**
+         * 완성된 줄의 내부 배열 (복사 없음 - 다음 put 에서 바뀜)
+         */
+        public char[] chars() {
+            finish();
+            return chars;
+        }
+
+        public StringBuilder appendTo(StringBuilder builder) {
+            finish();
+            return builder.append(chars, 0, chars.length);
+        }
+
+        /**
+         * UTF-8 로 기록 (ASCII 는 문자당 1 바이트, 짝 없는 surrogate 는 '?')
+         * 남은 공간이 모자라면 BufferOverflowException - 그때 버퍼 위치는 정해지지 않음
+         */
+        public ByteBuffer writeTo(ByteBuffer buffer) {
+            finish();
+            int n = chars.length;
+            for (int i = 0; i < n; i++) {
+                char c = chars[i];
+                if (c < 0x80) {
+                    buffer.put((byte) c);
+                } else if (c < 0x800) {
+                    buffer.put((byte) (0xC0 | (c >> 6)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(chars[i + 1])) {
+                    int codePoint = Character.toCodePoint(c, chars[++i]);
+                    buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                } else if (Character.isSurrogate(c)) {
+                    buffer.put((byte) '?');
+                } else {
+                    buffer.put((byte) (0xE0 | (c >> 12)));
+                    buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+            return buffer;
+        }
+
+        /**
+         * 지금 버퍼 내용 (디버깅용 - 필드 순서를 되돌리지 않음)
+         */
+        @Override
+        public String toString() {
+            return new String(chars);
+        }
+
+        private int nextField(byte kind) {
+            int f = field;
+            checkState(f < format.starts.length, "all %s fields already set", format.starts.length);
+            boolean number = format.kinds[f] == NUMBER;
+            checkArgument(number == (kind == NUMBER), "field %s is a %s field", f, number ? "number" : "text");
+            return f;
+        }
+
+        private void finish() {
+            checkState(field == format.starts.length, "%s of %s fields set", field, format.starts.length);
+            field = 0;
+        }
+
+        private void fill(int from, int to, char c) {
+            for (int i = from; i < to; i++) {
+                chars[i] = c;
+            }
+        }
+
+        /** 부호를 뺀 10 진 자릿수 */
+        private static int digits(long value) {
+            if (value == Long.MIN_VALUE) {
+                return 19;
+            }
+            long abs = Math.abs(value);
+            int digits = 1;
+            while (digits < POWERS_OF_TEN.length && abs >= POWERS_OF_TEN[digits]) {
+                digits++;
+            }
+            return digits;
+        }
+    }
+}
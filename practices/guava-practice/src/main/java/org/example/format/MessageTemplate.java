@@ -0,0 +1,457 @@
+package org.example.format;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 미리 컴파일한 %s 메시지 템플릿 - Strings.lenientFormat 과 같은 결과
+ *
+ * lenientFormat 은 호출마다 템플릿에서 "%s" 를 indexOf 로 찾고, 인자는 Object... (배열 + 박싱)
+ * MessageTemplate 은 템플릿을 한 번 조각 (literal) 배열로 나눠 두고
+ * - 조각과 인자를 대상 Appendable 에 바로 씀 (StringBuilder 면 primitive 도 문자열 없이 append)
+ * - 인자 1 ~ 2 개는 long / char / Object 조합 오버로드 (Checks 와 같은 규칙 - int 는 long 으로, char 는 문자로)
+ *   double 등 나머지 primitive 와 primitive 를 섞으면 (Object, long) / (Object, Object) 가 모호 → (Object) 로 캐스팅
+ * - 인자가 모두 String 인 format 은 결과 길이를 미리 계산해 딱 맞는 버퍼 하나 (늘리며 복사하지 않음)
+ *
+ * 인자 수가 자리표시 수와 다를 때도 lenientFormat 과 같음
+ * - 모자라면 남은 "%s" 그대로, 남으면 뒤에 " [a, b]"
+ * - toString 이 예외를 던지면 "&lt;클래스@해시 threw 예외클래스&gt;" 로 쓰고 경고 로그
+ * 불변이라 스레드 간 공유 가능 (static final 상수로)
+ */
+public final class MessageTemplate {
+
+    private static final Logger logger = Logger.getLogger(MessageTemplate.class.getName());
+
+    /** 자리표시 사이 조각 - placeholders + 1 개 */
+    private final String[] literals;
+    private final int placeholders;
+    /** 조각 길이 합 */
+    private final int literalLength;
+
+    private MessageTemplate(String[] literals) {
+        this.literals = literals;
+        this.placeholders = literals.length - 1;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static MessageTemplate compile(String template) {
+        checkNotNull(template);
+        List<String> literals = new ArrayList<>();
+        int start = 0;
+        for (int index = template.indexOf("%s"); index != -1; index = template.indexOf("%s", start)) {
+            literals.add(template.substring(start, index));
+            start = index + 2;
+        }
+        literals.add(template.substring(start));
+        return new MessageTemplate(literals.toArray(new String[0]));
+    }
+
+    public int placeholderCount() {
+        return placeholders;
+    }
+
+    // === format ===
+
+    /**
+     * 인자가 모두 String 이면 결과 길이가 정확히 정해짐 → 한 번에 맞는 크기로
+     */
+    public String format(String p1) {
+        if (placeholders != 1) {
+            return format(new Object[]{p1});
+        }
+        String s1 = String.valueOf(p1);
+        StringBuilder builder = new StringBuilder(literalLength + s1.length());
+        return builder.append(literals[0]).append(s1).append(literals[1]).toString();
+    }
+
+    public String format(String p1, String p2) {
+        if (placeholders != 2) {
+            return format(new Object[]{p1, p2});
+        }
+        String s1 = String.valueOf(p1);
+        String s2 = String.valueOf(p2);
+        StringBuilder builder = new StringBuilder(literalLength + s1.length() + s2.length());
+        return builder.append(literals[0]).append(s1).append(literals[1]).append(s2).append(literals[2]).toString();
+    }
+
+    public String format(String p1, String p2, String p3) {
+        if (placeholders != 3) {
+            return format(new Object[]{p1, p2, p3});
+        }
+        String s1 = String.valueOf(p1);
+        String s2 = String.valueOf(p2);
+        String s3 = String.valueOf(p3);
+        StringBuilder builder = new StringBuilder(literalLength + s1.length() + s2.length() + s3.length());
+        return builder.append(literals[0]).append(s1).append(literals[1]).append(s2).append(literals[2])
+                .append(s3).append(literals[3]).toString();
+    }
+
+    public String format(long p1) {
+        StringBuilder builder = new StringBuilder(literalLength + 16);
+        try {
+            appendTo(builder, p1);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    public String format(char p1) {
+        StringBuilder builder = new StringBuilder(literalLength + 16);
+        try {
+            appendTo(builder, p1);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    public String format(Object p1) {
+        StringBuilder builder = new StringBuilder(literalLength + 16);
+        try {
+            appendTo(builder, p1);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    public String format(long p1, long p2) {
+        StringBuilder builder = new StringBuilder(literalLength + 32);
+        try {
+            appendTo(builder, p1, p2);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    public String format(long p1, char p2) {
+        StringBuilder builder = new StringBuilder(literalLength + 32);
+        try {
+            appendTo(builder, p1, p2);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    public String format(long p1, Object p2) {
+        StringBuilder builder = new StringBuilder(literalLength + 32);
+        try {
+            appendTo(builder, p1, p2);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    public String format(char p1, long p2) {
+        StringBuilder builder = new StringBuilder(literalLength + 32);
+        try {
+            appendTo(builder, p1, p2);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    public String format(char p1, char p2) {
+        StringBuilder builder = new StringBuilder(literalLength + 32);
+        try {
+            appendTo(builder, p1, p2);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    public String format(char p1, Object p2) {
+        StringBuilder builder = new StringBuilder(literalLength + 32);
+        try {
+            appendTo(builder, p1, p2);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    public String format(Object p1, long p2) {
+        StringBuilder builder = new StringBuilder(literalLength + 32);
+        try {
+            appendTo(builder, p1, p2);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    public String format(Object p1, char p2) {
+        StringBuilder builder = new StringBuilder(literalLength + 32);
+        try {
+            appendTo(builder, p1, p2);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    public String format(Object p1, Object p2) {
+        StringBuilder builder = new StringBuilder(literalLength + 32);
+        try {
+            appendTo(builder, p1, p2);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    public String format(Object p1, Object p2, Object p3) {
+        StringBuilder builder = new StringBuilder(literalLength + 48);
+        try {
+            appendTo(builder, p1, p2, p3);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 인자 3 개 이상의 일반 경로 (args 배열이 null 이면 lenientFormat 처럼 "(Object[])null" 하나)
+     */
+    public String format(Object... args) {
+        StringBuilder builder = new StringBuilder(literalLength + 16 * (args == null ? 1 : args.length));
+        try {
+            appendTo(builder, args);
+        } catch (IOException impossible) {
+            throw new AssertionError(impossible);
+        }
+        return builder.toString();
+    }
+
+    // === appendTo ===
+
+    public <A extends Appendable> A appendTo(A out, long p1) throws IOException {
+        if (placeholders != 1) {
+            return appendTo(out, new Object[]{p1});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, char p1) throws IOException {
+        if (placeholders != 1) {
+            return appendTo(out, new Object[]{p1});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, Object p1) throws IOException {
+        if (placeholders != 1) {
+            return appendTo(out, new Object[]{p1});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, long p1, long p2) throws IOException {
+        if (placeholders != 2) {
+            return appendTo(out, new Object[]{p1, p2});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        put(out, p2);
+        out.append(literals[2]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, long p1, char p2) throws IOException {
+        if (placeholders != 2) {
+            return appendTo(out, new Object[]{p1, p2});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        put(out, p2);
+        out.append(literals[2]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, long p1, Object p2) throws IOException {
+        if (placeholders != 2) {
+            return appendTo(out, new Object[]{p1, p2});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        put(out, p2);
+        out.append(literals[2]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, char p1, long p2) throws IOException {
+        if (placeholders != 2) {
+            return appendTo(out, new Object[]{p1, p2});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        put(out, p2);
+        out.append(literals[2]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, char p1, char p2) throws IOException {
+        if (placeholders != 2) {
+            return appendTo(out, new Object[]{p1, p2});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        put(out, p2);
+        out.append(literals[2]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, char p1, Object p2) throws IOException {
+        if (placeholders != 2) {
+            return appendTo(out, new Object[]{p1, p2});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        put(out, p2);
+        out.append(literals[2]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, Object p1, long p2) throws IOException {
+        if (placeholders != 2) {
+            return appendTo(out, new Object[]{p1, p2});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        put(out, p2);
+        out.append(literals[2]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, Object p1, char p2) throws IOException {
+        if (placeholders != 2) {
+            return appendTo(out, new Object[]{p1, p2});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        put(out, p2);
+        out.append(literals[2]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, Object p1, Object p2) throws IOException {
+        if (placeholders != 2) {
+            return appendTo(out, new Object[]{p1, p2});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        put(out, p2);
+        out.append(literals[2]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, Object p1, Object p2, Object p3) throws IOException {
+        if (placeholders != 3) {
+            return appendTo(out, new Object[]{p1, p2, p3});
+        }
+        out.append(literals[0]);
+        put(out, p1);
+        out.append(literals[1]);
+        put(out, p2);
+        out.append(literals[2]);
+        put(out, p3);
+        out.append(literals[3]);
+        return out;
+    }
+
+    public <A extends Appendable> A appendTo(A out, Object... args) throws IOException {
+        checkNotNull(out);
+        Object[] values = args == null ? new Object[]{"(Object[])null"} : args;
+        int used = Math.min(placeholders, values.length);
+        for (int i = 0; i < used; i++) {
+            out.append(literals[i]);
+            put(out, values[i]);
+        }
+        // 인자가 모자라면 남은 자리표시는 그대로
+        for (int i = used; i < placeholders; i++) {
+            out.append(literals[i]).append("%s");
+        }
+        out.append(literals[placeholders]);
+        if (used < values.length) {
+            out.append(" [");
+            put(out, values[used]);
+            for (int i = used + 1; i < values.length; i++) {
+                out.append(", ");
+                put(out, values[i]);
+            }
+            out.append(']');
+        }
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return String.join("%s", literals);
+    }
+
+    private static void put(Appendable out, long value) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            out.append(Long.toString(value));
+        }
+    }
+
+    private static void put(Appendable out, char value) throws IOException {
+        out.append(value);
+    }
+
+    private static void put(Appendable out, Object value) throws IOException {
+        out.append(value instanceof String ? (String) value : lenientToString(value));
+    }
+
+    /**
+     * Strings.lenientFormat 과 같은 규칙 (Guava 에서는 private)
+     */
+    private static String lenientToString(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        try {
+            return value.toString();
+        } catch (Exception e) {
+            String objectToString =
+                    value.getClass().getName() + '@' + Integer.toHexString(System.identityHashCode(value));
+            logger.log(Level.WARNING, "Exception during format for " + objectToString, e);
+            return "<" + objectToString + " threw " + e.getClass().getName() + ">";
+        }
+    }
+}
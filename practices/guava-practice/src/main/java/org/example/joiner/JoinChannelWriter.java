@@ -0,0 +1,204 @@
+package org.example.joiner;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * SizedJoiner 결과를 UTF-8 로 채널에 바로 쓰는 writer
+ *
+ * 기존 방식: join() → String → getBytes() → byte[] → 채널 (줄마다 세 번 복사)
+ * JoinChannelWriter: 원소 → 재사용 ByteBuffer 로 바로 인코딩 → 채널 (복사 한 번)
+ *
+ * back-pressure: 버퍼가 가득 차면 채널에 다 쓸 때까지 write() 가 반환되지 않음
+ * - GatheringByteChannel 이면 버퍼 여러 개를 채운 뒤 write(ByteBuffer[]) 한 번으로 내보냄 (시스템 콜 감소)
+ * - 블로킹 채널 전제: 논블로킹 SelectableChannel 은 IllegalArgumentException, 나중에 논블로킹으로 바꿔
+ *   write 가 0 을 돌려주면 바쁜 대기 대신 IllegalStateException
+ *   (논블로킹 채널은 SizedJoiner.appendTo(ByteBuffer) 의 false 로 직접 흐름 제어)
+ * - 채널 write 가 예외를 던지면 못 쓴 바이트는 버퍼에 남음 → 다시 flush() 하면 이어서 씀
+ * - 레코드 하나는 버퍼 경계를 넘지 않음 (버퍼보다 큰 레코드만 byte[] 로 한 번 인코딩해서 바로 씀)
+ * - 길이 계산/인코딩 상태를 writer 가 재사용 → 레코드당 할당 0 (한 스레드 전용)
+ */
+public final class JoinChannelWriter implements Flushable, Closeable {
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer[] buffers;
+    private final SizedJoiner.Utf8Counter counter = new SizedJoiner.Utf8Counter();
+    private final SizedJoiner.ByteBufferSink sink = new SizedJoiner.ByteBufferSink();
+    private int current;
+    private long bytesWritten;
+    private int channelWrites;
+
+    private JoinChannelWriter(WritableByteChannel channel, ByteBuffer[] buffers) {
+        this.channel = channel;
+        this.buffers = buffers;
+    }
+
+    /**
+     * 다이렉트 버퍼 하나 (채널 write 시 힙 → 네이티브 복사가 없음)
+     */
+    public static JoinChannelWriter to(WritableByteChannel channel, int bufferSize) {
+        checkBlocking(channel);
+        checkArgument(bufferSize > 0, "must be greater than zero: %s", bufferSize);
+        return new JoinChannelWriter(channel, new ByteBuffer[]{ByteBuffer.allocateDirect(bufferSize)});
+    }
+
+    /**
+     * bufferCount 개의 버퍼를 모두 채운 뒤 gathering write 한 번으로 내보냄
+     */
+    public static JoinChannelWriter to(GatheringByteChannel channel, int bufferSize, int bufferCount) {
+        checkBlocking(channel);
+        checkArgument(bufferSize > 0, "must be greater than zero: %s", bufferSize);
+        checkArgument(bufferCount > 0, "must be greater than zero: %s", bufferCount);
+        ByteBuffer[] buffers = new ByteBuffer[bufferCount];
+        for (int i = 0; i < bufferCount; i++) {
+            buffers[i] = ByteBuffer.allocateDirect(bufferSize);
+        }
+        return new JoinChannelWriter(channel, buffers);
+    }
+
+    private static void checkBlocking(WritableByteChannel channel) {
+        checkNotNull(channel);
+        checkArgument(!(channel instanceof SelectableChannel) || ((SelectableChannel) channel).isBlocking(),
+                "channel must be in blocking mode: %s", channel);
+    }
+
+    public JoinChannelWriter write(SizedJoiner joiner, Iterable<? extends CharSequence> parts) throws IOException {
+        checkNotNull(joiner);
+        // 다시 시도할 수 있도록 한 번만 순회 가능한 Iterable 은 여기서 List 로
+        List<? extends CharSequence> list = SizedJoiner.asList(parts);
+        while (!joiner.appendTo(buffers[current], list, counter, sink)) {
+            if (!nextBuffer()) {
+                writeDirect(joiner.joinToUtf8(list));
+                break;
+            }
+        }
+        return this;
+    }
+
+    public JoinChannelWriter write(SizedJoiner.MapJoiner joiner,
+                                   Map<? extends CharSequence, ? extends CharSequence> map) throws IOException {
+        checkNotNull(joiner);
+        while (!joiner.appendTo(buffers[current], map, counter, sink)) {
+            if (!nextBuffer()) {
+                writeDirect(joiner.joinToUtf8(map));
+                break;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 구분자 없이 문자열 하나 (줄바꿈 등)
+     */
+    public JoinChannelWriter write(CharSequence text) throws IOException {
+        checkNotNull(text);
+        while (!SizedJoiner.appendTo(buffers[current], text, counter, sink)) {
+            if (!nextBuffer()) {
+                writeDirect(text.toString().getBytes(StandardCharsets.UTF_8));
+                break;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 다음 빈 버퍼로 이동, 모두 차 있으면 내보낸 뒤 첫 버퍼로
+     * 빈 버퍼에도 안 들어가는 레코드면 false
+     */
+    private boolean nextBuffer() throws IOException {
+        if (buffers[current].position() == 0) {
+            return false;
+        }
+        if (current + 1 < buffers.length) {
+            current++;
+        } else {
+            flush();
+        }
+        return true;
+    }
+
+    private void writeDirect(byte[] bytes) throws IOException {
+        flush();
+        ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+        while (wrapped.hasRemaining()) {
+            written(channel.write(wrapped));
+        }
+    }
+
+    /**
+     * 채워진 버퍼를 전부 채널로 (블로킹 채널이면 다 쓸 때까지 대기)
+     * 중간에 예외가 나면 못 쓴 바이트를 버퍼 앞으로 당겨 둠 (다시 호출하면 빠짐 / 중복 없이 이어서)
+     */
+    @Override
+    public void flush() throws IOException {
+        int used = current + 1;
+        long pending = 0;
+        for (int i = 0; i < used; i++) {
+            pending += buffers[i].flip().remaining();
+        }
+        try {
+            if (channel instanceof GatheringByteChannel && used > 1) {
+                GatheringByteChannel gathering = (GatheringByteChannel) channel;
+                while (pending > 0) {
+                    pending -= written(gathering.write(buffers, 0, used));
+                }
+            } else {
+                for (int i = 0; i < used; i++) {
+                    while (buffers[i].hasRemaining()) {
+                        written(channel.write(buffers[i]));
+                    }
+                }
+            }
+        } finally {
+            // 다 썼으면 clear 와 같음
+            for (int i = 0; i < used; i++) {
+                buffers[i].compact();
+            }
+        }
+        current = 0;
+    }
+
+    private long written(long written) {
+        checkState(written > 0 || !(channel instanceof SelectableChannel)
+                        || ((SelectableChannel) channel).isBlocking(),
+                "channel switched to non-blocking mode: %s", channel);
+        bytesWritten += written;
+        channelWrites++;
+        return written;
+    }
+
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * 채널 write 호출 횟수 (gathering 효과 확인용)
+     */
+    public int channelWrites() {
+        return channelWrites;
+    }
+
+    /**
+     * 남은 내용을 내보내고 채널을 닫음
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,560 @@
+package org.example.joiner;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 출력 길이를 먼저 정확히 계산하고 한 번에 쓰는 Joiner (CharSequence 전용)
+ *
+ * Joiner.join 은 기본 크기 StringBuilder 에 append → 길이가 넘칠 때마다 배열 확장 + 복사
+ * 게다가 원소마다 toString() 호출 (String 이 아닌 CharSequence 는 복사본 생성)
+ * SizedJoiner 는
+ * 1. 길이 계산: 원소 길이 + 구분자 길이 (UTF-8 이면 인코딩 후 바이트 수)
+ * 2. 정확한 크기의 char[] / byte[] / StringBuilder 에 한 번에 기록
+ * → 확장 0 회, 원소별 toString 0 회
+ * appendTo(ByteBuffer) 는 호출자 버퍼에 바로 UTF-8 인코딩 (채널 출력은 JoinChannelWriter)
+ *
+ * 두 번 순회해야 하므로 RandomAccess List / 배열은 그대로, 그 외 Iterable 은 참조만 한 번 복사
+ * skipNulls / useForNull / withKeyValueSeparator 의미는 Joiner 와 동일
+ */
+public final class SizedJoiner {
+
+    private final String separator;
+    private final String nullText;
+    private final boolean skipNulls;
+
+    private SizedJoiner(String separator, String nullText, boolean skipNulls) {
+        this.separator = separator;
+        this.nullText = nullText;
+        this.skipNulls = skipNulls;
+    }
+
+    public static SizedJoiner on(String separator) {
+        return new SizedJoiner(checkNotNull(separator), null, false);
+    }
+
+    public static SizedJoiner on(char separator) {
+        return new SizedJoiner(String.valueOf(separator), null, false);
+    }
+
+    public SizedJoiner skipNulls() {
+        if (nullText != null) {
+            throw new UnsupportedOperationException("already specified useForNull");
+        }
+        return new SizedJoiner(separator, null, true);
+    }
+
+    public SizedJoiner useForNull(String nullText) {
+        checkNotNull(nullText);
+        if (skipNulls) {
+            throw new UnsupportedOperationException("already specified skipNulls");
+        }
+        if (this.nullText != null) {
+            throw new UnsupportedOperationException("already specified useForNull");
+        }
+        return new SizedJoiner(separator, nullText, false);
+    }
+
+    public MapJoiner withKeyValueSeparator(String keyValueSeparator) {
+        if (skipNulls) {
+            throw new UnsupportedOperationException("can't use .skipNulls() with maps");
+        }
+        return new MapJoiner(this, checkNotNull(keyValueSeparator));
+    }
+
+    public MapJoiner withKeyValueSeparator(char keyValueSeparator) {
+        return withKeyValueSeparator(String.valueOf(keyValueSeparator));
+    }
+
+    // === join ===
+
+    public String join(Iterable<? extends CharSequence> parts) {
+        return join(asList(parts));
+    }
+
+    public String join(CharSequence... parts) {
+        return join(Arrays.asList(parts));
+    }
+
+    /**
+     * String 결과는 정확한 용량의 StringBuilder 로 작성
+     * (char[] → new String 은 Latin-1 문자열도 UTF-16 으로 늘렸다가 다시 압축하므로 더 느림)
+     */
+    private String join(List<? extends CharSequence> parts) {
+        CharCounter counter = new CharCounter();
+        write(parts, counter);
+        BuilderSink sink = new BuilderSink(new StringBuilder(counter.length));
+        write(parts, sink);
+        return sink.builder.toString();
+    }
+
+    public char[] joinToChars(Iterable<? extends CharSequence> parts) {
+        return joinToChars(asList(parts));
+    }
+
+    public char[] joinToChars(CharSequence... parts) {
+        return joinToChars(Arrays.asList(parts));
+    }
+
+    private char[] joinToChars(List<? extends CharSequence> parts) {
+        CharCounter counter = new CharCounter();
+        write(parts, counter);
+        CharArraySink sink = new CharArraySink(new char[counter.length]);
+        write(parts, sink);
+        return sink.chars;
+    }
+
+    /**
+     * String.join(...).getBytes(UTF_8) 와 같은 결과 (짝 없는 surrogate 는 '?')
+     */
+    public byte[] joinToUtf8(Iterable<? extends CharSequence> parts) {
+        return joinToUtf8(asList(parts));
+    }
+
+    public byte[] joinToUtf8(CharSequence... parts) {
+        return joinToUtf8(Arrays.asList(parts));
+    }
+
+    private byte[] joinToUtf8(List<? extends CharSequence> parts) {
+        Utf8Counter counter = new Utf8Counter();
+        write(parts, counter);
+        counter.finish();
+        Utf8Sink sink = new Utf8Sink(new byte[counter.length], 0, counter.ascii);
+        write(parts, sink);
+        sink.finish();
+        return sink.bytes;
+    }
+
+    /**
+     * target 에 UTF-8 로 바로 인코딩 (중간 String / byte[] 없음)
+     *
+     * 길이를 먼저 알기 때문에 전부 쓰거나 아무것도 안 씀
+     * → 공간이 모자라면 false, 호출자가 버퍼를 비운 뒤 다시 시도 (back-pressure)
+     */
+    public boolean appendTo(ByteBuffer target, Iterable<? extends CharSequence> parts) {
+        checkNotNull(target);
+        List<? extends CharSequence> list = asList(parts);
+        if (!target.hasArray()) {
+            return appendTo(target, list, new Utf8Counter(), new ByteBufferSink());
+        }
+        Utf8Counter counter = new Utf8Counter();
+        write(list, counter);
+        counter.finish();
+        if (counter.length > target.remaining()) {
+            return false;
+        }
+        Utf8Sink sink = new Utf8Sink(target.array(), target.arrayOffset() + target.position(), counter.ascii);
+        write(list, sink);
+        sink.finish();
+        target.position(target.position() + counter.length);
+        return true;
+    }
+
+    /**
+     * 다이렉트 버퍼용, 카운터/싱크를 호출자가 재사용 (JoinChannelWriter - 레코드당 할당 0)
+     */
+    boolean appendTo(ByteBuffer target, List<? extends CharSequence> parts, Utf8Counter counter, ByteBufferSink sink) {
+        write(parts, counter.reset());
+        counter.finish();
+        if (counter.length > target.remaining()) {
+            return false;
+        }
+        write(parts, sink.reset(target));
+        sink.finish();
+        return true;
+    }
+
+    /**
+     * 구분자 없이 문자열 하나 (줄바꿈 등)
+     */
+    static boolean appendTo(ByteBuffer target, CharSequence text, Utf8Counter counter, ByteBufferSink sink) {
+        counter.reset().append(text);
+        counter.finish();
+        if (counter.length > target.remaining()) {
+            return false;
+        }
+        sink.reset(target).append(text);
+        sink.finish();
+        return true;
+    }
+
+    private void write(List<? extends CharSequence> parts, Sink sink) {
+        boolean first = true;
+        for (int i = 0, size = parts.size(); i < size; i++) {
+            CharSequence part = parts.get(i);
+            if (part == null && skipNulls) {
+                continue;
+            }
+            if (!first) {
+                sink.append(separator);
+            }
+            sink.append(nullText(part));
+            first = false;
+        }
+    }
+
+    private CharSequence nullText(CharSequence part) {
+        return (part != null) ? part : checkNotNull(nullText);
+    }
+
+    static List<? extends CharSequence> asList(Iterable<? extends CharSequence> parts) {
+        checkNotNull(parts);
+        if (parts instanceof List && parts instanceof RandomAccess) {
+            return (List<? extends CharSequence>) parts;
+        }
+        if (parts instanceof Collection) {
+            return new ArrayList<>((Collection<? extends CharSequence>) parts);
+        }
+        List<CharSequence> copy = new ArrayList<>();
+        for (CharSequence part : parts) {
+            copy.add(part);
+        }
+        return copy;
+    }
+
+    /**
+     * Joiner.MapJoiner 대응 - 키/값의 null 은 useForNull 로만 허용
+     */
+    public static final class MapJoiner {
+        private final SizedJoiner joiner;
+        private final String keyValueSeparator;
+
+        private MapJoiner(SizedJoiner joiner, String keyValueSeparator) {
+            this.joiner = joiner;
+            this.keyValueSeparator = keyValueSeparator;
+        }
+
+        public String join(Map<? extends CharSequence, ? extends CharSequence> map) {
+            CharCounter counter = new CharCounter();
+            write(map, counter);
+            BuilderSink sink = new BuilderSink(new StringBuilder(counter.length));
+            write(map, sink);
+            return sink.builder.toString();
+        }
+
+        public char[] joinToChars(Map<? extends CharSequence, ? extends CharSequence> map) {
+            CharCounter counter = new CharCounter();
+            write(map, counter);
+            CharArraySink sink = new CharArraySink(new char[counter.length]);
+            write(map, sink);
+            return sink.chars;
+        }
+
+        public byte[] joinToUtf8(Map<? extends CharSequence, ? extends CharSequence> map) {
+            Utf8Counter counter = new Utf8Counter();
+            write(map, counter);
+            counter.finish();
+            Utf8Sink sink = new Utf8Sink(new byte[counter.length], 0, counter.ascii);
+            write(map, sink);
+            sink.finish();
+            return sink.bytes;
+        }
+
+        /**
+         * SizedJoiner.appendTo(ByteBuffer, Iterable) 와 같은 규칙 (전부 쓰거나 false)
+         */
+        public boolean appendTo(ByteBuffer target, Map<? extends CharSequence, ? extends CharSequence> map) {
+            checkNotNull(target);
+            if (!target.hasArray()) {
+                return appendTo(target, map, new Utf8Counter(), new ByteBufferSink());
+            }
+            Utf8Counter counter = new Utf8Counter();
+            write(map, counter);
+            counter.finish();
+            if (counter.length > target.remaining()) {
+                return false;
+            }
+            Utf8Sink sink = new Utf8Sink(target.array(), target.arrayOffset() + target.position(), counter.ascii);
+            write(map, sink);
+            sink.finish();
+            target.position(target.position() + counter.length);
+            return true;
+        }
+
+        boolean appendTo(ByteBuffer target, Map<? extends CharSequence, ? extends CharSequence> map,
+                         Utf8Counter counter, ByteBufferSink sink) {
+            write(map, counter.reset());
+            counter.finish();
+            if (counter.length > target.remaining()) {
+                return false;
+            }
+            write(map, sink.reset(target));
+            sink.finish();
+            return true;
+        }
+
+        private void write(Map<? extends CharSequence, ? extends CharSequence> map, Sink sink) {
+            boolean first = true;
+            for (Map.Entry<? extends CharSequence, ? extends CharSequence> entry : map.entrySet()) {
+                if (!first) {
+                    sink.append(joiner.separator);
+                }
+                sink.append(joiner.nullText(entry.getKey()));
+                sink.append(keyValueSeparator);
+                sink.append(joiner.nullText(entry.getValue()));
+                first = false;
+            }
+        }
+    }
+
+    // === 길이 계산 / 기록 대상 ===
+
+    abstract static class Sink {
+        abstract void append(CharSequence part);
+    }
+
+    private static final class CharCounter extends Sink {
+        int length;
+
+        @Override
+        void append(CharSequence part) {
+            length = Math.addExact(length, part.length());
+        }
+    }
+
+    private static final class CharArraySink extends Sink {
+        final char[] chars;
+        int position;
+
+        CharArraySink(char[] chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        void append(CharSequence part) {
+            int length = part.length();
+            if (part instanceof String) {
+                ((String) part).getChars(0, length, chars, position);
+            } else if (part instanceof StringBuilder) {
+                ((StringBuilder) part).getChars(0, length, chars, position);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    chars[position + i] = part.charAt(i);
+                }
+            }
+            position += length;
+        }
+    }
+
+    private static final class BuilderSink extends Sink {
+        final StringBuilder builder;
+
+        BuilderSink(StringBuilder builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        void append(CharSequence part) {
+            builder.append(part);
+        }
+    }
+
+    /**
+     * UTF-8 인코딩 상태 - surrogate 쌍이 원소 경계에 걸쳐도 이어서 처리
+     * ASCII 구간은 가상 호출 없이 바로 처리 (로그/식별자는 대부분 ASCII)
+     */
+    abstract static class Utf8Encoder extends Sink {
+        private char pendingHigh;
+
+        @Override
+        final void append(CharSequence part) {
+            int length = part.length();
+            int i = (pendingHigh == 0) ? asciiPrefix(part, length) : 0;
+            for (; i < length; i++) {
+                char c = part.charAt(i);
+                if (pendingHigh != 0) {
+                    char high = pendingHigh;
+                    pendingHigh = 0;
+                    if (Character.isLowSurrogate(c)) {
+                        put4(Character.toCodePoint(high, c));
+                        continue;
+                    }
+                    put1('?');
+                }
+                if (c < 0x80) {
+                    put1(c);
+                } else if (c < 0x800) {
+                    put2(c);
+                } else if (Character.isHighSurrogate(c)) {
+                    pendingHigh = c;
+                } else if (Character.isLowSurrogate(c)) {
+                    put1('?');
+                } else {
+                    put3(c);
+                }
+            }
+        }
+
+        final void finish() {
+            if (pendingHigh != 0) {
+                pendingHigh = 0;
+                put1('?');
+            }
+        }
+
+        /** 앞쪽 ASCII 구간을 처리하고 그 길이를 반환 */
+        abstract int asciiPrefix(CharSequence part, int length);
+
+        abstract void put1(int c);
+
+        abstract void put2(int c);
+
+        abstract void put3(int c);
+
+        abstract void put4(int codePoint);
+    }
+
+    static final class Utf8Counter extends Utf8Encoder {
+        int length;
+        boolean ascii = true;
+
+        Utf8Counter reset() {
+            length = 0;
+            ascii = true;
+            return this;
+        }
+
+        @Override
+        int asciiPrefix(CharSequence part, int length) {
+            int i = 0;
+            while (i < length && part.charAt(i) < 0x80) {
+                i++;
+            }
+            this.length += i;
+            if (i < length) {
+                ascii = false;
+            }
+            return i;
+        }
+
+        @Override
+        void put1(int c) {
+            length++;
+        }
+
+        @Override
+        void put2(int c) {
+            length += 2;
+        }
+
+        @Override
+        void put3(int c) {
+            length += 3;
+        }
+
+        @Override
+        void put4(int codePoint) {
+            length += 4;
+        }
+    }
+
+    private static final class Utf8Sink extends Utf8Encoder {
+        final byte[] bytes;
+        /** 길이 계산 단계에서 전부 ASCII 였으면 String 은 바이트 복사로 끝냄 */
+        private final boolean ascii;
+        int position;
+
+        Utf8Sink(byte[] bytes, int position, boolean ascii) {
+            this.bytes = bytes;
+            this.position = position;
+            this.ascii = ascii;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        int asciiPrefix(CharSequence part, int length) {
+            if (ascii && part instanceof String) {
+                // 하위 8비트만 복사하는 deprecated API - ASCII 임이 확인됐으므로 정확함 (Latin-1 String 은 arraycopy)
+                ((String) part).getBytes(0, length, bytes, position);
+                position += length;
+                return length;
+            }
+            int i = 0;
+            char c;
+            while (i < length && (c = part.charAt(i)) < 0x80) {
+                bytes[position++] = (byte) c;
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        void put1(int c) {
+            bytes[position++] = (byte) c;
+        }
+
+        @Override
+        void put2(int c) {
+            bytes[position++] = (byte) (0xC0 | (c >> 6));
+            bytes[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+
+        @Override
+        void put3(int c) {
+            bytes[position++] = (byte) (0xE0 | (c >> 12));
+            bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+
+        @Override
+        void put4(int codePoint) {
+            bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+            bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    static final class ByteBufferSink extends Utf8Encoder {
+        private ByteBuffer buffer;
+
+        ByteBufferSink reset(ByteBuffer buffer) {
+            this.buffer = buffer;
+            return this;
+        }
+
+        @Override
+        int asciiPrefix(CharSequence part, int length) {
+            int i = 0;
+            char c;
+            while (i < length && (c = part.charAt(i)) < 0x80) {
+                buffer.put((byte) c);
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        void put1(int c) {
+            buffer.put((byte) c);
+        }
+
+        @Override
+        void put2(int c) {
+            buffer.put((byte) (0xC0 | (c >> 6)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        }
+
+        @Override
+        void put3(int c) {
+            buffer.put((byte) (0xE0 | (c >> 12)));
+            buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        }
+
+        @Override
+        void put4(int codePoint) {
+            buffer.put((byte) (0xF0 | (codePoint >> 18)));
+            buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+            buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+        }
+    }
+}
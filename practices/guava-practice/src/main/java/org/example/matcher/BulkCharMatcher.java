@@ -0,0 +1,290 @@
+package org.example.matcher;
+
+import com.google.common.base.CharMatcher;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndex;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+/**
+ * 대용량 입력용 CharMatcher - 한 글자씩이 아니라 블록 단위로 매칭
+ *
+ * CharMatcher.removeFrom / countIn 등은 matches(char) 를 글자마다 호출
+ * BulkCharMatcher 는 집합을 "문자 범위 목록" 으로 바꿔 두고 BulkEngine 에 블록 단위로 넘김
+ * - VectorEngine (Java 17+, jdk.incubator.vector): 레인 수(16~32)만큼 한 번에 비교
+ * - ScalarEngine: 그 외 환경 (Java 11, --add-modules 없음) 의 대체 구현
+ *
+ * 집합 표현
+ * - 범위 MAX_RANGES 개 이하: 범위 목록이 곧 정확한 판정 (벡터로 끝남)
+ * - 그보다 복잡한 집합: 64K 비트 테이블 조회 (어느 엔진이든 글자 단위)
+ *   벡터 사전 필터도 시도했지만 invisible() 처럼 공백이 들어간 집합은 후보 블록이 많아 scalar 보다 느렸음
+ *
+ * 결과는 같은 집합의 CharMatcher 와 동일 (BulkCharMatcherTest 로 검증)
+ */
+public final class BulkCharMatcher {
+
+    /** 벡터 판정 비용이 범위 수에 비례하므로 이보다 많으면 비트 테이블로 */
+    static final int MAX_RANGES = 8;
+
+    /** String 입력을 char[] 로 나눠 복사할 때의 블록 크기 */
+    private static final int CHUNK = 4096;
+    private static final int TRIM_CHUNK = 256;
+
+    final char[] lows;
+    final char[] highs;
+    /** 정확한 판정용 비트 테이블 (범위로 충분하면 null) */
+    final long[] bits;
+    /** 벡터 엔진용: lows 와 (high - low) ^ 0x8000 (부호 없는 비교를 부호 있는 비교로 바꾸기 위한 바이어스) */
+    final short[] vectorLows;
+    final short[] vectorWidths;
+    private final String description;
+    private final BulkEngine engine;
+
+    private BulkCharMatcher(char[] lows, char[] highs, long[] bits, String description, BulkEngine engine) {
+        this.lows = lows;
+        this.highs = highs;
+        this.bits = bits;
+        this.description = description;
+        this.engine = engine;
+        this.vectorLows = new short[lows.length];
+        this.vectorWidths = new short[lows.length];
+        for (int i = 0; i < lows.length; i++) {
+            vectorLows[i] = (short) lows[i];
+            vectorWidths[i] = (short) ((highs[i] - lows[i]) ^ 0x8000);
+        }
+    }
+
+    public static BulkCharMatcher inRange(char startInclusive, char endInclusive) {
+        checkArgument(endInclusive >= startInclusive, "end < start: %s < %s", (int) endInclusive, (int) startInclusive);
+        return new BulkCharMatcher(new char[]{startInclusive}, new char[]{endInclusive}, null,
+                "BulkCharMatcher.inRange(" + (int) startInclusive + ", " + (int) endInclusive + ")", BulkEngines.DEFAULT);
+    }
+
+    public static BulkCharMatcher anyOf(CharSequence sequence) {
+        char[] chars = sequence.toString().toCharArray();
+        Arrays.sort(chars);
+        long[] table = new long[CharTables.TABLE_LONGS];
+        for (char c : chars) {
+            table[c >>> 6] |= 1L << c;
+        }
+        return fromTable(table, "BulkCharMatcher.anyOf(\"" + sequence + "\")");
+    }
+
+    /**
+     * 임의의 CharMatcher (and/or/negate 조합 포함) 를 65,536 글자 전부 평가해서 변환
+     * CharMatcher.precomputed() 와 같은 비용을 한 번만 치름
+     */
+    public static BulkCharMatcher precomputed(CharMatcher matcher) {
+        checkNotNull(matcher);
+        long[] table = CharTables.evaluate(matcher);
+        return fromTable(table, "BulkCharMatcher.precomputed(" + matcher + ")");
+    }
+
+    private static BulkCharMatcher fromTable(long[] table, String description) {
+        List<char[]> ranges = CharTables.ranges(table, 0);
+        if (ranges.size() <= MAX_RANGES) {
+            char[] lows = new char[ranges.size()];
+            char[] highs = new char[ranges.size()];
+            for (int i = 0; i < lows.length; i++) {
+                lows[i] = ranges.get(i)[0];
+                highs[i] = ranges.get(i)[1];
+            }
+            return new BulkCharMatcher(lows, highs, null, description, BulkEngines.DEFAULT);
+        }
+        // 비트 테이블 매처의 범위는 [최소, 최대] 하나 (빈 집합 판정용)
+        char min = ranges.get(0)[0];
+        char max = ranges.get(ranges.size() - 1)[1];
+        return new BulkCharMatcher(new char[]{min}, new char[]{max}, table, description, BulkEngines.DEFAULT);
+    }
+
+    /**
+     * 테스트/벤치마크용: 엔진을 지정한 사본
+     */
+    BulkCharMatcher using(BulkEngine engine) {
+        return new BulkCharMatcher(lows, highs, bits, description, checkNotNull(engine));
+    }
+
+    /**
+     * 실제로 쓰이는 엔진 ("vector(16 lanes)" / "scalar")
+     */
+    public String engine() {
+        return engine.name();
+    }
+
+    public boolean matches(char c) {
+        if (bits != null) {
+            return (bits[c >>> 6] & (1L << c)) != 0;
+        }
+        for (int i = 0; i < lows.length; i++) {
+            if ((char) (c - lows[i]) <= (char) (highs[i] - lows[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 범위 목록만으로 정확히 판정 가능한지 (false 면 범위는 사전 필터)
+     */
+    boolean isExact() {
+        return bits == null;
+    }
+
+    // === 검색 / 세기 ===
+
+    public int indexIn(CharSequence sequence) {
+        return indexIn(sequence, 0);
+    }
+
+    public int indexIn(CharSequence sequence, int start) {
+        int length = sequence.length();
+        checkPositionIndex(start, length);
+        if (lows.length == 0) {
+            return -1;
+        }
+        char[] chunk = new char[Math.min(CHUNK, length - start)];
+        for (int from = start; from < length; from += chunk.length) {
+            int n = copy(sequence, from, Math.min(length, from + chunk.length), chunk);
+            int found = engine.nextMatch(this, chunk, 0, n);
+            if (found < n) {
+                return from + found;
+            }
+        }
+        return -1;
+    }
+
+    public int indexIn(char[] chars, int from, int to) {
+        checkPositionIndexes(from, to, chars.length);
+        if (lows.length == 0) {
+            return -1;
+        }
+        int found = engine.nextMatch(this, chars, from, to);
+        return (found < to) ? found : -1;
+    }
+
+    public int countIn(CharSequence sequence) {
+        int length = sequence.length();
+        if (lows.length == 0 || length == 0) {
+            return 0;
+        }
+        char[] chunk = new char[Math.min(CHUNK, length)];
+        int count = 0;
+        for (int from = 0; from < length; from += chunk.length) {
+            int n = copy(sequence, from, Math.min(length, from + chunk.length), chunk);
+            count += engine.count(this, chunk, 0, n);
+        }
+        return count;
+    }
+
+    public int countIn(char[] chars, int from, int to) {
+        checkPositionIndexes(from, to, chars.length);
+        return (lows.length == 0) ? 0 : engine.count(this, chars, from, to);
+    }
+
+    // === 변환 ===
+
+    public String removeFrom(CharSequence sequence) {
+        return compact(sequence, true);
+    }
+
+    public String retainFrom(CharSequence sequence) {
+        return compact(sequence, false);
+    }
+
+    /**
+     * 매칭(remove) 또는 비매칭(retain) 글자를 지우고 나머지 구간을 arraycopy 로 당김
+     * 지울 글자가 드문 입력에서는 복사가 긴 구간 단위가 됨
+     */
+    private String compact(CharSequence sequence, boolean removeMatches) {
+        String string = sequence.toString();
+        if (lows.length == 0) {
+            return removeMatches ? string : "";
+        }
+        char[] chars = string.toCharArray();
+        int length = chars.length;
+        int write = drop(chars, 0, length, removeMatches);
+        if (write == length) {
+            return string;
+        }
+        int read = write;
+        while (read < length) {
+            int keepStart = keep(chars, read, length, removeMatches);
+            if (keepStart == length) {
+                break;
+            }
+            int keepEnd = drop(chars, keepStart, length, removeMatches);
+            System.arraycopy(chars, keepStart, chars, write, keepEnd - keepStart);
+            write += keepEnd - keepStart;
+            read = keepEnd;
+        }
+        return new String(chars, 0, write);
+    }
+
+    /** from 이후 첫 번째 "지울" 글자 */
+    private int drop(char[] chars, int from, int to, boolean removeMatches) {
+        return removeMatches ? engine.nextMatch(this, chars, from, to) : engine.nextNonMatch(this, chars, from, to);
+    }
+
+    /** from 이후 첫 번째 "남길" 글자 */
+    private int keep(char[] chars, int from, int to, boolean removeMatches) {
+        return removeMatches ? engine.nextNonMatch(this, chars, from, to) : engine.nextMatch(this, chars, from, to);
+    }
+
+    /**
+     * 앞뒤의 매칭 글자 제거 - 양 끝에서 작은 블록씩만 복사해서 검사 (본문 전체를 복사하지 않음)
+     */
+    public String trimFrom(CharSequence sequence) {
+        int length = sequence.length();
+        if (lows.length == 0) {
+            return sequence.toString();
+        }
+        char[] chunk = new char[Math.min(TRIM_CHUNK, Math.max(length, 1))];
+
+        int first = length;
+        for (int from = 0; from < length; from += chunk.length) {
+            int n = copy(sequence, from, Math.min(length, from + chunk.length), chunk);
+            int found = engine.nextNonMatch(this, chunk, 0, n);
+            if (found < n) {
+                first = from + found;
+                break;
+            }
+        }
+        if (first == length) {
+            return "";
+        }
+
+        int last = first;
+        for (int to = length; to > first; to -= chunk.length) {
+            int from = Math.max(first, to - chunk.length);
+            int n = copy(sequence, from, to, chunk);
+            int found = engine.lastNonMatch(this, chunk, 0, n);
+            if (found >= 0) {
+                last = from + found;
+                break;
+            }
+        }
+        return sequence.subSequence(first, last + 1).toString();
+    }
+
+    private static int copy(CharSequence sequence, int from, int to, char[] dst) {
+        if (sequence instanceof String) {
+            ((String) sequence).getChars(from, to, dst, 0);
+        } else if (sequence instanceof StringBuilder) {
+            ((StringBuilder) sequence).getChars(from, to, dst, 0);
+        } else {
+            for (int i = from; i < to; i++) {
+                dst[i - from] = sequence.charAt(i);
+            }
+        }
+        return to - from;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
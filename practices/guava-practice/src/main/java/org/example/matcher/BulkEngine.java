@@ -0,0 +1,19 @@
+package org.example.matcher;
+
+/**
+ * char[] 구간 [from, to) 에 대한 블록 단위 매칭 연산
+ *
+ * 검색 결과가 없으면 next* 는 to, lastNonMatch 는 from - 1 을 반환
+ */
+interface BulkEngine {
+
+    int nextMatch(BulkCharMatcher matcher, char[] chars, int from, int to);
+
+    int nextNonMatch(BulkCharMatcher matcher, char[] chars, int from, int to);
+
+    int lastNonMatch(BulkCharMatcher matcher, char[] chars, int from, int to);
+
+    int count(BulkCharMatcher matcher, char[] chars, int from, int to);
+
+    String name();
+}
@@ -0,0 +1,37 @@
+package org.example.matcher;
+
+/**
+ * 실행 환경에 맞는 엔진 선택
+ *
+ * VectorEngine 은 멀티 릴리즈 jar 의 META-INF/versions/17 에만 있음
+ * → Java 11 이거나, --add-modules jdk.incubator.vector 없이 실행하면 클래스 로딩이 실패하고 ScalarEngine 사용
+ * -Dorg.example.matcher.vector=false 로 강제로 끌 수 있음
+ */
+final class BulkEngines {
+
+    static final BulkEngine DEFAULT = select();
+
+    private BulkEngines() {
+    }
+
+    private static BulkEngine select() {
+        if (!Boolean.parseBoolean(System.getProperty("org.example.matcher.vector", "true"))) {
+            return ScalarEngine.INSTANCE;
+        }
+        BulkEngine vector = vector();
+        return (vector != null) ? vector : ScalarEngine.INSTANCE;
+    }
+
+    /**
+     * 벡터 엔진, 쓸 수 없으면 null
+     */
+    static BulkEngine vector() {
+        try {
+            return (BulkEngine) Class.forName("org.example.matcher.VectorEngine")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.matcher;
+
+import com.google.common.base.CharMatcher;
+import org.example.matcher.CompiledCharMatcher.AsciiMask;
+import org.example.matcher.CompiledCharMatcher.BlockTable;
+import org.example.matcher.CompiledCharMatcher.RangeTable;
+import org.example.matcher.CompiledCharMatcher.SmallHash;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * CharMatcher 조합 트리를 표 하나로 평탄화
+ *
+ * CharMatcher.javaLetterOrDigit().or(anyOf("-_.")) 같은 조합은 글자마다 Or → 각 매처로 가상 호출
+ * precomputed() 는 트리를 없애 주지만 큰 집합은 항상 8 KB BitSet
+ *
+ * compile() 은 65,536 글자를 한 번 평가한 뒤 가장 작은 표현을 고름
+ * - ASCII 는 항상 128 비트 마스크
+ * - ASCII 밖: 없음 / 범위 표 (범위 MAX_SEARCH_RANGES 개 이하) / 작은 해시 (글자 MAX_HASH_MEMBERS 개 이하) / 블록 표
+ *   후보 중 memoryBytes() 가 가장 작은 것, 같으면 Strategy 선언 순서
+ *
+ * 고른 전략과 크기는 strategy() / memoryBytes() 로 확인 → precomputed() 를 부를지 추측하지 않아도 됨
+ */
+public final class CharMatcherCompiler {
+
+    /** 이진 탐색 단계 수 (log2) 를 6 이하로 */
+    static final int MAX_SEARCH_RANGES = 64;
+    /** Guava SmallCharMatcher 보다 보수적으로 - 탐사 길이를 짧게 유지 */
+    static final int MAX_HASH_MEMBERS = 64;
+
+    private CharMatcherCompiler() {
+    }
+
+    public static CompiledCharMatcher compile(CharMatcher matcher) {
+        checkNotNull(matcher);
+        if (matcher instanceof CompiledCharMatcher) {
+            return (CompiledCharMatcher) matcher;
+        }
+        long[] table = CharTables.evaluate(matcher);
+        String description = "CharMatcherCompiler.compile(" + matcher + ")";
+
+        int members = CharTables.count(table, 128);
+        if (members == 0) {
+            return new AsciiMask(table, description);
+        }
+        List<char[]> ranges = CharTables.ranges(table, 128);
+        long[] blocks = uniqueBlocks(table);
+        byte[] index = blockIndex(table, blocks);
+        int uniqueBlocks = blocks.length / BlockTable.LONGS_PER_BLOCK;
+
+        long best = BlockTable.memoryBytes(uniqueBlocks);
+        CompiledCharMatcher.Strategy strategy = CompiledCharMatcher.Strategy.BLOCK_TABLE;
+        if (members <= MAX_HASH_MEMBERS && SmallHash.memoryBytes(members) <= best) {
+            best = SmallHash.memoryBytes(members);
+            strategy = CompiledCharMatcher.Strategy.SMALL_HASH;
+        }
+        if (ranges.size() <= MAX_SEARCH_RANGES && RangeTable.memoryBytes(ranges.size()) <= best) {
+            strategy = CompiledCharMatcher.Strategy.RANGE_TABLE;
+        }
+
+        switch (strategy) {
+            case RANGE_TABLE:
+                char[] lows = new char[ranges.size()];
+                char[] highs = new char[ranges.size()];
+                for (int i = 0; i < lows.length; i++) {
+                    lows[i] = ranges.get(i)[0];
+                    highs[i] = ranges.get(i)[1];
+                }
+                return new RangeTable(table, lows, highs, description);
+            case SMALL_HASH:
+                char[] chars = new char[members];
+                int n = 0;
+                for (char[] range : ranges) {
+                    for (int c = range[0]; c <= range[1]; c++) {
+                        chars[n++] = (char) c;
+                    }
+                }
+                return new SmallHash(table, chars, description);
+            default:
+                return new BlockTable(table, index, blocks, description);
+        }
+    }
+
+    /**
+     * 256 글자 블록 중 서로 다른 것만 이어 붙인 배열 (등장 순서)
+     */
+    private static long[] uniqueBlocks(long[] table) {
+        long[] blocks = new long[table.length];
+        int count = 0;
+        for (int block = 0; block < BlockTable.BLOCKS; block++) {
+            if (find(blocks, count, table, block) < 0) {
+                System.arraycopy(table, block * BlockTable.LONGS_PER_BLOCK,
+                        blocks, count * BlockTable.LONGS_PER_BLOCK, BlockTable.LONGS_PER_BLOCK);
+                count++;
+            }
+        }
+        return Arrays.copyOf(blocks, count * BlockTable.LONGS_PER_BLOCK);
+    }
+
+    private static byte[] blockIndex(long[] table, long[] blocks) {
+        byte[] index = new byte[BlockTable.BLOCKS];
+        int count = blocks.length / BlockTable.LONGS_PER_BLOCK;
+        for (int block = 0; block < BlockTable.BLOCKS; block++) {
+            index[block] = (byte) find(blocks, count, table, block);
+        }
+        return index;
+    }
+
+    /**
+     * table 의 block 번째 블록과 같은 내용이 blocks 앞쪽 count 개 중 몇 번째인지 (없으면 -1)
+     */
+    private static int find(long[] blocks, int count, long[] table, int block) {
+        int from = block * BlockTable.LONGS_PER_BLOCK;
+        for (int i = 0; i < count; i++) {
+            int at = i * BlockTable.LONGS_PER_BLOCK;
+            if (Arrays.equals(blocks, at, at + BlockTable.LONGS_PER_BLOCK,
+                    table, from, from + BlockTable.LONGS_PER_BLOCK)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.matcher;
+
+import com.google.common.base.CharMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 65,536 비트 테이블 ↔ 문자 범위 변환 (BulkCharMatcher, CharMatcherCompiler 공용)
+ */
+final class CharTables {
+
+    static final int TABLE_LONGS = (Character.MAX_VALUE + 1) >>> 6;
+
+    private CharTables() {
+    }
+
+    /**
+     * 매처를 모든 글자에 대해 한 번씩 평가 (CharMatcher.precomputed() 와 같은 비용)
+     */
+    static long[] evaluate(CharMatcher matcher) {
+        long[] table = new long[TABLE_LONGS];
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            if (matcher.matches((char) c)) {
+                table[c >>> 6] |= 1L << c;
+            }
+        }
+        return table;
+    }
+
+    static boolean isSet(long[] table, int c) {
+        return (table[c >>> 6] & (1L << c)) != 0;
+    }
+
+    /**
+     * [from, Character.MAX_VALUE] 구간의 연속 구간 목록 ({시작, 끝} 쌍, 오름차순)
+     */
+    static List<char[]> ranges(long[] table, int from) {
+        List<char[]> ranges = new ArrayList<>();
+        int c = from;
+        while (c <= Character.MAX_VALUE) {
+            if (!isSet(table, c)) {
+                c++;
+                continue;
+            }
+            int start = c;
+            while (c + 1 <= Character.MAX_VALUE && isSet(table, c + 1)) {
+                c++;
+            }
+            ranges.add(new char[]{(char) start, (char) c});
+            c++;
+        }
+        return ranges;
+    }
+
+    /**
+     * [from, Character.MAX_VALUE] 구간에서 매칭되는 글자 수
+     */
+    static int count(long[] table, int from) {
+        int count = 0;
+        for (int c = from; c <= Character.MAX_VALUE; c++) {
+            if (isSet(table, c)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
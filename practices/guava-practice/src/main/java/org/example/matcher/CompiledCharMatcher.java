@@ -0,0 +1,253 @@
+package org.example.matcher;
+
+import com.google.common.base.CharMatcher;
+
+/**
+ * CharMatcherCompiler 가 만든 평탄화된 매처
+ *
+ * 조합 트리(and/or/negate) 를 따라가며 가상 호출하지 않고 표 하나만 조회
+ * - ASCII (0~127) 는 128 비트 마스크 (long 두 개) 에서 바로 판정
+ * - 그 밖의 글자는 strategy() 에 따라 범위 표 / 작은 해시 / 2단계 블록 표 중 하나
+ *   (블록 표는 ASCII 도 블록 0 에 들어 있으므로 분기 없이 표만 조회)
+ *
+ * memoryBytes() 는 마스크 + 배열 (배열 헤더 16 바이트, 8 바이트 정렬 포함) 의 추정치
+ * 매처 객체 자체의 헤더는 제외
+ */
+public abstract class CompiledCharMatcher extends CharMatcher {
+
+    public enum Strategy {
+        /** ASCII 밖의 글자는 매칭되지 않음 → 마스크만 */
+        ASCII_MASK,
+        /** ASCII 밖은 정렬된 범위 표 + 이진 탐색 */
+        RANGE_TABLE,
+        /** ASCII 밖은 글자 수가 적어 선형 탐사 해시 */
+        SMALL_HASH,
+        /** ASCII 밖은 256 글자 블록 단위 2단계 표 (같은 내용의 블록은 공유) */
+        BLOCK_TABLE
+    }
+
+    private final long asciiLow;
+    private final long asciiHigh;
+    private final String description;
+
+    CompiledCharMatcher(long[] table, String description) {
+        this.asciiLow = table[0];
+        this.asciiHigh = table[1];
+        this.description = description;
+    }
+
+    @Override
+    public boolean matches(char c) {
+        if (c < 128) {
+            // c < 64 분기 대신 비트 연산으로 두 long 중 하나 선택 (출력 가능 ASCII 는 63 을 사이에 두고 섞여 있음)
+            long word = asciiLow ^ ((asciiLow ^ asciiHigh) & -(long) (c >>> 6));
+            return (word & (1L << c)) != 0;
+        }
+        return matchesNonAscii(c);
+    }
+
+    abstract boolean matchesNonAscii(char c);
+
+    public abstract Strategy strategy();
+
+    public abstract long memoryBytes();
+
+    /**
+     * 이미 평탄화되어 있으므로 다시 계산하지 않음
+     */
+    @Override
+    public CharMatcher precomputed() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    static long arrayBytes(int elementBytes, int length) {
+        return align(16L + (long) elementBytes * length);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /** ASCII 마스크 (long 두 개) */
+    static final long MASK_BYTES = 16;
+
+    static final class AsciiMask extends CompiledCharMatcher {
+
+        AsciiMask(long[] table, String description) {
+            super(table, description);
+        }
+
+        @Override
+        boolean matchesNonAscii(char c) {
+            return false;
+        }
+
+        @Override
+        public Strategy strategy() {
+            return Strategy.ASCII_MASK;
+        }
+
+        @Override
+        public long memoryBytes() {
+            return MASK_BYTES;
+        }
+    }
+
+    static final class RangeTable extends CompiledCharMatcher {
+
+        private final char[] lows;
+        private final char[] highs;
+
+        RangeTable(long[] table, char[] lows, char[] highs, String description) {
+            super(table, description);
+            this.lows = lows;
+            this.highs = highs;
+        }
+
+        static long memoryBytes(int ranges) {
+            return MASK_BYTES + 2 * arrayBytes(Character.BYTES, ranges);
+        }
+
+        @Override
+        boolean matchesNonAscii(char c) {
+            // c 이하인 마지막 시작점을 찾아 그 범위의 끝과 비교
+            int low = 0;
+            int high = lows.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (lows[mid] <= c) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high >= 0 && c <= highs[high];
+        }
+
+        @Override
+        public Strategy strategy() {
+            return Strategy.RANGE_TABLE;
+        }
+
+        @Override
+        public long memoryBytes() {
+            return memoryBytes(lows.length);
+        }
+    }
+
+    /**
+     * Guava SmallCharMatcher 와 같은 방식 (murmur 섞기 + 선형 탐사)
+     * ASCII 밖의 글자만 넣으므로 0 을 빈 칸 표시로 사용
+     */
+    static final class SmallHash extends CompiledCharMatcher {
+
+        private static final int C1 = 0xcc9e2d51;
+        private static final int C2 = 0x1b873593;
+
+        private final char[] slots;
+        private final int mask;
+
+        SmallHash(long[] table, char[] members, String description) {
+            super(table, description);
+            this.slots = new char[tableSize(members.length)];
+            this.mask = slots.length - 1;
+            for (char c : members) {
+                int index = smear(c) & mask;
+                while (slots[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                slots[index] = c;
+            }
+        }
+
+        /** members * 2 이상인 가장 작은 2 의 거듭제곱 (적재율 0.5 이하 → 빈 칸이 항상 있음) */
+        static int tableSize(int members) {
+            return Integer.highestOneBit(members * 2 - 1) << 1;
+        }
+
+        static long memoryBytes(int members) {
+            return MASK_BYTES + arrayBytes(Character.BYTES, tableSize(members));
+        }
+
+        private static int smear(int hashCode) {
+            return C2 * Integer.rotateLeft(hashCode * C1, 15);
+        }
+
+        @Override
+        boolean matchesNonAscii(char c) {
+            int index = smear(c) & mask;
+            while (true) {
+                char slot = slots[index];
+                if (slot == c) {
+                    return true;
+                }
+                if (slot == 0) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        @Override
+        public Strategy strategy() {
+            return Strategy.SMALL_HASH;
+        }
+
+        @Override
+        public long memoryBytes() {
+            return MASK_BYTES + arrayBytes(Character.BYTES, slots.length);
+        }
+    }
+
+    /**
+     * 상위 8 비트 → 블록 번호 (byte), 블록 = 256 비트 (long 4 개)
+     * 전부 0 / 전부 1 인 블록이 많은 유니코드 범주는 8 KB BitSet 보다 훨씬 작아짐
+     */
+    static final class BlockTable extends CompiledCharMatcher {
+
+        static final int BLOCKS = 256;
+        static final int LONGS_PER_BLOCK = 4;
+
+        private final byte[] index;
+        private final long[] blocks;
+
+        BlockTable(long[] table, byte[] index, long[] blocks, String description) {
+            super(table, description);
+            this.index = index;
+            this.blocks = blocks;
+        }
+
+        static long memoryBytes(int uniqueBlocks) {
+            return MASK_BYTES + arrayBytes(Byte.BYTES, BLOCKS) + arrayBytes(Long.BYTES, uniqueBlocks * LONGS_PER_BLOCK);
+        }
+
+        /**
+         * ASCII / 비 ASCII 가 섞인 입력에서 c < 128 분기 예측 실패를 피하려고 항상 표 조회
+         */
+        @Override
+        public boolean matches(char c) {
+            return matchesNonAscii(c);
+        }
+
+        @Override
+        boolean matchesNonAscii(char c) {
+            int block = index[c >>> 8] & 0xFF;
+            return (blocks[(block << 2) | ((c >>> 6) & 3)] & (1L << c)) != 0;
+        }
+
+        @Override
+        public Strategy strategy() {
+            return Strategy.BLOCK_TABLE;
+        }
+
+        @Override
+        public long memoryBytes() {
+            return MASK_BYTES + arrayBytes(Byte.BYTES, index.length) + arrayBytes(Long.BYTES, blocks.length);
+        }
+    }
+}
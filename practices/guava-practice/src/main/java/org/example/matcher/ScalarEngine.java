@@ -0,0 +1,58 @@
+package org.example.matcher;
+
+/**
+ * 한 글자씩 판정하는 기본 엔진 (Vector API 를 쓸 수 없을 때)
+ */
+final class ScalarEngine implements BulkEngine {
+
+    static final ScalarEngine INSTANCE = new ScalarEngine();
+
+    private ScalarEngine() {
+    }
+
+    @Override
+    public int nextMatch(BulkCharMatcher matcher, char[] chars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (matcher.matches(chars[i])) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int nextNonMatch(BulkCharMatcher matcher, char[] chars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!matcher.matches(chars[i])) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int lastNonMatch(BulkCharMatcher matcher, char[] chars, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (!matcher.matches(chars[i])) {
+                return i;
+            }
+        }
+        return from - 1;
+    }
+
+    @Override
+    public int count(BulkCharMatcher matcher, char[] chars, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (matcher.matches(chars[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.splitter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * ByteBuffer(주로 MappedByteBuffer)의 일부를 가리키는 바이트 뷰 - CharSlice 의 바이트 버전
+ *
+ * 내용은 UTF-8 로 간주
+ * - 비교/해시/숫자 변환은 디코딩 없이 바이트에서 바로 수행
+ * - toString() 만 UTF-8 디코딩 (할당 발생)
+ * 스플리터가 재사용하므로 다음 콜백에서는 내용이 바뀜 → 보관하려면 toString()
+ */
+public final class ByteSlice {
+
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    ByteSlice reset(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public byte byteAt(int index) {
+        Objects.checkIndex(index, length);
+        return buffer.get(offset + index);
+    }
+
+    /**
+     * 미리 인코딩해 둔 바이트와 비교 (예: "user_id".getBytes(UTF_8))
+     */
+    public boolean contentEquals(byte[] bytes) {
+        if (bytes.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * ASCII 문자열과 비교 (비 ASCII 문자가 있으면 false)
+     */
+    public boolean contentEqualsAscii(CharSequence ascii) {
+        if (ascii.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != ascii.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 10진수 int 변환 - Integer.parseInt 와 같은 규칙
+     */
+    public int parseInt() {
+        return (int) parse(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 10진수 long 변환 - Long.parseLong 과 같은 규칙
+     */
+    public long parseLong() {
+        return parse(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private long parse(long min, long max) {
+        if (length == 0) {
+            throw numberFormatException();
+        }
+        int i = 0;
+        boolean negative = false;
+        long limit = -max;
+        byte first = buffer.get(offset);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = min;
+            } else if (first != '+') {
+                throw numberFormatException();
+            }
+            if (length == 1) {
+                throw numberFormatException();
+            }
+            i++;
+        }
+        long multiplyMin = limit / 10;
+        long result = 0;
+        while (i < length) {
+            int digit = buffer.get(offset + i++) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyMin) {
+                throw numberFormatException();
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException();
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private NumberFormatException numberFormatException() {
+        return new NumberFormatException("For input string: \"" + this + "\"");
+    }
+
+    /**
+     * 같은 버퍼 안의 다른 구간과 내용 비교 (중복 키 검사용)
+     */
+    boolean regionEquals(int otherOffset, int otherLength) {
+        if (otherLength != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != buffer.get(otherOffset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof ByteSlice)) {
+            return false;
+        }
+        ByteSlice other = (ByteSlice) object;
+        if (other.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != other.buffer.get(other.offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + buffer.get(offset + i);
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
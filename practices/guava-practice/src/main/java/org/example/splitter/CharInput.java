@@ -0,0 +1,113 @@
+package org.example.splitter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * TokenCursor 가 버퍼를 채울 때 쓰는 입력 추상화
+ *
+ * Reader.read(char[], int, int) 와 같은 계약: 읽은 문자 수, 끝이면 -1
+ */
+interface CharInput {
+
+    int read(char[] dst, int off, int len) throws IOException;
+
+    static CharInput of(Reader reader) {
+        return reader::read;
+    }
+
+    static CharInput of(CharBuffer buffer) {
+        return (dst, off, len) -> {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(dst, off, n);
+            return n;
+        };
+    }
+
+    static CharInput of(ReadableByteChannel channel, Charset charset) {
+        return new ChannelInput(channel, charset);
+    }
+
+    /**
+     * 바이트 채널 → 문자 디코딩 (InputStreamReader 와 같이 잘못된 바이트는 치환)
+     * 블로킹 채널 전제: read() 가 0 을 돌려주는 논블로킹 채널은 바쁜 대기가 됨
+     *
+     * dst 에 한 칸만 남았는데 다음 코드 포인트가 surrogate 쌍이면 decode 는 아무것도 쓰지 않고 OVERFLOW
+     * → 2 글자짜리 pending 에 풀어 두고 한 글자씩 넘김
+     */
+    final class ChannelInput implements CharInput {
+        private static final int BYTE_BUFFER_SIZE = 8192;
+
+        private final ReadableByteChannel channel;
+        private final CharsetDecoder decoder;
+        private final ByteBuffer bytes = ByteBuffer.allocate(BYTE_BUFFER_SIZE);
+        private final CharBuffer pending = CharBuffer.allocate(2);
+        private boolean endOfBytes;
+        private boolean flushed;
+
+        ChannelInput(ReadableByteChannel channel, Charset charset) {
+            this.channel = channel;
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.bytes.flip();
+            this.pending.flip();
+        }
+
+        @Override
+        public int read(char[] dst, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (pending.hasRemaining()) {
+                dst[off] = pending.get();
+                return 1;
+            }
+            if (flushed) {
+                return -1;
+            }
+            CharBuffer out = CharBuffer.wrap(dst, off, len);
+            while (true) {
+                CoderResult result = decoder.decode(bytes, out, endOfBytes);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                if (out.position() > off) {
+                    return out.position() - off;
+                }
+                if (result.isOverflow()) {
+                    // out 이 surrogate 쌍보다 작음
+                    pending.clear();
+                    result = decoder.decode(bytes, pending, endOfBytes);
+                    pending.flip();
+                    if (result.isError()) {
+                        result.throwException();
+                    }
+                    dst[off] = pending.get();
+                    return 1;
+                }
+                if (endOfBytes) {
+                    decoder.flush(out);
+                    flushed = true;
+                    return (out.position() > off) ? out.position() - off : -1;
+                }
+                bytes.compact();
+                int n = channel.read(bytes);
+                bytes.flip();
+                if (n == -1) {
+                    endOfBytes = true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.splitter;
+
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * String 키 불변 맵 - 아무 CharSequence(CharSlice 포함)로 조회 가능
+ *
+ * HashMap&lt;String, V&gt;.get(slice) 는 String.equals 때문에 항상 실패
+ * → slice.toString() 으로 String 을 만들어야 하므로 필드마다 할당 발생
+ * CharSequenceMap 은 String.hashCode() 와 같은 해시 + 내용 비교로 조회
+ *
+ * 구조: 선형 탐사 오픈 어드레싱, 크기 2^n (원소 수의 2배 이상)
+ */
+public final class CharSequenceMap<V> {
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int[] hashes;
+    private final int mask;
+    private final int size;
+
+    private CharSequenceMap(Map<String, ? extends V> source) {
+        int capacity = Integer.highestOneBit(Math.max(1, source.size()) * 2 - 1) << 1;
+        this.keys = new String[capacity];
+        this.values = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        this.size = source.size();
+
+        for (Map.Entry<String, ? extends V> entry : source.entrySet()) {
+            String key = checkNotNull(entry.getKey(), "null key");
+            V value = checkNotNull(entry.getValue(), "null value for key %s", key);
+            int hash = key.hashCode();
+            int index = spread(hash) & mask;
+            while (keys[index] != null) {
+                checkArgument(!keys[index].equals(key), "Duplicate key: %s", key);
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = value;
+            hashes[index] = hash;
+        }
+    }
+
+    public static <V> CharSequenceMap<V> copyOf(Map<String, ? extends V> source) {
+        return new CharSequenceMap<>(checkNotNull(source));
+    }
+
+    /**
+     * 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(CharSequence key) {
+        int hash = key.hashCode();
+        if (!(key instanceof String) && !(key instanceof CharSlice)) {
+            // 다른 CharSequence 구현은 hashCode 가 String 과 다를 수 있으므로 직접 계산
+            hash = 0;
+            for (int i = 0; i < key.length(); i++) {
+                hash = 31 * hash + key.charAt(i);
+            }
+        }
+        int index = spread(hash) & mask;
+        String candidate;
+        while ((candidate = keys[index]) != null) {
+            if (hashes[index] == hash && candidate.contentEquals(key)) {
+                return (V) values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(CharSequence key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.splitter;
+
+import java.util.Objects;
+
+/**
+ * 원본(char[] 또는 CharSequence)의 일부를 가리키는 뷰
+ *
+ * String.substring 처럼 복사하지 않고 (원본, offset, length) 만 들고 있음
+ * 스플리터가 하나를 계속 재사용하므로, 다음 토큰으로 넘어가면 내용이 바뀜
+ * → 보관하려면 toString() 으로 복사
+ *
+ * 비교/해시/숫자 변환은 String 을 만들지 않고 원본에서 바로 수행
+ * - hashCode() 는 String.hashCode() 와 같은 값 → String 키 테이블을 바로 조회 가능 (CharSequenceMap)
+ * - equals() 는 다른 CharSlice 와 내용 비교, String 과는 contentEquals() 사용
+ *   (String.equals(slice) 는 항상 false 라 대칭성을 지키려면 String 과 equals 가 true 면 안 됨)
+ * - 내용이 바뀌는 객체이므로 HashMap 키로 저장하면 안 됨 (조회용)
+ */
+public final class CharSlice implements CharSequence {
+
+    private char[] array;
+    private CharSequence sequence;
+    private int offset;
+    private int length;
+
+    public CharSlice() {
+        this.sequence = "";
+    }
+
+    CharSlice reset(char[] array, int offset, int length) {
+        this.array = array;
+        this.sequence = null;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    CharSlice reset(CharSequence sequence, int offset, int length) {
+        this.array = null;
+        this.sequence = sequence;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        return (array != null) ? array[offset + index] : sequence.charAt(offset + index);
+    }
+
+    /**
+     * 같은 원본을 가리키는 새 뷰 (재사용되지 않으므로 할당 발생)
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        CharSlice slice = new CharSlice();
+        return (array != null)
+                ? slice.reset(array, offset + start, end - start)
+                : slice.reset(sequence, offset + start, end - start);
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * String.contentEquals 와 같은 의미 (할당 없음)
+     */
+    public boolean contentEquals(CharSequence other) {
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (charAtUnchecked(i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 10진수 int 변환 - Integer.parseInt 와 같은 규칙 (부호, 범위 초과 시 NumberFormatException)
+     */
+    public int parseInt() {
+        return (int) parse(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 10진수 long 변환 - Long.parseLong 과 같은 규칙
+     */
+    public long parseLong() {
+        return parse(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Integer.parseInt 와 같은 음수 누적 방식 (MIN_VALUE 까지 표현 가능)
+     */
+    private long parse(long min, long max) {
+        if (length == 0) {
+            throw numberFormatException();
+        }
+        int i = 0;
+        boolean negative = false;
+        long limit = -max;
+        char first = charAtUnchecked(0);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = min;
+            } else if (first != '+') {
+                throw numberFormatException();
+            }
+            if (length == 1) {
+                throw numberFormatException();
+            }
+            i++;
+        }
+        long multiplyMin = limit / 10;
+        long result = 0;
+        while (i < length) {
+            int digit = charAtUnchecked(i++) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyMin) {
+                throw numberFormatException();
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException();
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private NumberFormatException numberFormatException() {
+        // 실패할 때만 String 생성
+        return new NumberFormatException("For input string: \"" + this + "\"");
+    }
+
+    private char charAtUnchecked(int index) {
+        return (array != null) ? array[offset + index] : sequence.charAt(offset + index);
+    }
+
+    /**
+     * 다른 CharSlice 와 내용 비교
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        return object instanceof CharSlice && contentEquals((CharSlice) object);
+    }
+
+    /**
+     * 같은 내용의 String.hashCode() 와 동일한 값 (매번 계산, 캐시 없음)
+     */
+    @Override
+    public int hashCode() {
+        int h = 0;
+        if (array != null) {
+            char[] a = array;
+            for (int i = offset, end = offset + length; i < end; i++) {
+                h = 31 * h + a[i];
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                h = 31 * h + sequence.charAt(offset + i);
+            }
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return (array != null)
+                ? new String(array, offset, length)
+                : sequence.subSequence(offset, offset + length).toString();
+    }
+}
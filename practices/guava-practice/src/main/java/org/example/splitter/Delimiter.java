@@ -0,0 +1,590 @@
+package org.example.splitter;
+
+import com.google.common.base.CharMatcher;
+import org.example.matcher.CharMatcherCompiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 여러 글자 구분자 검색 엔진 - Splitter.on(String) / Splitter.onPattern 을 정규식 없이
+ *
+ * Splitter.on("||") 은 위치마다 구분자 전체를 비교, onPattern 은 java.util.regex (토큰마다 Matcher 탐색)
+ * Delimiter 는 구분자를 한 번 분석해 가장 단순한 엔진을 고름
+ * - LITERAL: 고정 문자열 ("||", "\r\n", " :: ", 정규식 "\|\|") → Boyer-Moore-Horspool
+ *   (창 끝 글자의 하위 8 비트로 건너뛸 거리 표 - 겹치는 글자는 작은 쪽이라 안전)
+ * - CHAR_CLASS: 글자 하나 또는 한 종류 글자의 연속 ("[,;]", "\s+") → CharMatcherCompiler 표
+ * - SEQUENCE: 글자 집합 + 수량자 (?, *, +) 나열 ("\s*,\s*", "\s*::\s*", "\r?\n")
+ *   반복 원소의 집합이 뒤따르는 원소의 첫 글자 집합과 겹치지 않을 때만 - 그러면 되돌아가기 (backtracking)
+ *   없이 최대로 먹는 것 (possessive) 이 정규식 결과와 같음 → 작은 DFA 처럼 글자마다 한 번 전이
+ * - REGEX: 그 밖의 패턴 (|, 그룹, 앵커, 되돌아가기가 필요한 조합 ...) 은 java.util.regex 그대로
+ *
+ * 찾는 규칙은 Splitter 와 같음: 가장 왼쪽, 그 위치에서 정규식과 같은 길이, 빈 문자열과 맞는 패턴은 거부
+ * 불변 - 여러 스플리터 / 스레드가 공유 (REGEX 는 검색마다 Matcher 를 만듦)
+ */
+public abstract class Delimiter {
+
+    enum Kind {
+        LITERAL, CHAR_CLASS, SEQUENCE, REGEX
+    }
+
+    /** find 결과 - 찾지 못함 */
+    static final long NOT_FOUND = -1;
+
+    private final String description;
+
+    Delimiter(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 고정 문자열 구분자 (Splitter.on(String))
+     */
+    public static Delimiter on(String separator) {
+        checkArgument(!separator.isEmpty(), "The separator may not be the empty string.");
+        return new Literal(separator, "Delimiter.on(" + separator + ")");
+    }
+
+    /**
+     * 정규식 구분자 (Splitter.onPattern) - 단순한 패턴은 정규식 없이
+     */
+    public static Delimiter onPattern(String pattern) {
+        Pattern compiled = Pattern.compile(pattern);
+        checkArgument(!compiled.matcher("").matches(), "The pattern may not match the empty string: %s", pattern);
+        String description = "Delimiter.onPattern(" + pattern + ")";
+        List<Element> elements = parse(pattern);
+        if (elements == null) {
+            return new Regex(compiled, description);
+        }
+        if (elements.stream().allMatch(Element::isSingleChar)) {
+            StringBuilder literal = new StringBuilder(elements.size());
+            for (Element element : elements) {
+                literal.append((char) element.chars.nextSetBit(0));
+            }
+            return new Literal(literal.toString(), description);
+        }
+        if (elements.size() == 1) {
+            Element only = elements.get(0);
+            return new CharClass(only.matcher(), only.unbounded, description);
+        }
+        return possessiveIsGreedy(elements) ? new Sequence(elements, description) : new Regex(compiled, description);
+    }
+
+    /**
+     * from 이후 첫 구분자의 시작 위치, 없으면 -1
+     */
+    public int indexIn(CharSequence input, int from) {
+        checkNotNull(input);
+        long match = find(input, from, true);
+        return match == NOT_FOUND ? -1 : start(match);
+    }
+
+    abstract Kind kind();
+
+    /**
+     * from 이후 첫 구분자 (start &lt;&lt; 32 | end), 없으면 NOT_FOUND
+     *
+     * endOfInput 이 false 면 (스트리밍 버퍼) 입력이 더 이어질 수 있음
+     * → 끝에 닿아 결과가 달라질 수 있는 후보는 end = input.length() 로 돌려줌 (더 읽고 다시 찾으라는 뜻)
+     */
+    abstract long find(CharSequence input, int from, boolean endOfInput);
+
+    /**
+     * 구분자를 못 찾은 버퍼에 입력을 더 붙인 뒤 다시 찾기 시작할 위치
+     */
+    abstract int rescanFrom(int tokenStart, int end);
+
+    static int start(long match) {
+        return (int) (match >>> 32);
+    }
+
+    static int end(long match) {
+        return (int) match;
+    }
+
+    private static long match(int start, int end) {
+        return ((long) start << 32) | end;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    // === 엔진 ===
+
+    private static final class Literal extends Delimiter {
+        private final String literal;
+        private final char[] chars;
+        private final char last;
+        /** 창 끝 글자 (하위 8 비트) → 건너뛸 거리 */
+        private final int[] shifts = new int[256];
+
+        Literal(String literal, String description) {
+            super(description);
+            this.literal = literal;
+            this.chars = literal.toCharArray();
+            this.last = chars[chars.length - 1];
+            int m = chars.length;
+            Arrays.fill(shifts, m);
+            for (int i = 0; i < m - 1; i++) {
+                shifts[chars[i] & 0xFF] = m - 1 - i;
+            }
+        }
+
+        @Override
+        Kind kind() {
+            return Kind.LITERAL;
+        }
+
+        @Override
+        long find(CharSequence input, int from, boolean endOfInput) {
+            int start = indexOf(input, from);
+            return start == -1 ? NOT_FOUND : match(start, start + chars.length);
+        }
+
+        private int indexOf(CharSequence input, int from) {
+            if (input instanceof String) {
+                // String.indexOf(String) 은 JIT 내장 함수 (SIMD) - Horspool 보다 빠름
+                return ((String) input).indexOf(literal, from);
+            }
+            int m = chars.length;
+            int n = input.length();
+            for (int i = Math.max(from, 0) + m - 1; i < n; ) {
+                char c = input.charAt(i);
+                if (c == last) {
+                    int j = m - 2;
+                    int k = i - 1;
+                    while (j >= 0 && input.charAt(k) == chars[j]) {
+                        j--;
+                        k--;
+                    }
+                    if (j < 0) {
+                        return i - m + 1;
+                    }
+                }
+                i += shifts[c & 0xFF];
+            }
+            return -1;
+        }
+
+        @Override
+        int rescanFrom(int tokenStart, int end) {
+            // 끝에 걸친 구분자 앞부분을 다시 보도록
+            return Math.max(tokenStart, end - chars.length + 1);
+        }
+    }
+
+    private static final class CharClass extends Delimiter {
+        private final CharMatcher matcher;
+        private final boolean repeated;
+
+        CharClass(CharMatcher matcher, boolean repeated, String description) {
+            super(description);
+            this.matcher = matcher;
+            this.repeated = repeated;
+        }
+
+        @Override
+        Kind kind() {
+            return Kind.CHAR_CLASS;
+        }
+
+        @Override
+        long find(CharSequence input, int from, boolean endOfInput) {
+            int start = matcher.indexIn(input, from);
+            if (start == -1) {
+                return NOT_FOUND;
+            }
+            int end = start + 1;
+            if (repeated) {
+                int n = input.length();
+                while (end < n && matcher.matches(input.charAt(end))) {
+                    end++;
+                }
+            }
+            return match(start, end);
+        }
+
+        @Override
+        int rescanFrom(int tokenStart, int end) {
+            return end;
+        }
+    }
+
+    /**
+     * 원소마다 집합에 드는 글자를 최대 개수까지 먹고, 최소 개수에 못 미치면 그 시작 위치는 실패
+     */
+    private static final class Sequence extends Delimiter {
+        private static final int FAILED = -1;
+        private static final int HIT_END = -2;
+
+        private final CharMatcher[] matchers;
+        private final int[] minimums;
+        private final boolean[] unbounded;
+        /** 구분자 첫 글자가 될 수 있는 집합 - 시작 후보만 시도 */
+        private final CharMatcher first;
+
+        Sequence(List<Element> elements, String description) {
+            super(description);
+            int n = elements.size();
+            this.matchers = new CharMatcher[n];
+            this.minimums = new int[n];
+            this.unbounded = new boolean[n];
+            BitSet firstChars = new BitSet(Character.MAX_VALUE + 1);
+            boolean open = true;
+            for (int i = 0; i < n; i++) {
+                Element element = elements.get(i);
+                matchers[i] = element.matcher();
+                minimums[i] = element.minimum;
+                unbounded[i] = element.unbounded;
+                if (open) {
+                    firstChars.or(element.chars);
+                    open = element.minimum == 0;
+                }
+            }
+            this.first = compile(firstChars);
+        }
+
+        @Override
+        Kind kind() {
+            return Kind.SEQUENCE;
+        }
+
+        @Override
+        long find(CharSequence input, int from, boolean endOfInput) {
+            int n = input.length();
+            int start = from;
+            while ((start = first.indexIn(input, start)) != -1) {
+                int end = attempt(input, start);
+                if (end >= 0) {
+                    return match(start, end);
+                }
+                if (end == HIT_END && !endOfInput) {
+                    return match(start, n);
+                }
+                // 첫 원소의 반복 구간에서 시작했으면 그 구간 안의 다른 시작도 같은 곳에서 실패
+                int next = start + 1;
+                if (unbounded[0] && matchers[0].matches(input.charAt(start))) {
+                    while (next < n && matchers[0].matches(input.charAt(next))) {
+                        next++;
+                    }
+                }
+                start = next;
+            }
+            return NOT_FOUND;
+        }
+
+        private int attempt(CharSequence input, int start) {
+            int n = input.length();
+            int i = start;
+            for (int e = 0; e < matchers.length; e++) {
+                CharMatcher matcher = matchers[e];
+                int limit = unbounded[e] ? n : Math.min(n, i + 1);
+                int count = 0;
+                while (i < limit && matcher.matches(input.charAt(i))) {
+                    i++;
+                    count++;
+                }
+                if (count < minimums[e]) {
+                    return i == n ? HIT_END : FAILED;
+                }
+            }
+            return i;
+        }
+
+        @Override
+        int rescanFrom(int tokenStart, int end) {
+            return tokenStart;
+        }
+    }
+
+    private static final class Regex extends Delimiter {
+        private final Pattern pattern;
+
+        Regex(Pattern pattern, String description) {
+            super(description);
+            this.pattern = pattern;
+        }
+
+        @Override
+        Kind kind() {
+            return Kind.REGEX;
+        }
+
+        @Override
+        long find(CharSequence input, int from, boolean endOfInput) {
+            Matcher matcher = pattern.matcher(input);
+            if (!matcher.find(from)) {
+                return endOfInput || !matcher.hitEnd() ? NOT_FOUND : match(from, input.length());
+            }
+            return endOfInput || !matcher.hitEnd()
+                    ? match(matcher.start(), matcher.end())
+                    : match(matcher.start(), input.length());
+        }
+
+        @Override
+        int rescanFrom(int tokenStart, int end) {
+            return tokenStart;
+        }
+    }
+
+    // === 패턴 분석 ===
+
+    /**
+     * 글자 집합 하나 + 수량자 (최대 1 또는 무한)
+     */
+    private static final class Element {
+        final BitSet chars;
+        int minimum = 1;
+        boolean unbounded;
+
+        Element(BitSet chars) {
+            this.chars = chars;
+        }
+
+        boolean isSingleChar() {
+            return minimum == 1 && !unbounded && chars.cardinality() == 1;
+        }
+
+        CharMatcher matcher() {
+            return compile(chars);
+        }
+    }
+
+    private static CharMatcher compile(BitSet chars) {
+        return CharMatcherCompiler.compile(CharMatcher.forPredicate(c -> chars.get(c)));
+    }
+
+    /**
+     * 반복 원소마다: 그 집합 ∩ (뒤따르는 원소들의 첫 글자 집합) = ∅
+     * 첫 글자 집합 = 다음 원소부터 필수 원소 (minimum 1) 까지의 합집합
+     */
+    private static boolean possessiveIsGreedy(List<Element> elements) {
+        for (int i = 0; i < elements.size(); i++) {
+            Element element = elements.get(i);
+            if (element.minimum == 1 && !element.unbounded) {
+                continue;
+            }
+            for (int j = i + 1; j < elements.size(); j++) {
+                Element next = elements.get(j);
+                if (element.chars.intersects(next.chars)) {
+                    return false;
+                }
+                if (next.minimum == 1) {
+                    break;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 지원하는 부분 문법 (기본 플래그의 java.util.regex 와 같은 뜻)
+     * - 글자, \ + 영숫자가 아닌 글자, \t \n \r \f \a \e, \d \D \s \S \w \W
+     * - [...] / [^...]: 글자, 범위 a-z, 위의 이스케이프 (중첩 / && 는 제외)
+     * - 수량자 ? * + (게으른 / 소유 수량자와 {n,m} 은 제외)
+     * 그 밖의 구문이 있으면 null → 정규식
+     * surrogate 가 있어도 null: 정규식은 코드 포인트 단위 ("😀+", "[😀]"), 여기 원소는 UTF-16 글자 단위
+     * 같은 이유로 반복하지 않는 원소의 집합에 surrogate 가 들어 있어도 null ("[^a]", "\S", "\r?\W")
+     */
+    private static List<Element> parse(String pattern) {
+        int n = pattern.length();
+        for (int k = 0; k < n; k++) {
+            if (Character.isSurrogate(pattern.charAt(k))) {
+                return null;
+            }
+        }
+        List<Element> elements = new ArrayList<>();
+        int i = 0;
+        while (i < n) {
+            char c = pattern.charAt(i);
+            BitSet chars;
+            if (c == '\\') {
+                if (i + 1 >= n) {
+                    return null;
+                }
+                chars = escape(pattern.charAt(i + 1));
+                i += 2;
+            } else if (c == '[') {
+                int close = classEnd(pattern, i);
+                if (close == -1) {
+                    return null;
+                }
+                chars = bracket(pattern, i + 1, close);
+                i = close + 1;
+            } else if (c == '?' || c == '*' || c == '+') {
+                if (elements.isEmpty()) {
+                    return null;
+                }
+                Element last = elements.get(elements.size() - 1);
+                if (last.minimum != 1 || last.unbounded
+                        || (i + 1 < n && (pattern.charAt(i + 1) == '?' || pattern.charAt(i + 1) == '+'))) {
+                    return null;
+                }
+                last.minimum = c == '+' ? 1 : 0;
+                last.unbounded = c != '?';
+                i++;
+                continue;
+            } else if ("^$.|(){}]".indexOf(c) >= 0) {
+                return null;
+            } else {
+                chars = single(c);
+                i++;
+            }
+            if (chars == null) {
+                return null;
+            }
+            elements.add(new Element(chars));
+        }
+        for (Element element : elements) {
+            // 부정 집합 ([^a], \S, \D, \W) 은 surrogate 를 포함 → 정규식은 쌍 전체를 한 글자로 먹음
+            // 반복 (* +) 이면 연속 구간이 같지만 한 번짜리는 쌍을 구분자 둘로 쪼갬
+            if (!element.unbounded && hasSurrogate(element.chars)) {
+                return null;
+            }
+        }
+        return elements.isEmpty() ? null : elements;
+    }
+
+    private static boolean hasSurrogate(BitSet chars) {
+        int next = chars.nextSetBit(Character.MIN_SURROGATE);
+        return next >= 0 && next <= Character.MAX_SURROGATE;
+    }
+
+    /** [ 부터 짝이 되는 ] 위치, 지원하지 않는 모양이면 -1 */
+    private static int classEnd(String pattern, int open) {
+        int i = open + 1;
+        if (i < pattern.length() && pattern.charAt(i) == '^') {
+            i++;
+        }
+        if (i < pattern.length() && pattern.charAt(i) == ']') {
+            return -1;
+        }
+        for (; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                return -1;
+            } else if (c == ']') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static BitSet bracket(String pattern, int from, int to) {
+        BitSet chars = new BitSet(Character.MAX_VALUE + 1);
+        boolean negated = pattern.charAt(from) == '^';
+        int i = negated ? from + 1 : from;
+        if (pattern.indexOf("&&", i) != -1 && pattern.indexOf("&&", i) < to) {
+            return null;
+        }
+        while (i < to) {
+            BitSet item;
+            char c = pattern.charAt(i);
+            int low = -1;
+            if (c == '\\') {
+                item = escape(pattern.charAt(i + 1));
+                if (item == null) {
+                    return null;
+                }
+                if (item.cardinality() == 1) {
+                    low = item.nextSetBit(0);
+                }
+                i += 2;
+            } else {
+                item = single(c);
+                low = c;
+                i++;
+            }
+            // 범위 a-z (끝 '-' 는 글자)
+            if (low != -1 && i + 1 < to && pattern.charAt(i) == '-') {
+                char h = pattern.charAt(i + 1);
+                int high;
+                if (h == '\\') {
+                    BitSet end = i + 2 < to ? escape(pattern.charAt(i + 2)) : null;
+                    if (end == null || end.cardinality() != 1) {
+                        return null;
+                    }
+                    high = end.nextSetBit(0);
+                    i += 3;
+                } else {
+                    high = h;
+                    i += 2;
+                }
+                if (high < low) {
+                    return null;
+                }
+                chars.set(low, high + 1);
+                continue;
+            }
+            chars.or(item);
+        }
+        if (negated) {
+            chars.flip(0, Character.MAX_VALUE + 1);
+        }
+        return chars;
+    }
+
+    private static BitSet escape(char c) {
+        switch (c) {
+            case 't':
+                return single('\t');
+            case 'n':
+                return single('\n');
+            case 'r':
+                return single('\r');
+            case 'f':
+                return single('\f');
+            case 'a':
+                return single('\u0007');
+            case 'e':
+                return single('\u001B');
+            case 'd':
+                return ranges("09");
+            case 's':
+                return anyOf(" \t\n\u000B\f\r");
+            case 'w':
+                return ranges("azAZ09__");
+            case 'D':
+            case 'S':
+            case 'W':
+                BitSet negated = escape(Character.toLowerCase(c));
+                negated.flip(0, Character.MAX_VALUE + 1);
+                return negated;
+            default:
+                // 영숫자가 아닌 글자는 그 글자 자체, 영숫자는 다른 구문 (\b, \p, \x, 역참조 ...)
+                return Character.isLetterOrDigit(c) ? null : single(c);
+        }
+    }
+
+    private static BitSet single(char c) {
+        BitSet chars = new BitSet(Character.MAX_VALUE + 1);
+        chars.set(c);
+        return chars;
+    }
+
+    private static BitSet anyOf(String members) {
+        BitSet chars = new BitSet(Character.MAX_VALUE + 1);
+        members.chars().forEach(chars::set);
+        return chars;
+    }
+
+    /** "azAZ" → [a-z] ∪ [A-Z] */
+    private static BitSet ranges(String bounds) {
+        BitSet chars = new BitSet(Character.MAX_VALUE + 1);
+        for (int i = 0; i < bounds.length(); i += 2) {
+            chars.set(bounds.charAt(i), bounds.charAt(i + 1) + 1);
+        }
+        return chars;
+    }
+}
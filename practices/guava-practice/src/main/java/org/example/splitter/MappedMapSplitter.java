@@ -0,0 +1,289 @@
+package org.example.splitter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * 파일을 메모리 매핑해서 "k=v&k=v" 레코드를 바이트 단위로 분할하는 MapSplitter
+ *
+ * Splitter.MapSplitter 는 String 입력 → LinkedHashMap 을 바로 만들어 돌려줌
+ * 접근 로그처럼 한 줄에 쿼리 스트링 하나인 수백 MB 파일에서는
+ * - 파일 전체를 String 으로 읽어야 하고
+ * - 줄마다 Map + 키/값 String 이 생김
+ * MappedMapSplitter 는
+ * - FileChannel.map 으로 매핑한 바이트를 그대로 스캔 (디코딩 없음)
+ * - Map 대신 EntryVisitor 콜백으로 ByteSlice 뷰를 넘김 → 엔트리당 할당 0
+ *
+ * 레코드(기본: 한 줄)가 Splitter.MapSplitter.split() 한 번에 해당
+ * - 잘못된 엔트리 (구분자 없음, 구분자 2개 이상, 빈 엔트리): 기본은 IllegalArgumentException
+ * - 레코드 안의 중복 키: 기본은 IllegalArgumentException("Duplicate key ...")
+ *   → 메시지까지 Splitter.MapSplitter 와 같음, 정책으로 바꿀 수 있음
+ * - 빈 줄은 엔트리 없는 레코드로 보고 건너뜀 (Splitter 는 "" 을 잘못된 엔트리로 봄)
+ *
+ * UTF-8 전제: 구분자는 ASCII 만 허용
+ * (UTF-8 멀티바이트 문자의 바이트는 모두 0x80 이상 → ASCII 구분자와 절대 겹치지 않음)
+ */
+public final class MappedMapSplitter {
+
+    /** 매핑 한 번의 최대 크기 - MappedByteBuffer 는 int 인덱스라 2 GB 미만 */
+    static final int DEFAULT_WINDOW_SIZE = Integer.MAX_VALUE;
+
+    public enum DuplicateKeyPolicy {
+        /** IllegalArgumentException (Splitter.MapSplitter 와 동일) */
+        REJECT,
+        /** 처음 나온 값만 전달, 이후 같은 키는 무시 */
+        KEEP_FIRST,
+        /** 검사하지 않고 모두 전달 (검사 비용도 없음) */
+        KEEP_ALL
+    }
+
+    public enum MalformedEntryPolicy {
+        /** IllegalArgumentException (Splitter.MapSplitter 와 동일) */
+        REJECT,
+        /** EntryVisitor.skipped() 로 알리고 계속 진행 */
+        SKIP
+    }
+
+    /**
+     * 엔트리 콜백 - 넘어오는 ByteSlice 는 재사용되므로 콜백 밖으로 가져가려면 toString()
+     */
+    public interface EntryVisitor {
+
+        void visit(ByteSlice key, ByteSlice value);
+
+        /** MalformedEntryPolicy.SKIP 일 때 버려진 엔트리 */
+        default void skipped(ByteSlice chunk) {
+        }
+
+        /** 레코드(줄) 하나가 끝날 때 */
+        default void endOfRecord() {
+        }
+    }
+
+    private final byte entrySeparator;
+    private final byte keyValueSeparator;
+    private final byte recordSeparator;
+    private final DuplicateKeyPolicy duplicateKeyPolicy;
+    private final MalformedEntryPolicy malformedEntryPolicy;
+    private final int windowSize;
+
+    private MappedMapSplitter(byte entrySeparator, byte keyValueSeparator, byte recordSeparator,
+                              DuplicateKeyPolicy duplicateKeyPolicy, MalformedEntryPolicy malformedEntryPolicy,
+                              int windowSize) {
+        checkArgument(entrySeparator != keyValueSeparator && entrySeparator != recordSeparator
+                        && keyValueSeparator != recordSeparator,
+                "separators must be distinct: [%s] [%s] [%s]",
+                (char) entrySeparator, (char) keyValueSeparator, (char) recordSeparator);
+        this.entrySeparator = entrySeparator;
+        this.keyValueSeparator = keyValueSeparator;
+        this.recordSeparator = recordSeparator;
+        this.duplicateKeyPolicy = duplicateKeyPolicy;
+        this.malformedEntryPolicy = malformedEntryPolicy;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Splitter.on(entrySeparator).withKeyValueSeparator(keyValueSeparator) 에 해당, 레코드는 줄 단위
+     */
+    public static MappedMapSplitter on(char entrySeparator, char keyValueSeparator) {
+        return new MappedMapSplitter(ascii(entrySeparator), ascii(keyValueSeparator), (byte) '\n',
+                DuplicateKeyPolicy.REJECT, MalformedEntryPolicy.REJECT, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * 레코드 구분자 ('\n' 이면 줄 끝의 '\r' 도 제거)
+     */
+    public MappedMapSplitter recordSeparator(char separator) {
+        return new MappedMapSplitter(entrySeparator, keyValueSeparator, ascii(separator),
+                duplicateKeyPolicy, malformedEntryPolicy, windowSize);
+    }
+
+    public MappedMapSplitter onDuplicateKey(DuplicateKeyPolicy policy) {
+        return new MappedMapSplitter(entrySeparator, keyValueSeparator, recordSeparator,
+                checkNotNull(policy), malformedEntryPolicy, windowSize);
+    }
+
+    public MappedMapSplitter onMalformedEntry(MalformedEntryPolicy policy) {
+        return new MappedMapSplitter(entrySeparator, keyValueSeparator, recordSeparator,
+                duplicateKeyPolicy, checkNotNull(policy), windowSize);
+    }
+
+    /**
+     * 테스트용: 매핑 창 크기를 줄여 레코드가 창 경계에 걸치는 경우를 만듦
+     */
+    MappedMapSplitter windowSize(int bytes) {
+        checkArgument(bytes > 0, "must be greater than zero: %s", bytes);
+        return new MappedMapSplitter(entrySeparator, keyValueSeparator, recordSeparator,
+                duplicateKeyPolicy, malformedEntryPolicy, bytes);
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑해서 분할, 전달한 엔트리 수를 반환
+     *
+     * 2 GB 이상 파일은 창 단위로 나눠 매핑 (창 끝은 마지막 레코드 구분자에 맞춤)
+     * → 레코드 하나는 창 크기보다 작아야 함
+     */
+    public long split(Path file, EntryVisitor visitor) throws IOException {
+        checkNotNull(visitor);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Scan scan = new Scan(visitor);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                int length = (int) Math.min(windowSize, size - position);
+                boolean last = position + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                position += scan.run(window, 0, length, last);
+            }
+            return scan.entries;
+        }
+    }
+
+    /**
+     * position ~ limit 구간을 분할 (버퍼의 position 은 바꾸지 않음), 전달한 엔트리 수를 반환
+     */
+    public long split(ByteBuffer buffer, EntryVisitor visitor) {
+        checkNotNull(buffer);
+        Scan scan = new Scan(checkNotNull(visitor));
+        scan.run(buffer, buffer.position(), buffer.limit(), true);
+        return scan.entries;
+    }
+
+    private static byte ascii(char c) {
+        checkArgument(c < 0x80, "separator must be ASCII: %s", c);
+        return (byte) c;
+    }
+
+    /**
+     * split 호출 하나의 상태 (스플리터 자체는 불변이라 공유 가능)
+     */
+    private final class Scan {
+        private final EntryVisitor visitor;
+        private final ByteSlice key = new ByteSlice();
+        private final ByteSlice value = new ByteSlice();
+        private final ByteSlice chunk = new ByteSlice();
+        /** 현재 레코드에서 나온 키 위치 (중복 검사용, 레코드가 작다는 전제로 선형 탐색) */
+        private int[] keyOffsets = new int[16];
+        private int[] keyLengths = new int[16];
+        private int keyCount;
+        long entries;
+
+        Scan(EntryVisitor visitor) {
+            this.visitor = visitor;
+        }
+
+        /**
+         * [from, to) 를 스캔, 처리한 바이트 수를 반환
+         * last 가 아니면 마지막 레코드 구분자까지만 처리 (나머지는 다음 창에서)
+         */
+        int run(ByteBuffer buffer, int from, int to, boolean last) {
+            int end = to;
+            if (!last) {
+                end = lastIndexOf(buffer, recordSeparator, from, to) + 1;
+                checkState(end > from, "record longer than mapping window (%s bytes)", to - from);
+            }
+
+            int recordStart = from;
+            int entryStart = from;
+            int keyValueIndex = -1;
+            boolean extraKeyValueSeparator = false;
+            for (int i = from; i < end; i++) {
+                byte b = buffer.get(i);
+                if (b == keyValueSeparator) {
+                    if (keyValueIndex < 0) {
+                        keyValueIndex = i;
+                    } else {
+                        extraKeyValueSeparator = true;
+                    }
+                } else if (b == entrySeparator) {
+                    entry(buffer, entryStart, i, keyValueIndex, extraKeyValueSeparator);
+                    entryStart = i + 1;
+                    keyValueIndex = -1;
+                    extraKeyValueSeparator = false;
+                } else if (b == recordSeparator) {
+                    endRecord(buffer, recordStart, entryStart, i, keyValueIndex, extraKeyValueSeparator);
+                    recordStart = entryStart = i + 1;
+                    keyValueIndex = -1;
+                    extraKeyValueSeparator = false;
+                }
+            }
+            if (recordStart < end) {
+                // 마지막 줄에 줄바꿈이 없는 경우 (last 일 때만 가능)
+                endRecord(buffer, recordStart, entryStart, end, keyValueIndex, extraKeyValueSeparator);
+            }
+            return end - from;
+        }
+
+        private void endRecord(ByteBuffer buffer, int recordStart, int entryStart, int end,
+                               int keyValueIndex, boolean extraKeyValueSeparator) {
+            if (recordSeparator == '\n' && end > entryStart && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            if (end == recordStart) {
+                return; // 빈 줄
+            }
+            entry(buffer, entryStart, end, keyValueIndex, extraKeyValueSeparator);
+            keyCount = 0;
+            visitor.endOfRecord();
+        }
+
+        private void entry(ByteBuffer buffer, int start, int end, int keyValueIndex, boolean extraKeyValueSeparator) {
+            if (keyValueIndex < 0 || extraKeyValueSeparator) {
+                chunk.reset(buffer, start, end - start);
+                checkArgument(malformedEntryPolicy == MalformedEntryPolicy.SKIP,
+                        "Chunk [%s] is not a valid entry", chunk);
+                visitor.skipped(chunk);
+                return;
+            }
+            key.reset(buffer, start, keyValueIndex - start);
+            if (duplicateKeyPolicy != DuplicateKeyPolicy.KEEP_ALL) {
+                if (isDuplicate()) {
+                    checkArgument(duplicateKeyPolicy == DuplicateKeyPolicy.KEEP_FIRST,
+                            "Duplicate key [%s] found.", key);
+                    return;
+                }
+                addKey(start, keyValueIndex - start);
+            }
+            value.reset(buffer, keyValueIndex + 1, end - keyValueIndex - 1);
+            visitor.visit(key, value);
+            entries++;
+        }
+
+        private boolean isDuplicate() {
+            for (int i = 0; i < keyCount; i++) {
+                if (key.regionEquals(keyOffsets[i], keyLengths[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void addKey(int offset, int length) {
+            if (keyCount == keyOffsets.length) {
+                keyOffsets = Arrays.copyOf(keyOffsets, keyCount * 2);
+                keyLengths = Arrays.copyOf(keyLengths, keyCount * 2);
+            }
+            keyOffsets[keyCount] = offset;
+            keyLengths[keyCount] = length;
+            keyCount++;
+        }
+    }
+
+    private static int lastIndexOf(ByteBuffer buffer, byte target, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (buffer.get(i) == target) {
+                return i;
+            }
+        }
+        return from - 1;
+    }
+}
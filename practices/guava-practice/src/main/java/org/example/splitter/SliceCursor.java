@@ -0,0 +1,121 @@
+package org.example.splitter;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 메모리에 있는 CharSequence(주로 String 한 줄)를 CharSlice 뷰로 분할
+ *
+ * Splitter.split(line) 은 토큰마다 substring → String 할당
+ * SliceCursor 는 원본 위에서 (offset, length) 만 옮김 → 토큰당 할당 0
+ * reset(nextLine) 으로 커서 자체도 줄마다 재사용 가능
+ *
+ * 분할 규칙은 TokenCursor / Splitter 와 동일
+ */
+public final class SliceCursor {
+
+    private final StreamingSplitter splitter;
+    private final CharSlice token = new CharSlice();
+    private CharSequence input;
+    private int position;
+    private int limit;
+    private boolean done;
+    /** delimiter 로 찾은 구분자의 끝 (한 글자 구분자는 항상 위치 + 1) */
+    private int separatorEnd;
+
+    SliceCursor(StreamingSplitter splitter, CharSequence input) {
+        this.splitter = splitter;
+        reset(input);
+    }
+
+    /**
+     * 다른 입력으로 처음부터 다시 (새 커서를 만들지 않고 재사용)
+     */
+    public SliceCursor reset(CharSequence input) {
+        this.input = checkNotNull(input);
+        this.position = 0;
+        this.limit = splitter.limit;
+        this.done = false;
+        return this;
+    }
+
+    public boolean next() {
+        CharSequence in = input;
+        while (!done) {
+            int start = position;
+            int end;
+            int separatorIndex = indexOfSeparator(in, start);
+            if (separatorIndex == -1) {
+                end = in.length();
+                done = true;
+            } else {
+                end = separatorIndex;
+                position = splitter.delimiter != null ? separatorEnd : separatorIndex + 1;
+            }
+
+            while (start < end && splitter.trimmer.matches(in.charAt(start))) {
+                start++;
+            }
+            while (end > start && splitter.trimmer.matches(in.charAt(end - 1))) {
+                end--;
+            }
+            if (splitter.omitEmptyStrings && start == end) {
+                continue;
+            }
+
+            if (limit == 1) {
+                end = in.length();
+                done = true;
+                while (end > start && splitter.trimmer.matches(in.charAt(end - 1))) {
+                    end--;
+                }
+            } else {
+                limit--;
+            }
+            token.reset(in, start, end - start);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 현재 토큰 (재사용되는 뷰, 다음 next() / reset() 전까지만 유효)
+     */
+    public CharSlice token() {
+        return token;
+    }
+
+    /**
+     * 현재 토큰의 풀 인스턴스 - 반복되는 값이면 String 을 만들지 않음 (보관해도 안전)
+     */
+    public String token(StringPool pool) {
+        return pool.intern(token);
+    }
+
+    private int indexOfSeparator(CharSequence in, int from) {
+        if (splitter.delimiter != null) {
+            long match = splitter.delimiter.find(in, from, true);
+            if (match == Delimiter.NOT_FOUND) {
+                return -1;
+            }
+            separatorEnd = Delimiter.end(match);
+            return Delimiter.start(match);
+        }
+        if (splitter.singleCharSeparator) {
+            if (in instanceof String) {
+                return ((String) in).indexOf(splitter.separatorChar, from);
+            }
+            for (int i = from, length = in.length(); i < length; i++) {
+                if (in.charAt(i) == splitter.separatorChar) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        for (int i = from, length = in.length(); i < length; i++) {
+            if (splitter.separator.matches(in.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
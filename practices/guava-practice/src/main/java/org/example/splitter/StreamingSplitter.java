@@ -0,0 +1,217 @@
+package org.example.splitter;
+
+import com.google.common.base.CharMatcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Reader / 바이트 채널 / CharBuffer 를 직접 분할하는 Splitter
+ *
+ * Splitter.split(String) 은 입력 전체가 메모리에 있어야 하고 토큰마다 String 을 만듦
+ * StreamingSplitter 는
+ * - 고정 크기 버퍼로 입력을 조금씩 읽으며 분할 (파일 크기와 무관한 메모리)
+ * - 토큰을 String 이 아닌 버퍼 위의 CharSlice 뷰로 돌려줌
+ * - trimResults / omitEmptyStrings / limit 의미는 Splitter 와 동일
+ *
+ * Splitter 처럼 불변 + fluent 설정, 설정 메서드는 새 인스턴스를 반환
+ */
+public final class StreamingSplitter {
+
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    final CharMatcher separator;
+    final char separatorChar;
+    final boolean singleCharSeparator;
+    /** 여러 글자 / 패턴 구분자 (null 이면 separator 한 글자) */
+    final Delimiter delimiter;
+    final CharMatcher trimmer;
+    final boolean omitEmptyStrings;
+    final int limit;
+    final int bufferSize;
+
+    private StreamingSplitter(CharMatcher separator, char separatorChar, boolean singleCharSeparator,
+                              Delimiter delimiter, CharMatcher trimmer, boolean omitEmptyStrings, int limit,
+                              int bufferSize) {
+        this.separator = separator;
+        this.separatorChar = separatorChar;
+        this.singleCharSeparator = singleCharSeparator;
+        this.delimiter = delimiter;
+        this.trimmer = trimmer;
+        this.omitEmptyStrings = omitEmptyStrings;
+        this.limit = limit;
+        this.bufferSize = bufferSize;
+    }
+
+    public static StreamingSplitter on(char separator) {
+        return new StreamingSplitter(CharMatcher.is(separator), separator, true, null,
+                CharMatcher.none(), false, Integer.MAX_VALUE, DEFAULT_BUFFER_SIZE);
+    }
+
+    public static StreamingSplitter on(CharMatcher separatorMatcher) {
+        checkNotNull(separatorMatcher);
+        return new StreamingSplitter(separatorMatcher, '\0', false, null,
+                CharMatcher.none(), false, Integer.MAX_VALUE, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * 고정 문자열 구분자 ("||", "\r\n" ...) - 한 글자면 on(char) 와 같음
+     */
+    public static StreamingSplitter on(String separator) {
+        checkArgument(!separator.isEmpty(), "The separator may not be the empty string.");
+        if (separator.length() == 1) {
+            return on(separator.charAt(0));
+        }
+        return on(Delimiter.on(separator));
+    }
+
+    /**
+     * 정규식 구분자 - 단순한 패턴 ("\\s*,\\s*", "[,;]+" ...) 은 Delimiter 가 정규식 없이 처리
+     */
+    public static StreamingSplitter onPattern(String separatorPattern) {
+        return on(Delimiter.onPattern(separatorPattern));
+    }
+
+    public static StreamingSplitter on(Delimiter delimiter) {
+        checkNotNull(delimiter);
+        return new StreamingSplitter(CharMatcher.none(), '\0', false, delimiter,
+                CharMatcher.none(), false, Integer.MAX_VALUE, DEFAULT_BUFFER_SIZE);
+    }
+
+    public StreamingSplitter omitEmptyStrings() {
+        return new StreamingSplitter(separator, separatorChar, singleCharSeparator, delimiter,
+                trimmer, true, limit, bufferSize);
+    }
+
+    public StreamingSplitter limit(int maxItems) {
+        checkArgument(maxItems > 0, "must be greater than zero: %s", maxItems);
+        return new StreamingSplitter(separator, separatorChar, singleCharSeparator, delimiter,
+                trimmer, omitEmptyStrings, maxItems, bufferSize);
+    }
+
+    public StreamingSplitter trimResults() {
+        return trimResults(CharMatcher.whitespace());
+    }
+
+    public StreamingSplitter trimResults(CharMatcher trimmer) {
+        checkNotNull(trimmer);
+        return new StreamingSplitter(separator, separatorChar, singleCharSeparator, delimiter,
+                trimmer, omitEmptyStrings, limit, bufferSize);
+    }
+
+    /**
+     * 초기 버퍼 크기 (문자 수) - 토큰이 이보다 길면 그 토큰 길이까지만 늘어남
+     */
+    public StreamingSplitter bufferSize(int chars) {
+        checkArgument(chars > 0, "must be greater than zero: %s", chars);
+        return new StreamingSplitter(separator, separatorChar, singleCharSeparator, delimiter,
+                trimmer, omitEmptyStrings, limit, chars);
+    }
+
+    // === 커서: IOException 을 그대로 전달 ===
+
+    public TokenCursor cursor(Reader reader) {
+        return new TokenCursor(this, CharInput.of(checkNotNull(reader)), bufferSize);
+    }
+
+    public TokenCursor cursor(ReadableByteChannel channel, Charset charset) {
+        return new TokenCursor(this, CharInput.of(checkNotNull(channel), checkNotNull(charset)), bufferSize);
+    }
+
+    public TokenCursor cursor(InputStream in, Charset charset) {
+        return cursor(Channels.newChannel(checkNotNull(in)), charset);
+    }
+
+    /**
+     * 배열 기반 버퍼는 복사 없이 그 배열 위에서 바로 분할 (버퍼의 position 은 바꾸지 않음)
+     */
+    public TokenCursor cursor(CharBuffer buffer) {
+        checkNotNull(buffer);
+        if (buffer.hasArray()) {
+            int from = buffer.arrayOffset() + buffer.position();
+            return new TokenCursor(this, buffer.array(), from, from + buffer.remaining());
+        }
+        return new TokenCursor(this, CharInput.of(buffer.duplicate()), bufferSize);
+    }
+
+    /**
+     * 메모리에 있는 입력(CSV 한 줄 등)을 복사 없이 CharSlice 로 분할
+     * 줄마다 reset() 으로 재사용하면 파싱 루프 전체에서 할당 0
+     */
+    public SliceCursor cursor(CharSequence input) {
+        return new SliceCursor(this, input);
+    }
+
+    // === Iterable: for-each 용, IOException 은 UncheckedIOException 으로 ===
+
+    /**
+     * 한 번만 순회 가능한 Iterable
+     * 돌려주는 CharSequence 는 모두 같은 재사용 뷰 → 보관하려면 toString()
+     */
+    public Iterable<CharSequence> split(Reader reader) {
+        return iterable(cursor(reader));
+    }
+
+    public Iterable<CharSequence> split(ReadableByteChannel channel, Charset charset) {
+        return iterable(cursor(channel, charset));
+    }
+
+    public Iterable<CharSequence> split(CharBuffer buffer) {
+        return iterable(cursor(buffer));
+    }
+
+    private static Iterable<CharSequence> iterable(TokenCursor cursor) {
+        return new Iterable<CharSequence>() {
+            private boolean iterated;
+
+            @Override
+            public Iterator<CharSequence> iterator() {
+                checkState(!iterated, "streaming split can only be iterated once");
+                iterated = true;
+                return new CursorIterator(cursor);
+            }
+        };
+    }
+
+    private static final class CursorIterator implements Iterator<CharSequence> {
+        private final TokenCursor cursor;
+        private Boolean hasNext;
+
+        CursorIterator(TokenCursor cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (hasNext == null) {
+                try {
+                    hasNext = cursor.next();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public CharSequence next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = null;
+            return cursor.token();
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package org.example.splitter;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 크기가 제한된 동시성 문자열 중복 제거 풀 - 같은 내용이면 같은 String 인스턴스
+ *
+ * 로그의 국가 코드 / 상태 이름처럼 몇천 가지 값이 수십억 번 반복되면
+ * 토큰마다 String 을 만들어 보관하는 것만으로 힙이 커짐
+ * String.intern() 은 크기 제한이 없고 (JVM 문자열 테이블), 먼저 String 을 만들어야 조회 가능
+ * StringPool 은
+ * - CharSequence / CharSlice (구간 포함) 로 바로 조회 → 이미 있으면 String 을 만들지 않음
+ * - 세그먼트(잠금 단위)별 고정 크기 선형 탐사 테이블 + CLOCK 교체 (최근 조회된 값은 한 바퀴 더 살아남음)
+ * - 조회는 잠금 없이 먼저 시도: String 은 불변이라 다른 스레드가 넣은 참조를 그대로 읽어도 안전,
+ *   못 찾으면 (아직 안 보이거나 교체 중 자리 이동) 세그먼트 잠금 안에서 다시 찾고 없으면 추가
+ * - maxLength 보다 긴 값은 풀에 넣지 않음 (반복될 가능성이 낮고 풀을 밀어냄)
+ *
+ * 교체되었다가 다시 들어온 값은 이전과 다른 인스턴스일 수 있음 (크기 제한의 대가)
+ */
+public final class StringPool {
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final int maxLength;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+
+    private StringPool(int maximumSize, int concurrencyLevel, int maxLength) {
+        int segmentCount = Integer.highestOneBit(Math.min(concurrencyLevel, maximumSize));
+        this.segments = new Segment[segmentCount];
+        this.segmentShift = Integer.SIZE - Integer.numberOfTrailingZeros(segmentCount);
+        int perSegment = (maximumSize + segmentCount - 1) / segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        this.maxLength = maxLength;
+    }
+
+    public static StringPool create(int maximumSize) {
+        return builder().maximumSize(maximumSize).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int maximumSize = 4096;
+        private int concurrencyLevel = 16;
+        private int maxLength = 64;
+
+        private Builder() {
+        }
+
+        /** 풀에 두는 최대 문자열 수 (세그먼트별로 나눠 올림) */
+        public Builder maximumSize(int maximumSize) {
+            checkArgument(maximumSize > 0, "maximumSize must be positive: %s", maximumSize);
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /** 세그먼트 수 (2 의 거듭제곱으로 내림, maximumSize 이하) */
+        public Builder concurrencyLevel(int concurrencyLevel) {
+            checkArgument(concurrencyLevel > 0, "concurrencyLevel must be positive: %s", concurrencyLevel);
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /** 이보다 긴 값은 풀에 넣지 않고 새 String 으로 */
+        public Builder maxLength(int maxLength) {
+            checkArgument(maxLength >= 0, "negative maxLength: %s", maxLength);
+            this.maxLength = maxLength;
+            return this;
+        }
+
+        public StringPool build() {
+            return new StringPool(maximumSize, concurrencyLevel, maxLength);
+        }
+    }
+
+    // === 조회 ===
+
+    public String intern(CharSequence chars) {
+        return intern(chars, 0, chars.length());
+    }
+
+    /**
+     * chars 의 [start, end) 구간과 같은 내용의 풀 인스턴스
+     */
+    public String intern(CharSequence chars, int start, int end) {
+        checkNotNull(chars);
+        Objects.checkFromToIndex(start, end, chars.length());
+        int length = end - start;
+        if (length > maxLength) {
+            bypassed.increment();
+            return copy(chars, start, length);
+        }
+        int hash;
+        if (start == 0 && end == chars.length() && (chars instanceof String || chars instanceof CharSlice)) {
+            // 둘 다 String.hashCode() 와 같은 값 (String 은 캐시됨)
+            hash = chars.hashCode();
+        } else {
+            hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + chars.charAt(i);
+            }
+        }
+        int spread = spread(hash);
+        Segment segment = segments[segmentShift == Integer.SIZE ? 0 : spread >>> segmentShift];
+        String found = segment.find(chars, start, length, hash, spread);
+        if (found != null) {
+            hits.increment();
+            return found;
+        }
+        return segment.findOrAdd(this, chars, start, length, hash, spread);
+    }
+
+    // === 통계 ===
+
+    /** 지금 풀에 있는 문자열 수 (다른 스레드가 추가/교체 중이면 근사값) */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), bypassed.sum(), size());
+    }
+
+    /**
+     * 누적 통계 스냅샷
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long bypassed;
+        private final int size;
+
+        Stats(long hits, long misses, long evictions, long bypassed, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.bypassed = bypassed;
+            this.size = size;
+        }
+
+        /** 이미 있던 인스턴스를 돌려준 횟수 */
+        public long hits() {
+            return hits;
+        }
+
+        /** 새로 String 을 만들어 넣은 횟수 */
+        public long misses() {
+            return misses;
+        }
+
+        public long evictions() {
+            return evictions;
+        }
+
+        /** maxLength 를 넘어 풀을 거치지 않은 횟수 */
+        public long bypassed() {
+            return bypassed;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /** 조회가 없으면 1.0 (Guava CacheStats 와 같음) */
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 1.0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("StringPool.Stats{hits=%d, misses=%d, evictions=%d, bypassed=%d, size=%d, hitRate=%.3f}",
+                    hits, misses, evictions, bypassed, size, hitRate());
+        }
+    }
+
+    /**
+     * 상위 비트 = 세그먼트, 하위 비트 = 테이블 위치 (Guava Hashing.smear 와 같은 섞기)
+     */
+    private static int spread(int hash) {
+        return 0x1b873593 * Integer.rotateLeft(hash * 0xcc9e2d51, 15);
+    }
+
+    /**
+     * 전체 구간인 String 은 그 인스턴스를 그대로 풀에 (복사 없음)
+     */
+    private static String copy(CharSequence chars, int start, int length) {
+        if (chars instanceof String) {
+            return ((String) chars).substring(start, start + length);
+        }
+        if (start == 0 && length == chars.length()) {
+            return chars.toString();
+        }
+        return chars.subSequence(start, start + length).toString();
+    }
+
+    private static boolean matches(String candidate, CharSequence chars, int start, int length) {
+        if (candidate.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != chars.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 고정 크기 선형 탐사 테이블 (적재율 0.5 이하) + CLOCK
+     * table 쓰기는 잠금 안에서만, 읽기는 잠금 없이도 (String 참조는 안전하게 공개됨)
+     * referenced 는 잠금 없이 조회에서 켜고 교체 바늘이 끔 - 경합으로 놓쳐도 교체 순서만 조금 달라짐
+     */
+    private static final class Segment {
+        private final String[] table;
+        private final byte[] referenced;
+        private final int mask;
+        private final int capacity;
+        volatile int size;
+        private int hand;
+
+        Segment(int capacity) {
+            int tableSize = Integer.highestOneBit(Math.max(1, capacity) * 2 - 1) << 1;
+            this.table = new String[tableSize];
+            this.referenced = new byte[tableSize];
+            this.mask = tableSize - 1;
+            this.capacity = capacity;
+        }
+
+        /**
+         * 잠금 없이 찾기 - 없거나 못 보면 null (탐사 길이는 테이블 크기로 제한)
+         */
+        String find(CharSequence chars, int start, int length, int hash, int spread) {
+            String[] t = table;
+            int index = spread & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                String candidate = t[index];
+                if (candidate == null) {
+                    return null;
+                }
+                if (candidate.hashCode() == hash && matches(candidate, chars, start, length)) {
+                    if (referenced[index] == 0) {
+                        referenced[index] = 1;
+                    }
+                    return candidate;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        synchronized String findOrAdd(StringPool pool, CharSequence chars, int start, int length, int hash,
+                                      int spread) {
+            String found = find(chars, start, length, hash, spread);
+            if (found != null) {
+                pool.hits.increment();
+                return found;
+            }
+            if (size == capacity) {
+                evict();
+                pool.evictions.increment();
+            }
+            String value = copy(chars, start, length);
+            int index = spread & mask;
+            while (table[index] != null) {
+                index = (index + 1) & mask;
+            }
+            // 방금 만든 값은 한 바퀴 보호하지 않음 - 한 번 나오고 마는 값이 먼저 빠지도록
+            referenced[index] = 0;
+            table[index] = value;
+            size++;
+            pool.misses.increment();
+            return value;
+        }
+
+        /**
+         * 바늘이 돌면서 참조 비트가 켜진 칸은 끄고 지나감, 꺼진 칸을 교체 (최대 두 바퀴)
+         */
+        private void evict() {
+            while (true) {
+                int index = hand;
+                hand = (hand + 1) & mask;
+                if (table[index] == null) {
+                    continue;
+                }
+                if (referenced[index] != 0) {
+                    referenced[index] = 0;
+                    continue;
+                }
+                delete(index);
+                return;
+            }
+        }
+
+        /**
+         * 선형 탐사 삭제 - 빈 칸 뒤의 항목을 자기 자리 쪽으로 당김 (묘비 없음)
+         * 당기는 동안 잠금 없는 조회가 항목을 놓칠 수 있지만 그때는 잠금 안에서 다시 찾음
+         */
+        private void delete(int index) {
+            int hole = index;
+            table[hole] = null;
+            referenced[hole] = 0;
+            for (int j = (hole + 1) & mask; table[j] != null; j = (j + 1) & mask) {
+                int home = spread(table[j].hashCode()) & mask;
+                // home 이 (hole, j] 구간 밖이면 hole 로 옮겨도 탐사 경로가 유지됨
+                if (((j - home) & mask) >= ((j - hole) & mask)) {
+                    table[hole] = table[j];
+                    referenced[hole] = referenced[j];
+                    table[j] = null;
+                    referenced[j] = 0;
+                    hole = j;
+                }
+            }
+            size--;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.splitter;
+
+import com.google.common.base.CharMatcher;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * StreamingSplitter 의 실제 분할 로직 (일회용)
+ *
+ * 버퍼 하나(char[])를 재사용하면서 토큰을 찾음
+ * - 구분자를 못 찾으면 현재 토큰 앞부분을 버리고(compact) 더 읽음
+ * - 토큰 하나가 버퍼보다 길 때만 버퍼를 두 배로 키움
+ *   → 메모리 = max(bufferSize, 가장 긴 토큰)
+ *   (limit 에 도달한 마지막 항목은 Splitter 와 같이 "나머지 전부"라 예외)
+ *
+ * token() 은 버퍼를 직접 가리키는 뷰 → 다음 next() 호출 전까지만 유효
+ */
+public final class TokenCursor {
+
+    private final CharInput input;
+    private final CharMatcher separator;
+    private final char separatorChar;
+    private final boolean singleCharSeparator;
+    private final Delimiter delimiter;
+    private final CharMatcher trimmer;
+    private final boolean omitEmptyStrings;
+    private int limit;
+
+    private final CharSlice token = new CharSlice();
+    /** delimiter 검색용 버퍼 전체 뷰 (인덱스 = 버퍼 위치) */
+    private final CharSlice window = new CharSlice();
+    private char[] buffer;
+    private int position;      // 다음 토큰 시작
+    private int end;           // 버퍼에 채워진 끝
+    private boolean endOfInput;
+    private boolean done;
+    private int separatorEnd;
+
+    TokenCursor(StreamingSplitter splitter, CharInput input, int bufferSize) {
+        this.input = input;
+        this.separator = splitter.separator;
+        this.separatorChar = splitter.separatorChar;
+        this.singleCharSeparator = splitter.singleCharSeparator;
+        this.delimiter = splitter.delimiter;
+        this.trimmer = splitter.trimmer;
+        this.omitEmptyStrings = splitter.omitEmptyStrings;
+        this.limit = splitter.limit;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * 배열 기반 CharBuffer: 복사 없이 원본 배열을 그대로 버퍼로 사용 (이미 전부 "읽힌" 상태)
+     */
+    TokenCursor(StreamingSplitter splitter, char[] array, int from, int to) {
+        this(splitter, (dst, off, len) -> -1, 0);
+        this.buffer = array;
+        this.position = from;
+        this.end = to;
+        this.endOfInput = true;
+    }
+
+    /**
+     * 다음 토큰으로 이동, 더 없으면 false
+     */
+    public boolean next() throws IOException {
+        while (!done) {
+            int separatorIndex = findSeparator();
+            int start = position;
+            int tokenEnd;
+            if (separatorIndex == -1) {
+                tokenEnd = end;
+                position = end;
+                done = true;
+            } else {
+                tokenEnd = separatorIndex;
+                position = delimiter != null ? separatorEnd : separatorIndex + 1;
+            }
+
+            while (start < tokenEnd && trimmer.matches(buffer[start])) {
+                start++;
+            }
+            while (tokenEnd > start && trimmer.matches(buffer[tokenEnd - 1])) {
+                tokenEnd--;
+            }
+            if (omitEmptyStrings && start == tokenEnd) {
+                continue;
+            }
+
+            if (limit == 1) {
+                // 빈 문자열 제거 뒤에 검사 → 빈 항목은 limit 에 포함되지 않음 (Splitter 와 동일)
+                if (!done) {
+                    int shift = readToEnd(start);
+                    start -= shift;
+                    done = true;
+                }
+                tokenEnd = end;
+                position = end;
+                while (tokenEnd > start && trimmer.matches(buffer[tokenEnd - 1])) {
+                    tokenEnd--;
+                }
+            } else {
+                limit--;
+            }
+            token.reset(buffer, start, tokenEnd - start);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 현재 토큰 (재사용되는 뷰)
+     */
+    public CharSlice token() {
+        return token;
+    }
+
+    /**
+     * 현재 토큰의 풀 인스턴스 - 반복되는 값이면 String 을 만들지 않음 (보관해도 안전)
+     */
+    public String token(StringPool pool) {
+        return pool.intern(token);
+    }
+
+    int bufferCapacity() {
+        return buffer.length;
+    }
+
+    private int findSeparator() throws IOException {
+        int scan = position;
+        while (true) {
+            if (delimiter != null) {
+                long match = delimiter.find(window.reset(buffer, 0, end), scan, endOfInput);
+                // 버퍼 끝에 닿은 후보는 더 읽어야 확정 (구분자가 이어지거나 더 앞에서 맞을 수 있음)
+                if (match != Delimiter.NOT_FOUND && (Delimiter.end(match) < end || endOfInput)) {
+                    separatorEnd = Delimiter.end(match);
+                    return Delimiter.start(match);
+                }
+                if (endOfInput) {
+                    return -1;
+                }
+                int rescan = match == Delimiter.NOT_FOUND
+                        ? delimiter.rescanFrom(position, end)
+                        : Delimiter.start(match);
+                scan = rescan - fill(position);
+                continue;
+            }
+            if (singleCharSeparator) {
+                char[] buf = buffer;
+                char sep = separatorChar;
+                for (int i = scan; i < end; i++) {
+                    if (buf[i] == sep) {
+                        return i;
+                    }
+                }
+            } else {
+                for (int i = scan; i < end; i++) {
+                    if (separator.matches(buffer[i])) {
+                        return i;
+                    }
+                }
+            }
+            if (endOfInput) {
+                return -1;
+            }
+            int scanned = end - position;
+            fill(position);
+            scan = position + scanned;
+        }
+    }
+
+    /**
+     * keepFrom 이전 데이터를 버리고 버퍼를 채움 (입력이 끝나면 endOfInput = true)
+     * @return keepFrom 이 왼쪽으로 이동한 거리
+     */
+    private int fill(int keepFrom) throws IOException {
+        int shift = keepFrom;
+        if (shift > 0) {
+            System.arraycopy(buffer, keepFrom, buffer, 0, end - keepFrom);
+            position -= shift;
+            end -= shift;
+        }
+        if (end == buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(16, buffer.length * 2));
+        }
+        int n = input.read(buffer, end, buffer.length - end);
+        if (n == -1) {
+            endOfInput = true;
+        } else {
+            end += n;
+        }
+        return shift;
+    }
+
+    private int readToEnd(int keepFrom) throws IOException {
+        int totalShift = 0;
+        while (!endOfInput) {
+            totalShift += fill(keepFrom - totalShift);
+        }
+        return totalShift;
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.matcher;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * jdk.incubator.vector 기반 엔진 (Java 17+, 멀티 릴리즈 jar 의 versions/17 에만 포함)
+ *
+ * char 를 short 레인으로 읽어 범위 판정을 레인 전체에 한 번에 수행
+ * - 범위 [lo, hi] 판정: (c - lo) 를 부호 없는 값으로 보고 (hi - lo) 이하인지
+ *   → short 는 부호 있는 비교만 있으므로 양쪽에 0x8000 을 XOR 해서 순서를 맞춤
+ * - 범위 목록이 정확한 판정인 매처만 벡터로 처리, 비트 테이블 매처는 ScalarEngine 에 위임
+ */
+final class VectorEngine implements BulkEngine {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final short BIAS = (short) 0x8000;
+
+    VectorEngine() {
+    }
+
+    private static VectorMask<Short> candidates(BulkCharMatcher matcher, char[] chars, int offset) {
+        ShortVector v = ShortVector.fromCharArray(SPECIES, chars, offset);
+        short[] lows = matcher.vectorLows;
+        short[] widths = matcher.vectorWidths;
+        VectorMask<Short> mask = inRange(v, lows[0], widths[0]);
+        for (int r = 1; r < lows.length; r++) {
+            mask = mask.or(inRange(v, lows[r], widths[r]));
+        }
+        return mask;
+    }
+
+    private static VectorMask<Short> inRange(ShortVector v, short low, short biasedWidth) {
+        return v.sub(low).lanewise(VectorOperators.XOR, BIAS).compare(VectorOperators.LE, biasedWidth);
+    }
+
+    @Override
+    public int nextMatch(BulkCharMatcher matcher, char[] chars, int from, int to) {
+        if (!matcher.isExact()) {
+            return ScalarEngine.INSTANCE.nextMatch(matcher, chars, from, to);
+        }
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += LANES) {
+            VectorMask<Short> mask = candidates(matcher, chars, i);
+            if (mask.anyTrue()) {
+                return i + mask.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (matcher.matches(chars[i])) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int nextNonMatch(BulkCharMatcher matcher, char[] chars, int from, int to) {
+        if (!matcher.isExact()) {
+            return ScalarEngine.INSTANCE.nextNonMatch(matcher, chars, from, to);
+        }
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += LANES) {
+            VectorMask<Short> mask = candidates(matcher, chars, i);
+            if (!mask.allTrue()) {
+                return i + mask.not().firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (!matcher.matches(chars[i])) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int lastNonMatch(BulkCharMatcher matcher, char[] chars, int from, int to) {
+        if (!matcher.isExact()) {
+            return ScalarEngine.INSTANCE.lastNonMatch(matcher, chars, from, to);
+        }
+        int i = to;
+        for (int bound = to - SPECIES.loopBound(to - from); i > bound; i -= LANES) {
+            int base = i - LANES;
+            VectorMask<Short> mask = candidates(matcher, chars, base);
+            if (!mask.allTrue()) {
+                return base + mask.not().lastTrue();
+            }
+        }
+        for (i--; i >= from; i--) {
+            if (!matcher.matches(chars[i])) {
+                return i;
+            }
+        }
+        return from - 1;
+    }
+
+    @Override
+    public int count(BulkCharMatcher matcher, char[] chars, int from, int to) {
+        if (!matcher.isExact()) {
+            return ScalarEngine.INSTANCE.count(matcher, chars, from, to);
+        }
+        int count = 0;
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += LANES) {
+            count += candidates(matcher, chars, i).trueCount();
+        }
+        for (; i < to; i++) {
+            if (matcher.matches(chars[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String name() {
+        return "vector(" + LANES + " lanes)";
+    }
+}
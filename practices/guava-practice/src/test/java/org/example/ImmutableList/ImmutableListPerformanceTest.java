@@ -1,6 +1,7 @@
 package org.example.ImmutableList;
 
 import com.google.common.collect.ImmutableList;
+import org.example.footprint.Footprint;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -214,41 +215,25 @@ public class ImmutableListPerformanceTest {
 
     @Test
     void testMemoryEfficiency() {
-        System.out.println("\n📊 메모리 효율성 비교 (간접 측정)");
+        System.out.println("\n📊 메모리 효율성 비교 (JOL 측정, 원소 제외)");
         System.out.println("=".repeat(60));
 
         // ArrayList - 여유 공간을 둠
+        Integer[] elements = Footprint.elements(100);
         ArrayList<Integer> arrayList = new ArrayList<>();
-        for (int i = 0; i < 100; i++) {
-            arrayList.add(i);
+        for (Integer e : elements) {
+            arrayList.add(e);
         }
 
         // ImmutableList - 정확한 크기
         ImmutableList<Integer> immutableList = ImmutableList.copyOf(arrayList);
 
-        System.out.println("ArrayList:");
-        System.out.println("  size(): " + arrayList.size());
-        try {
-            java.lang.reflect.Field field = ArrayList.class.getDeclaredField("elementData");
-            field.setAccessible(true);
-            Object[] elementData = (Object[]) field.get(arrayList);
-            System.out.println("  내부 배열 길이: " + elementData.length);
-            System.out.println("  낭비: " + (elementData.length - arrayList.size()) + "칸");
-        } catch (Exception e) {
-            System.out.println("  (내부 구조 확인 불가)");
-        }
-
-        System.out.println("\nImmutableList:");
-        System.out.println("  size(): " + immutableList.size());
-        try {
-            java.lang.reflect.Field field = immutableList.getClass().getDeclaredField("array");
-            field.setAccessible(true);
-            Object[] array = (Object[]) field.get(immutableList);
-            System.out.println("  내부 배열 길이: " + array.length);
-            System.out.println("  낭비: " + (array.length - immutableList.size()) + "칸");
-        } catch (Exception e) {
-            System.out.println("  (내부 구조 확인 불가)");
-        }
+        long arrayListBytes = Footprint.retainedSize(arrayList, elements);
+        long immutableBytes = Footprint.retainedSize(immutableList, elements);
+        System.out.println("ArrayList:     " + arrayListBytes + " bytes");
+        System.out.println("ImmutableList: " + immutableBytes + " bytes");
+        System.out.println("차이 (증가 여유분 + modCount): " + (arrayListBytes - immutableBytes) + " bytes");
+        assertTrue(immutableBytes < arrayListBytes);
 
         System.out.println("\n💡 ImmutableList는 정확한 크기로 메모리 낭비가 없습니다.");
     }
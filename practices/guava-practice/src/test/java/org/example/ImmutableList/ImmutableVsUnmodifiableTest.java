@@ -1,6 +1,7 @@
 package org.example.ImmutableList;
 
 import com.google.common.collect.ImmutableList;
+import org.example.footprint.Footprint;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -157,14 +158,18 @@ public class ImmutableVsUnmodifiableTest {
     @Test
     void testMemoryFootprint() {
         List<String> original = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        String[] elements = original.toArray(new String[0]);
 
         // unmodifiableList - 원본 + 래퍼 객체
         List<String> unmodifiable = Collections.unmodifiableList(original);
-        System.out.println("⚠️  unmodifiableList: 원본 참조 + 래퍼 객체 (2개 객체)");
+        long unmodifiableBytes = Footprint.retainedSize(unmodifiable, elements);
+        System.out.println("⚠️  unmodifiableList: 원본 참조 + 래퍼 객체 (2개 객체) = " + unmodifiableBytes + " bytes");
 
         // ImmutableList - 복사본 하나만
         ImmutableList<String> immutable = ImmutableList.copyOf(original);
-        System.out.println("✅ ImmutableList: 독립적인 배열 하나 (1개 객체)");
+        long immutableBytes = Footprint.retainedSize(immutable, elements);
+        System.out.println("✅ ImmutableList: 독립적인 배열 하나 (1개 객체) = " + immutableBytes + " bytes");
+        assertTrue(immutableBytes < unmodifiableBytes);
 
         // 원본을 버려도 됨
         original = null;
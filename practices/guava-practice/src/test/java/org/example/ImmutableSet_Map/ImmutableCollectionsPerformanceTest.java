@@ -3,10 +3,13 @@ package org.example.ImmutableSet_Map;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import org.example.footprint.Footprint;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 /**
  * Immutable 컬렉션들 통합 성능 테스트
  */
@@ -104,27 +107,16 @@ public class ImmutableCollectionsPerformanceTest {
     void 메모리_사용량_추정() {
         int size = 10000;
 
-        List<Integer> sourceList = new ArrayList<>();
-        Set<Integer> sourceSet = new HashSet<>();
-        Map<Integer, String> sourceMap = new HashMap<>();
-        for (int i = 0; i < size; i++) {
-            sourceList.add(i);
-            sourceSet.add(i);
-            sourceMap.put(i, "value" + i);
-        }
-
-        ImmutableList<Integer> list = ImmutableList.copyOf(sourceList);
-        ImmutableSet<Integer> set = ImmutableSet.copyOf(sourceSet);
-        ImmutableMap<Integer, String> map = ImmutableMap.copyOf(sourceMap);
+        // 원소 제외, 컬렉션 구조만 (JOL) - 추정 대신 현재 JVM 에서 잰 값
+        long list = Footprint.retainedSize(Footprint.Kind.IMMUTABLE_LIST, size);
+        long set = Footprint.retainedSize(Footprint.Kind.IMMUTABLE_SET, size);
+        long map = Footprint.retainedSize(Footprint.Kind.IMMUTABLE_MAP, size);
 
-        System.out.println("\n📊 메모리 사용량 추정 (" + size + "개):");
-        System.out.println("  ImmutableList:");
-        System.out.println("    - 배열: " + size + " * 4 bytes = " + (size * 4 / 1024) + " KB");
-        System.out.println("    - 메타데이터: ~48 bytes");
-        System.out.println("  ImmutableSet:");
-        System.out.println("    - 해시 테이블 + 엔트리: ~" + (size * 12 / 1024) + " KB");
-        System.out.println("  ImmutableMap:");
-        System.out.println("    - 키 + 값 + 테이블: ~" + (size * 24 / 1024) + " KB");
+        System.out.println("\n📊 메모리 사용량 (" + size + "개, 원소 제외):");
+        System.out.printf("  ImmutableList: %,d bytes (%.1f bytes/원소)%n", list, (double) list / size);
+        System.out.printf("  ImmutableSet:  %,d bytes (%.1f bytes/원소)%n", set, (double) set / size);
+        System.out.printf("  ImmutableMap:  %,d bytes (%.1f bytes/원소)%n", map, (double) map / size);
+        assertTrue(list < set && set < map);
     }
 
     @Test
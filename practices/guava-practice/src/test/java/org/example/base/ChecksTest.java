@@ -0,0 +1,167 @@
+package org.example.base;
+
+import com.google.common.base.Preconditions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks
+ * - 오버로드가 골라지는 방식 (int → long, char 는 문자로) 과 실패 메시지
+ * - boolean 과 섞은 호출은 컴파일됨, double 과 섞으면 (Object) 캐스트가 필요 (javac 로 확인)
+ * - 성공 경로 할당 0: 스레드 할당 카운터로 확인 (인터프리터에서도 박싱이 없으므로 JIT 와 무관)
+ */
+class ChecksTest {
+
+    @Test
+    void 실패할_때만_메시지() {
+        int count = 1000;
+        long timestamp = 1_700_000_000_000L;
+        char grade = 'B';
+        String user = "kim";
+
+        Checks.checkArgument(count > 0, "count %s, time %s, grade %s, user %s", count, timestamp, grade, user);
+        Checks.checkState(true, "never %s %s %s", grade, grade, count);
+        assertSame(user, Checks.checkNotNull(user, "user %s", count));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+                Checks.checkArgument(false, "count %s, time %s, grade %s, user %s", count, timestamp, grade, user));
+        assertEquals("count 1000, time 1700000000000, grade B, user kim", e.getMessage());
+
+        IllegalStateException state = assertThrows(IllegalStateException.class, () ->
+                Checks.checkState(false, "%s-%s-%s", (short) 7, 'x', (Object) null));
+        assertEquals("7-x-null", state.getMessage());
+
+        NullPointerException npe = assertThrows(NullPointerException.class, () ->
+                Checks.checkNotNull(null, "slot %s of %s", 3, 8L));
+        assertEquals("slot 3 of 8", npe.getMessage());
+    }
+
+    @Test
+    void Guava_와_같은_메시지_형식() {
+        // 자리표시가 모자라면 [..] 로 덧붙임, 남으면 그대로
+        assertEquals(guavaMessage("a %s", 1, 2), message(() -> Checks.checkArgument(false, "a %s", 1, 2)));
+        assertEquals(guavaMessage("%s %s %s", 1), message(() -> Checks.checkArgument(false, "%s %s %s", 1)));
+        assertEquals("1 2 3 4 5", message(() -> Checks.checkArgument(false, "%s %s %s %s %s", 1, 2, 3, 4, 5)));
+        assertEquals("null", message(() -> Checks.checkArgument(false, null)));
+        assertNull(message(() -> Checks.checkArgument(false)));
+    }
+
+    @Test
+    void boolean_과_섞은_호출도_컴파일() {
+        boolean flag = true;
+        int count = 3;
+        String name = "kim";
+        // 이 줄들이 컴파일되는 것이 검사 (boolean 오버로드가 없으면 long / Object 사이에서 모호)
+        assertEquals("true 3", message(() -> Checks.checkArgument(false, "%s %s", flag, count)));
+        assertEquals("true 3 kim", message(() -> Checks.checkArgument(false, "%s %s %s", flag, count, name)));
+        assertEquals("3 x false", message(() -> Checks.checkState(false, "%s %s %s", count, 'x', !flag)));
+        assertEquals("kim true 3",
+                message(() -> Checks.checkNotNull(null, "%s %s %s", name, flag, (Integer) count)));
+        assertEquals("1.5 3 kim", message(() -> Checks.checkArgument(false, "%s %s %s", (Object) 1.5, count, name)));
+        assertEquals(guavaMessage("%s %s %s %s", 1.5, count, flag, name),
+                message(() -> Checks.checkArgument(false, "%s %s %s %s", (Object) 1.5, count, (Object) flag, name)));
+    }
+
+    @Test
+    void double_과_섞으면_캐스트가_필요(@TempDir Path dir) {
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(javac != null);
+
+        List<String> ambiguous = compile(javac, dir, "d, count, name");
+        assertEquals(1, ambiguous.size(), ambiguous.toString());
+        assertTrue(ambiguous.get(0).startsWith("compiler.err.ref.ambiguous"), ambiguous.get(0));
+
+        assertEquals(List.of(), compile(javac, dir, "(Object) d, count, name"));
+        assertEquals(List.of(), compile(javac, dir, "flag, count, name"));
+    }
+
+    /** checkArgument(ok, "%s %s %s", <arguments>) 한 줄짜리 클래스를 컴파일한 오류 목록 (코드: 메시지) */
+    private static List<String> compile(JavaCompiler javac, Path dir, String arguments) {
+        String source = "class Call {\n"
+                + "    void call(boolean ok, boolean flag, int count, String name, double d) {\n"
+                + "        org.example.base.Checks.checkArgument(ok, \"%s %s %s\", " + arguments + ");\n"
+                + "    }\n"
+                + "}\n";
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///Call.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = List.of("-classpath", System.getProperty("java.class.path"),
+                "-d", dir.toString(), "-proc:none");
+        javac.getTask(null, null, diagnostics, options, null, List.of(file)).call();
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getCode() + ": " + d.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void checkIndex_는_Objects_와_같음() {
+        assertEquals(3, Checks.checkIndex(3, 4));
+        assertEquals(0, Checks.checkFromToIndex(0, 4, 4));
+        assertEquals(2, Checks.checkFromIndexSize(2, 2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> Checks.checkIndex(4, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> Checks.checkIndex(-1, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> Checks.checkFromToIndex(3, 2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> Checks.checkFromIndexSize(2, Integer.MAX_VALUE, 4));
+    }
+
+    @Test
+    void 성공_경로_할당_없음() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        long thread = Thread.currentThread().getId();
+        int iterations = 100_000;
+        String user = "kim";
+
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 1000; i < 1000 + iterations; i++) {
+            long t = i * 1_000_000L;
+            char c = (char) ('a' + (i & 15));
+            Checks.checkArgument(i > 0, "%s %s %s %s", i, t, c, user);
+            Checks.checkState(i > 0, "%s %s %s", c, i, t);
+            Checks.checkNotNull(user, "%s %s", t, c);
+        }
+        long checks = threads.getThreadAllocatedBytes(thread) - before;
+
+        before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 1000; i < 1000 + iterations; i++) {
+            long t = i * 1_000_000L;
+            char c = (char) ('a' + (i & 15));
+            Preconditions.checkArgument(i > 0, "%s %s %s %s", i, t, c, user);
+        }
+        long guava = threads.getThreadAllocatedBytes(thread) - before;
+
+        System.out.println("성공 경로 할당: Checks " + checks + " B, Guava 4 인자 " + guava + " B");
+        // 카운터 자체의 잡음만 허용
+        assertTrue(checks < 1024, "Checks allocated " + checks);
+        assertTrue(guava > iterations * 16L, "Guava allocated " + guava);
+    }
+
+    private static String guavaMessage(String template, Object... args) {
+        return message(() -> Preconditions.checkArgument(false, template, args));
+    }
+
+    private static String message(Runnable check) {
+        return assertThrows(RuntimeException.class, check::run).getMessage();
+    }
+}
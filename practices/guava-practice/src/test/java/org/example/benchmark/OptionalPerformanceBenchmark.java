@@ -2,6 +2,10 @@ package org.example.benchmark;
 
 import com.google.common.base.Function;
 import com.google.common.base.Supplier;
+import org.example.optional.SimpleOptional;
+import org.example.optional.SimpleOptionalInt;
+
+import java.lang.management.ManagementFactory;
 
 /**
  * Guava Optional 성능 벤치마크
@@ -20,6 +24,7 @@ public class OptionalPerformanceBenchmark {
         benchmark2_AbsentSingleton();
         benchmark3_TransformChain();
         benchmark4_OrVsOrSupplier();
+        benchmark5_PrimitiveAllocation();
 
         conclusions();
     }
@@ -202,6 +207,71 @@ public class OptionalPerformanceBenchmark {
         System.out.println("  ✓ Absent일 때만 Supplier가 호출됨!\n");
     }
 
+    static void benchmark5_PrimitiveAllocation() {
+        System.out.println("📊 벤치마크 5: 호출당 할당량 - SimpleOptional<Integer> vs SimpleOptionalInt\n");
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            System.out.println("  (이 JVM은 스레드별 할당량 측정을 지원하지 않음)\n");
+            return;
+        }
+        long threadId = Thread.currentThread().getId();
+
+        Function<Integer, Integer> boxedTwice = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer i) {
+                return i * 2;
+            }
+        };
+
+        // 워밍업: C2 컴파일 + 인라이닝이 끝나야 Escape Analysis 가 적용됨
+        long sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += boxedLookup(i, boxedTwice);
+            sink += primitiveLookup(i);
+            sink += primitiveLongLookup(i);
+        }
+
+        // 캐시 범위(-128 ~ 127) 밖의 값이 나오도록 1000 부터 시작
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 1000; i < 1000 + ITERATIONS; i++) {
+            sink += boxedLookup(i, boxedTwice);
+        }
+        long boxedBytes = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 1000; i < 1000 + ITERATIONS; i++) {
+            sink += primitiveLookup(i);
+        }
+        long intBytes = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 1000; i < 1000 + ITERATIONS; i++) {
+            sink += primitiveLongLookup(i);
+        }
+        long longBytes = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        System.out.printf("  SimpleOptional<Integer>: %.2f B/call%n", (double) boxedBytes / ITERATIONS);
+        System.out.printf("  SimpleOptionalInt:       %.2f B/call%n", (double) intBytes / ITERATIONS);
+        System.out.printf("  SimpleOptionalLong:      %.2f B/call%n", (double) longBytes / ITERATIONS);
+        System.out.println("  (sink: " + sink + ")");
+        System.out.println("  ✓ 프리미티브 버전은 EA 로 할당이 사라짐 (JIT 가 꺼진 환경에선 0이 아닐 수 있음)");
+        System.out.println("  ✓ 정밀 측정은 guava-practice-jmh 의 PrimitiveOptionalBenchmark -prof gc\n");
+    }
+
+    static int boxedLookup(int key, Function<Integer, Integer> function) {
+        return SimpleOptional.of(key).transform(function).or(-1);
+    }
+
+    static int primitiveLookup(int key) {
+        return SimpleOptionalInt.of(key).transform(i -> i * 2).or(-1);
+    }
+
+    static long primitiveLongLookup(int key) {
+        return SimpleOptionalInt.of(key).transformToLong(i -> i * 1_000_000_000L).or(-1L);
+    }
+
     static void conclusions() {
         System.out.println("📌 성능 분석 결론\n");
 
@@ -224,6 +294,10 @@ public class OptionalPerformanceBenchmark {
         System.out.println("   • 비용이 큰 연산일수록 이득 증가");
         System.out.println("   • 데이터베이스 조회, 네트워크 호출 등에 유용");
 
+        System.out.println("\n5. 프리미티브 특화");
+        System.out.println("   • Optional<Integer> 는 Integer + Present 두 번 할당");
+        System.out.println("   • SimpleOptionalInt 는 박싱 없음 + 작은 값 캐시 + EA 로 할당 제거");
+
         System.out.println("\n💡 최종 권장사항:");
         System.out.println("   • 성능보다는 코드 명확성을 우선");
         System.out.println("   • Optional은 반환 타입에만 사용");
@@ -0,0 +1,150 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdaptiveBuilders
+ * - 따라가는 용량이 실제 ImmutableList.Builder 의 contents 배열과 같은지 (리플렉션)
+ * - 크기가 일정한 호출 지점은 몇 번 뒤 복사 0 / 낭비 0
+ * - 크기 분포가 바뀌면 감쇠 히스토그램이 따라가는지
+ */
+class AdaptiveBuildersTest {
+
+    @Test
+    void 용량_모델이_Guava_빌더와_동일() throws Exception {
+        AdaptiveBuilders.ListBuilder<Integer> builder =
+                AdaptiveBuilders.site("test.model").listBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.add(i);
+            assertEquals(guavaCapacity(builder), modelCapacity(builder), "size " + (i + 1));
+        }
+        builder.addAll(Collections.nCopies(3000, 7));
+        assertEquals(guavaCapacity(builder), modelCapacity(builder));
+        builder.add(1, 2, 3);
+        assertEquals(guavaCapacity(builder), modelCapacity(builder));
+        builder.addAll(Arrays.asList(4, 5).iterator());
+        assertEquals(guavaCapacity(builder), modelCapacity(builder));
+        assertEquals(4005, builder.build().size());
+    }
+
+    @Test
+    void 크기가_일정하면_복사와_낭비가_사라짐() {
+        AdaptiveBuilders.Site site = AdaptiveBuilders.site("test.fixed");
+        assertEquals(-1, site.expectedSize());
+
+        ImmutableList<Integer> first = build(site, 1000);
+        AdaptiveBuilders.SiteStats cold = site.stats();
+        // 4 → 7 → 11 → ... → 1000 이상까지 증가 복사 + build 잘라내기
+        assertTrue(cold.arrayCopies() > 10, cold.toString());
+        assertTrue(cold.wastedSlots() > 0, cold.toString());
+        assertEquals(1000, site.expectedSize());
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first, build(site, 1000));
+        }
+        AdaptiveBuilders.SiteStats warm = site.stats();
+        assertEquals(11, warm.builds());
+        assertEquals(11_000, warm.elements());
+        assertEquals(cold.arrayCopies(), warm.arrayCopies());
+        assertEquals(cold.wastedSlots(), warm.wastedSlots());
+        assertSame(warm.name(), AdaptiveBuilders.stats().get("test.fixed").name());
+    }
+
+    @Test
+    void build_후_재사용은_복사로_셈() {
+        AdaptiveBuilders.Site site = AdaptiveBuilders.site("test.reuse");
+        site.record(4);
+        AdaptiveBuilders.ListBuilder<String> builder = site.listBuilder();
+        builder.add("a").add("b").add("c");
+        assertEquals(ImmutableList.of("a", "b", "c"), builder.build());
+        // 용량 4 에 3 개 → build 에서 잘라내기 복사
+        assertEquals(1, site.stats().arrayCopies());
+        assertEquals(1, site.stats().wastedSlots());
+        // 내보낸 배열에 쓰지 않도록 Guava 가 용량이 남아도 복사, 4 개는 딱 맞아 잘라내기 없음
+        builder.add("d");
+        assertEquals(ImmutableList.of("a", "b", "c", "d"), builder.build());
+        assertEquals(2, site.stats().arrayCopies());
+        assertEquals(1, site.stats().wastedSlots());
+    }
+
+    @Test
+    void 크기_분포가_바뀌면_따라감() {
+        AdaptiveBuilders.Site site = AdaptiveBuilders.site("test.shift", 16, 0.9);
+        for (int i = 0; i < 200; i++) {
+            build(site, 100 + i % 10);
+        }
+        assertEquals(109, site.expectedSize());
+        for (int i = 0; i < 200; i++) {
+            build(site, 5000);
+        }
+        assertEquals(5000, site.expectedSize());
+    }
+
+    @Test
+    void 히스토그램_분위수() {
+        DecayingSizeHistogram histogram = new DecayingSizeHistogram(1_000_000);
+        assertEquals(-1, histogram.quantile(0.5));
+        for (int size = 1; size <= 100; size++) {
+            histogram.record(size);
+        }
+        // 버킷 폭은 값의 25% 이하 → 분위수는 실제 값보다 크지만 25% 안쪽
+        int median = histogram.quantile(0.5);
+        assertTrue(median >= 50 && median < 50 * 1.25, "median " + median);
+        assertEquals(100, histogram.quantile(1.0));
+        assertEquals(0, DecayingSizeHistogram.bucket(0));
+        assertEquals(DecayingSizeHistogram.BUCKETS - 1, DecayingSizeHistogram.bucket(Integer.MAX_VALUE));
+        for (int size = 8; size < 100_000; size++) {
+            assertTrue(DecayingSizeHistogram.bucket(size) >= DecayingSizeHistogram.bucket(size - 1));
+        }
+    }
+
+    @Test
+    void 호출_위치를_이름으로() {
+        AdaptiveBuilders.Site site = AdaptiveBuilders.site();
+        assertTrue(site.name().startsWith(AdaptiveBuildersTest.class.getName() + ".호출_위치를_이름으로:"),
+                site.name());
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveBuilders.site("test.bad", 0, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveBuilders.site("test.bad", 10, 1.5));
+    }
+
+    private static ImmutableList<Integer> build(AdaptiveBuilders.Site site, int size) {
+        AdaptiveBuilders.ListBuilder<Integer> builder = site.listBuilder();
+        List<Integer> expected = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            builder.add(i);
+            expected.add(i);
+        }
+        ImmutableList<Integer> list = builder.build();
+        assertEquals(expected, list);
+        return list;
+    }
+
+    private static int guavaCapacity(AdaptiveBuilders.ListBuilder<?> builder) throws Exception {
+        Object delegate = field(builder, "delegate");
+        return ((Object[]) field(delegate, "contents")).length;
+    }
+
+    private static int modelCapacity(AdaptiveBuilders.ListBuilder<?> builder) throws Exception {
+        // 한 개씩 추가한 만큼의 증가는 sync() 에서 재생
+        Method sync = builder.getClass().getDeclaredMethod("sync");
+        sync.setAccessible(true);
+        sync.invoke(builder);
+        return (int) field(builder, "capacity");
+    }
+
+    private static Object field(Object target, String name) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+}
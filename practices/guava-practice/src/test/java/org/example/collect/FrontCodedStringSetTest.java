@@ -0,0 +1,132 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Iterables;
+import org.example.footprint.Footprint;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FrontCodedStringSet
+ * - TreeSet 과 같은 순서 / contains / ceiling / 앞부분 범위 (한글, surrogate, U+E000 이상 포함)
+ * - 블록 경계, 빈 집합, null
+ * - URL 같은 키에서 ImmutableSortedSet 보다 3 배 이상 작음
+ */
+class FrontCodedStringSetTest {
+
+    private static final String ALPHABET = "ab/.-가나😀￿";
+
+    @Test
+    void 작은_집합() {
+        FrontCodedStringSet set = FrontCodedStringSet.copyOf(
+                Arrays.asList("banana", "apple", "apricot", "band", "apple", "b", ""), 2);
+        assertEquals(ImmutableList.of("", "apple", "apricot", "b", "banana", "band"), ImmutableList.copyOf(set));
+        assertEquals(6, set.size());
+        assertEquals("", set.first());
+        assertEquals("band", set.last());
+        assertTrue(set.contains("apricot"));
+        assertTrue(set.contains(""));
+        assertFalse(set.contains("ap"));
+        assertFalse(set.contains("bandana"));
+        assertFalse(set.contains(null));
+        assertFalse(set.contains(42));
+
+        assertEquals("apple", set.ceiling("a"));
+        assertEquals("apricot", set.ceiling("applf"));
+        assertEquals("b", set.ceiling("az"));
+        assertEquals("banana", set.ceiling("ba"));
+        assertNull(set.ceiling("bane"));
+        assertEquals(ImmutableList.of("apple", "apricot"), ImmutableList.copyOf(set.withPrefix("ap")));
+        assertEquals(ImmutableList.of("b", "banana", "band"), ImmutableList.copyOf(set.withPrefix("b")));
+        assertEquals(ImmutableList.of(), ImmutableList.copyOf(set.withPrefix("c")));
+        assertEquals(ImmutableSortedSet.of("", "apple", "apricot", "b", "banana", "band"), set);
+
+        assertThrows(NullPointerException.class, () -> FrontCodedStringSet.copyOf(Arrays.asList("a", null)));
+        assertThrows(IllegalArgumentException.class, () -> FrontCodedStringSet.copyOf(List.of("a"), 0));
+        assertThrows(UnsupportedOperationException.class, () -> set.add("c"));
+    }
+
+    @Test
+    void 빈_집합() {
+        FrontCodedStringSet empty = FrontCodedStringSet.copyOf(List.of());
+        assertSame(FrontCodedStringSet.of(), empty);
+        assertTrue(empty.isEmpty());
+        assertFalse(empty.contains(""));
+        assertNull(empty.ceiling(""));
+        assertFalse(empty.iterator().hasNext());
+        assertFalse(empty.withPrefix("").iterator().hasNext());
+        assertThrows(NoSuchElementException.class, empty::first);
+        assertThrows(NoSuchElementException.class, () -> empty.iterator().next());
+    }
+
+    @Test
+    void TreeSet_과_같은_결과() {
+        Random random = new Random(42);
+        for (int blockSize : new int[]{1, 3, 16, 64}) {
+            TreeSet<String> expected = new TreeSet<>();
+            for (int i = 0; i < 3000; i++) {
+                expected.add(randomString(random, 12));
+            }
+            FrontCodedStringSet set = FrontCodedStringSet.copyOf(expected, blockSize);
+            assertEquals(ImmutableList.copyOf(expected), ImmutableList.copyOf(set), "blockSize " + blockSize);
+            assertEquals(expected.first(), set.first());
+            assertEquals(expected.last(), set.last());
+            for (int i = 0; i < 3000; i++) {
+                String probe = randomString(random, 12);
+                assertEquals(expected.contains(probe), set.contains(probe), probe);
+                assertEquals(expected.ceiling(probe), set.ceiling(probe), probe);
+                String prefix = probe.substring(0, Math.min(probe.length(), 2));
+                List<String> range = new ArrayList<>();
+                for (String s : expected.tailSet(prefix)) {
+                    if (!s.startsWith(prefix)) {
+                        break;
+                    }
+                    range.add(s);
+                }
+                assertEquals(range, ImmutableList.copyOf(set.withPrefix(prefix)), prefix);
+            }
+            for (String s : Iterables.limit(expected, 500)) {
+                assertTrue(set.contains(s), s);
+                assertEquals(s, set.ceiling(s));
+            }
+        }
+    }
+
+    @Test
+    void URL_키는_ImmutableSortedSet_보다_작음() {
+        List<String> urls = new ArrayList<>();
+        String[] hosts = {"https://www.example.com", "https://shop.example.co.kr", "https://api.example.org"};
+        String[] sections = {"/products/", "/users/", "/orders/", "/search?q="};
+        for (int i = 0; i < 20_000; i++) {
+            urls.add(hosts[i % hosts.length] + sections[(i / 3) % sections.length] + (i * 7919 % 100_000));
+        }
+        ImmutableSortedSet<String> guava = ImmutableSortedSet.copyOf(urls);
+        FrontCodedStringSet set = FrontCodedStringSet.copyOf(urls);
+        assertEquals(guava, set);
+
+        long guavaBytes = Footprint.deepSize(guava);
+        long frontCodedBytes = Footprint.deepSize(set);
+        assertTrue(frontCodedBytes * 3 <= guavaBytes, frontCodedBytes + " vs " + guavaBytes);
+        assertTrue(set.encodedBytes() <= frontCodedBytes);
+    }
+
+    private static String randomString(Random random, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            // 앞쪽 글자가 자주 나와 앞부분이 겹치는 문자열이 많도록
+            int index = Math.min(random.nextInt(ALPHABET.length()), random.nextInt(ALPHABET.length()));
+            sb.append(ALPHABET.charAt(index));
+        }
+        return sb.toString();
+    }
+}
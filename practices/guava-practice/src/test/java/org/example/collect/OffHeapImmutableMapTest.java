@@ -0,0 +1,116 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OffHeapImmutableMap 이 ImmutableMap 과 같은 내용/순서/예외를 내는지,
+ * 파일로 빌드한 맵을 다시 매핑해도 같은지 검증
+ */
+class OffHeapImmutableMapTest {
+
+    @Test
+    void ImmutableMap과_같은_내용과_순서() {
+        Map<String, String> config = new LinkedHashMap<>();
+        config.put("db.host", "localhost");
+        config.put("db.port", "5432");
+        config.put("이름", "홍길동");
+        config.put("emoji", "😀");
+        config.put("", "empty key");
+
+        OffHeapImmutableMap<String, String> map =
+                OffHeapImmutableMap.copyOf(config, Codec.utf8(), Codec.utf8());
+        assertEquals(ImmutableMap.copyOf(config), map);
+        assertEquals(ImmutableMap.copyOf(config).toString(), map.toString());
+        assertEquals(config.hashCode(), map.hashCode());
+        assertEquals("홍길동", map.get("이름"));
+        assertEquals("😀", map.get("emoji"));
+        assertNull(map.get("missing"));
+        assertNull(map.get(42));
+        assertNull(map.get(null));
+        assertFalse(map.containsKey("db"));
+        assertTrue(map.containsKey(""));
+    }
+
+    @Test
+    void 많은_엔트리_숫자_키() {
+        OffHeapImmutableMap.Builder<Long, Integer> builder = OffHeapImmutableMap.builder(Codec.int64(), Codec.int32());
+        for (long i = 0; i < 100_000; i++) {
+            builder.put(i * 7919, (int) i);
+        }
+        OffHeapImmutableMap<Long, Integer> map = builder.build();
+        assertEquals(100_000, map.size());
+        for (long i = 0; i < 100_000; i++) {
+            assertEquals((int) i, map.get(i * 7919));
+            assertNull(map.get(i * 7919 + 1));
+        }
+        // 헤더 32 + 인덱스 2^18 * 8 + 레코드 (8 + 8 + 4) * 100,000
+        assertEquals(32 + (1 << 18) * 8 + 20 * 100_000, map.offHeapBytes());
+    }
+
+    @Test
+    void 파일로_빌드하고_다시_매핑(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("countries.ohm");
+        OffHeapImmutableMap.Builder<String, String> builder = OffHeapImmutableMap.builder(Codec.utf8(), Codec.utf8());
+        for (int i = 0; i < 10_000; i++) {
+            builder.put("key-" + i, "value-" + i);
+        }
+        OffHeapImmutableMap<String, String> built = builder.buildTo(file);
+        assertEquals(built.offHeapBytes(), Files.size(file));
+
+        OffHeapImmutableMap<String, String> reopened = OffHeapImmutableMap.open(file, Codec.utf8(), Codec.utf8());
+        assertEquals(10_000, reopened.size());
+        assertEquals("value-1234", reopened.get("key-1234"));
+        assertEquals(built, reopened);
+    }
+
+    @Test
+    void 긴_값은_조각을_키워서_저장() {
+        String large = new String(new char[100_000]).replace('\0', 'x');
+        OffHeapImmutableMap<String, String> map = OffHeapImmutableMap.builder(Codec.utf8(), Codec.utf8())
+                .put("small", "1")
+                .put("large", large)
+                .put("after", "2")
+                .build();
+        assertEquals(large, map.get("large"));
+        assertEquals("2", map.get("after"));
+    }
+
+    @Test
+    void 중복_키와_null은_ImmutableMap과_같은_예외() {
+        IllegalArgumentException expected = assertThrows(IllegalArgumentException.class,
+                () -> ImmutableMap.builder().put("a", "1").put("a", "2").build());
+        IllegalArgumentException actual = assertThrows(IllegalArgumentException.class,
+                () -> OffHeapImmutableMap.builder(Codec.utf8(), Codec.utf8()).put("a", "1").put("a", "2").build());
+        assertEquals(expected.getMessage(), actual.getMessage());
+
+        NullPointerException nullValue = assertThrows(NullPointerException.class,
+                () -> OffHeapImmutableMap.builder(Codec.utf8(), Codec.utf8()).put("a", null));
+        assertEquals("null value in entry: a=null", nullValue.getMessage());
+    }
+
+    @Test
+    void 수정_불가() {
+        OffHeapImmutableMap<String, String> map =
+                OffHeapImmutableMap.copyOf(ImmutableMap.of("a", "1"), Codec.utf8(), Codec.utf8());
+        assertThrows(UnsupportedOperationException.class, () -> map.put("b", "2"));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+        assertThrows(UnsupportedOperationException.class, map::clear);
+    }
+
+    @Test
+    void 잘못된_파일(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("garbage");
+        Files.write(file, new byte[64]);
+        assertThrows(IllegalArgumentException.class, () -> OffHeapImmutableMap.open(file, Codec.utf8(), Codec.utf8()));
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ParallelImmutableCollections / CompactImmutableSet
+ * - 병렬도 4 인 pool + 낮은 임계값으로 병렬 경로를 (CPU 가 하나여도) 실제로 태움
+ * - 결과가 ImmutableList.copyOf / ImmutableSet.copyOf 와 같은지 (순서, 중복, hashCode 까지)
+ */
+class ParallelImmutableCollectionsTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void 리스트_병렬_복사() {
+        List<Integer> input = randomInts(200_000, 1_000_000);
+        ImmutableList<Integer> list = ParallelImmutableCollections.copyOfList(input, pool);
+        assertEquals(ImmutableList.copyOf(input), list);
+        assertEquals(ImmutableList.of(), ParallelImmutableCollections.copyOfList(new ArrayList<>(), pool));
+
+        input.set(123_456, null);
+        assertThrows(NullPointerException.class, () -> ParallelImmutableCollections.copyOfList(input, pool));
+    }
+
+    @Test
+    void 셋_병렬_생성이_ImmutableSet_과_같음() {
+        // 10% 정도가 중복
+        List<Integer> input = randomInts(50_000, 45_000);
+        CompactImmutableSet<Integer> set = ParallelImmutableCollections.copyOfSet(input, pool, 100);
+        ImmutableSet<Integer> expected = ImmutableSet.copyOf(input);
+
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(expected.asList(), ImmutableList.copyOf(set));
+        assertEquals(expected.asList(), set.asList());
+        assertEquals(expected, set.toImmutableSet());
+        for (int i = -10; i < 46_000; i++) {
+            assertEquals(expected.contains(i), set.contains(i), "contains " + i);
+        }
+        assertFalse(set.contains(null));
+        assertFalse(set.contains("1"));
+
+        // 한 스레드 경로도 같은 결과
+        CompactImmutableSet<Integer> sequential = CompactImmutableSet.copyOf(input);
+        assertEquals(expected.asList(), sequential.asList());
+        assertEquals(expected.hashCode(), sequential.hashCode());
+    }
+
+    @Test
+    void hashCode_가_한_영역에_쏠리면_테이블_하나로() {
+        // smear 한 hash 의 윗 4 비트가 0 - 병렬도 4 면 영역 16 개 중 0 번에만 들어감
+        List<Integer> input = new ArrayList<>();
+        Random random = new Random(11);
+        while (input.size() < 50_000) {
+            int value = random.nextInt();
+            if (PrimitiveTables.smear(Integer.hashCode(value)) >>> 28 == 0) {
+                input.add(value);
+            }
+        }
+        input.addAll(input.subList(0, 1_000));
+
+        CompactImmutableSet<Integer> set = ParallelImmutableCollections.copyOfSet(input, pool, 100);
+        ImmutableSet<Integer> expected = ImmutableSet.copyOf(input);
+        assertEquals(expected.asList(), set.asList());
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertTrue(set.containsAll(input));
+        // 영역마다 가장 큰 영역 크기로 잡았다면 16 x 2^17 칸
+        assertEquals(1 << 17, set.tableLength());
+    }
+
+    @Test
+    void 셋_경계() {
+        assertTrue(ParallelImmutableCollections.copyOfSet(new ArrayList<String>(), pool, 1).isEmpty());
+        assertFalse(CompactImmutableSet.of().contains("a"));
+
+        CompactImmutableSet<String> one = ParallelImmutableCollections.copyOfSet(Arrays.asList("a", "a", "a"), pool, 1);
+        assertEquals(ImmutableSet.of("a"), one);
+
+        // Collection 이 아닌 Iterable
+        Iterable<String> iterable = () -> Arrays.asList("b", "a", "b", "c").iterator();
+        assertEquals(ImmutableList.of("b", "a", "c"), ParallelImmutableCollections.copyOfSet(iterable, pool, 1).asList());
+
+        // 다른 스레드에서 던진 예외는 ForkJoinPool 이 같은 타입으로 다시 만들어 던짐 (메시지는 한 스레드 경로에서 확인)
+        assertThrows(NullPointerException.class,
+                () -> ParallelImmutableCollections.copyOfSet(Arrays.asList("a", null), pool, 1));
+        NullPointerException e = assertThrows(NullPointerException.class,
+                () -> CompactImmutableSet.copyOf(Arrays.asList("a", null)));
+        assertEquals("at index 1", e.getMessage());
+    }
+
+    @Test
+    void 병렬_스트림_Collector() {
+        List<Integer> input = randomInts(100_000, 90_000);
+
+        ImmutableList<Integer> list = input.parallelStream()
+                .collect(ParallelImmutableCollections.toImmutableList(pool));
+        assertEquals(input, list);
+
+        CompactImmutableSet<Integer> set = input.parallelStream()
+                .collect(ParallelImmutableCollections.toCompactImmutableSet(pool));
+        assertEquals(ImmutableSet.copyOf(input).asList(), set.asList());
+
+        assertEquals(ImmutableList.of(), IntStream.range(0, 0).boxed()
+                .collect(ParallelImmutableCollections.toImmutableList()));
+        assertThrows(NullPointerException.class, () -> Arrays.asList(1, null, 2).stream()
+                .collect(ParallelImmutableCollections.toCompactImmutableSet()));
+    }
+
+    private static List<Integer> randomInts(int size, int bound) {
+        Random random = new Random(size);
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(bound));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PerfectHashSet / PerfectHashMap: ImmutableSet / ImmutableMap 과 같은 집합/값인지,
+ * 슬롯 수 = 원소 수이고 hashCode 가 겹치는 키도 처리하는지 검증
+ */
+class PerfectHashTest {
+
+    private static final List<String> COUNTRIES = Arrays.asList("KR", "US", "JP", "CN", "DE", "FR", "GB", "IN");
+
+    @Test
+    void 허용_국가_집합() {
+        PerfectHashSet<String> allowed = PerfectHashSet.copyOf(COUNTRIES);
+        assertEquals(ImmutableSet.copyOf(COUNTRIES), allowed);
+        assertEquals(ImmutableSet.copyOf(COUNTRIES).hashCode(), allowed.hashCode());
+        assertTrue(allowed.contains("KR"));
+        assertFalse(allowed.contains("XX"));
+        assertFalse(allowed.contains(null));
+        assertFalse(allowed.contains(42));
+        assertEquals(2, allowed.displacementCount());
+        assertThrows(UnsupportedOperationException.class, () -> allowed.add("XX"));
+        assertThrows(UnsupportedOperationException.class, () -> allowed.iterator().remove());
+    }
+
+    @Test
+    void 많은_키() {
+        for (int size : new int[]{1, 2, 3, 10, 1000, 100_000}) {
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                keys.add("key-" + i);
+            }
+            PerfectHashSet<String> set = PerfectHashSet.copyOf(keys);
+            assertEquals(size, set.size());
+            assertEquals(new HashSet<>(keys), set);
+            for (int i = 0; i < size; i++) {
+                assertTrue(set.contains("key-" + i));
+                assertFalse(set.contains("nope-" + i));
+            }
+            assertEquals((size + 3) / 4, set.displacementCount());
+        }
+    }
+
+    @Test
+    void hashCode가_같은_String_키는_글자_단위_해시로() {
+        // "Aa" 와 "BB" 의 hashCode 는 같음 → 조합도 전부 같은 hashCode
+        List<String> keys = new ArrayList<>();
+        for (String a : new String[]{"Aa", "BB"}) {
+            for (String b : new String[]{"Aa", "BB"}) {
+                for (String c : new String[]{"Aa", "BB"}) {
+                    keys.add(a + b + c);
+                }
+            }
+        }
+        assertEquals(1, keys.stream().mapToInt(String::hashCode).distinct().count());
+        PerfectHashSet<String> set = PerfectHashSet.copyOf(keys);
+        for (String key : keys) {
+            assertTrue(set.contains(key), key);
+        }
+        assertFalse(set.contains("AaAaAb"));
+        assertFalse(set.contains(new StringBuilder("AaAaAa")));
+    }
+
+    @Test
+    void hashCode가_같은_다른_키는_충돌_목록() {
+        // Long.hashCode: 0L 과 -1L 모두 0, List.hashCode: 31 * (31 + 1) + 0 == 31 * (31 + 0) + 31
+        PerfectHashSet<Long> longs = PerfectHashSet.of(0L, -1L, 5L);
+        assertEquals(ImmutableSet.of(0L, -1L, 5L), longs);
+        assertTrue(longs.contains(0L));
+        assertTrue(longs.contains(-1L));
+        assertFalse(longs.contains(1L));
+        assertFalse(longs.contains(0));
+
+        PerfectHashSet<List<Integer>> lists = PerfectHashSet.of(List.of(1, 0), List.of(0, 31));
+        assertEquals(2, lists.size());
+        assertTrue(lists.contains(List.of(1, 0)));
+        assertTrue(lists.contains(Arrays.asList(0, 31)));
+        assertFalse(lists.contains(List.of(0, 1)));
+
+        Set<Object> keys = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add(i % 3 == 0 ? new Collide("c" + i) : i);
+        }
+        PerfectHashSet<Object> mixed = PerfectHashSet.copyOf(keys);
+        assertEquals(keys, mixed);
+        for (Object key : keys) {
+            assertTrue(mixed.contains(key), key.toString());
+        }
+        assertFalse(mixed.contains(new Collide("c1")));
+
+        ImmutableMap<Long, String> expected = ImmutableMap.of(0L, "zero", -1L, "minus one");
+        PerfectHashMap<Long, String> map = PerfectHashMap.copyOf(expected);
+        assertEquals(expected, map);
+        assertEquals("minus one", map.get(-1L));
+        assertNull(map.get(1L));
+    }
+
+    @Test
+    void 상태_코드_맵() {
+        ImmutableMap<Integer, String> statuses = ImmutableMap.of(200, "OK", 201, "Created", 304, "Not Modified",
+                404, "Not Found", 500, "Internal Server Error");
+        PerfectHashMap<Integer, String> map = PerfectHashMap.copyOf(statuses);
+        assertEquals(statuses, map);
+        assertEquals(statuses.hashCode(), map.hashCode());
+        assertEquals("Not Found", map.get(404));
+        assertNull(map.get(403));
+        assertNull(map.get("404"));
+        assertTrue(map.containsKey(500));
+        assertTrue(PerfectHashMap.of().isEmpty());
+        assertNull(PerfectHashMap.of().get("a"));
+    }
+
+    @Test
+    void 중복_키와_null은_ImmutableMap과_같은_메시지() {
+        IllegalArgumentException expected = assertThrows(IllegalArgumentException.class,
+                () -> ImmutableMap.builder().put("a", "1").put("a", "2").build());
+        IllegalArgumentException actual = assertThrows(IllegalArgumentException.class,
+                () -> PerfectHashMap.builder().put("a", "1").put("a", "2"));
+        assertEquals(expected.getMessage(), actual.getMessage());
+
+        NullPointerException expectedNull = assertThrows(NullPointerException.class,
+                () -> ImmutableMap.builder().put("a", null));
+        assertEquals(expectedNull.getMessage(), assertThrows(NullPointerException.class,
+                () -> PerfectHashMap.builder().put("a", null)).getMessage());
+        assertThrows(NullPointerException.class, () -> PerfectHashSet.of("a", null));
+    }
+
+    private static final class Collide {
+        private final String name;
+
+        Collide(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collide && ((Collide) o).name.equals(name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PersistentHashMap: 무작위 with/without 결과가 HashMap 과 같은지, 이전 버전이 그대로인지 검증
+ */
+class PersistentHashMapTest {
+
+    @Test
+    void 무작위_변경이_HashMap과_동일() {
+        Random random = new Random(42);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.of();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.without(key);
+            } else {
+                expected.put(key, i);
+                map = map.with(key, i);
+            }
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(expected.size(), map.entrySet().stream().count());
+    }
+
+    @Test
+    void 이전_버전은_바뀌지_않음() {
+        PersistentHashMap<String, String> v1 = PersistentHashMap.<String, String>of().with("a", "1").with("b", "2");
+        PersistentHashMap<String, String> v2 = v1.with("a", "100");
+        PersistentHashMap<String, String> v3 = v2.without("b");
+        assertEquals("1", v1.get("a"));
+        assertEquals("100", v2.get("a"));
+        assertEquals(2, v2.size());
+        assertEquals(1, v3.size());
+        assertNull(v3.get("b"));
+        assertEquals("2", v1.get("b"));
+    }
+
+    @Test
+    void 바뀌지_않으면_같은_인스턴스() {
+        PersistentHashMap<String, String> map = PersistentHashMap.<String, String>of().with("a", "1");
+        assertSame(map, map.with("a", "1"));
+        assertSame(map, map.without("zzz"));
+        assertSame(map, map.without(null));
+        assertSame(PersistentHashMap.of(), map.without("a"));
+    }
+
+    @Test
+    void 해시_충돌_키() {
+        // "Aa" / "BB" 처럼 hashCode 가 같은 키 → CollisionNode
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>of()
+                .with("Aa", 1).with("BB", 2).with("AaAa", 3).with("BBBB", 4).with("AaBB", 5);
+        assertEquals(5, map.size());
+        assertEquals(2, map.get("BB"));
+        assertEquals(5, map.get("AaBB"));
+        PersistentHashMap<String, Integer> removed = map.without("Aa").without("BB");
+        assertEquals(3, removed.size());
+        assertNull(removed.get("Aa"));
+        assertEquals(4, removed.get("BBBB"));
+        assertEquals(0, removed.without("AaAa").without("BBBB").without("AaBB").size());
+    }
+
+    @Test
+    void null_키와_값은_거부() {
+        assertThrows(NullPointerException.class, () -> PersistentHashMap.of().with(null, "a"));
+        assertThrows(NullPointerException.class, () -> PersistentHashMap.of().with("a", null));
+        assertThrows(UnsupportedOperationException.class, () -> PersistentHashMap.of().put("a", "b"));
+        assertNull(PersistentHashMap.of().get(null));
+    }
+
+    @Test
+    void 빌더_무작위_변경이_HashMap과_동일() {
+        Random random = new Random(7);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap.Builder<Integer, Integer> builder = PersistentHashMap.builder();
+        PersistentHashMap<Integer, Integer> previous = builder.build();
+        Map<Integer, Integer> previousExpected = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(3000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                builder.remove(key);
+            } else {
+                expected.put(key, i);
+                builder.put(key, i);
+            }
+            assertEquals(expected.size(), builder.size());
+            if (i % 1000 == 0) {
+                // 중간에 내보낸 버전은 이후 빌더 편집에 영향 받지 않음
+                assertEquals(previousExpected, previous);
+                previous = builder.build();
+                previousExpected = new HashMap<>(expected);
+            }
+        }
+        assertEquals(expected, builder.build());
+        assertEquals(previousExpected, previous);
+    }
+
+    @Test
+    void toBuilder는_원래_맵을_바꾸지_않음() {
+        PersistentHashMap<String, Integer> original = PersistentHashMap.<String, Integer>of()
+                .with("a", 1).with("b", 2).with("Aa", 3).with("BB", 4);
+        PersistentHashMap<String, Integer> edited = original.toBuilder()
+                .put("c", 5).remove("a").remove("BB").put("b", 20).build();
+        assertEquals(ImmutableMap.of("a", 1, "b", 2, "Aa", 3, "BB", 4), original);
+        assertEquals(ImmutableMap.of("b", 20, "Aa", 3, "c", 5), edited);
+        assertSame(original, original.toBuilder().build());
+        assertSame(original, original.toBuilder().remove("zzz").build());
+        assertSame(PersistentHashMap.of(), original.toBuilder()
+                .remove("a").remove("b").remove("Aa").remove("BB").build());
+    }
+
+    @Test
+    void ImmutableMap_상호_변환() {
+        ImmutableMap<String, Integer> immutable = ImmutableMap.of("one", 1, "two", 2, "three", 3);
+        PersistentHashMap<String, Integer> map = PersistentHashMap.copyOf(immutable);
+        assertEquals(immutable, map);
+        assertEquals(immutable.hashCode(), map.hashCode());
+        assertEquals(immutable, map.toImmutableMap());
+        assertSame(map, PersistentHashMap.copyOf(map));
+        assertEquals(ImmutableMap.of("one", 1, "two", 22, "three", 3, "four", 4),
+                map.withAll(ImmutableMap.of("two", 22, "four", 4)));
+        assertSame(map, map.withAll(ImmutableMap.of()));
+    }
+
+    @Test
+    void 셋_HashSet과_동일() {
+        Random random = new Random(11);
+        Set<Integer> expected = new HashSet<>();
+        PersistentHashSet<Integer> set = PersistentHashSet.of();
+        for (int i = 0; i < 5000; i++) {
+            int element = random.nextInt(1000);
+            if (random.nextBoolean()) {
+                expected.add(element);
+                set = set.with(element);
+            } else {
+                expected.remove(element);
+                set = set.without(element);
+            }
+        }
+        assertEquals(expected, set);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(ImmutableSet.copyOf(expected), set.toImmutableSet());
+        assertEquals(expected, PersistentHashSet.copyOf(expected));
+    }
+
+    @Test
+    void 셋_영속성과_빌더() {
+        PersistentHashSet<String> base = PersistentHashSet.copyOf(Arrays.asList("a", "b", "a"));
+        PersistentHashSet<String> more = base.with("c");
+        assertEquals(ImmutableSet.of("a", "b"), base);
+        assertEquals(ImmutableSet.of("a", "b", "c"), more);
+        assertSame(base, base.with("a"));
+        assertSame(base, base.without("zzz"));
+        assertSame(PersistentHashSet.of(), base.without("a").without("b"));
+
+        PersistentHashSet.Builder<String> builder = more.toBuilder().add("d").remove("a");
+        assertTrue(builder.contains("d"));
+        assertEquals(ImmutableSet.of("b", "c", "d"), builder.build());
+        assertEquals(ImmutableSet.of("a", "b", "c"), more);
+        assertEquals(ImmutableSet.of("a", "b", "c", "x"), more.withAll(ImmutableSet.of("x", "a")));
+        assertThrows(NullPointerException.class, () -> base.with(null));
+    }
+}
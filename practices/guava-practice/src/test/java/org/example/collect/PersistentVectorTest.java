@@ -0,0 +1,176 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PersistentVector 가 ArrayList 와 같은 내용인지 (append / with / concat / subList 를 섞어서)
+ * 이전 버전이 바뀌지 않는지, ImmutableList 와 오가는지
+ */
+class PersistentVectorTest {
+
+    @Test
+    void append와_get이_ArrayList와_동일() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.of();
+        // 32 * 32 * 32 를 넘겨 높이 3 까지
+        for (int i = 0; i < 40_000; i++) {
+            expected.add(i);
+            vector = vector.append(i);
+        }
+        assertEquals(expected.size(), vector.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), vector.get(i));
+        }
+        assertEquals(expected, vector);
+        assertEquals(expected.hashCode(), vector.hashCode());
+        assertArrayEquals(expected.toArray(), vector.toArray());
+    }
+
+    @Test
+    void 이전_버전은_바뀌지_않음() {
+        PersistentVector<String> v1 = PersistentVector.copyOf(Arrays.asList("a", "b", "c"));
+        PersistentVector<String> v2 = v1.append("d");
+        PersistentVector<String> v3 = v2.with(0, "A");
+        assertEquals(Arrays.asList("a", "b", "c"), v1);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), v2);
+        assertEquals(Arrays.asList("A", "b", "c", "d"), v3);
+
+        PersistentVector<Integer> big = PersistentVector.copyOf(range(0, 5000));
+        PersistentVector<Integer> changed = big.with(1234, -1).with(4999, -2);
+        assertEquals(range(0, 5000), big);
+        assertEquals(-1, changed.get(1234));
+        assertEquals(-2, changed.get(4999));
+    }
+
+    @Test
+    void concat과_subList() {
+        for (int left : new int[]{1, 31, 32, 33, 1000, 1057, 33 * 32 + 5}) {
+            for (int right : new int[]{1, 32, 33, 100, 1024, 1500}) {
+                PersistentVector<Integer> a = PersistentVector.copyOf(range(0, left));
+                PersistentVector<Integer> b = PersistentVector.copyOf(range(left, left + right));
+                PersistentVector<Integer> joined = a.concat(b);
+                assertEquals(range(0, left + right), joined, left + " + " + right);
+                assertEquals(range(left / 3, left + right / 2), joined.subList(left / 3, left + right / 2));
+            }
+        }
+        PersistentVector<Integer> vector = PersistentVector.copyOf(range(0, 3000));
+        assertSame(vector, vector.subList(0, 3000));
+        assertTrue(vector.subList(5, 5).isEmpty());
+        assertEquals(range(2990, 3000), vector.subList(2990, 3000));
+        assertEquals(range(100, 101), vector.subList(100, 101));
+    }
+
+    @Test
+    void 무작위_연산이_ArrayList와_동일() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.of();
+        int next = 0;
+        for (int step = 0; step < 3000; step++) {
+            int op = random.nextInt(10);
+            if (op < 4) {
+                int count = random.nextInt(80);
+                for (int i = 0; i < count; i++) {
+                    expected.add(next);
+                    vector = vector.append(next++);
+                }
+            } else if (op < 6 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -step);
+                vector = vector.with(index, -step);
+            } else if (op < 8) {
+                // 앞에서 잘라 만든 조각을 붙여 relaxed 노드가 생기게
+                int count = random.nextInt(700);
+                List<Integer> piece = range(next, next + count);
+                next += count;
+                PersistentVector<Integer> pieceVector = PersistentVector.copyOf(piece);
+                int drop = count == 0 ? 0 : random.nextInt(count);
+                expected.addAll(piece.subList(drop, count));
+                vector = vector.concat(pieceVector.subList(drop, count));
+            } else if (expected.size() > 10) {
+                int from = random.nextInt(expected.size() / 4);
+                int to = expected.size() - random.nextInt(expected.size() / 4);
+                expected = new ArrayList<>(expected.subList(from, to));
+                vector = vector.subList(from, to);
+            }
+            assertEquals(expected.size(), vector.size());
+            if (step % 50 == 0 || expected.size() < 200) {
+                assertEquals(expected, vector);
+                assertArrayEquals(expected.toArray(), vector.toArray());
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), vector.get(index));
+            }
+        }
+        assertEquals(expected, vector);
+    }
+
+    @Test
+    void 큰_벡터끼리_반복_concat() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.of();
+        for (int i = 0; i < 200; i++) {
+            List<Integer> piece = range(expected.size(), expected.size() + 1 + i * 7);
+            expected.addAll(piece);
+            vector = vector.concat(PersistentVector.copyOf(piece).subList(0, piece.size()));
+            // 절반은 이어 붙인 결과를 다시 왼쪽에서 잘라서
+            if (i % 2 == 1) {
+                PersistentVector<Integer> rest = vector.subList(1, vector.size());
+                vector = PersistentVector.of(expected.get(0)).concat(rest);
+            }
+        }
+        assertEquals(expected, vector);
+        for (int i = 0; i < expected.size(); i += 97) {
+            assertEquals(expected.get(i), vector.get(i));
+        }
+    }
+
+    @Test
+    void ImmutableList_상호_변환() {
+        ImmutableList<String> immutable = ImmutableList.of("x", "y", "z");
+        PersistentVector<String> vector = PersistentVector.copyOf(immutable);
+        assertEquals(immutable, vector);
+        assertEquals(immutable, vector.toImmutableList());
+        assertEquals(immutable, ImmutableList.copyOf(vector));
+        assertEquals(ImmutableList.of("x", "y", "z", "w"),
+                ImmutableList.<String>builder().addAll(vector).add("w").build());
+        assertSame(vector, PersistentVector.copyOf(vector));
+        assertEquals(Arrays.asList("x", "y", "z", "p", "q"), vector.appendAll(ImmutableList.of("p", "q")));
+
+        PersistentVector.Builder<Integer> builder = PersistentVector.builder();
+        PersistentVector<Integer> first = builder.addAll(range(0, 100)).build();
+        PersistentVector<Integer> second = builder.add(100).build();
+        assertEquals(range(0, 100), first);
+        assertEquals(range(0, 101), second);
+    }
+
+    @Test
+    void null_원소와_변경_메서드는_거부() {
+        assertThrows(NullPointerException.class, () -> PersistentVector.of().append(null));
+        assertThrows(NullPointerException.class, () -> PersistentVector.copyOf(Arrays.asList("a", null)));
+        assertThrows(UnsupportedOperationException.class, () -> PersistentVector.of("a").add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> PersistentVector.of("a").set(0, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.of("a").get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.of("a").with(-1, "b"));
+        Iterator<Object> iterator = PersistentVector.of().iterator();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> list = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ImmutableIntList / ImmutableIntSet / ImmutableIntObjectMap / ImmutableLongLongMap
+ * - 박싱된 Guava 컬렉션과 같은 내용/순서/hashCode/예외인지
+ * - JOL 로 잰 힙 크기가 박싱된 쪽보다 작은지
+ */
+class PrimitiveCollectionsTest {
+
+    @Test
+    void IntList_ImmutableList와_동일() {
+        List<Integer> source = Arrays.asList(5, 3, 1000, -7, 3);
+        ImmutableIntList list = ImmutableIntList.copyOf(source);
+        assertEquals(ImmutableList.copyOf(source), list.asList());
+        assertEquals(ImmutableList.copyOf(source).hashCode(), list.hashCode());
+        assertEquals(source.toString(), list.toString());
+        assertEquals(1000, list.get(2));
+        assertEquals(1, list.indexOf(3));
+        assertEquals(4, list.lastIndexOf(3));
+        assertFalse(list.contains(4));
+        assertEquals(ImmutableIntList.of(3, 1000), list.subList(1, 3));
+        assertEquals(Arrays.asList(3, 1000), list.subList(1, 3).asList());
+        assertEquals(2, list.subList(1, 3).trimmed().toArray().length);
+        assertEquals(1004, list.stream().sum());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+        assertThrows(UnsupportedOperationException.class, () -> list.asList().add(1));
+    }
+
+    @Test
+    void IntList_빌더는_build_후에도_사용_가능() {
+        ImmutableIntList.Builder builder = ImmutableIntList.builder(2).add(1).add(2);
+        ImmutableIntList first = builder.build();
+        ImmutableIntList second = builder.add(3).build();
+        assertEquals(ImmutableIntList.of(1, 2), first);
+        assertEquals(ImmutableIntList.of(1, 2, 3), second);
+    }
+
+    @Test
+    void IntSet_ImmutableSet과_동일() {
+        List<Integer> source = Arrays.asList(0, 42, -1, 42, 7, 0, Integer.MIN_VALUE);
+        ImmutableIntSet set = ImmutableIntSet.copyOf(source);
+        ImmutableSet<Integer> guava = ImmutableSet.copyOf(source);
+        assertEquals(guava.size(), set.size());
+        assertEquals(guava.toString(), set.toString());
+        assertEquals(guava.hashCode(), set.hashCode());
+        for (int i = -100; i <= 100; i++) {
+            assertEquals(guava.contains(i), set.contains(i), () -> "" + set);
+        }
+        assertTrue(set.contains(Integer.MIN_VALUE));
+        assertEquals(ImmutableIntSet.of(7, 42, 0, -1, Integer.MIN_VALUE), set);
+        assertTrue(ImmutableIntSet.of().isEmpty());
+        assertFalse(ImmutableIntSet.of().contains(0));
+    }
+
+    @Test
+    void IntSet_많은_원소() {
+        ImmutableIntSet.Builder builder = ImmutableIntSet.builder();
+        for (int i = 0; i < 100_000; i++) {
+            builder.add(i * 16);
+        }
+        ImmutableIntSet set = builder.build();
+        assertEquals(100_000, set.size());
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(set.contains(i * 16));
+            assertFalse(set.contains(i * 16 + 1));
+        }
+    }
+
+    @Test
+    void IntObjectMap_ImmutableMap과_동일() {
+        Map<Integer, String> source = new LinkedHashMap<>();
+        source.put(200, "OK");
+        source.put(0, "zero");
+        source.put(404, "Not Found");
+        source.put(-1, "unknown");
+        ImmutableIntObjectMap<String> map = ImmutableIntObjectMap.copyOf(source);
+        assertEquals(ImmutableMap.copyOf(source).toString(), map.toString());
+        assertEquals(source.hashCode(), map.hashCode());
+        assertEquals("Not Found", map.get(404));
+        assertEquals("zero", map.get(0));
+        assertNull(map.get(500));
+        assertEquals("?", map.getOrDefault(500, "?"));
+        assertEquals(ImmutableIntList.of(200, 0, 404, -1), map.keys());
+
+        Map<Integer, String> visited = new LinkedHashMap<>();
+        map.forEach(visited::put);
+        assertEquals(source, visited);
+    }
+
+    @Test
+    void LongLongMap_ImmutableMap과_동일() {
+        Map<Long, Long> source = new LinkedHashMap<>();
+        for (long i = 0; i < 1000; i++) {
+            source.put(i << 32, i * i);
+        }
+        ImmutableLongLongMap map = ImmutableLongLongMap.copyOf(source);
+        assertEquals(ImmutableMap.copyOf(source).toString(), map.toString());
+        assertEquals(source.hashCode(), map.hashCode());
+        assertEquals(999L * 999, map.get(999L << 32));
+        assertEquals(-1, map.getOrDefault(1, -1));
+        assertFalse(map.containsKey(1));
+        assertThrows(NoSuchElementException.class, () -> map.get(1));
+    }
+
+    @Test
+    void 중복_키와_null은_ImmutableMap과_같은_예외() {
+        IllegalArgumentException expected = assertThrows(IllegalArgumentException.class,
+                () -> ImmutableMap.builder().put(1, "a").put(1, "b").build());
+        assertEquals(expected.getMessage(), assertThrows(IllegalArgumentException.class,
+                () -> ImmutableIntObjectMap.builder().put(1, "a").put(1, "b").build()).getMessage());
+
+        IllegalArgumentException expectedLong = assertThrows(IllegalArgumentException.class,
+                () -> ImmutableMap.builder().put(1L, 2L).put(1L, 3L).build());
+        assertEquals(expectedLong.getMessage(), assertThrows(IllegalArgumentException.class,
+                () -> ImmutableLongLongMap.builder().put(1, 2).put(1, 3).build()).getMessage());
+
+        NullPointerException expectedNull = assertThrows(NullPointerException.class,
+                () -> ImmutableMap.builder().put(1, null));
+        assertEquals(expectedNull.getMessage(), assertThrows(NullPointerException.class,
+                () -> ImmutableIntObjectMap.builder().put(1, null)).getMessage());
+        assertThrows(NullPointerException.class, () -> ImmutableIntList.copyOf(Arrays.asList(1, null)));
+    }
+
+    @Test
+    void 테이블_크기_상한을_넘으면_예외() {
+        assertEquals(PrimitiveTables.MAX_TABLE_SIZE, PrimitiveTables.tableSize(PrimitiveTables.MAX_TABLE_SIZE >>> 1));
+        // 예전에는 capacity 가 음수로 넘치거나 (2^29 초과) 무한 반복 (2^30 초과)
+        assertThrows(IllegalArgumentException.class,
+                () -> PrimitiveTables.tableSize((PrimitiveTables.MAX_TABLE_SIZE >>> 1) + 1));
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveTables.tableSize(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void JOL_힙_크기_박싱된_컬렉션과_비교() {
+        int size = 100_000;
+        List<Integer> boxed = new ArrayList<>();
+        Map<Integer, String> strings = new HashMap<>();
+        Map<Long, Long> longs = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            // Integer 캐시 (-128 ~ 127) 를 피하도록 큰 값
+            boxed.add(1_000_000 + i);
+            strings.put(1_000_000 + i, "value" + i);
+            longs.put(1_000_000L + i, 2_000_000L + i);
+        }
+        // 값 String 은 양쪽이 같은 인스턴스를 공유 → 값 크기를 빼고 구조만 비교
+        long valueBytes = GraphLayout.parseInstance(strings.values().toArray()).totalSize()
+                - GraphLayout.parseInstance((Object) new Object[size]).totalSize();
+
+        long list = GraphLayout.parseInstance(ImmutableList.copyOf(boxed)).totalSize();
+        long intList = GraphLayout.parseInstance(ImmutableIntList.copyOf(boxed)).totalSize();
+        long set = GraphLayout.parseInstance(ImmutableSet.copyOf(boxed)).totalSize();
+        long intSet = GraphLayout.parseInstance(ImmutableIntSet.copyOf(boxed)).totalSize();
+        long map = GraphLayout.parseInstance(ImmutableMap.copyOf(strings)).totalSize() - valueBytes;
+        long intMap = GraphLayout.parseInstance(ImmutableIntObjectMap.copyOf(strings)).totalSize() - valueBytes;
+        long longMap = GraphLayout.parseInstance(ImmutableMap.copyOf(longs)).totalSize();
+        long longLongMap = GraphLayout.parseInstance(ImmutableLongLongMap.copyOf(longs)).totalSize();
+
+        System.out.println("\n📊 JOL 힙 크기 (" + size + "개, 원소당 바이트):");
+        print("ImmutableList<Integer>", list, "ImmutableIntList", intList, size);
+        print("ImmutableSet<Integer>", set, "ImmutableIntSet", intSet, size);
+        print("ImmutableMap<Integer, V>", map, "ImmutableIntObjectMap", intMap, size);
+        print("ImmutableMap<Long, Long>", longMap, "ImmutableLongLongMap", longLongMap, size);
+
+        assertTrue(intList * 4 < list, intList + " vs " + list);
+        assertTrue(intSet * 2 < set, intSet + " vs " + set);
+        assertTrue(intMap * 2 < map, intMap + " vs " + map);
+        assertTrue(longLongMap * 2 < longMap, longLongMap + " vs " + longMap);
+    }
+
+    private static void print(String boxedName, long boxed, String primitiveName, long primitive, int size) {
+        System.out.printf("  %-26s %6.1f  →  %-22s %6.1f%n",
+                boxedName, (double) boxed / size, primitiveName, (double) primitive / size);
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.collect;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SnapshotRegistry: 버전/스냅샷 격리, 동시 put 이 모두 반영되는지, submit 이 한 버전으로 합쳐지는지 검증
+ */
+class SnapshotRegistryTest {
+
+    private static final ImmutableMap<String, String> CONFIG =
+            ImmutableMap.of("db.host", "localhost", "db.port", "5432", "app.name", "MyApp");
+
+    @Test
+    void put_remove_마다_새_버전_이전_스냅샷은_그대로() {
+        SnapshotRegistry<String, String> registry = SnapshotRegistry.create(CONFIG);
+        SnapshotRegistry.Snapshot<String, String> before = registry.snapshot();
+        assertEquals(0, before.version());
+
+        registry.put("db.host", "db.internal");
+        registry.remove("app.name");
+        assertEquals(2, registry.version());
+        assertEquals("db.internal", registry.get("db.host"));
+        assertNull(registry.get("app.name"));
+
+        assertEquals("localhost", before.get("db.host"));
+        assertEquals(CONFIG, before.toImmutableMap());
+        // 바뀐 게 없으면 버전도 그대로
+        registry.put("db.port", "5432");
+        registry.remove("missing");
+        assertEquals(2, registry.version());
+    }
+
+    @Test
+    void ImmutableMap은_버전당_한_번만_생성() {
+        SnapshotRegistry<String, String> registry = SnapshotRegistry.create(CONFIG);
+        SnapshotRegistry.Snapshot<String, String> snapshot = registry.snapshot();
+        assertSame(snapshot.toImmutableMap(), snapshot.toImmutableMap());
+        assertNotSame(snapshot.toImmutableMap(), registry.put("a", "b").toImmutableMap());
+    }
+
+    @Test
+    void 동시_put_모두_반영() throws InterruptedException {
+        SnapshotRegistry<Integer, Integer> registry = SnapshotRegistry.create();
+        int threads = 4;
+        int perThread = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < perThread; i++) {
+                    registry.put(base + i, i);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(threads * perThread, registry.snapshot().size());
+        assertEquals(threads * perThread, registry.version());
+    }
+
+    @Test
+    void submit은_flush_한_번에_한_버전() {
+        SnapshotRegistry<String, Integer> registry = SnapshotRegistry.create();
+        for (int i = 0; i < 1000; i++) {
+            registry.submit("key-" + (i % 100), i);
+        }
+        registry.submitRemoval("key-0");
+        assertEquals(100, registry.pendingCount());
+        assertEquals(0, registry.version());
+        assertNull(registry.get("key-1"));
+
+        SnapshotRegistry.Snapshot<String, Integer> flushed = registry.flush();
+        assertEquals(1, flushed.version());
+        assertEquals(99, flushed.size());
+        assertEquals(999, flushed.get("key-99"));
+        assertNull(flushed.get("key-0"));
+        assertEquals(0, registry.pendingCount());
+        assertSame(flushed, registry.flush());
+    }
+
+    @Test
+    void coalescing_창_안의_변경은_자동으로_한_번에() throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            SnapshotRegistry<String, String> registry =
+                    SnapshotRegistry.coalescing(CONFIG, scheduler, Duration.ofMillis(50));
+            for (int i = 0; i < 100; i++) {
+                registry.submit("db.port", String.valueOf(6000 + i));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (registry.version() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, registry.version());
+            assertEquals("6099", registry.get("db.port"));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void 예약이_거부돼도_다음_submit_이_다시_예약() throws InterruptedException {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1) {
+            @Override
+            public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+                if (reject.get()) {
+                    throw new RejectedExecutionException("busy");
+                }
+                return super.schedule(command, delay, unit);
+            }
+        };
+        try {
+            SnapshotRegistry<String, String> registry =
+                    SnapshotRegistry.coalescing(CONFIG, scheduler, Duration.ofMillis(10));
+            assertThrows(RejectedExecutionException.class, () -> registry.submit("db.port", "6000"));
+            assertEquals(1, registry.pendingCount());
+
+            reject.set(false);
+            registry.submit("db.host", "remote");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (registry.version() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, registry.version());
+            assertEquals("6000", registry.get("db.port"));
+            assertEquals("remote", registry.get("db.host"));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void 겹친_flush_도_나중_값이_남음() throws InterruptedException {
+        SnapshotRegistry<SlowKey, String> registry = SnapshotRegistry.create();
+        SlowKey key = new SlowKey();
+        registry.submit(key, "v1");
+
+        // A: v1 을 꺼낸 뒤 빌더 안에서 멈춤
+        Thread first = new Thread(registry::flush);
+        key.blockIn = first;
+        first.start();
+        assertTrue(key.entered.await(5, TimeUnit.SECONDS));
+
+        // B: v2 를 submit 하고 flush - A 가 끝날 때까지 기다려야 함
+        registry.submit(key, "v2");
+        Thread second = new Thread(registry::flush);
+        second.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (second.isAlive() && second.getState() != Thread.State.BLOCKED && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        key.release.countDown();
+        first.join(5000);
+        second.join(5000);
+
+        assertEquals("v2", registry.get(key));
+        assertEquals(0, registry.pendingCount());
+    }
+
+    /**
+     * blockIn 스레드가 PersistentHashMap 안에서 hashCode 를 부르면 release 까지 멈추는 키
+     */
+    private static final class SlowKey {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile Thread blockIn;
+
+        @Override
+        public int hashCode() {
+            if (Thread.currentThread() == blockIn && inPersistentHashMap()) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return 42;
+        }
+
+        private static boolean inPersistentHashMap() {
+            return StackWalker.getInstance().walk(frames -> frames.anyMatch(
+                    frame -> frame.getClassName().startsWith(PersistentHashMap.class.getName())));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.footprint;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * JOL 로 잰 컬렉션의 실제 힙 크기 (리플렉션으로 elementData/table 을 들여다보는 대신)
+ *
+ * - deepSize: 객체에서 닿는 모든 객체 크기의 합 (헤더, 정렬 패딩, 압축 참조 여부까지 현재 JVM 기준)
+ * - retainedSize: deepSize - 원소 자체 → 컬렉션 구조가 차지하는 바이트
+ *   (원소는 어느 컬렉션이든 같으므로 빼야 구조끼리 비교가 됨)
+ * - measure: Kind x 크기 별 원소당 바이트 표
+ *
+ * 원소는 서로 다른 Integer, Map 은 key → key (값도 같은 원소라 따로 세지 않음)
+ * JOL 은 test 범위 의존성이라 테스트 코드에 둠 (guava-practice-jmh 는 test-jar 로 Kind 를 같이 씀)
+ */
+public final class Footprint {
+
+    private Footprint() {
+    }
+
+    /**
+     * 측정 대상 - 같은 원소 배열로 만드는 방법
+     * 가변 컬렉션은 실제 코드처럼 add/put 으로 채움 (ArrayList 의 증가 여유분까지 포함)
+     */
+    public enum Kind {
+        IMMUTABLE_LIST(ImmutableList::copyOf),
+        ARRAY_LIST(elements -> {
+            List<Integer> list = new ArrayList<>();
+            Collections.addAll(list, elements);
+            return list;
+        }),
+        UNMODIFIABLE_LIST(elements -> Collections.unmodifiableList((List<Integer>) ARRAY_LIST.build(elements))),
+        IMMUTABLE_SET(ImmutableSet::copyOf),
+        HASH_SET(elements -> {
+            Set<Integer> set = new HashSet<>();
+            Collections.addAll(set, elements);
+            return set;
+        }),
+        UNMODIFIABLE_SET(elements -> Collections.unmodifiableSet((Set<Integer>) HASH_SET.build(elements))),
+        IMMUTABLE_MAP(elements -> {
+            ImmutableMap.Builder<Integer, Integer> builder = ImmutableMap.builderWithExpectedSize(elements.length);
+            for (Integer e : elements) {
+                builder.put(e, e);
+            }
+            return builder.build();
+        }),
+        HASH_MAP(elements -> {
+            Map<Integer, Integer> map = new HashMap<>();
+            for (Integer e : elements) {
+                map.put(e, e);
+            }
+            return map;
+        }),
+        UNMODIFIABLE_MAP(elements -> Collections.unmodifiableMap((Map<Integer, Integer>) HASH_MAP.build(elements)));
+
+        private final Function<Integer[], Object> factory;
+
+        Kind(Function<Integer[], Object> factory) {
+            this.factory = factory;
+        }
+
+        public Object build(Integer[] elements) {
+            return factory.apply(elements);
+        }
+    }
+
+    /**
+     * 0 ~ size-1 의 서로 다른 Integer (캐시 범위 밖은 새 객체)
+     */
+    public static Integer[] elements(int size) {
+        checkArgument(size >= 0, "negative size: %s", size);
+        Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        return elements;
+    }
+
+    public static long deepSize(Object root) {
+        return GraphLayout.parseInstance(root).totalSize();
+    }
+
+    /**
+     * collection 의 deepSize 에서 elements 가 가리키는 원소들의 크기를 뺌
+     * (원소가 다른 객체를 가리키지 않는다고 가정 - Integer, String 의 byte[] 까지는 원소 쪽으로 셈)
+     */
+    public static long retainedSize(Object collection, Object[] elements) {
+        long elementBytes = deepSize(elements) - deepSize(new Object[elements.length]);
+        return deepSize(collection) - elementBytes;
+    }
+
+    public static long retainedSize(Kind kind, int size) {
+        Integer[] elements = elements(size);
+        return retainedSize(kind.build(elements), elements);
+    }
+
+    /**
+     * 행 = Kind, 열 = 크기, 값 = 원소당 구조 바이트 (고정 비용도 나눠 포함 → 작은 크기일수록 큼)
+     */
+    public static ImmutableTable<Kind, Integer, Double> measure(int... sizes) {
+        ImmutableTable.Builder<Kind, Integer, Double> table = ImmutableTable.builder();
+        for (Kind kind : Kind.values()) {
+            for (int size : sizes) {
+                checkArgument(size > 0, "size must be positive: %s", size);
+                table.put(kind, size, (double) retainedSize(kind, size) / size);
+            }
+        }
+        return table.build();
+    }
+
+    public static String format(Table<Kind, Integer, Double> table) {
+        StringBuilder sb = new StringBuilder(Strings.padEnd("bytes/element", 20, ' '));
+        for (Integer size : table.columnKeySet()) {
+            sb.append(Strings.padStart(String.format("%,d", size), 12, ' '));
+        }
+        for (Kind kind : table.rowKeySet()) {
+            sb.append('\n').append(Strings.padEnd(kind.name(), 20, ' '));
+            for (Integer size : table.columnKeySet()) {
+                sb.append(Strings.padStart(String.format("%.2f", table.get(kind, size)), 12, ' '));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.footprint;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableTable;
+import org.example.footprint.Footprint.Kind;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Footprint
+ * - 원소를 뺀 구조 바이트가 참조 배열 크기와 맞는지
+ * - Kind 별 원소당 바이트 표 (크기 10 / 1,000 / 100,000) 와 그 사이의 대소 관계
+ */
+class FootprintTest {
+
+    @Test
+    void 원소를_빼면_배열_구조만_남음() {
+        Integer[] elements = Footprint.elements(1000);
+        ImmutableList<Integer> list = ImmutableList.copyOf(elements);
+        long array = Footprint.deepSize(new Object[1000]);
+        // RegularImmutableList 객체 하나 + 정확한 크기의 배열 하나
+        long retained = Footprint.retainedSize(list, elements);
+        assertTrue(retained > array && retained <= array + 32, "retained " + retained + ", array " + array);
+
+        // 원소를 공유하는 두 컬렉션도 원소는 한 번만
+        List<Object> both = Arrays.asList(list, ImmutableList.copyOf(list.reverse()));
+        assertTrue(Footprint.retainedSize(both, elements) < 3 * array);
+    }
+
+    @Test
+    void unmodifiable_래퍼는_고정_비용만() {
+        Integer[] elements = Footprint.elements(1000);
+        List<Integer> backing = new ArrayList<>(Arrays.asList(elements));
+        long wrapper = Footprint.retainedSize(Collections.unmodifiableList(backing), elements)
+                - Footprint.retainedSize(backing, elements);
+        assertTrue(wrapper > 0 && wrapper <= 32, "wrapper " + wrapper);
+    }
+
+    @Test
+    void 원소당_바이트_표() {
+        ImmutableTable<Kind, Integer, Double> table = Footprint.measure(10, 1_000, 100_000);
+        System.out.println("\n📊 JOL 구조 바이트 (원소 제외, 원소당)");
+        System.out.println(Footprint.format(table));
+
+        for (int size : new int[]{1_000, 100_000}) {
+            // ImmutableList 는 참조 하나, ArrayList 는 증가 여유분 (최대 1.5 배)
+            assertTrue(table.get(Kind.IMMUTABLE_LIST, size) <= table.get(Kind.ARRAY_LIST, size));
+            // 해시 컬렉션은 엔트리 객체가 원소마다 → Immutable 쪽이 작음
+            assertTrue(table.get(Kind.IMMUTABLE_SET, size) < table.get(Kind.HASH_SET, size));
+            assertTrue(table.get(Kind.IMMUTABLE_MAP, size) < table.get(Kind.HASH_MAP, size));
+            // 래퍼는 원본을 붙잡고 있으므로 원본보다 작을 수 없음
+            assertTrue(table.get(Kind.UNMODIFIABLE_LIST, size) >= table.get(Kind.ARRAY_LIST, size));
+            assertTrue(table.get(Kind.UNMODIFIABLE_SET, size) >= table.get(Kind.HASH_SET, size));
+            assertTrue(table.get(Kind.UNMODIFIABLE_MAP, size) >= table.get(Kind.HASH_MAP, size));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Footprint.measure(0));
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.format;
+
+import com.google.common.base.Strings;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * FixedWidthFormat
+ * - DetailedStringsAnalysis.testRealWorldScenarios 의 String.format + padStart 결과와 같은지
+ * - 숫자 (음수, 경계값) / 텍스트 (정렬, 자르기) / 필드 순서 검사
+ * - char[] / StringBuilder / ByteBuffer 출력, 레코드당 할당 0
+ */
+class FixedWidthFormatTest {
+
+    private static final FixedWidthFormat ACCESS_LOG = FixedWidthFormat.builder()
+            .number(2).literal(':').number(2).literal(':').number(2)
+            .literal(" [").left(5).literal("] ")
+            .right(8).literal(' ').number(6, ' ')
+            .build();
+
+    @Test
+    void String_format_padStart_와_같은_결과() {
+        FixedWidthFormat time = FixedWidthFormat.builder()
+                .number(2).literal(':').number(2).literal(':').number(2)
+                .build();
+        FixedWidthFormat.Line line = time.newLine();
+        for (int hour = 0; hour < 24; hour++) {
+            for (int minute = 0; minute < 60; minute += 7) {
+                int second = (hour * minute) % 60;
+                String expected = String.format("%s:%s:%s",
+                        Strings.padStart(String.valueOf(hour), 2, '0'),
+                        Strings.padStart(String.valueOf(minute), 2, '0'),
+                        Strings.padStart(String.valueOf(second), 2, '0'));
+                assertEquals(expected, new String(line.put(hour).put(minute).put(second).chars()));
+            }
+        }
+        assertEquals(8, time.width());
+        assertEquals(3, time.fieldCount());
+    }
+
+    @Test
+    void 숫자_필드() {
+        FixedWidthFormat zero = FixedWidthFormat.builder().number(20).build();
+        FixedWidthFormat space = FixedWidthFormat.builder().number(20, ' ').build();
+        FixedWidthFormat.Line z = zero.newLine();
+        FixedWidthFormat.Line s = space.newLine();
+        for (long value : new long[]{0, 7, -7, 42, -42, 1_000_000, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertEquals(String.format("%020d", value), z.put(value).toString(), "zero " + value);
+            z.chars();
+            assertEquals(String.format("%20d", value), s.put(value).toString(), "space " + value);
+            s.chars();
+        }
+
+        FixedWidthFormat.Line line = FixedWidthFormat.builder().number(3).build().newLine();
+        assertEquals("999", new String(line.put(999).chars()));
+        assertEquals("-99", new String(line.put(-99).chars()));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> line.put(1000));
+        assertEquals("value 1000 does not fit width 3", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> line.put(-100));
+        // 실패한 put 은 필드를 넘기지 않음
+        assertEquals("007", new String(line.put(7).chars()));
+    }
+
+    @Test
+    void 텍스트_필드와_순서_검사() {
+        FixedWidthFormat.Line line = ACCESS_LOG.newLine();
+        line.put(9).put(5).put(30).put("INFO").put("kim").put(-12);
+        assertEquals("09:05:30 [INFO ]      kim    -12", new String(line.chars()));
+
+        // 긴 텍스트는 폭에서 자르고, 짧아지면 남은 자리를 다시 채움
+        line.put(23).put(59).put(59).put("WARNING").put(new StringBuilder("administrator")).put(123456);
+        assertEquals("23:59:59 [WARNI] administ 123456", line.appendTo(new StringBuilder()).toString());
+        line.put(0).put(0).put(0).put('E').put((CharSequence) null).put(0);
+        assertEquals("00:00:00 [E    ]     null      0", new String(line.chars()));
+        line.put(0).put(0).put(0).put("").put('x').put(0);
+        assertEquals("00:00:00 [     ]        x      0", new String(line.chars()));
+
+        assertThrows(IllegalArgumentException.class, () -> line.put("text"));
+        line.put(1).put(2).put(3);
+        assertThrows(IllegalArgumentException.class, () -> line.put(4));
+        IllegalStateException e = assertThrows(IllegalStateException.class, line::chars);
+        assertEquals("3 of 6 fields set", e.getMessage());
+        line.put("DEBUG").put("lee").put(1);
+        assertThrows(IllegalStateException.class, () -> line.put(1));
+        assertEquals("01:02:03 [DEBUG]      lee      1", new String(line.chars()));
+
+        assertThrows(IllegalArgumentException.class, () -> FixedWidthFormat.builder().left(0));
+    }
+
+    @Test
+    void ByteBuffer_는_UTF_8() {
+        FixedWidthFormat format = FixedWidthFormat.builder().left(6).literal('|').right(4).build();
+        FixedWidthFormat.Line line = format.newLine();
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        line.put("사용자").put("é😀").writeTo(buffer);
+        String expected = "사용자   | é😀";
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8),
+                Arrays.copyOf(buffer.array(), buffer.position()));
+
+        // 잘라서 남은 짝 없는 high surrogate 는 '?'
+        buffer.clear();
+        line.put("abcde😀").put("x").writeTo(buffer);
+        assertEquals("abcde?|   x", new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void 레코드당_할당_없음() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        long thread = Thread.currentThread().getId();
+        String[] levels = {"INFO", "WARN", "ERROR", "DEBUG"};
+        String[] users = {"kim", "lee", "park", "administrator"};
+        FixedWidthFormat.Line line = ACCESS_LOG.newLine();
+        StringBuilder builder = new StringBuilder(ACCESS_LOG.width());
+        ByteBuffer buffer = ByteBuffer.allocate(ACCESS_LOG.width() * 4);
+
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100_000; i++) {
+            line.put(i % 24).put(i % 60).put(i % 59).put(levels[i & 3]).put(users[(i >> 2) & 3]).put(i);
+            builder.setLength(0);
+            line.appendTo(builder);
+            line.put(i % 24).put(i % 60).put(i % 59).put(levels[i & 3]).put(users[(i >> 2) & 3]).put(-i);
+            buffer.clear();
+            line.writeTo(buffer);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        assertTrue(allocated < 1024, "allocated " + allocated);
+    }
+}
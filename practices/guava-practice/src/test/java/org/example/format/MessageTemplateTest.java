@@ -0,0 +1,105 @@
+package org.example.format;
+
+import com.google.common.base.Strings;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * MessageTemplate
+ * - 인자 수가 맞을 때 / 모자랄 때 / 남을 때 모두 Strings.lenientFormat 과 같은 결과
+ * - primitive 오버로드 (int 는 숫자, char 는 문자), Appendable 출력
+ * - StringBuilder 에 쓸 때 할당 0
+ */
+class MessageTemplateTest {
+
+    private static final List<String> TEMPLATES = Arrays.asList(
+            "", "%s", "no placeholder", "User %s not found with id %s", "%s%s%s", "[%s] %s=%s;", "%", "%%s s%");
+
+    @Test
+    void lenientFormat_과_같은_결과() {
+        Object[][] argumentSets = {
+                {}, {"John"}, {"John", 123}, {'c', 4.5, null}, {1, 2, 3, 4, 5}, {null}, {Arrays.asList(1, 2)}};
+        for (String template : TEMPLATES) {
+            MessageTemplate compiled = MessageTemplate.compile(template);
+            assertEquals(template, compiled.toString());
+            for (Object[] args : argumentSets) {
+                assertEquals(Strings.lenientFormat(template, args), compiled.format(args), template);
+            }
+            assertEquals(Strings.lenientFormat(template, (Object[]) null), compiled.format((Object[]) null));
+            assertEquals(Strings.lenientFormat(template, "a"), compiled.format("a"), template);
+            assertEquals(Strings.lenientFormat(template, "a", null), compiled.format("a", (String) null), template);
+            assertEquals(Strings.lenientFormat(template, "a", "b", "c"), compiled.format("a", "b", "c"), template);
+            assertEquals(Strings.lenientFormat(template, 7L, 'x'), compiled.format(7L, 'x'), template);
+            assertEquals(Strings.lenientFormat(template, 1, 2, 3), compiled.format((Object) 1, 2, 3), template);
+        }
+        assertEquals(2, MessageTemplate.compile("User %s not found with id %s").placeholderCount());
+        assertThrows(NullPointerException.class, () -> MessageTemplate.compile(null));
+    }
+
+    @Test
+    void primitive_오버로드() {
+        MessageTemplate template = MessageTemplate.compile("%s <= %s");
+        assertEquals("-5 <= 9223372036854775807", template.format(-5, Long.MAX_VALUE));
+        assertEquals("a <= 1", template.format('a', 1));
+        assertEquals("1 <= b", template.format(1, 'b'));
+        assertEquals("x <= y", template.format('x', 'y'));
+        assertEquals("1.5 <= 2", template.format((Object) 1.5, 2));
+        assertEquals("null <= 3", template.format(null, 3));
+        assertEquals("[1] <= z", template.format(List.of(1), 'z'));
+        assertEquals("3 <= %s", template.format(3));
+        assertEquals("q <= %s", template.format('q'));
+        assertEquals("1 <= 2 [3]", template.format(1, 2, 3));
+
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException();
+            }
+        };
+        assertEquals(Strings.lenientFormat("%s <= %s", broken, 1), template.format(broken, 1));
+    }
+
+    @Test
+    void Appendable_에_바로_씀() throws IOException {
+        MessageTemplate template = MessageTemplate.compile("id=%s, name=%s");
+        StringWriter writer = new StringWriter();
+        template.appendTo(writer, 42, "kim").append('\n');
+        template.appendTo(writer, 'c', 7).append('\n');
+        template.appendTo(writer, "only");
+        assertEquals("id=42, name=kim\nid=c, name=7\nid=only, name=%s", writer.toString());
+
+        StringBuilder builder = new StringBuilder(">");
+        assertSame(builder, template.appendTo(builder, -1L, 'k'));
+        assertEquals(">id=-1, name=k", builder.toString());
+    }
+
+    @Test
+    void StringBuilder_출력은_할당_없음() throws IOException {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        long thread = Thread.currentThread().getId();
+        MessageTemplate three = MessageTemplate.compile("user %s: %s (%s)");
+        MessageTemplate two = MessageTemplate.compile("%s of %s");
+        String[] names = {"kim", "lee", "park"};
+        StringBuilder builder = new StringBuilder(256);
+
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100_000; i++) {
+            builder.setLength(0);
+            three.appendTo(builder, names[i % 3], "login", names[(i + 1) % 3]);
+            two.appendTo(builder, i, (long) i * 1_000_000_007L);
+            two.appendTo(builder, 'x', i);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        assertTrue(allocated < 1024, "allocated " + allocated);
+    }
+}
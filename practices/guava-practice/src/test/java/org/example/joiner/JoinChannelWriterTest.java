@@ -0,0 +1,252 @@
+package org.example.joiner;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ByteBuffer / 채널 출력이 Joiner.join().getBytes(UTF_8) 와 같은지, back-pressure 가 동작하는지 검증
+ */
+class JoinChannelWriterTest {
+
+    @Test
+    void appendTo_공간이_모자라면_아무것도_쓰지_않음() {
+        List<String> parts = Arrays.asList("한글", "abc");
+        byte[] expected = "한글,abc".getBytes(StandardCharsets.UTF_8);   // 10 bytes
+
+        for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(9), ByteBuffer.allocateDirect(9))) {
+            assertFalse(SizedJoiner.on(',').appendTo(buffer, parts));
+            assertEquals(0, buffer.position());
+        }
+        for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(16), ByteBuffer.allocateDirect(16))) {
+            buffer.put((byte) '>');
+            assertTrue(SizedJoiner.on(',').appendTo(buffer, parts));
+            assertEquals(1 + expected.length, buffer.position());
+            byte[] written = new byte[expected.length];
+            buffer.flip().position(1);
+            buffer.get(written);
+            assertArrayEquals(expected, written);
+        }
+    }
+
+    @Test
+    void appendTo_슬라이스된_힙_버퍼() {
+        ByteBuffer slice = ByteBuffer.allocate(32).position(5).slice();
+        assertTrue(SizedJoiner.on('&').withKeyValueSeparator('=').appendTo(slice, ImmutableMap.of("a", "1", "b", "é")));
+        assertEquals("a=1&b=é", new String(slice.array(), 5, slice.position(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void 채널_출력이_Joiner와_동일() throws IOException {
+        List<List<String>> records = records(500);
+        String expected = expected(records);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JoinChannelWriter writer = JoinChannelWriter.to(Channels.newChannel(out), 64)) {
+            for (List<String> record : records) {
+                writer.write(SizedJoiner.on(", ").useForNull("-"), record).write("\n");
+            }
+        }
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void gathering_채널은_버퍼를_모아서_한_번에() throws IOException {
+        List<List<String>> records = records(500);
+        SlowGatheringChannel channel = new SlowGatheringChannel(Integer.MAX_VALUE);
+        JoinChannelWriter writer = JoinChannelWriter.to(channel, 64, 8);
+        for (List<String> record : records) {
+            writer.write(SizedJoiner.on(", ").useForNull("-"), record).write("\n");
+        }
+        writer.close();
+
+        assertEquals(expected(records), channel.out.toString(StandardCharsets.UTF_8));
+        assertEquals(channel.out.size(), writer.bytesWritten());
+        // 버퍼 8개를 채울 때마다 gathering write 한 번 (레코드마다 write 하면 1000 회)
+        assertEquals(writer.channelWrites(), channel.gatheringWrites);
+        assertTrue(writer.channelWrites() < records.size() / 4, "writes=" + writer.channelWrites());
+        assertTrue(!channel.isOpen());
+    }
+
+    @Test
+    void 일부만_쓰는_채널도_끝까지_기록() throws IOException {
+        List<List<String>> records = records(100);
+        SlowGatheringChannel channel = new SlowGatheringChannel(3);
+        try (JoinChannelWriter writer = JoinChannelWriter.to(channel, 32, 3)) {
+            for (List<String> record : records) {
+                writer.write(SizedJoiner.on(", ").useForNull("-"), record).write("\n");
+            }
+        }
+        assertEquals(expected(records), channel.out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void 쓰기_예외_뒤_다시_flush_하면_빠짐_중복_없음() throws IOException {
+        List<List<String>> records = records(50);
+        for (int bufferCount : new int[]{1, 3}) {
+            for (int failAt = 1; failAt <= 5; failAt++) {
+                SlowGatheringChannel channel = new SlowGatheringChannel(5);
+                channel.failAt = failAt;
+                JoinChannelWriter writer = bufferCount == 1
+                        ? JoinChannelWriter.to(channel, 64)
+                        : JoinChannelWriter.to(channel, 64, bufferCount);
+                for (List<String> record : records) {
+                    // 예외가 난 write 는 버퍼에 들어가지 않음 → 같은 레코드로 다시
+                    while (!tryWrite(() -> writer.write(SizedJoiner.on(", ").useForNull("-"), record))) {
+                    }
+                    while (!tryWrite(() -> writer.write("\n"))) {
+                    }
+                }
+                writer.close();
+                assertTrue(channel.calls > failAt);
+
+                assertEquals(expected(records), channel.out.toString(StandardCharsets.UTF_8),
+                        "bufferCount=" + bufferCount + ", failAt=" + failAt);
+                assertEquals(channel.out.size(), writer.bytesWritten());
+            }
+        }
+    }
+
+    @Test
+    void 논블로킹_채널은_거부() throws IOException {
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            assertThrows(IllegalArgumentException.class, () -> JoinChannelWriter.to(pipe.sink(), 16));
+            assertThrows(IllegalArgumentException.class, () -> JoinChannelWriter.to(pipe.sink(), 16, 2));
+
+            // 만든 뒤 논블로킹으로 바꾸고 파이프가 가득 차면 바쁜 대기 대신 예외
+            pipe.sink().configureBlocking(true);
+            JoinChannelWriter writer = JoinChannelWriter.to(pipe.sink(), 1024);
+            pipe.sink().configureBlocking(false);
+            String chunk = "x".repeat(1000);
+            assertThrows(IllegalStateException.class, () -> {
+                for (int i = 0; i < 100_000; i++) {
+                    writer.write(chunk);
+                }
+            });
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+
+    @Test
+    void 버퍼보다_큰_레코드() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String huge = "x".repeat(100);
+        try (JoinChannelWriter writer = JoinChannelWriter.to(Channels.newChannel(out), 16)) {
+            writer.write("head\n")
+                    .write(SizedJoiner.on('|'), Arrays.asList(huge, huge))
+                    .write("\ntail");
+        }
+        assertEquals("head\n" + huge + "|" + huge + "\ntail", out.toString(StandardCharsets.UTF_8));
+    }
+
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    private static boolean tryWrite(IoAction action) {
+        try {
+            action.run();
+            return true;
+        } catch (IOException e) {
+            assertEquals("broken pipe", e.getMessage());
+            return false;
+        }
+    }
+
+    private static List<List<String>> records(int count) {
+        List<List<String>> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(Arrays.asList("2025-01-17T00:00:" + i, i % 3 == 0 ? null : "INFO", "사용자 " + i, "😀".repeat(i % 4)));
+        }
+        return records;
+    }
+
+    private static String expected(List<List<String>> records) {
+        StringBuilder expected = new StringBuilder();
+        for (List<String> record : records) {
+            expected.append(Joiner.on(", ").useForNull("-").join(record)).append('\n');
+        }
+        return expected.toString();
+    }
+
+    /**
+     * write 한 번에 최대 maxBytes 만 받는 채널 (소켓 송신 버퍼가 찬 상황 흉내)
+     */
+    private static final class SlowGatheringChannel implements GatheringByteChannel {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final int maxBytes;
+        int gatheringWrites;
+        /** 이 번째 write 호출은 아무것도 쓰지 않고 IOException */
+        int failAt = -1;
+        int calls;
+        boolean open = true;
+
+        SlowGatheringChannel(int maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            failIfRequested();
+            int n = Math.min(maxBytes, src.remaining());
+            for (int i = 0; i < n; i++) {
+                out.write(src.get());
+            }
+            return n;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            failIfRequested();
+            gatheringWrites++;
+            long total = 0;
+            for (int i = offset; i < offset + length && total < maxBytes; i++) {
+                ByteBuffer src = srcs[i];
+                int n = (int) Math.min(maxBytes - total, src.remaining());
+                for (int j = 0; j < n; j++) {
+                    out.write(src.get());
+                }
+                total += n;
+            }
+            return total;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) throws IOException {
+            return write(srcs, 0, srcs.length);
+        }
+
+        private void failIfRequested() throws IOException {
+            if (++calls == failAt) {
+                throw new IOException("broken pipe");
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
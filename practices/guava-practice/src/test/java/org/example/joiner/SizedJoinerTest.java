@@ -0,0 +1,118 @@
+package org.example.joiner;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SizedJoiner 결과가 Joiner 와 같은지 검증 (char[] / UTF-8 출력 포함)
+ */
+class SizedJoinerTest {
+
+    @Test
+    void 기본_조인_Joiner와_동일() {
+        for (List<String> parts : Arrays.asList(
+                Arrays.<String>asList(), Arrays.asList(""), Arrays.asList("A"), Arrays.asList("Apple", "Banana", "Cherry"))) {
+            assertJoinedSame(Joiner.on(", "), SizedJoiner.on(", "), parts);
+        }
+        assertEquals("A,B,C", SizedJoiner.on(',').join("A", "B", "C"));
+    }
+
+    @Test
+    void null_처리_Joiner와_동일() {
+        List<String> withNulls = Arrays.asList(null, "A", null, "B", null);
+        assertJoinedSame(Joiner.on(",").skipNulls(), SizedJoiner.on(",").skipNulls(), withNulls);
+        assertJoinedSame(Joiner.on(",").useForNull("N/A"), SizedJoiner.on(",").useForNull("N/A"), withNulls);
+        assertThrows(NullPointerException.class, () -> SizedJoiner.on(",").join(withNulls));
+    }
+
+    @Test
+    void null_설정_동시_사용_불가() {
+        assertThrows(UnsupportedOperationException.class, () -> SizedJoiner.on(",").skipNulls().useForNull("N/A"));
+        assertThrows(UnsupportedOperationException.class, () -> SizedJoiner.on(",").useForNull("N/A").skipNulls());
+        assertThrows(UnsupportedOperationException.class, () -> SizedJoiner.on(",").skipNulls().withKeyValueSeparator("="));
+    }
+
+    @Test
+    void String이_아닌_CharSequence와_RandomAccess가_아닌_입력() {
+        List<CharSequence> parts = new LinkedList<>(Arrays.asList(
+                new StringBuilder("sb"), CharBuffer.wrap("buffer"), "string"));
+        assertEquals("sb|buffer|string", SizedJoiner.on('|').join(parts));
+        assertArrayEquals("sb|buffer|string".toCharArray(), SizedJoiner.on('|').joinToChars(parts));
+        // 한 번만 순회 가능한 Iterable
+        Iterable<CharSequence> once = parts::iterator;
+        assertEquals("sb|buffer|string", SizedJoiner.on('|').join(once));
+    }
+
+    @Test
+    void UTF8_출력은_getBytes와_동일() {
+        List<String> parts = Arrays.asList("abc", "é", "한글", "😀", "\uD83D", "\uDE00", "\uDE00x", "\uD800");
+        byte[] expected = String.join("/", parts).getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, SizedJoiner.on('/').joinToUtf8(parts));
+        // surrogate 쌍이 원소 경계에 걸친 경우
+        assertArrayEquals("😀".getBytes(StandardCharsets.UTF_8), SizedJoiner.on("").joinToUtf8("\uD83D", "\uDE00"));
+    }
+
+    @Test
+    void 무작위_입력_Joiner와_동일() {
+        Random random = new Random(7);
+        char[] alphabet = {'a', 'Z', '0', ' ', 'é', '한', '\uD83D', '\uDE00', '￿'};
+        for (int round = 0; round < 200; round++) {
+            List<String> parts = new ArrayList<>();
+            for (int i = random.nextInt(20); i > 0; i--) {
+                if (random.nextInt(6) == 0) {
+                    parts.add(null);
+                    continue;
+                }
+                char[] chars = new char[random.nextInt(8)];
+                for (int j = 0; j < chars.length; j++) {
+                    chars[j] = alphabet[random.nextInt(alphabet.length)];
+                }
+                parts.add(new String(chars));
+            }
+            assertJoinedSame(Joiner.on(", ").useForNull("null"), SizedJoiner.on(", ").useForNull("null"), parts);
+            assertJoinedSame(Joiner.on('한').skipNulls(), SizedJoiner.on('한').skipNulls(), parts);
+        }
+    }
+
+    @Test
+    void MapJoiner_Joiner와_동일() {
+        Map<String, String> map = ImmutableMap.of("Apple", "100", "Banana", "80", "Cherry", "120");
+        Joiner.MapJoiner expected = Joiner.on(", ").withKeyValueSeparator("=");
+        SizedJoiner.MapJoiner actual = SizedJoiner.on(", ").withKeyValueSeparator('=');
+        assertEquals(expected.join(map), actual.join(map));
+        assertArrayEquals(expected.join(map).toCharArray(), actual.joinToChars(map));
+        assertArrayEquals(expected.join(map).getBytes(StandardCharsets.UTF_8), actual.joinToUtf8(map));
+        assertEquals("", actual.join(ImmutableMap.<String, String>of()));
+    }
+
+    @Test
+    void MapJoiner_null_값() {
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("a", null);
+        map.put(null, "b");
+        assertEquals(Joiner.on('&').useForNull("-").withKeyValueSeparator("=").join(map),
+                SizedJoiner.on('&').useForNull("-").withKeyValueSeparator("=").join(map));
+        assertThrows(NullPointerException.class, () -> SizedJoiner.on('&').withKeyValueSeparator("=").join(map));
+    }
+
+    private static void assertJoinedSame(Joiner expected, SizedJoiner actual, List<String> parts) {
+        String joined = expected.join(parts);
+        assertEquals(joined, actual.join(parts));
+        assertEquals(joined, actual.join(parts.toArray(new CharSequence[0])));
+        assertArrayEquals(joined.toCharArray(), actual.joinToChars(parts));
+        assertArrayEquals(joined.getBytes(StandardCharsets.UTF_8), actual.joinToUtf8(parts));
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.matcher;
+
+import com.google.common.base.CharMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * BulkCharMatcher 가 엔진(scalar / vector)과 무관하게 CharMatcher 와 같은 결과를 내는지 검증
+ * 벡터 엔진은 JDK 17+ 빌드 + jdk.incubator.vector 모듈이 있을 때만 검증
+ */
+class BulkCharMatcherTest {
+
+    private static final char[] ALPHABET = {
+            'a', 'm', 'z', 'A', 'Z', '0', '9', ' ', '\t', '\n', '-', '_', '.', '@',
+            'é', '한', ' ', '　', '\uD83D', '\uDE00', '\u0000', '￿', '耀', '翿'
+    };
+
+    @Test
+    void 스칼라_엔진_CharMatcher와_동일() {
+        assertAllSameAsCharMatcher(ScalarEngine.INSTANCE);
+    }
+
+    @Test
+    void 벡터_엔진_CharMatcher와_동일() {
+        BulkEngine vector = BulkEngines.vector();
+        assumeTrue(vector != null, "jdk.incubator.vector 사용 불가");
+        assertAllSameAsCharMatcher(vector);
+    }
+
+    @Test
+    void 표현_선택() {
+        assertTrue(BulkCharMatcher.inRange('a', 'z').isExact());
+        assertTrue(BulkCharMatcher.anyOf("-_.").isExact());
+        assertTrue(BulkCharMatcher.precomputed(CharMatcher.inRange('0', '9').or(CharMatcher.inRange('a', 'f'))).isExact());
+        // 범위 8개 초과 → 비트 테이블
+        assertFalse(BulkCharMatcher.anyOf("acegikmoqsuwy").isExact());
+        assertFalse(BulkCharMatcher.precomputed(CharMatcher.javaLetterOrDigit()).isExact());
+    }
+
+    @Test
+    void 잘못된_범위() {
+        assertThrows(IllegalArgumentException.class, () -> BulkCharMatcher.inRange('z', 'a'));
+        assertThrows(IndexOutOfBoundsException.class, () -> BulkCharMatcher.inRange('a', 'z').indexIn("abc", 4));
+    }
+
+    private static void assertAllSameAsCharMatcher(BulkEngine engine) {
+        List<CharMatcher> guava = new ArrayList<>();
+        List<BulkCharMatcher> bulk = new ArrayList<>();
+        add(guava, bulk, CharMatcher.inRange('a', 'z'), BulkCharMatcher.inRange('a', 'z'));
+        add(guava, bulk, CharMatcher.inRange('翿', '耀'), BulkCharMatcher.inRange('翿', '耀'));
+        add(guava, bulk, CharMatcher.inRange('\0', '￿'), BulkCharMatcher.inRange('\0', '￿'));
+        add(guava, bulk, CharMatcher.anyOf(""), BulkCharMatcher.anyOf(""));
+        add(guava, bulk, CharMatcher.anyOf("-_."), BulkCharMatcher.anyOf("-_."));
+        add(guava, bulk, CharMatcher.anyOf("acegikmoqsuwy"), BulkCharMatcher.anyOf("acegikmoqsuwy"));
+        CharMatcher composed = CharMatcher.javaLetterOrDigit().or(CharMatcher.anyOf("-_."));
+        add(guava, bulk, composed, BulkCharMatcher.precomputed(composed));
+        add(guava, bulk, CharMatcher.whitespace(), BulkCharMatcher.precomputed(CharMatcher.whitespace()));
+        add(guava, bulk, CharMatcher.ascii().negate(), BulkCharMatcher.precomputed(CharMatcher.ascii().negate()));
+
+        Random random = new Random(11);
+        for (int round = 0; round < 300; round++) {
+            String input = randomString(random, round < 100 ? random.nextInt(80) : random.nextInt(5000));
+            for (int m = 0; m < guava.size(); m++) {
+                CharMatcher expected = guava.get(m);
+                BulkCharMatcher actual = bulk.get(m).using(engine);
+                String context = actual + " / length " + input.length();
+                assertEquals(expected.indexIn(input), actual.indexIn(input), context);
+                int start = input.isEmpty() ? 0 : random.nextInt(input.length());
+                assertEquals(expected.indexIn(input, start), actual.indexIn(input, start), context);
+                assertEquals(expected.countIn(input), actual.countIn(input), context);
+                assertEquals(expected.removeFrom(input), actual.removeFrom(input), context);
+                assertEquals(expected.retainFrom(input), actual.retainFrom(input), context);
+                assertEquals(expected.trimFrom(input), actual.trimFrom(input), context);
+                assertEquals(expected.trimFrom(input), actual.trimFrom(new StringBuilder(input)), context);
+
+                char[] chars = input.toCharArray();
+                int from = chars.length / 3;
+                assertEquals(expected.countIn(input.substring(from)), actual.countIn(chars, from, chars.length), context);
+                int index = expected.indexIn(input, from);
+                assertEquals(index, actual.indexIn(chars, from, chars.length), context);
+            }
+        }
+    }
+
+    private static void add(List<CharMatcher> guava, List<BulkCharMatcher> bulk, CharMatcher expected, BulkCharMatcher actual) {
+        guava.add(expected);
+        bulk.add(actual);
+    }
+
+    /**
+     * 같은 글자가 길게 이어지는 구간을 섞어서 벡터 블록 전체가 매칭/비매칭인 경우도 생기게 함
+     */
+    private static String randomString(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            char c = ALPHABET[random.nextInt(ALPHABET.length)];
+            int run = random.nextInt(4) == 0 ? random.nextInt(100) : 1;
+            for (int i = 0; i < run && sb.length() < length; i++) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
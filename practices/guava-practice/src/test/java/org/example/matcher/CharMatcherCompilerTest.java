@@ -0,0 +1,76 @@
+package org.example.matcher;
+
+import com.google.common.base.CharMatcher;
+import org.example.matcher.CompiledCharMatcher.Strategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CharMatcherCompiler: 전략과 무관하게 원래 조합과 65,536 글자 모두 같은 결과인지,
+ * 그리고 집합 모양에 맞는 전략을 고르는지 검증
+ */
+class CharMatcherCompilerTest {
+
+    @Test
+    void 모든_글자에서_원래_조합과_동일() {
+        List<CharMatcher> matchers = Arrays.asList(
+                CharMatcher.none(),
+                CharMatcher.any(),
+                CharMatcher.anyOf("-_."),
+                CharMatcher.ascii().negate(),
+                CharMatcher.anyOf("aé中€"),
+                CharMatcher.anyOf("aeiou").and(CharMatcher.javaLowerCase()),
+                CharMatcher.javaLetterOrDigit().or(CharMatcher.anyOf("-_.")),
+                CharMatcher.whitespace().or(CharMatcher.breakingWhitespace()).negate(),
+                CharMatcher.inRange('가', '힣').or(CharMatcher.inRange('0', '9')),
+                CharMatcher.invisible().and(CharMatcher.ascii().negate()));
+        for (CharMatcher matcher : matchers) {
+            CompiledCharMatcher compiled = CharMatcherCompiler.compile(matcher);
+            for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                assertEquals(matcher.matches((char) c), compiled.matches((char) c),
+                        () -> compiled.strategy() + " " + matcher);
+            }
+        }
+    }
+
+    @Test
+    void 집합_모양에_맞는_전략() {
+        assertEquals(Strategy.ASCII_MASK, CharMatcherCompiler.compile(CharMatcher.anyOf("-_.")).strategy());
+        assertEquals(Strategy.ASCII_MASK, CharMatcherCompiler.compile(CharMatcher.none()).strategy());
+        // ASCII 밖이 [0x80, 0xFFFF] 범위 하나
+        assertEquals(Strategy.RANGE_TABLE, CharMatcherCompiler.compile(CharMatcher.ascii().negate()).strategy());
+        assertEquals(Strategy.RANGE_TABLE, CharMatcherCompiler.compile(CharMatcher.inRange('가', '힣')).strategy());
+        // 흩어진 몇 글자 → 해시가 범위 표보다 작음
+        assertEquals(Strategy.SMALL_HASH, CharMatcherCompiler.compile(CharMatcher.anyOf("é中€")).strategy());
+        // 범위 수백 개 → 블록 표
+        CompiledCharMatcher safeFilename =
+                CharMatcherCompiler.compile(CharMatcher.javaLetterOrDigit().or(CharMatcher.anyOf("-_.")));
+        assertEquals(Strategy.BLOCK_TABLE, safeFilename.strategy());
+        // precomputed() 의 BitSet (8 KB) 보다 작아야 의미가 있음
+        assertTrue(safeFilename.memoryBytes() < 8192, () -> safeFilename.memoryBytes() + " bytes");
+    }
+
+    @Test
+    void 메모리_크기() {
+        assertEquals(16, CharMatcherCompiler.compile(CharMatcher.anyOf("abc")).memoryBytes());
+        // 마스크 16 + char[1] 두 개 (각 16 + 2 → 24)
+        assertEquals(64, CharMatcherCompiler.compile(CharMatcher.ascii().negate()).memoryBytes());
+        // 마스크 16 + char[8] (16 + 16)
+        assertEquals(48, CharMatcherCompiler.compile(CharMatcher.anyOf("é中€")).memoryBytes());
+    }
+
+    @Test
+    void 다시_컴파일하거나_precomputed_해도_그대로() {
+        CompiledCharMatcher compiled = CharMatcherCompiler.compile(CharMatcher.digit().negate());
+        assertSame(compiled, CharMatcherCompiler.compile(compiled));
+        assertSame(compiled, compiled.precomputed());
+        assertTrue(compiled.toString().contains("digit"), compiled.toString());
+        assertEquals("a-b", compiled.retainFrom("a1-b2"));
+        assertEquals("12", compiled.negate().retainFrom("a1-b2"));
+        assertThrows(NullPointerException.class, () -> CharMatcherCompiler.compile(null));
+    }
+}
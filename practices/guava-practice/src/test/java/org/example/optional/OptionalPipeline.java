@@ -0,0 +1,101 @@
+package org.example.optional;
+
+import com.google.common.base.Function;
+import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
+import java.util.Objects;
+
+/**
+ * SimpleOptional.pipeline(x) 로 시작하는 일회용 (eager) 파이프라인 - Stream 과 같은 map / filter / 종료 연산
+ *
+ * SimpleOptional.transform 체인: 단계마다 fromNullable → Present 하나씩 생성
+ * OptionalPipeline: 단계마다 값 하나만 든 운반 객체 (Present 와 같은 크기)
+ * → 지연 평가 / 함수 합성이 아니고 할당 구조도 transform 체인과 같음 (filter 와 재사용 검사가 차이)
+ * - map / filter 는 바로 적용해 새 운반 객체 반환, 이전 단계는 사용 끝으로 표시
+ * - 값이 없어지면 이후 함수는 호출하지 않음 (Absent 와 동일한 단락 평가)
+ * - SimpleOptional 이 필요할 때만 toOptional() 에서 한 번 할당
+ * - 재귀 없이 한 줄로 이어지므로 체인 전체가 인라이닝되면 운반 객체도 EA 로 사라짐
+ *
+ * 주의: Stream 처럼 일회용
+ * - map / filter / 종료 연산을 한 번 호출한 단계를 다시 쓰면 IllegalStateException
+ *   (a.map(f) 뒤에 a.orNull() 처럼 이전 단계를 다른 타입으로 읽는 실수를 막음)
+ */
+public final class OptionalPipeline<T> {
+
+    /** 사용이 끝난 단계의 value (별도 boolean 없이 객체를 Present 크기로 유지) */
+    private static final Object USED = new Object();
+
+    private Object value;
+
+    OptionalPipeline(T nullableReference) {
+        this.value = nullableReference;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> OptionalPipeline<V> map(Function<? super T, V> function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        Object current = take();
+        return new OptionalPipeline<>(current == null ? null : function.apply((T) current));
+    }
+
+    @SuppressWarnings("unchecked")
+    public OptionalPipeline<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "predicate cannot be null");
+        Object current = take();
+        return new OptionalPipeline<>(current == null || !predicate.apply((T) current) ? null : (T) current);
+    }
+
+    // === 종료 연산 ===
+
+    public boolean isPresent() {
+        return take() != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T or(T defaultValue) {
+        Objects.requireNonNull(defaultValue, "use orNull() instead of or(null)");
+        Object result = take();
+        return (result != null) ? (T) result : defaultValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T or(Supplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier, "supplier cannot be null");
+        Object result = take();
+        if (result != null) {
+            return (T) result;
+        }
+        return Objects.requireNonNull(supplier.get(),
+                "use orNull() instead of a supplier that returns null");
+    }
+
+    @SuppressWarnings("unchecked")
+    public T orNull() {
+        return (T) take();
+    }
+
+    /**
+     * 값이 있을 때 Present 하나 할당
+     */
+    @SuppressWarnings("unchecked")
+    public SimpleOptional<T> toOptional() {
+        return SimpleOptional.fromNullable((T) take());
+    }
+
+    /**
+     * 값을 꺼내고 이 단계를 사용 끝으로 표시
+     */
+    private Object take() {
+        Object current = value;
+        if (current == USED) {
+            throw new IllegalStateException("optional pipeline has already been operated upon or consumed");
+        }
+        value = USED;
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return value == USED ? "OptionalPipeline(used)" : "OptionalPipeline(" + value + ")";
+    }
+}
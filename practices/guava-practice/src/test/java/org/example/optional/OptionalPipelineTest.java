@@ -0,0 +1,91 @@
+package org.example.optional;
+
+import com.google.common.base.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SimpleOptional.pipeline() 파이프라인 검증
+ */
+public class OptionalPipelineTest {
+
+    private static final Function<String, Integer> TO_LENGTH = new Function<String, Integer>() {
+        @Override
+        public Integer apply(String s) {
+            return s.length();
+        }
+    };
+
+    @Test
+    @DisplayName("eager transform 체인과 같은 결과")
+    void testSameResultAsEagerChain() {
+        SimpleOptional<String> eager = SimpleOptional.of("hello")
+                .transform(TO_LENGTH)
+                .transform(Integer::toHexString);
+
+        String piped = SimpleOptional.pipeline("hello")
+                .map(TO_LENGTH)
+                .map(Integer::toHexString)
+                .orNull();
+
+        assertEquals(eager.get(), piped);
+        assertEquals(eager, SimpleOptional.pipeline("hello").map(TO_LENGTH).map(Integer::toHexString).toOptional());
+    }
+
+    @Test
+    @DisplayName("값이 없어지면 이후 함수는 호출 안 됨")
+    void testShortCircuit() {
+        int[] calls = {0};
+
+        String result = SimpleOptional.pipeline("hi")
+                .map(TO_LENGTH)
+                .filter(i -> i > 3)
+                .map(i -> {
+                    calls[0]++;
+                    return "never";
+                })
+                .or("default");
+
+        assertEquals("default", result);
+        assertEquals(0, calls[0]);
+
+        // map 이 null 반환 → absent (transform 과 동일)
+        assertFalse(SimpleOptional.pipeline("x").map(s -> null).isPresent());
+        assertSame(SimpleOptional.absent(), SimpleOptional.<String>pipeline(null).map(TO_LENGTH).toOptional());
+    }
+
+    @Test
+    @DisplayName("or / or(Supplier) 계약은 SimpleOptional 과 동일")
+    void testOrContracts() {
+        assertThrows(NullPointerException.class, () -> SimpleOptional.pipeline("a").or((String) null));
+        assertThrows(NullPointerException.class, () -> SimpleOptional.<String>pipeline(null).or(() -> null));
+        assertEquals("computed", SimpleOptional.<String>pipeline(null).or(() -> "computed"));
+    }
+
+    @Test
+    @DisplayName("일회용: 종료 연산 뒤 재사용 불가")
+    void testSingleUse() {
+        OptionalPipeline<Integer> pipeline = SimpleOptional.pipeline("hello").map(TO_LENGTH);
+        assertEquals(5, pipeline.orNull());
+
+        assertThrows(IllegalStateException.class, pipeline::orNull);
+        assertThrows(IllegalStateException.class, () -> pipeline.map(i -> i + 1));
+    }
+
+    @Test
+    @DisplayName("일회용: map / filter 를 호출한 이전 단계도 재사용 불가")
+    void testPreviousStageIsStale() {
+        OptionalPipeline<String> start = SimpleOptional.pipeline("x");
+        OptionalPipeline<Integer> mapped = start.map(TO_LENGTH);
+
+        // 같은 객체였다면 String 타입으로 Integer 를 돌려줌
+        assertThrows(IllegalStateException.class, start::orNull);
+        assertThrows(IllegalStateException.class, () -> start.filter(s -> true));
+
+        OptionalPipeline<Integer> filtered = mapped.filter(i -> i > 0);
+        assertThrows(IllegalStateException.class, mapped::isPresent);
+        assertEquals(1, filtered.orNull());
+    }
+}
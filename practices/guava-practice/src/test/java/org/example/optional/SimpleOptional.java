@@ -26,6 +26,13 @@ public abstract class SimpleOptional<T> {
         return (SimpleOptional<T>) ABSENT;
     }
 
+    /**
+     * map / filter 를 이어 붙이는 일회용 파이프라인 (이전 단계 재사용은 IllegalStateException)
+     */
+    public static <T> OptionalPipeline<T> pipeline(T nullableReference) {
+        return new OptionalPipeline<>(nullableReference);
+    }
+
     public abstract boolean isPresent();
     public abstract T get();
     public abstract T or(T defaultValue);
@@ -0,0 +1,150 @@
+package org.example.optional;
+
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * double 전용 SimpleOptional
+ *
+ * 구조는 SimpleOptionalInt 와 동일
+ * valueOf 캐시는 -128.0 ~ 127.0 의 정수 값만 (-0.0 은 0.0 과 다른 값이므로 제외)
+ * equals 는 Double.compare 기준 (NaN == NaN, 0.0 != -0.0) - Double.equals 와 같음
+ */
+public final class SimpleOptionalDouble {
+
+    private static final SimpleOptionalDouble ABSENT = new SimpleOptionalDouble(false, 0.0);
+
+    private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0);
+
+    static final int CACHE_LOW = -128;
+    static final int CACHE_HIGH = 127;
+
+    private static final class Cache {
+        static final SimpleOptionalDouble[] VALUES = new SimpleOptionalDouble[CACHE_HIGH - CACHE_LOW + 1];
+
+        static {
+            for (int i = 0; i < VALUES.length; i++) {
+                VALUES[i] = new SimpleOptionalDouble(true, CACHE_LOW + i);
+            }
+        }
+    }
+
+    private final boolean present;
+    private final double value;
+
+    private SimpleOptionalDouble(boolean present, double value) {
+        this.present = present;
+        this.value = value;
+    }
+
+    /**
+     * 항상 새 인스턴스 - Escape Analysis 용
+     * 캐시 인스턴스와 새 인스턴스가 한 변수로 합쳐지면(phi) C2 가 스칼라 치환을 포기하므로
+     * 체이닝 중간 단계는 항상 이 경로로 만든다
+     */
+    public static SimpleOptionalDouble of(double value) {
+        return new SimpleOptionalDouble(true, value);
+    }
+
+    /**
+     * 작은 값은 캐시된 인스턴스 반환 (Double.valueOf 와 같은 역할)
+     * 필드에 저장하거나 인라이닝되지 않는 메서드 경계를 넘는 값용
+     */
+    public static SimpleOptionalDouble valueOf(double value) {
+        int asInt = (int) value;
+        if (asInt == value && asInt >= CACHE_LOW && asInt <= CACHE_HIGH
+                && Double.doubleToRawLongBits(value) != NEGATIVE_ZERO_BITS) {
+            return Cache.VALUES[asInt - CACHE_LOW];
+        }
+        return new SimpleOptionalDouble(true, value);
+    }
+
+    public static SimpleOptionalDouble fromNullable(Double nullableValue) {
+        return (nullableValue == null) ? ABSENT : valueOf(nullableValue);
+    }
+
+    /**
+     * transform 계열 내부용 - present 여부와 관계없이 항상 새 인스턴스 (ABSENT 와 합쳐지지 않음)
+     */
+    static SimpleOptionalDouble create(boolean present, double value) {
+        return new SimpleOptionalDouble(present, value);
+    }
+
+    public static SimpleOptionalDouble absent() {
+        return ABSENT;
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public double get() {
+        if (!present) {
+            throw new IllegalStateException("Optional.get() cannot be called on an absent value");
+        }
+        return value;
+    }
+
+    public double or(double defaultValue) {
+        return present ? value : defaultValue;
+    }
+
+    public double or(DoubleSupplier supplier) {
+        Objects.requireNonNull(supplier, "supplier cannot be null");
+        return present ? value : supplier.getAsDouble();
+    }
+
+    public SimpleOptionalDouble filter(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate cannot be null");
+        boolean keep = present && predicate.test(value);
+        return new SimpleOptionalDouble(keep, keep ? value : 0.0);
+    }
+
+    public SimpleOptionalDouble transform(DoubleUnaryOperator function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        return new SimpleOptionalDouble(present, present ? function.applyAsDouble(value) : 0.0);
+    }
+
+    public SimpleOptionalInt transformToInt(DoubleToIntFunction function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        return SimpleOptionalInt.create(present, present ? function.applyAsInt(value) : 0);
+    }
+
+    public SimpleOptionalLong transformToLong(DoubleToLongFunction function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        return SimpleOptionalLong.create(present, present ? function.applyAsLong(value) : 0L);
+    }
+
+    public <V> SimpleOptional<V> transformToObj(DoubleFunction<? extends V> function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        return present ? SimpleOptional.fromNullable(function.apply(value)) : SimpleOptional.absent();
+    }
+
+    public SimpleOptional<Double> boxed() {
+        return present ? SimpleOptional.of(value) : SimpleOptional.absent();
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object instanceof SimpleOptionalDouble) {
+            SimpleOptionalDouble other = (SimpleOptionalDouble) object;
+            return present == other.present && Double.compare(value, other.value) == 0;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? 0x598df91c + Double.hashCode(value) : 0x79a31aac;
+    }
+
+    @Override
+    public String toString() {
+        return present ? "OptionalDouble.of(" + value + ")" : "OptionalDouble.absent()";
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.optional;
+
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * int 전용 SimpleOptional
+ *
+ * SimpleOptional&lt;Integer&gt; 는 값 하나에 Integer + Present 두 객체를 만듦
+ * → int 필드를 직접 들고 있어 박싱이 없음
+ *
+ * Present/Absent 하위 클래스 대신 final 클래스 하나로 구현
+ * - 호출 지점이 항상 단형(monomorphic) → 인라이닝 → Escape Analysis 로 할당 제거
+ * - of / transform / filter 는 캐시나 ABSENT 를 섞지 않고 항상 새 인스턴스
+ *   → 체인이 메서드 밖으로 새지 않으면 할당 0 (OptionalPerformanceBenchmark 벤치마크 5)
+ * - valueOf 는 -128 ~ 127 을 Integer 캐시처럼 미리 만들어 둔 인스턴스로 재사용
+ *   → 필드에 저장되는 등 어차피 탈출하는 값용
+ */
+public final class SimpleOptionalInt {
+
+    private static final SimpleOptionalInt ABSENT = new SimpleOptionalInt(false, 0);
+
+    static final int CACHE_LOW = -128;
+    static final int CACHE_HIGH = 127;
+
+    private static final class Cache {
+        static final SimpleOptionalInt[] VALUES = new SimpleOptionalInt[CACHE_HIGH - CACHE_LOW + 1];
+
+        static {
+            for (int i = 0; i < VALUES.length; i++) {
+                VALUES[i] = new SimpleOptionalInt(true, CACHE_LOW + i);
+            }
+        }
+    }
+
+    private final boolean present;
+    private final int value;
+
+    private SimpleOptionalInt(boolean present, int value) {
+        this.present = present;
+        this.value = value;
+    }
+
+    /**
+     * 항상 새 인스턴스 - Escape Analysis 용
+     * 캐시 인스턴스와 새 인스턴스가 한 변수로 합쳐지면(phi) C2 가 스칼라 치환을 포기하므로
+     * 체이닝 중간 단계는 항상 이 경로로 만든다
+     */
+    public static SimpleOptionalInt of(int value) {
+        return new SimpleOptionalInt(true, value);
+    }
+
+    /**
+     * 작은 값은 캐시된 인스턴스 반환 (Integer.valueOf 와 같은 역할)
+     * 필드에 저장하거나 인라이닝되지 않는 메서드 경계를 넘는 값용
+     */
+    public static SimpleOptionalInt valueOf(int value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return Cache.VALUES[value - CACHE_LOW];
+        }
+        return new SimpleOptionalInt(true, value);
+    }
+
+    public static SimpleOptionalInt fromNullable(Integer nullableValue) {
+        return (nullableValue == null) ? ABSENT : valueOf(nullableValue);
+    }
+
+    /**
+     * transform 계열 내부용 - present 여부와 관계없이 항상 새 인스턴스 (ABSENT 와 합쳐지지 않음)
+     */
+    static SimpleOptionalInt create(boolean present, int value) {
+        return new SimpleOptionalInt(present, value);
+    }
+
+    public static SimpleOptionalInt absent() {
+        return ABSENT;
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public int get() {
+        if (!present) {
+            throw new IllegalStateException("Optional.get() cannot be called on an absent value");
+        }
+        return value;
+    }
+
+    public int or(int defaultValue) {
+        return present ? value : defaultValue;
+    }
+
+    public int or(IntSupplier supplier) {
+        Objects.requireNonNull(supplier, "supplier cannot be null");
+        return present ? value : supplier.getAsInt();
+    }
+
+    public SimpleOptionalInt filter(IntPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate cannot be null");
+        boolean keep = present && predicate.test(value);
+        return new SimpleOptionalInt(keep, keep ? value : 0);
+    }
+
+    public SimpleOptionalInt transform(IntUnaryOperator function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        return new SimpleOptionalInt(present, present ? function.applyAsInt(value) : 0);
+    }
+
+    public SimpleOptionalLong transformToLong(IntToLongFunction function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        return SimpleOptionalLong.create(present, present ? function.applyAsLong(value) : 0L);
+    }
+
+    public SimpleOptionalDouble transformToDouble(IntToDoubleFunction function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        return SimpleOptionalDouble.create(present, present ? function.applyAsDouble(value) : 0.0);
+    }
+
+    /**
+     * 객체로 넘어가는 경우 - SimpleOptional.transform 과 같이 null 이면 absent
+     */
+    public <V> SimpleOptional<V> transformToObj(IntFunction<? extends V> function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        return present ? SimpleOptional.fromNullable(function.apply(value)) : SimpleOptional.absent();
+    }
+
+    /**
+     * 박싱 버전이 꼭 필요할 때만 (API 경계 등)
+     */
+    public SimpleOptional<Integer> boxed() {
+        return present ? SimpleOptional.of(value) : SimpleOptional.absent();
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object instanceof SimpleOptionalInt) {
+            SimpleOptionalInt other = (SimpleOptionalInt) object;
+            return present == other.present && value == other.value;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? 0x598df91c + value : 0x79a31aac;
+    }
+
+    @Override
+    public String toString() {
+        return present ? "OptionalInt.of(" + value + ")" : "OptionalInt.absent()";
+    }
+}
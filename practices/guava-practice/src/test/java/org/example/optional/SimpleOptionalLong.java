@@ -0,0 +1,144 @@
+package org.example.optional;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * long 전용 SimpleOptional
+ *
+ * 구조는 SimpleOptionalInt 와 동일 (final 클래스, of 는 EA 용 / valueOf 는 -128 ~ 127 캐시)
+ */
+public final class SimpleOptionalLong {
+
+    private static final SimpleOptionalLong ABSENT = new SimpleOptionalLong(false, 0L);
+
+    static final int CACHE_LOW = -128;
+    static final int CACHE_HIGH = 127;
+
+    private static final class Cache {
+        static final SimpleOptionalLong[] VALUES = new SimpleOptionalLong[CACHE_HIGH - CACHE_LOW + 1];
+
+        static {
+            for (int i = 0; i < VALUES.length; i++) {
+                VALUES[i] = new SimpleOptionalLong(true, CACHE_LOW + i);
+            }
+        }
+    }
+
+    private final boolean present;
+    private final long value;
+
+    private SimpleOptionalLong(boolean present, long value) {
+        this.present = present;
+        this.value = value;
+    }
+
+    /**
+     * 항상 새 인스턴스 - Escape Analysis 용
+     * 캐시 인스턴스와 새 인스턴스가 한 변수로 합쳐지면(phi) C2 가 스칼라 치환을 포기하므로
+     * 체이닝 중간 단계는 항상 이 경로로 만든다
+     */
+    public static SimpleOptionalLong of(long value) {
+        return new SimpleOptionalLong(true, value);
+    }
+
+    /**
+     * 작은 값은 캐시된 인스턴스 반환 (Long.valueOf 와 같은 역할)
+     * 필드에 저장하거나 인라이닝되지 않는 메서드 경계를 넘는 값용
+     */
+    public static SimpleOptionalLong valueOf(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return Cache.VALUES[(int) value - CACHE_LOW];
+        }
+        return new SimpleOptionalLong(true, value);
+    }
+
+    public static SimpleOptionalLong fromNullable(Long nullableValue) {
+        return (nullableValue == null) ? ABSENT : valueOf(nullableValue);
+    }
+
+    /**
+     * transform 계열 내부용 - present 여부와 관계없이 항상 새 인스턴스 (ABSENT 와 합쳐지지 않음)
+     */
+    static SimpleOptionalLong create(boolean present, long value) {
+        return new SimpleOptionalLong(present, value);
+    }
+
+    public static SimpleOptionalLong absent() {
+        return ABSENT;
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public long get() {
+        if (!present) {
+            throw new IllegalStateException("Optional.get() cannot be called on an absent value");
+        }
+        return value;
+    }
+
+    public long or(long defaultValue) {
+        return present ? value : defaultValue;
+    }
+
+    public long or(LongSupplier supplier) {
+        Objects.requireNonNull(supplier, "supplier cannot be null");
+        return present ? value : supplier.getAsLong();
+    }
+
+    public SimpleOptionalLong filter(LongPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate cannot be null");
+        boolean keep = present && predicate.test(value);
+        return new SimpleOptionalLong(keep, keep ? value : 0L);
+    }
+
+    public SimpleOptionalLong transform(LongUnaryOperator function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        return new SimpleOptionalLong(present, present ? function.applyAsLong(value) : 0L);
+    }
+
+    public SimpleOptionalInt transformToInt(LongToIntFunction function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        return SimpleOptionalInt.create(present, present ? function.applyAsInt(value) : 0);
+    }
+
+    public SimpleOptionalDouble transformToDouble(LongToDoubleFunction function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        return SimpleOptionalDouble.create(present, present ? function.applyAsDouble(value) : 0.0);
+    }
+
+    public <V> SimpleOptional<V> transformToObj(LongFunction<? extends V> function) {
+        Objects.requireNonNull(function, "transform function cannot be null");
+        return present ? SimpleOptional.fromNullable(function.apply(value)) : SimpleOptional.absent();
+    }
+
+    public SimpleOptional<Long> boxed() {
+        return present ? SimpleOptional.of(value) : SimpleOptional.absent();
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object instanceof SimpleOptionalLong) {
+            SimpleOptionalLong other = (SimpleOptionalLong) object;
+            return present == other.present && value == other.value;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? 0x598df91c + Long.hashCode(value) : 0x79a31aac;
+    }
+
+    @Override
+    public String toString() {
+        return present ? "OptionalLong.of(" + value + ")" : "OptionalLong.absent()";
+    }
+}
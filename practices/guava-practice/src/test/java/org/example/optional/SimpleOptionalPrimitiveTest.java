@@ -0,0 +1,128 @@
+package org.example.optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SimpleOptionalInt / Long / Double 동작 검증
+ */
+public class SimpleOptionalPrimitiveTest {
+
+    @Test
+    @DisplayName("valueOf 는 -128 ~ 127 을 캐시, of 는 항상 새 인스턴스")
+    void testValueOfCache() {
+        assertSame(SimpleOptionalInt.valueOf(100), SimpleOptionalInt.valueOf(100));
+        assertSame(SimpleOptionalInt.valueOf(-128), SimpleOptionalInt.valueOf(-128));
+        assertNotSame(SimpleOptionalInt.valueOf(128), SimpleOptionalInt.valueOf(128));
+
+        // of 는 EA 용이라 캐시를 쓰지 않지만 값은 같음
+        assertNotSame(SimpleOptionalInt.of(1), SimpleOptionalInt.of(1));
+        assertEquals(SimpleOptionalInt.of(1), SimpleOptionalInt.valueOf(1));
+
+        assertSame(SimpleOptionalLong.valueOf(7L), SimpleOptionalLong.valueOf(7L));
+        assertNotSame(SimpleOptionalLong.valueOf(1_000L), SimpleOptionalLong.valueOf(1_000L));
+
+        assertSame(SimpleOptionalDouble.valueOf(3.0), SimpleOptionalDouble.valueOf(3.0));
+        assertNotSame(SimpleOptionalDouble.valueOf(3.5), SimpleOptionalDouble.valueOf(3.5));
+    }
+
+    @Test
+    @DisplayName("double 캐시는 -0.0 을 0.0 으로 바꾸지 않음")
+    void testNegativeZero() {
+        SimpleOptionalDouble negativeZero = SimpleOptionalDouble.valueOf(-0.0);
+
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(negativeZero.get()));
+        assertNotEquals(SimpleOptionalDouble.valueOf(0.0), negativeZero);
+        assertEquals(SimpleOptionalDouble.of(Double.NaN), SimpleOptionalDouble.of(Double.NaN));
+    }
+
+    @Test
+    @DisplayName("absent 는 싱글톤, get() 은 SimpleOptional 과 같은 예외")
+    void testAbsent() {
+        assertSame(SimpleOptionalInt.absent(), SimpleOptionalInt.fromNullable(null));
+        assertFalse(SimpleOptionalLong.absent().isPresent());
+
+        assertThrows(IllegalStateException.class, () -> SimpleOptionalInt.absent().get());
+        assertThrows(IllegalStateException.class, () -> SimpleOptionalLong.absent().get());
+        assertThrows(IllegalStateException.class, () -> SimpleOptionalDouble.absent().get());
+    }
+
+    @Test
+    @DisplayName("or / or(Supplier) - Present 면 Supplier 호출 안 함")
+    void testOr() {
+        int[] calls = {0};
+
+        assertEquals(5, SimpleOptionalInt.of(5).or(() -> {
+            calls[0]++;
+            return -1;
+        }));
+        assertEquals(0, calls[0]);
+
+        assertEquals(-1, SimpleOptionalInt.absent().or(() -> {
+            calls[0]++;
+            return -1;
+        }));
+        assertEquals(1, calls[0]);
+
+        assertEquals(9L, SimpleOptionalLong.absent().or(9L));
+        assertEquals(1.5, SimpleOptionalDouble.absent().or(1.5));
+    }
+
+    @Test
+    @DisplayName("transform 체이닝 - 박싱 없이 타입 간 변환")
+    void testTransform() {
+        SimpleOptionalLong result = SimpleOptionalInt.of(5)
+                .transform(i -> i * 2)
+                .filter(i -> i > 0)
+                .transformToLong(i -> i * 1_000_000_000L);
+
+        assertTrue(result.isPresent());
+        assertEquals(10_000_000_000L, result.get());
+
+        SimpleOptionalDouble half = SimpleOptionalLong.of(3L).transformToDouble(l -> l / 2.0);
+        assertEquals(1.5, half.get());
+
+        SimpleOptional<String> hex = SimpleOptionalInt.of(255).transformToObj(Integer::toHexString);
+        assertEquals("ff", hex.get());
+
+        // 객체 변환에서 null 반환 → absent (SimpleOptional.transform 과 동일)
+        assertFalse(SimpleOptionalInt.of(1).transformToObj(i -> null).isPresent());
+    }
+
+    @Test
+    @DisplayName("absent 에 transform / filter 해도 absent")
+    void testAbsentTransform() {
+        int[] calls = {0};
+
+        SimpleOptionalInt absent = SimpleOptionalInt.absent().transform(i -> {
+            calls[0]++;
+            return i;
+        });
+        assertFalse(absent.isPresent());
+        assertFalse(SimpleOptionalInt.absent().transformToDouble(i -> i).isPresent());
+        assertFalse(SimpleOptionalInt.of(-1).filter(i -> i > 0).isPresent());
+        assertEquals(0, calls[0]);
+
+        // 새 인스턴스로 만들어져도 absent 끼리는 같음
+        assertEquals(SimpleOptionalInt.absent(), absent);
+        assertEquals(SimpleOptionalInt.absent().hashCode(), absent.hashCode());
+    }
+
+    @Test
+    @DisplayName("null 함수는 거부")
+    void testNullFunction() {
+        assertThrows(NullPointerException.class, () -> SimpleOptionalInt.of(1).transform(null));
+        assertThrows(NullPointerException.class, () -> SimpleOptionalLong.absent().transform(null));
+        assertThrows(NullPointerException.class, () -> SimpleOptionalDouble.of(1).filter(null));
+    }
+
+    @Test
+    @DisplayName("boxed() 는 SimpleOptional 로 변환")
+    void testBoxed() {
+        assertEquals(SimpleOptional.of(42), SimpleOptionalInt.of(42).boxed());
+        assertSame(SimpleOptional.absent(), SimpleOptionalLong.absent().boxed());
+        assertEquals("OptionalInt.of(42)", SimpleOptionalInt.of(42).toString());
+    }
+}
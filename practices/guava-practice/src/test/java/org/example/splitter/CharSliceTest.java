@@ -0,0 +1,113 @@
+package org.example.splitter;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CharSlice 의 String 호환 동작 + SliceCursor / CharSequenceMap 검증
+ */
+class CharSliceTest {
+
+    @Test
+    void hashCode는_String과_동일() {
+        for (String s : Arrays.asList("", "a", "apple", "한글", "x,y,z")) {
+            CharSlice fromArray = new CharSlice().reset(("[" + s + "]").toCharArray(), 1, s.length());
+            CharSlice fromSequence = new CharSlice().reset("<<" + s + ">>", 2, s.length());
+            assertEquals(s.hashCode(), fromArray.hashCode());
+            assertEquals(s.hashCode(), fromSequence.hashCode());
+            assertEquals(fromArray, fromSequence);
+            assertTrue(fromArray.contentEquals(s));
+            assertEquals(s, fromArray.toString());
+        }
+    }
+
+    @Test
+    void String과는_equals가_false_contentEquals로_비교() {
+        CharSlice slice = new CharSlice().reset("apple", 0, 5);
+        assertNotEquals(slice, "apple");
+        assertTrue(slice.contentEquals("apple"));
+        assertFalse(slice.contentEquals("apples"));
+        assertFalse(slice.contentEquals("apPle"));
+    }
+
+    @Test
+    void parseInt_Integer_parseInt와_동일() {
+        for (String s : Arrays.asList("0", "7", "-7", "+42", "007", "2147483647", "-2147483648")) {
+            assertEquals(Integer.parseInt(s), slice(s).parseInt(), s);
+        }
+        for (String s : Arrays.asList("", "-", "+", "2147483648", "-2147483649", "12a", " 1", "1.0", "99999999999")) {
+            assertThrows(NumberFormatException.class, () -> slice(s).parseInt(), s);
+        }
+    }
+
+    @Test
+    void parseLong_Long_parseLong과_동일() {
+        for (String s : Arrays.asList("0", "-1", "9223372036854775807", "-9223372036854775808", "2147483648")) {
+            assertEquals(Long.parseLong(s), slice(s).parseLong(), s);
+        }
+        for (String s : Arrays.asList("", "-", "9223372036854775808", "-9223372036854775809", "1e3")) {
+            assertThrows(NumberFormatException.class, () -> slice(s).parseLong(), s);
+        }
+    }
+
+    @Test
+    void SliceCursor_Splitter와_동일() {
+        List<String> inputs = Arrays.asList("a,b,c", "", ",", " a , ,b ,, c ", "a,,b,", ",,,");
+        for (String input : inputs) {
+            assertEquals(Splitter.on(',').splitToList(input), collect(StreamingSplitter.on(',').cursor(input)));
+            assertEquals(Splitter.on(',').trimResults().omitEmptyStrings().limit(2).splitToList(input),
+                    collect(StreamingSplitter.on(',').trimResults().omitEmptyStrings().limit(2).cursor(input)));
+            // String 이 아닌 입력 (indexOf 빠른 경로를 타지 않음)
+            assertEquals(Splitter.on(',').trimResults().splitToList(input),
+                    collect(StreamingSplitter.on(',').trimResults().cursor(new StringBuilder(input))));
+        }
+    }
+
+    @Test
+    void SliceCursor_reset으로_재사용() {
+        SliceCursor cursor = StreamingSplitter.on('|').cursor("a|b");
+        assertEquals(Arrays.asList("a", "b"), collect(cursor));
+        assertEquals(Arrays.asList("c", "d", "e"), collect(cursor.reset("c|d|e")));
+    }
+
+    @Test
+    void CharSequenceMap_슬라이스로_조회() {
+        CharSequenceMap<Integer> map = CharSequenceMap.copyOf(ImmutableMap.of("KR", 82, "US", 1, "JP", 81));
+        assertEquals(3, map.size());
+
+        SliceCursor cursor = StreamingSplitter.on(',').cursor("US,JP,FR,KR");
+        List<Integer> codes = new ArrayList<>();
+        while (cursor.next()) {
+            codes.add(map.get(cursor.token()));
+        }
+        assertEquals(Arrays.asList(1, 81, null, 82), codes);
+        assertEquals(82, map.get(new StringBuilder("KR")));
+        assertFalse(map.containsKey("kr"));
+    }
+
+    @Test
+    void CharSequenceMap_빈_맵() {
+        CharSequenceMap<String> empty = CharSequenceMap.copyOf(ImmutableMap.<String, String>of());
+        assertEquals(0, empty.size());
+        assertNull(empty.get("a"));
+    }
+
+    private static CharSlice slice(String s) {
+        return new CharSlice().reset("#" + s + "#", 1, s.length());
+    }
+
+    private static List<String> collect(SliceCursor cursor) {
+        List<String> tokens = new ArrayList<>();
+        while (cursor.next()) {
+            tokens.add(cursor.token().toString());
+        }
+        return tokens;
+    }
+}
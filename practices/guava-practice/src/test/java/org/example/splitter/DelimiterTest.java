@@ -0,0 +1,131 @@
+package org.example.splitter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Delimiter
+ * - 패턴마다 고르는 엔진 (단순한 패턴은 정규식 없이, 나머지는 REGEX)
+ * - 무작위 입력에서 찾은 구분자 위치 / 길이가 java.util.regex 와 같은지
+ * - 빈 구분자 / 빈 문자열과 맞는 패턴 / 잘못된 패턴
+ */
+class DelimiterTest {
+
+    private static final List<String> PATTERNS = Arrays.asList(
+            "\\|\\|", "ab", "aab", "[ab]", "a+", "\\s+", "\\s*,\\s*", "\\s*::\\s*", "\\r?\\n", " ?,",
+            "[^a ]+", "a?b", "a*ba?", "[a-c]x?", "[\\s,]+", "\\W", "\\s*\\s", "a|bb", "(ab)+", ",+?", "x{2}",
+            "[^a]", "\\S", "\\D", "\\S+", "[^,]*,", "\\r?\\W");
+
+    @Test
+    void 패턴별_엔진() {
+        assertEquals(Delimiter.Kind.LITERAL, Delimiter.on("||").kind());
+        assertEquals(Delimiter.Kind.LITERAL, Delimiter.onPattern("\\|\\|").kind());
+        assertEquals(Delimiter.Kind.LITERAL, Delimiter.onPattern("\\r\\n").kind());
+        assertEquals(Delimiter.Kind.LITERAL, Delimiter.onPattern(" :: ").kind());
+        assertEquals(Delimiter.Kind.LITERAL, Delimiter.onPattern("[:]\\.").kind());
+        assertEquals(Delimiter.Kind.CHAR_CLASS, Delimiter.onPattern("[,;]").kind());
+        assertEquals(Delimiter.Kind.CHAR_CLASS, Delimiter.onPattern("\\s+").kind());
+        assertEquals(Delimiter.Kind.CHAR_CLASS, Delimiter.onPattern("[^a-z0-9_-]+").kind());
+        assertEquals(Delimiter.Kind.SEQUENCE, Delimiter.onPattern("\\s*,\\s*").kind());
+        assertEquals(Delimiter.Kind.SEQUENCE, Delimiter.onPattern("\\r?\\n").kind());
+        // 되돌아가기가 필요하거나 지원하지 않는 구문
+        assertEquals(Delimiter.Kind.REGEX, Delimiter.onPattern("\\s*\\s").kind());
+        assertEquals(Delimiter.Kind.REGEX, Delimiter.onPattern("a|bb").kind());
+        assertEquals(Delimiter.Kind.REGEX, Delimiter.onPattern(",+?").kind());
+        assertEquals(Delimiter.Kind.REGEX, Delimiter.onPattern("x{2}").kind());
+        assertEquals(Delimiter.Kind.REGEX, Delimiter.onPattern("\\bx").kind());
+        assertEquals(Delimiter.Kind.REGEX, Delimiter.onPattern("[a-z&&[^x]]").kind());
+        // 정규식은 surrogate 쌍을 한 글자로 봄
+        assertEquals(Delimiter.Kind.REGEX, Delimiter.onPattern("😀+").kind());
+        assertEquals(Delimiter.Kind.REGEX, Delimiter.onPattern("[😀]").kind());
+        // 한 번짜리 부정 집합은 surrogate 쌍을 쪼개므로 정규식, 반복이면 연속 구간이 같음
+        assertEquals(Delimiter.Kind.REGEX, Delimiter.onPattern("[^a]").kind());
+        assertEquals(Delimiter.Kind.REGEX, Delimiter.onPattern("\\S").kind());
+        assertEquals(Delimiter.Kind.CHAR_CLASS, Delimiter.onPattern("[^a]+").kind());
+        assertEquals("Delimiter.onPattern(\\s+)", Delimiter.onPattern("\\s+").toString());
+    }
+
+    @Test
+    void java_regex_와_같은_위치와_길이() {
+        Random random = new Random(11);
+        int[] alphabet = "ab ,:\r\n|xc😀".codePoints().toArray();
+        for (String regex : PATTERNS) {
+            Delimiter delimiter = Delimiter.onPattern(regex);
+            Pattern pattern = Pattern.compile(regex);
+            for (int round = 0; round < 500; round++) {
+                StringBuilder sb = new StringBuilder();
+                int length = random.nextInt(30);
+                for (int i = 0; i < length; i++) {
+                    sb.appendCodePoint(alphabet[random.nextInt(alphabet.length)]);
+                }
+                String input = sb.toString();
+                assertEquals(regexMatches(pattern, input), matches(delimiter, input),
+                        regex + " (" + delimiter.kind() + ") in \"" + input + "\"");
+                // String 이 아닌 입력 (Horspool 경로)
+                assertEquals(regexMatches(pattern, input), matches(delimiter, new StringBuilder(input)),
+                        regex + " in StringBuilder \"" + input + "\"");
+            }
+        }
+    }
+
+    @Test
+    void 긴_구분자_Horspool() {
+        Delimiter delimiter = Delimiter.on("<--sep-->");
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            input.append("value-<-").append(i).append("<--sep-");
+            if (i % 3 == 0) {
+                input.append("-><--sep-->");
+            }
+        }
+        String text = input.toString();
+        int from = 0;
+        int found;
+        while ((found = text.indexOf("<--sep-->", from)) != -1) {
+            assertEquals(found, delimiter.indexIn(new StringBuilder(text), from));
+            from = found + 1;
+        }
+        assertEquals(-1, delimiter.indexIn(new StringBuilder(text), from));
+    }
+
+    @Test
+    void 잘못된_구분자() {
+        assertThrows(IllegalArgumentException.class, () -> Delimiter.on(""));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Delimiter.onPattern("a*"));
+        assertEquals("The pattern may not match the empty string: a*", e.getMessage());
+        assertThrows(PatternSyntaxException.class, () -> Delimiter.onPattern("[a"));
+        assertThrows(PatternSyntaxException.class, () -> Delimiter.onPattern("+a"));
+    }
+
+    /** 겹치지 않게 차례로 찾은 구분자 [start, end) 목록 */
+    private static List<String> matches(Delimiter delimiter, CharSequence input) {
+        List<String> result = new ArrayList<>();
+        int from = 0;
+        long match;
+        while (from <= input.length() && (match = delimiter.find(input, from, true)) != Delimiter.NOT_FOUND) {
+            result.add(Delimiter.start(match) + "-" + Delimiter.end(match));
+            from = Delimiter.end(match);
+        }
+        return result;
+    }
+
+    private static List<String> regexMatches(Pattern pattern, String input) {
+        List<String> result = new ArrayList<>();
+        Matcher matcher = pattern.matcher(input);
+        int from = 0;
+        while (from <= input.length() && matcher.find(from)) {
+            result.add(matcher.start() + "-" + matcher.end());
+            from = matcher.end();
+        }
+        return result;
+    }
+}
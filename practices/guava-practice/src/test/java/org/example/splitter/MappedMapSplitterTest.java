@@ -0,0 +1,183 @@
+package org.example.splitter;
+
+import com.google.common.base.Splitter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MappedMapSplitter 가 레코드마다 Splitter.MapSplitter 와 같은 결과/예외를 내는지 검증
+ */
+class MappedMapSplitterTest {
+
+    private static final Splitter.MapSplitter GUAVA = Splitter.on('&').withKeyValueSeparator('=');
+
+    @Test
+    void 레코드마다_MapSplitter와_동일() {
+        List<String> lines = Arrays.asList("name=John&age=30&city=Seoul", "a=", "=b", "k=v", "이름=홍길동&도시=서울");
+        assertEquals(guava(lines), records(MappedMapSplitter.on('&', '='), String.join("\n", lines)));
+    }
+
+    @Test
+    void 잘못된_형식_MapSplitter와_같은_예외() {
+        for (String input : Arrays.asList("name=John&invalid&age=30", "a=b=c", "a=1&", "&a=1")) {
+            IllegalArgumentException expected = assertThrows(IllegalArgumentException.class, () -> GUAVA.split(input));
+            IllegalArgumentException actual = assertThrows(IllegalArgumentException.class,
+                    () -> records(MappedMapSplitter.on('&', '='), input));
+            assertEquals(expected.getMessage(), actual.getMessage(), input);
+        }
+    }
+
+    @Test
+    void 중복_키_MapSplitter와_같은_예외() {
+        IllegalArgumentException expected = assertThrows(IllegalArgumentException.class,
+                () -> GUAVA.split("name=John&name=Jane"));
+        IllegalArgumentException actual = assertThrows(IllegalArgumentException.class,
+                () -> records(MappedMapSplitter.on('&', '='), "name=John&name=Jane"));
+        assertTrue(actual.getMessage().contains("Duplicate key"));
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    void 중복_키는_레코드_단위() {
+        assertEquals(2, records(MappedMapSplitter.on('&', '='), "name=John\nname=Jane").size());
+    }
+
+    @Test
+    void 중복_키_정책() {
+        MappedMapSplitter keepFirst = MappedMapSplitter.on('&', '=')
+                .onDuplicateKey(MappedMapSplitter.DuplicateKeyPolicy.KEEP_FIRST);
+        assertEquals("[{name=John, age=3}]", records(keepFirst, "name=John&age=3&name=Jane").toString());
+
+        List<String> all = new ArrayList<>();
+        MappedMapSplitter.on('&', '=').onDuplicateKey(MappedMapSplitter.DuplicateKeyPolicy.KEEP_ALL)
+                .split(bytes("name=John&name=Jane"), (key, value) -> all.add(key + "=" + value));
+        assertEquals(Arrays.asList("name=John", "name=Jane"), all);
+    }
+
+    @Test
+    void 잘못된_형식_SKIP_정책() {
+        List<String> skipped = new ArrayList<>();
+        Map<String, String> entries = new LinkedHashMap<>();
+        long count = MappedMapSplitter.on('&', '=')
+                .onMalformedEntry(MappedMapSplitter.MalformedEntryPolicy.SKIP)
+                .split(bytes("name=John&invalid&a=b=c&&age=30"), new MappedMapSplitter.EntryVisitor() {
+                    @Override
+                    public void visit(ByteSlice key, ByteSlice value) {
+                        entries.put(key.toString(), value.toString());
+                    }
+
+                    @Override
+                    public void skipped(ByteSlice chunk) {
+                        skipped.add(chunk.toString());
+                    }
+                });
+        assertEquals(2, count);
+        assertEquals("{name=John, age=30}", entries.toString());
+        assertEquals(Arrays.asList("invalid", "a=b=c", ""), skipped);
+    }
+
+    @Test
+    void 빈_줄과_CRLF() {
+        assertEquals("[{a=1}, {b=2}]", records(MappedMapSplitter.on('&', '='), "\na=1\r\n\r\n\nb=2\n").toString());
+        assertEquals("[]", records(MappedMapSplitter.on('&', '='), "").toString());
+    }
+
+    @Test
+    void 파일_매핑_창_경계에_걸친_레코드(@TempDir Path dir) throws IOException {
+        StringBuilder content = new StringBuilder();
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String line = "id=" + i + "&path=/p/" + i + "&q=" + "x".repeat(i % 7);
+            lines.add(line);
+            content.append(line).append('\n');
+        }
+        Path file = dir.resolve("access.log");
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+
+        for (int window : new int[]{64, 100, 4096, MappedMapSplitter.DEFAULT_WINDOW_SIZE}) {
+            List<Map<String, String>> records = new ArrayList<>();
+            RecordCollector collector = new RecordCollector(records);
+            long count = MappedMapSplitter.on('&', '=').windowSize(window).split(file, collector);
+            assertEquals(600, count);
+            assertEquals(guava(lines), records, "window=" + window);
+        }
+    }
+
+    @Test
+    void 창보다_긴_레코드는_예외(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("long.log");
+        Files.write(file, ("a=" + "x".repeat(100) + "\nb=1\n").getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalStateException.class,
+                () -> MappedMapSplitter.on('&', '=').windowSize(50).split(file, (key, value) -> { }));
+    }
+
+    @Test
+    void ByteSlice_숫자_변환과_비교() {
+        MappedMapSplitter.on('&', '=').split(bytes("age=-42&id=9223372036854775807"), (key, value) -> {
+            if (key.contentEqualsAscii("age")) {
+                assertEquals(-42, value.parseInt());
+            } else {
+                assertTrue(key.contentEquals("id".getBytes(StandardCharsets.UTF_8)));
+                assertEquals(Long.MAX_VALUE, value.parseLong());
+                assertThrows(NumberFormatException.class, value::parseInt);
+            }
+        });
+    }
+
+    @Test
+    void 구분자는_ASCII만() {
+        assertThrows(IllegalArgumentException.class, () -> MappedMapSplitter.on('&', '＝'));
+        assertThrows(IllegalArgumentException.class, () -> MappedMapSplitter.on('&', '&'));
+    }
+
+    private static List<Map<String, String>> guava(List<String> lines) {
+        List<Map<String, String>> records = new ArrayList<>();
+        for (String line : lines) {
+            records.add(GUAVA.split(line));
+        }
+        return records;
+    }
+
+    private static List<Map<String, String>> records(MappedMapSplitter splitter, String input) {
+        List<Map<String, String>> records = new ArrayList<>();
+        splitter.split(bytes(input), new RecordCollector(records));
+        return records;
+    }
+
+    private static ByteBuffer bytes(String input) {
+        return ByteBuffer.wrap(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class RecordCollector implements MappedMapSplitter.EntryVisitor {
+        private final List<Map<String, String>> records;
+        private Map<String, String> current = new LinkedHashMap<>();
+
+        RecordCollector(List<Map<String, String>> records) {
+            this.records = records;
+        }
+
+        @Override
+        public void visit(ByteSlice key, ByteSlice value) {
+            current.put(key.toString(), value.toString());
+        }
+
+        @Override
+        public void endOfRecord() {
+            records.add(current);
+            current = new LinkedHashMap<>();
+        }
+    }
+}
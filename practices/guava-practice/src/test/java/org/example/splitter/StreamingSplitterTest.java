@@ -0,0 +1,231 @@
+package org.example.splitter;
+
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Splitter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StreamingSplitter 가 Splitter 와 같은 결과를 내는지 검증
+ * 버퍼 크기를 아주 작게 잡아 토큰이 버퍼 경계에 걸치는 경우를 강제로 만듦
+ */
+class StreamingSplitterTest {
+
+    private static final int[] BUFFER_SIZES = {1, 2, 3, 7, 8192};
+
+    @Test
+    void 기본_분할_Splitter와_동일() throws IOException {
+        for (String input : Arrays.asList("apple,banana,cherry", "", ",", "a,,b", "a,b,", ",a,b", ",,,")) {
+            assertSameAsSplitter(Splitter.on(','), StreamingSplitter.on(','), input);
+        }
+    }
+
+    @Test
+    void trimResults_omitEmptyStrings_Splitter와_동일() throws IOException {
+        String messy = " apple , , banana ,  cherry  ";
+
+        assertSameAsSplitter(Splitter.on(',').trimResults(),
+                StreamingSplitter.on(',').trimResults(), messy);
+        assertSameAsSplitter(Splitter.on(',').trimResults().omitEmptyStrings(),
+                StreamingSplitter.on(',').trimResults().omitEmptyStrings(), messy);
+        assertSameAsSplitter(Splitter.on(',').trimResults(CharMatcher.is('_')),
+                StreamingSplitter.on(',').trimResults(CharMatcher.is('_')), "__a_,_b,c__");
+    }
+
+    @Test
+    void limit_나머지는_하나의_항목() throws IOException {
+        String log = "2025-01-17|INFO|User logged in|Extra data";
+
+        List<String> parts = splitAll(StreamingSplitter.on('|').limit(3).bufferSize(4), log);
+        assertEquals(Arrays.asList("2025-01-17", "INFO", "User logged in|Extra data"), parts);
+
+        // 빈 항목은 limit 에 포함되지 않고, 마지막 항목도 trim
+        assertSameAsSplitter(Splitter.on(',').omitEmptyStrings().trimResults().limit(2),
+                StreamingSplitter.on(',').omitEmptyStrings().trimResults().limit(2), ",, a ,, b , c ,  ");
+        assertThrows(IllegalArgumentException.class, () -> StreamingSplitter.on(',').limit(0));
+    }
+
+    @Test
+    void CharMatcher_구분자() throws IOException {
+        assertSameAsSplitter(Splitter.on(CharMatcher.anyOf(",;")),
+                StreamingSplitter.on(CharMatcher.anyOf(",;")), "a,b;c;;d");
+    }
+
+    @Test
+    void 무작위_입력_Splitter와_동일() throws IOException {
+        Random random = new Random(7);
+        String alphabet = "ab ,";
+        for (int round = 0; round < 300; round++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            int limit = 1 + random.nextInt(5);
+            assertSameAsSplitter(Splitter.on(',').trimResults().omitEmptyStrings().limit(limit),
+                    StreamingSplitter.on(',').trimResults().omitEmptyStrings().limit(limit), sb.toString());
+            assertSameAsSplitter(Splitter.on(',').limit(limit),
+                    StreamingSplitter.on(',').limit(limit), sb.toString());
+        }
+    }
+
+    @Test
+    void 여러_글자_구분자와_패턴_Splitter와_동일() throws IOException {
+        assertSameAsSplitter(Splitter.on("||"), StreamingSplitter.on("||"), "a||b|||c||||d|");
+        assertSameAsSplitter(Splitter.on("\r\n"), StreamingSplitter.on("\r\n"), "l1\r\nl2\n\r\r\n\r\nl3\r");
+        assertSameAsSplitter(Splitter.on(" :: ").trimResults(), StreamingSplitter.on(" :: ").trimResults(),
+                "key :: value ::  :: x ::");
+        assertSameAsSplitter(Splitter.on(","), StreamingSplitter.on(","), "a,b");
+        assertSameAsSplitter(Splitter.onPattern("😀+"), StreamingSplitter.onPattern("😀+"), "a😀😀b😀");
+        assertSameAsSplitter(Splitter.onPattern("[😀]"), StreamingSplitter.onPattern("[😀]"), "a😀😀b");
+        assertThrows(IllegalArgumentException.class, () -> StreamingSplitter.on(""));
+
+        Random random = new Random(3);
+        int[] alphabet = "ab ,:|\n😀".codePoints().toArray();
+        for (String pattern : Arrays.asList("\\|\\|", "\\s*,\\s*", "[,:]+", "\\s*::\\s*", " ?,", "a?b",
+                "\\s*\\s", "a|bb", "[^a]", "\\S", "[^a ]+", "\\W")) {
+            for (int round = 0; round < 100; round++) {
+                StringBuilder sb = new StringBuilder();
+                int length = random.nextInt(30);
+                for (int i = 0; i < length; i++) {
+                    sb.appendCodePoint(alphabet[random.nextInt(alphabet.length)]);
+                }
+                int limit = 1 + random.nextInt(4);
+                assertSameAsSplitter(Splitter.onPattern(pattern), StreamingSplitter.onPattern(pattern), sb.toString());
+                assertSameAsSplitter(Splitter.onPattern(pattern).trimResults().omitEmptyStrings().limit(limit),
+                        StreamingSplitter.onPattern(pattern).trimResults().omitEmptyStrings().limit(limit),
+                        sb.toString());
+            }
+        }
+    }
+
+    @Test
+    void 바이트_채널_UTF8_디코딩() throws IOException {
+        String csv = "서울,부산,,대구,🚀";
+        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+
+        List<String> result = new ArrayList<>();
+        TokenCursor cursor = StreamingSplitter.on(',').bufferSize(2)
+                .cursor(Channels.newChannel(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8);
+        while (cursor.next()) {
+            result.add(cursor.token().toString());
+        }
+
+        assertEquals(Splitter.on(',').splitToList(csv), result);
+    }
+
+    @Test
+    void 바이트_채널_빈칸_하나에_surrogate_쌍() throws IOException {
+        String csv = "😀,a😀😀,,🚀b,😀";
+        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+
+        for (int bufferSize : new int[]{1, 2, 3}) {
+            List<String> result = new ArrayList<>();
+            TokenCursor cursor = StreamingSplitter.on(',').bufferSize(bufferSize)
+                    .cursor(Channels.newChannel(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8);
+            while (cursor.next()) {
+                result.add(cursor.token().toString());
+            }
+            assertEquals(Splitter.on(',').splitToList(csv), result, "bufferSize=" + bufferSize);
+        }
+    }
+
+    @Test
+    void CharBuffer_배열기반은_복사없이_원본을_가리킴() throws IOException {
+        char[] chars = "x,hello,world".toCharArray();
+        CharBuffer buffer = CharBuffer.wrap(chars);
+        buffer.position(2);
+
+        TokenCursor cursor = StreamingSplitter.on(',').cursor(buffer);
+        assertTrue(cursor.next());
+        assertEquals("hello", cursor.token().toString());
+
+        chars[2] = 'H';   // 원본을 바꾸면 뷰에도 보임 (복사 안 함)
+        assertEquals('H', cursor.token().charAt(0));
+        assertEquals(2, buffer.position());   // 버퍼 상태는 그대로
+
+        CharBuffer direct = ByteBuffer.allocateDirect(64).asCharBuffer();
+        direct.put("a, b,c").flip();
+        List<String> result = new ArrayList<>();
+        for (CharSequence token : StreamingSplitter.on(',').trimResults().split(direct)) {
+            result.add(token.toString());
+        }
+        assertEquals(Arrays.asList("a", "b", "c"), result);
+    }
+
+    @Test
+    void 버퍼는_가장_긴_토큰까지만_커짐() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            sb.append("token").append(i % 10).append(',');
+        }
+
+        TokenCursor cursor = StreamingSplitter.on(',').bufferSize(16).cursor(new StringReader(sb.toString()));
+        int count = 0;
+        while (cursor.next()) {
+            count++;
+        }
+
+        assertEquals(10_001, count);
+        assertEquals(16, cursor.bufferCapacity());
+    }
+
+    @Test
+    void Iterable은_한번만_순회() {
+        Iterable<CharSequence> tokens = StreamingSplitter.on(',').split(new StringReader("a,b"));
+        int count = 0;
+        for (CharSequence ignored : tokens) {
+            count++;
+        }
+        assertEquals(2, count);
+        assertThrows(IllegalStateException.class, tokens::iterator);
+    }
+
+    private static void assertSameAsSplitter(Splitter splitter, StreamingSplitter streaming, String input)
+            throws IOException {
+        List<String> expected = splitter.splitToList(input);
+        for (int bufferSize : BUFFER_SIZES) {
+            assertEquals(expected, splitAll(streaming.bufferSize(bufferSize), input),
+                    "input=\"" + input + "\", bufferSize=" + bufferSize);
+        }
+        assertEquals(expected, toStrings(streaming.split(CharBuffer.wrap(input.toCharArray()))),
+                "CharBuffer input=\"" + input + "\"");
+        List<String> slices = new ArrayList<>();
+        SliceCursor cursor = streaming.cursor(input);
+        while (cursor.next()) {
+            slices.add(cursor.token().toString());
+        }
+        assertEquals(expected, slices, "SliceCursor input=\"" + input + "\"");
+    }
+
+    private static List<String> splitAll(StreamingSplitter splitter, String input) throws IOException {
+        List<String> result = new ArrayList<>();
+        TokenCursor cursor = splitter.cursor(new StringReader(input));
+        while (cursor.next()) {
+            result.add(cursor.token().toString());
+        }
+        return result;
+    }
+
+    private static List<String> toStrings(Iterable<CharSequence> tokens) {
+        List<String> result = new ArrayList<>();
+        for (CharSequence token : tokens) {
+            result.add(token.toString());
+        }
+        return result;
+    }
+}
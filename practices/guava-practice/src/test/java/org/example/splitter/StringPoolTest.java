@@ -0,0 +1,141 @@
+package org.example.splitter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StringPool
+ * - String / CharSlice / 구간 / StringBuilder 어느 쪽으로 조회해도 같은 인스턴스
+ * - 크기 제한과 CLOCK 교체 (자주 조회되는 값은 살아남음), 통계
+ * - 여러 스레드에서도 한 인스턴스, 스플리터 커서에서 바로 사용
+ */
+class StringPoolTest {
+
+    @Test
+    void 같은_내용은_같은_인스턴스() {
+        StringPool pool = StringPool.create(100);
+        String kr = pool.intern(new String("KR"));
+        assertEquals("KR", kr);
+        assertSame(kr, pool.intern(new StringBuilder("KR")));
+        assertSame(kr, pool.intern("xxKRyy", 2, 4));
+        assertSame(kr, pool.intern(new CharSlice().reset("a,KR,b".toCharArray(), 2, 2)));
+        assertSame(kr, pool.intern(new CharSlice().reset("a,KR,b", 2, 2)));
+        assertNotSame(kr, pool.intern("KRX"));
+        assertSame(pool.intern(""), pool.intern(new StringBuilder()));
+
+        // 전체 구간 String 은 그 인스턴스 그대로 풀에 들어감
+        String us = new String("US");
+        assertSame(us, pool.intern(us));
+
+        StringPool.Stats stats = pool.stats();
+        assertEquals(4, stats.misses());
+        assertEquals(5, stats.hits());
+        assertEquals(4, stats.size());
+        assertEquals(5.0 / 9, stats.hitRate(), 1e-9);
+        assertThrows(IndexOutOfBoundsException.class, () -> pool.intern("KR", 1, 3));
+    }
+
+    @Test
+    void 크기_제한과_CLOCK_교체() {
+        StringPool pool = StringPool.builder().maximumSize(64).concurrencyLevel(4).build();
+        List<String> hot = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            hot.add(pool.intern("hot-" + i));
+        }
+        // 차가운 값 1,000 개가 지나가는 동안 뜨거운 값은 계속 조회됨
+        for (int i = 0; i < 1000; i++) {
+            pool.intern("cold-" + i);
+            for (String h : hot) {
+                assertEquals(h, pool.intern(new StringBuilder(h)));
+            }
+            assertTrue(pool.size() <= 64);
+        }
+        for (String h : hot) {
+            assertSame(h, pool.intern(new String(h)), h);
+        }
+        StringPool.Stats stats = pool.stats();
+        assertEquals(1008, stats.misses());
+        assertEquals(1008 - stats.size(), stats.evictions());
+        assertTrue(stats.toString().contains("evictions="), stats.toString());
+    }
+
+    @Test
+    void 긴_값은_풀을_거치지_않음() {
+        StringPool pool = StringPool.builder().maximumSize(10).maxLength(4).build();
+        String shortValue = pool.intern("abcd");
+        assertSame(shortValue, pool.intern(new StringBuilder("abcd")));
+        String longValue = pool.intern(new StringBuilder("abcde"));
+        assertEquals("abcde", longValue);
+        assertNotSame(longValue, pool.intern(new StringBuilder("abcde")));
+        assertEquals(2, pool.stats().bypassed());
+        assertEquals(1, pool.stats().size());
+        assertThrows(IllegalArgumentException.class, () -> StringPool.create(0));
+        assertThrows(IllegalArgumentException.class, () -> StringPool.builder().concurrencyLevel(0));
+    }
+
+    @Test
+    void 여러_스레드에서도_한_인스턴스() throws Exception {
+        StringPool pool = StringPool.builder().maximumSize(2000).concurrencyLevel(8).build();
+        ConcurrentHashMap<String, String> canonical = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    StringBuilder sb = new StringBuilder();
+                    for (int i = 0; i < 50_000; i++) {
+                        sb.setLength(0);
+                        sb.append("v").append((i * 31 + seed) % 1000);
+                        String value = pool.intern(sb);
+                        String first = canonical.putIfAbsent(value, value);
+                        assertSame(first == null ? value : first, value);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1000, canonical.size());
+        assertEquals(1000, pool.size());
+        assertEquals(0, pool.stats().evictions());
+        assertEquals(1000, pool.stats().misses());
+        assertEquals(200_000 - 1000, pool.stats().hits());
+    }
+
+    @Test
+    void 스플리터_커서에서_바로_풀_인스턴스() throws IOException {
+        StringPool pool = StringPool.create(100);
+        StreamingSplitter splitter = StreamingSplitter.on(',').trimResults();
+
+        SliceCursor slices = splitter.cursor("KR, US ,KR,JP");
+        List<String> tokens = new ArrayList<>();
+        while (slices.next()) {
+            tokens.add(slices.token(pool));
+        }
+        assertEquals(List.of("KR", "US", "KR", "JP"), tokens);
+        assertSame(tokens.get(0), tokens.get(2));
+
+        TokenCursor cursor = splitter.bufferSize(4).cursor(new StringReader("JP,KR,US"));
+        assertTrue(cursor.next());
+        assertSame(tokens.get(3), cursor.token(pool));
+        assertTrue(cursor.next());
+        assertSame(tokens.get(0), cursor.token(pool));
+        assertTrue(cursor.next());
+        assertSame(tokens.get(1), cursor.token(pool));
+        assertFalse(cursor.next());
+    }
+}